@@ -0,0 +1,189 @@
+package com.logo.application.get;
+
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.benchmark.Payloads;
+import com.logo.benchmark.QuietLogging;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamFetch;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.domain.port.incoming.GetLogoUseCase;
+import com.logo.domain.port.outgoing.LogoApiPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.MissingLogoPort;
+import com.logo.infrastructure.metrics.MicrometerLogoMetricsAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The lookup's own overhead on its two main paths, with ports answering from memory: a stored logo, and a miss
+ * fetched from upstream and saved synchronously. Storage and network costs are left to the integration tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GetLogoServiceBenchmark {
+
+    @Param({"1024", "65536"})
+    int payloadBytes;
+
+    private GetLogoService storedLogos;
+    private GetLogoService upstreamLogos;
+
+    @Setup
+    public void setUp() {
+        QuietLogging.install();
+        byte[] content = Payloads.of(payloadBytes);
+        OffsetDateTime now = OffsetDateTime.now();
+        Logo stored = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN", LogoContent.of(content), "AMZN.png", "image/png",
+                "content-hash", LogoSource.UPLOADED, now, now);
+
+        InMemoryLogoPersistence withLogo = new InMemoryLogoPersistence(true);
+        withLogo.save(stored).await().indefinitely();
+        storedLogos = service(withLogo, content);
+        // Saves are dropped, so every lookup misses and goes upstream again
+        upstreamLogos = service(new InMemoryLogoPersistence(false), content);
+    }
+
+    private static GetLogoService service(LogoPersistencePort persistence, byte[] upstreamContent) {
+        // Recording goes through the Micrometer adapter, so its cost stays part of every lookup
+        LogoMetricsPort metrics = new MicrometerLogoMetricsAdapter(new SimpleMeterRegistry());
+        LogoVariantPregenerator noPregeneration = new LogoVariantPregenerator(null, null, false, List.of(), List.of());
+        LogoWriteBehind noWriteBehind = new LogoWriteBehind(persistence, noPregeneration, metrics, false, 0, 1, 1,
+                Duration.ofSeconds(1));
+        return new GetLogoService(persistence, new FixedLogoApi(upstreamContent), new NothingMissing(),
+                noPregeneration, noWriteBehind, metrics);
+    }
+
+    @Benchmark
+    public GetLogoUseCase.Result storedLogo() {
+        return storedLogos.execute("AMZN").await().indefinitely();
+    }
+
+    @Benchmark
+    public GetLogoUseCase.Result upstreamLogo() {
+        return upstreamLogos.execute("TSLA").await().indefinitely();
+    }
+
+    private static final class InMemoryLogoPersistence implements LogoPersistencePort {
+
+        private final Map<String, Logo> logos = new ConcurrentHashMap<>();
+        private final boolean keepSaved;
+
+        InMemoryLogoPersistence(boolean keepSaved) {
+            this.keepSaved = keepSaved;
+        }
+
+        @Override
+        public Uni<Logo> save(Logo logo) {
+            if (keepSaved) {
+                logos.put(logo.externalIdentifier(), logo);
+            }
+            return Uni.createFrom().item(logo);
+        }
+
+        @Override
+        public Uni<List<Logo>> saveAll(List<Logo> toSave) {
+            toSave.forEach(this::save);
+            return Uni.createFrom().item(toSave);
+        }
+
+        @Override
+        public Uni<Logo> get(String externalIdentifier) {
+            return Uni.createFrom().item(logos.get(externalIdentifier));
+        }
+
+        @Override
+        public Uni<List<Logo>> getAll(Collection<String> externalIdentifiers) {
+            return Uni.createFrom().item(externalIdentifiers.stream().map(logos::get).filter(logo -> logo != null).toList());
+        }
+
+        @Override
+        public Uni<Set<String>> findStoredIdentifiers(Collection<String> externalIdentifiers) {
+            return Uni.createFrom().item(Set.copyOf(externalIdentifiers.stream().filter(logos::containsKey).toList()));
+        }
+
+        @Override
+        public Uni<LogoMetadata> getMetadata(String externalIdentifier) {
+            Logo logo = logos.get(externalIdentifier);
+            return Uni.createFrom().item(logo != null ? logo.metadata() : null);
+        }
+
+        @Override
+        public Uni<byte[]> getContentRange(String contentHash, long offset, int length) {
+            return Uni.createFrom().nullItem();
+        }
+
+        @Override
+        public Uni<List<LogoRefreshCandidate>> findRefreshedBefore(LogoSource source, OffsetDateTime cutoff, int limit) {
+            return Uni.createFrom().item(List.of());
+        }
+
+        @Override
+        public Uni<Boolean> refresh(Logo logo, UpstreamValidators validators, OffsetDateTime refreshedAt) {
+            return Uni.createFrom().item(false);
+        }
+
+        @Override
+        public Uni<Void> markRefreshed(String externalIdentifier, UpstreamValidators validators, OffsetDateTime refreshedAt) {
+            return Uni.createFrom().voidItem();
+        }
+    }
+
+    private record FixedLogoApi(byte[] content) implements LogoApiPort {
+
+        @Override
+        public Uni<byte[]> fetchLogo(String ticker) {
+            return Uni.createFrom().item(content);
+        }
+
+        @Override
+        public Uni<UpstreamFetch> fetchLogoIfChanged(String ticker, UpstreamValidators validators) {
+            return Uni.createFrom().item(new UpstreamFetch.Modified(content, UpstreamValidators.NONE));
+        }
+    }
+
+    private static final class NothingMissing implements MissingLogoPort {
+
+        @Override
+        public Uni<Boolean> isMissing(String externalIdentifier) {
+            return Uni.createFrom().item(false);
+        }
+
+        @Override
+        public Uni<Void> markMissing(String externalIdentifier) {
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public Uni<Boolean> purge(String externalIdentifier) {
+            return Uni.createFrom().item(false);
+        }
+
+        @Override
+        public Uni<Long> purgeAll() {
+            return Uni.createFrom().item(0L);
+        }
+    }
+}
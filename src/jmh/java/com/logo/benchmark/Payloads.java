@@ -0,0 +1,18 @@
+package com.logo.benchmark;
+
+import java.util.Random;
+
+/**
+ * Deterministic logo payloads, so every run of a benchmark works on the same bytes.
+ */
+public final class Payloads {
+
+    private Payloads() {
+    }
+
+    public static byte[] of(int sizeBytes) {
+        byte[] payload = new byte[sizeBytes];
+        new Random(sizeBytes).nextBytes(payload);
+        return payload;
+    }
+}
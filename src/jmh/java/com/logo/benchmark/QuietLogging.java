@@ -0,0 +1,23 @@
+package com.logo.benchmark;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Switches the service's own logging off, so benchmarks of code that logs on every call do not measure the console.
+ * Relies on JBoss Logging delegating to java.util.logging, which the jmh task selects.
+ */
+public final class QuietLogging {
+
+    /**
+     * Held so the configured logger is not garbage collected along with its level.
+     */
+    private static final Logger ROOT = Logger.getLogger("com.logo");
+
+    private QuietLogging() {
+    }
+
+    public static void install() {
+        ROOT.setLevel(Level.OFF);
+    }
+}
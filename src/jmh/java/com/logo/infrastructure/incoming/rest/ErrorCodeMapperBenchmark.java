@@ -0,0 +1,30 @@
+package com.logo.infrastructure.incoming.rest;
+
+import com.logo.domain.model.Errors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorCodeMapperBenchmark {
+
+    private final Errors[] errors = Errors.values();
+
+    /**
+     * Maps every error once per invocation, so no single branch gets predicted away.
+     */
+    @Benchmark
+    public void toHttpStatus(Blackhole blackhole) {
+        for (Errors error : errors) {
+            blackhole.consume(ErrorCodeMapper.toHttpStatus(error));
+        }
+    }
+}
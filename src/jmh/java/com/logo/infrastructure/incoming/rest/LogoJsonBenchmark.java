@@ -0,0 +1,69 @@
+package com.logo.infrastructure.incoming.rest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.logo.benchmark.Payloads;
+import com.logo.infrastructure.incoming.rest.request.CreateLogoRequest;
+import com.logo.infrastructure.incoming.rest.response.LogoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON bodies carry logo bytes as base64, so their cost grows with the payload: reading a create request and
+ * writing a logo response, with the mapper configured the way Quarkus configures its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LogoJsonBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    int payloadBytes;
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestJson;
+    private LogoResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build();
+        requestReader = objectMapper.readerFor(CreateLogoRequest.class);
+        responseWriter = objectMapper.writerFor(LogoResponse.class);
+
+        byte[] content = Payloads.of(payloadBytes);
+        OffsetDateTime now = OffsetDateTime.now();
+        requestJson = objectMapper.writeValueAsBytes(new CreateLogoRequest("AMZN", "https://img.logo.dev/ticker/AMZN",
+                content, "AMZN.png", "image/png"));
+        response = new LogoResponse("AMZN", "https://img.logo.dev/ticker/AMZN", content, "AMZN.png", "image/png", now, now);
+    }
+
+    @Benchmark
+    public CreateLogoRequest readCreateRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] writeLogoResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
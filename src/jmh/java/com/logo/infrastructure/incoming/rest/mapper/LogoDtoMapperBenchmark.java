@@ -0,0 +1,54 @@
+package com.logo.infrastructure.incoming.rest.mapper;
+
+import com.logo.benchmark.Payloads;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.incoming.CreateLogoCommand;
+import com.logo.infrastructure.incoming.rest.request.CreateLogoRequest;
+import com.logo.infrastructure.incoming.rest.response.LogoResponse;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogoDtoMapperBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    int payloadBytes;
+
+    private LogoDtoMapper mapper;
+    private CreateLogoRequest request;
+    private Logo logo;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(LogoDtoMapper.class);
+        byte[] content = Payloads.of(payloadBytes);
+        OffsetDateTime now = OffsetDateTime.now();
+        request = new CreateLogoRequest("AMZN", "https://img.logo.dev/ticker/AMZN", content, "AMZN.png", "image/png");
+        logo = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN", LogoContent.of(content), "AMZN.png", "image/png",
+                "content-hash", LogoSource.UPLOADED, now, now);
+    }
+
+    @Benchmark
+    public CreateLogoCommand toCommand() {
+        return mapper.toCommand(request);
+    }
+
+    @Benchmark
+    public LogoResponse toResponse() {
+        return mapper.toResponse(logo);
+    }
+}
@@ -0,0 +1,48 @@
+package com.logo.infrastructure.outgoing.api;
+
+import com.logo.benchmark.QuietLogging;
+import com.logo.domain.exception.ServiceException;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation of logo.dev error responses into {@link ServiceException}s. The mapper's warning is switched off so
+ * the benchmark does not measure the console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogoDevClientExceptionMapperBenchmark {
+
+    @Param({"404", "429", "503"})
+    int status;
+
+    private LogoDevClientExceptionMapper exceptionMapper;
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        QuietLogging.install();
+        exceptionMapper = new LogoDevClientExceptionMapper();
+        Response.ResponseBuilder builder = Response.status(status);
+        if (status == 429) {
+            builder.header(HttpHeaders.RETRY_AFTER, "2");
+        }
+        response = builder.build();
+    }
+
+    @Benchmark
+    public ServiceException mapUpstreamResponse() {
+        return exceptionMapper.toThrowable(response);
+    }
+}
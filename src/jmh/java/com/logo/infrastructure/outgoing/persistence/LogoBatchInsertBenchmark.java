@@ -0,0 +1,150 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert cost per logo row when a batch of new logos is saved in one transaction, as saveAll does for prefetch jobs
+ * and bulk uploads: ids are taken from a sequence, then rows are sent in JDBC batches of
+ * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}. {@code sequencePerRow} asks the sequence once per row
+ * (allocationSize 1), {@code pooledSequence} once per block of {@value #ALLOCATION_SIZE} as {@code logo_seq} does.
+ * <p>
+ * Needs a PostgreSQL server, e.g. the one from docker-compose; it is reached through the same PGHOST, PGPORT,
+ * PGDATABASE, PGUSER and PGPASSWORD variables and defaults as the service. Everything it creates is temporary and
+ * disappears with its connection, so any database will do. Network latency to the server dominates the difference,
+ * so compare runs against the same server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(LogoBatchInsertBenchmark.ROWS)
+public class LogoBatchInsertBenchmark {
+
+    static final int ROWS = 500;
+
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int STATEMENT_BATCH_SIZE = 50;
+
+    private static final String INSERT = """
+            INSERT INTO logo_batch_insert (id, external_identifier, resource_url, file_name, content_type, content_hash,
+                                           source, created_at, updated_at, refreshed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    @Param({"single", "pooled"})
+    String sequence;
+
+    private Connection connection;
+    private PreparedStatement nextId;
+    private PreparedStatement insert;
+    private long batch;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = "jdbc:postgresql://%s:%s/%s".formatted(env("PGHOST", "localhost"), env("PGPORT", "5433"),
+                env("PGDATABASE", "logo_db"));
+        connection = DriverManager.getConnection(url, env("PGUSER", "logo_user"), env("PGPASSWORD", "logo_password"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TEMPORARY TABLE logo_batch_insert (
+                        id BIGINT PRIMARY KEY,
+                        external_identifier VARCHAR(255) NOT NULL UNIQUE,
+                        resource_url VARCHAR(2048),
+                        file_name VARCHAR(255),
+                        content_type VARCHAR(100),
+                        content_hash VARCHAR(64),
+                        source VARCHAR(20) NOT NULL,
+                        created_at TIMESTAMP WITH TIME ZONE,
+                        updated_at TIMESTAMP WITH TIME ZONE,
+                        refreshed_at TIMESTAMP WITH TIME ZONE NOT NULL)""");
+            statement.execute("CREATE TEMPORARY SEQUENCE logo_batch_insert_seq INCREMENT BY "
+                    + ("pooled".equals(sequence) ? ALLOCATION_SIZE : 1));
+        }
+        connection.setAutoCommit(false);
+        nextId = connection.prepareStatement("SELECT nextval('logo_batch_insert_seq')");
+        insert = connection.prepareStatement(INSERT);
+    }
+
+    /**
+     * Keeps the table the size of one batch, so later iterations do not pay for a growing unique index.
+     */
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE logo_batch_insert");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public long saveBatch() throws SQLException {
+        boolean pooled = "pooled".equals(sequence);
+        long prefix = batch++;
+        OffsetDateTime now = OffsetDateTime.now();
+        long blockEnd = 0;
+        long id = 0;
+        for (int row = 0; row < ROWS; row++) {
+            if (!pooled) {
+                id = nextId();
+            } else if (id == blockEnd) {
+                // Like Hibernate's pooled optimizer, the value returned is the top of the next block
+                blockEnd = nextId();
+                id = blockEnd - ALLOCATION_SIZE;
+            }
+            String identifier = "B" + prefix + "-" + row;
+            insert.setLong(1, pooled ? ++id : id);
+            insert.setString(2, identifier);
+            insert.setString(3, "https://img.logo.dev/ticker/" + identifier);
+            insert.setString(4, identifier + ".png");
+            insert.setString(5, "image/png");
+            insert.setString(6, "%064d".formatted(row));
+            insert.setString(7, "UPSTREAM");
+            insert.setObject(8, now);
+            insert.setObject(9, now);
+            insert.setObject(10, now);
+            insert.addBatch();
+            if ((row + 1) % STATEMENT_BATCH_SIZE == 0) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+        connection.commit();
+        return id;
+    }
+
+    private long nextId() throws SQLException {
+        try (ResultSet result = nextId.executeQuery()) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        return Objects.requireNonNullElse(System.getenv(name), defaultValue);
+    }
+}
@@ -0,0 +1,54 @@
+package com.logo.infrastructure.outgoing.persistence.mapper;
+
+import com.logo.benchmark.Payloads;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.infrastructure.outgoing.persistence.LogoContentView;
+import com.logo.infrastructure.outgoing.persistence.LogoEntity;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LogoEntityMapperBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    int payloadBytes;
+
+    private LogoEntityMapper mapper;
+    private Logo logo;
+    private LogoContentView view;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(LogoEntityMapper.class);
+        byte[] content = Payloads.of(payloadBytes);
+        OffsetDateTime now = OffsetDateTime.now();
+        logo = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN", LogoContent.of(content), "AMZN.png", "image/png",
+                "content-hash", LogoSource.UPSTREAM, now, now);
+        view = new LogoContentView("AMZN", "https://img.logo.dev/ticker/AMZN", content, "AMZN.png", "image/png",
+                "content-hash", (long) content.length, LogoSource.UPSTREAM, now, now);
+    }
+
+    @Benchmark
+    public LogoEntity toEntity() {
+        return mapper.toEntity(logo);
+    }
+
+    @Benchmark
+    public Logo toDomain() {
+        return mapper.toDomain(view);
+    }
+}
@@ -0,0 +1,45 @@
+package com.logo.application.concurrent;
+
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executors backed by new duplicated Vert.x contexts. A reactive Hibernate session is bound to the context it was
+ * opened on and must not be used by operations running at the same time, so work that touches persistence
+ * concurrently, or outlives the request that started it, needs a context of its own.
+ * Without a current Vert.x context (e.g. in plain unit tests) tasks simply run on the calling thread.
+ */
+public final class DuplicatedContexts {
+
+    private DuplicatedContexts() {
+    }
+
+    /**
+     * @return An executor that runs every task on a new duplicated context
+     */
+    public static Executor perTask() {
+        return task -> {
+            Context current = Vertx.currentContext();
+            if (current == null) {
+                task.run();
+            } else {
+                VertxContext.createNewDuplicatedContext(current).runOnContext(ignored -> task.run());
+            }
+        };
+    }
+
+    /**
+     * @return An executor that runs all tasks on one new duplicated context, created now
+     */
+    public static Executor single() {
+        Context current = Vertx.currentContext();
+        if (current == null) {
+            return Runnable::run;
+        }
+        Context context = VertxContext.createNewDuplicatedContext(current);
+        return task -> context.runOnContext(ignored -> task.run());
+    }
+}
@@ -1,7 +1,11 @@
 package com.logo.application.create;
 
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.model.ContentHash;
 import com.logo.domain.model.Errors;
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
 import com.logo.domain.port.incoming.CreateLogoCommand;
 import com.logo.domain.port.incoming.CreateLogoUseCase;
 import com.logo.domain.port.outgoing.LogoPersistencePort;
@@ -18,22 +22,18 @@ public class CreateLogoService implements CreateLogoUseCase {
     private static final Logger LOG = Logger.getLogger(CreateLogoService.class);
 
     private final LogoPersistencePort logoPersistencePort;
+    private final LogoVariantPregenerator logoVariantPregenerator;
 
-    public CreateLogoService(LogoPersistencePort logoPersistencePort) {
+    public CreateLogoService(LogoPersistencePort logoPersistencePort, LogoVariantPregenerator logoVariantPregenerator) {
         this.logoPersistencePort = logoPersistencePort;
+        this.logoVariantPregenerator = logoVariantPregenerator;
     }
 
     @Override
     public Uni<CreateLogoUseCase.Result> execute(CreateLogoCommand createLogoCommand) {
-        return Uni.createFrom().item(() -> new Logo(
-                        createLogoCommand.externalIdentifier(),
-                        createLogoCommand.resourceUrl(),
-                        createLogoCommand.fileContent(),
-                        createLogoCommand.fileName(),
-                        createLogoCommand.contentType(),
-                        OffsetDateTime.now(),
-                        OffsetDateTime.now()))
+        return Uni.createFrom().item(() -> toLogo(createLogoCommand))
                 .flatMap(logoPersistencePort::save)
+                .invoke(logoVariantPregenerator::schedule)
                 .onItem().transform(CreateLogoService::Success)
                 .onFailure()
                 .recoverWithItem(throwable -> {
@@ -44,6 +44,20 @@ public class CreateLogoService implements CreateLogoUseCase {
 
     }
 
+    static Logo toLogo(CreateLogoCommand createLogoCommand) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Logo(
+                createLogoCommand.externalIdentifier(),
+                createLogoCommand.resourceUrl(),
+                LogoContent.of(createLogoCommand.fileContent()),
+                createLogoCommand.fileName(),
+                createLogoCommand.contentType(),
+                ContentHash.of(createLogoCommand.fileContent()),
+                LogoSource.UPLOADED,
+                now,
+                now);
+    }
+
     private static CreateLogoUseCase.Result Success(Logo logo) {
         return new Result.Success(logo);
     }
@@ -0,0 +1,62 @@
+package com.logo.application.create;
+
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import com.logo.domain.port.incoming.CreateLogoCommand;
+import com.logo.domain.port.incoming.CreateLogosUseCase;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+
+/**
+ * Saves a batch of logos with a single {@link LogoPersistencePort#saveAll}. If the batch is rejected as a whole,
+ * e.g. because one identifier already exists, its logos are saved one by one so each gets its own result.
+ */
+@ApplicationScoped
+public class CreateLogosService implements CreateLogosUseCase {
+
+    private static final Logger LOG = Logger.getLogger(CreateLogosService.class);
+
+    private final LogoPersistencePort logoPersistencePort;
+    private final LogoVariantPregenerator logoVariantPregenerator;
+
+    public CreateLogosService(LogoPersistencePort logoPersistencePort, LogoVariantPregenerator logoVariantPregenerator) {
+        this.logoPersistencePort = logoPersistencePort;
+        this.logoVariantPregenerator = logoVariantPregenerator;
+    }
+
+    @Override
+    public Uni<List<CreateLogosUseCase.Result>> execute(List<CreateLogoCommand> createLogoCommands) {
+        if (createLogoCommands.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return Uni.createFrom().item(() -> createLogoCommands.stream().map(CreateLogoService::toLogo).toList())
+                .flatMap(logos -> logoPersistencePort.saveAll(logos)
+                        .invoke(logoVariantPregenerator::scheduleAll)
+                        .map(saved -> saved.stream()
+                                .map(logo -> (CreateLogosUseCase.Result) new CreateLogosUseCase.Result.Success(logo))
+                                .toList())
+                        .onFailure().recoverWithUni(throwable -> {
+                            LOG.warn("Batch of %d logos was rejected, saving them one by one".formatted(logos.size()), throwable);
+                            return saveIndividually(logos);
+                        }));
+    }
+
+    private Uni<List<CreateLogosUseCase.Result>> saveIndividually(List<Logo> logos) {
+        return Multi.createFrom().iterable(logos)
+                .onItem().transformToUniAndConcatenate(logo -> logoPersistencePort.save(logo)
+                        .invoke(logoVariantPregenerator::schedule)
+                        .map(saved -> (CreateLogosUseCase.Result) new CreateLogosUseCase.Result.Success(saved))
+                        .onFailure().recoverWithItem(throwable -> {
+                            LOG.error("Error creating logo for external identifier %s".formatted(logo.externalIdentifier()),
+                                    throwable);
+                            return new CreateLogosUseCase.Result.Error(logo.externalIdentifier(), Errors.EXTERNAL_SERVICE_ERROR);
+                        }))
+                .collect().asList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.logo.application.get;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.port.incoming.GetLogoEncodingUseCase;
+import com.logo.domain.port.outgoing.LogoEncodingPort;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class GetLogoEncodingService implements GetLogoEncodingUseCase {
+
+    private static final Logger LOG = Logger.getLogger(GetLogoEncodingService.class);
+
+    private final LogoEncodingPort logoEncodingPort;
+
+    public GetLogoEncodingService(LogoEncodingPort logoEncodingPort) {
+        this.logoEncodingPort = logoEncodingPort;
+    }
+
+    @Override
+    public boolean mayBeGzipped(String contentType) {
+        return logoEncodingPort.mayBeGzipped(contentType);
+    }
+
+    @Override
+    public Uni<GetLogoEncodingUseCase.Result> execute(String contentHash) {
+        return logoEncodingPort.findGzip(contentHash)
+                .map(content -> content != null
+                        ? (GetLogoEncodingUseCase.Result) new GetLogoEncodingUseCase.Result.Success(content)
+                        : new GetLogoEncodingUseCase.Result.NotFound())
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.error("Unexpected error reading the gzip encoding of logo content %s".formatted(contentHash), throwable);
+                    return new GetLogoEncodingUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR);
+                });
+    }
+
+    @Override
+    public Uni<GetLogoEncodingUseCase.SizeResult> size(String contentHash) {
+        return logoEncodingPort.findGzipSize(contentHash)
+                .map(size -> size != null
+                        ? (GetLogoEncodingUseCase.SizeResult) new GetLogoEncodingUseCase.SizeResult.Success(size)
+                        : new GetLogoEncodingUseCase.SizeResult.NotFound())
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.error("Unexpected error reading the gzip length of logo content %s".formatted(contentHash), throwable);
+                    return new GetLogoEncodingUseCase.SizeResult.Error(Errors.EXTERNAL_SERVICE_ERROR);
+                });
+    }
+}
@@ -0,0 +1,32 @@
+package com.logo.application.get;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.port.incoming.GetLogoMetadataUseCase;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class GetLogoMetadataService implements GetLogoMetadataUseCase {
+
+    private static final Logger LOG = Logger.getLogger(GetLogoMetadataService.class);
+
+    private final LogoPersistencePort logoPersistencePort;
+
+    public GetLogoMetadataService(LogoPersistencePort logoPersistencePort) {
+        this.logoPersistencePort = logoPersistencePort;
+    }
+
+    @Override
+    public Uni<GetLogoMetadataUseCase.Result> execute(String identifier) {
+        return logoPersistencePort.getMetadata(identifier)
+                .map(metadata -> metadata != null
+                        ? (GetLogoMetadataUseCase.Result) new GetLogoMetadataUseCase.Result.Success(metadata)
+                        : new GetLogoMetadataUseCase.Result.NotFound())
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.error("Unexpected error retrieving logo metadata for identifier %s".formatted(identifier), throwable);
+                    return new GetLogoMetadataUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR);
+                });
+    }
+}
@@ -0,0 +1,33 @@
+package com.logo.application.get;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.port.incoming.GetLogoRangeUseCase;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class GetLogoRangeService implements GetLogoRangeUseCase {
+
+    private static final Logger LOG = Logger.getLogger(GetLogoRangeService.class);
+
+    private final LogoPersistencePort logoPersistencePort;
+
+    public GetLogoRangeService(LogoPersistencePort logoPersistencePort) {
+        this.logoPersistencePort = logoPersistencePort;
+    }
+
+    @Override
+    public Uni<GetLogoRangeUseCase.Result> execute(String contentHash, long offset, int length) {
+        return logoPersistencePort.getContentRange(contentHash, offset, length)
+                .map(content -> content != null
+                        ? (GetLogoRangeUseCase.Result) new GetLogoRangeUseCase.Result.Success(content)
+                        : new GetLogoRangeUseCase.Result.NotFound())
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.error("Unexpected error reading bytes %d-%d of logo content %s"
+                            .formatted(offset, offset + length - 1, contentHash), throwable);
+                    return new GetLogoRangeUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR);
+                });
+    }
+}
@@ -1,17 +1,27 @@
 package com.logo.application.get;
 
+import com.logo.application.variant.LogoVariantPregenerator;
 import com.logo.domain.exception.ServiceException;
 import com.logo.domain.model.Errors;
 import com.logo.domain.model.Logo;
 import com.logo.domain.port.incoming.GetLogoUseCase;
 import com.logo.domain.port.outgoing.LogoApiPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort.LookupOutcome;
 import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.MissingLogoPort;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.jboss.logging.Logger;
 
 import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Looks a logo up in storage, then in write-behind, then upstream. Every lookup is timed and reported to
+ * {@link LogoMetricsPort} with where the answer came from and the size of the logo served.
+ */
 @ApplicationScoped
 public class GetLogoService implements GetLogoUseCase {
 
@@ -19,53 +29,135 @@ public class GetLogoService implements GetLogoUseCase {
 
     private final LogoPersistencePort logoPersistencePort;
     private final LogoApiPort logoApiPort;
+    private final MissingLogoPort missingLogoPort;
+    private final LogoVariantPregenerator logoVariantPregenerator;
+    private final LogoWriteBehind logoWriteBehind;
+    private final LogoMetricsPort logoMetricsPort;
 
-    public GetLogoService(LogoPersistencePort logoPersistencePort, LogoApiPort logoApiPort) {
+    /**
+     * Upstream fetches currently in progress, keyed by identifier. Concurrent misses for the same identifier
+     * share one fetch-and-save instead of each calling logo.dev and racing on the unique constraint.
+     */
+    private final Map<String, Uni<Logo>> inFlight = new ConcurrentHashMap<>();
+
+    public GetLogoService(LogoPersistencePort logoPersistencePort, LogoApiPort logoApiPort, MissingLogoPort missingLogoPort,
+                          LogoVariantPregenerator logoVariantPregenerator, LogoWriteBehind logoWriteBehind,
+                          LogoMetricsPort logoMetricsPort) {
         this.logoPersistencePort = logoPersistencePort;
         this.logoApiPort = logoApiPort;
+        this.missingLogoPort = missingLogoPort;
+        this.logoVariantPregenerator = logoVariantPregenerator;
+        this.logoWriteBehind = logoWriteBehind;
+        this.logoMetricsPort = logoMetricsPort;
     }
 
     @Override
     public Uni<GetLogoUseCase.Result> execute(String identifier) {
-        return logoPersistencePort.get(identifier)
+        return Uni.createFrom().deferred(() -> lookup(identifier, System.nanoTime()));
+    }
+
+    /**
+     * Resolves an identifier the caller has already looked up in storage without finding it, going straight to
+     * write-behind and upstream; batch lookups use it so their misses are not queried for a second time.
+     */
+    Uni<GetLogoUseCase.Result> executeUnstored(String identifier) {
+        return Uni.createFrom().deferred(() -> {
+            long startedAt = System.nanoTime();
+            return recover(unstored(identifier, startedAt), startedAt);
+        });
+    }
+
+    private Uni<GetLogoUseCase.Result> lookup(String identifier, long startedAt) {
+        return recover(logoPersistencePort.get(identifier)
                 .flatMap(logo -> {
                     if (logo != null) {
                         LOG.info("Returning pre-saved logo with identifier %s".formatted(identifier));
-                        return Uni.createFrom().item((GetLogoUseCase.Result) new GetLogoUseCase.Result.Success(logo));
-                    } else {
-                        LOG.info("Fetching, saving and returning logo with identifier %s".formatted(identifier));
-                        return fetchAndSaveLogo(identifier)
-                                .map(savedLogo -> (GetLogoUseCase.Result) new GetLogoUseCase.Result.Success(savedLogo));
+                        return Uni.createFrom().item(found(startedAt, LookupOutcome.STORED, logo));
                     }
-                })
+                    return unstored(identifier, startedAt);
+                }), startedAt);
+    }
+
+    private Uni<GetLogoUseCase.Result> unstored(String identifier, long startedAt) {
+        Logo unsaved = logoWriteBehind.pending(identifier);
+        if (unsaved != null) {
+            LOG.info("Returning logo with identifier %s still waiting to be saved".formatted(identifier));
+            return Uni.createFrom().item(found(startedAt, LookupOutcome.PENDING, unsaved));
+        }
+        return missingLogoPort.isMissing(identifier)
+                .flatMap(missing -> {
+                    if (missing) {
+                        LOG.info("Logo with identifier %s is known to be missing upstream".formatted(identifier));
+                        return Uni.createFrom().item(notFound(startedAt));
+                    }
+                    LOG.info("Fetching, saving and returning logo with identifier %s".formatted(identifier));
+                    return fetchAndSaveLogoOnce(identifier)
+                            .map(savedLogo -> found(startedAt, LookupOutcome.UPSTREAM, savedLogo));
+                });
+    }
+
+    private Uni<GetLogoUseCase.Result> recover(Uni<GetLogoUseCase.Result> lookup, long startedAt) {
+        return lookup
                 .onFailure().recoverWithItem(throwable -> {
                     if(throwable instanceof ServiceException serviceException) {
                         LOG.warn("Service error retrieving logo: %s".formatted(serviceException.getError()));
+                        // An upstream 404 is an answer, not a failure of the lookup
+                        record(startedAt, serviceException.getError() == Errors.LOGO_NOT_FOUND ? LookupOutcome.NOT_FOUND : LookupOutcome.ERROR);
                         return new GetLogoUseCase.Result.Error(serviceException.getError());
                     }
                     // Log error and return appropriate error code
                     LOG.error("Unexpected error retrieving logo", throwable);
+                    record(startedAt, LookupOutcome.ERROR);
                     return new GetLogoUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR);
                 });
     }
 
+    private GetLogoUseCase.Result found(long startedAt, LookupOutcome outcome, Logo logo) {
+        record(startedAt, outcome, logo.content() != null ? logo.content().size() : -1);
+        return new GetLogoUseCase.Result.Success(logo);
+    }
+
+    private GetLogoUseCase.Result notFound(long startedAt) {
+        record(startedAt, LookupOutcome.NOT_FOUND);
+        return new GetLogoUseCase.Result.NotFound();
+    }
+
+    private void record(long startedAt, LookupOutcome outcome) {
+        record(startedAt, outcome, -1);
+    }
+
+    private void record(long startedAt, LookupOutcome outcome, long payloadBytes) {
+        logoMetricsPort.lookupCompleted(outcome, System.nanoTime() - startedAt, payloadBytes);
+    }
+
+    private Uni<Logo> fetchAndSaveLogoOnce(String identifier) {
+        return Uni.createFrom().deferred(() -> inFlight.computeIfAbsent(identifier, key -> fetchAndSaveLogo(key)
+                .onTermination().invoke(() -> inFlight.remove(key))
+                .memoize().indefinitely()));
+    }
+
     private Uni<Logo> fetchAndSaveLogo(String identifier) {
         return logoApiPort.fetchLogo(identifier)
-                .flatMap(logoData -> {
-                    OffsetDateTime now = OffsetDateTime.now();
-                    String logoUrl = String.format("https://img.logo.dev/ticker/%s", identifier);
-
-                    Logo newLogo = new Logo(
-                            identifier,
-                            logoUrl,
-                            logoData,
-                            identifier + ".jpeg",
-                            "image/jpeg",
-                            now,
-                            now
-                    );
-
-                    return logoPersistencePort.save(newLogo);
-                });
+                .onFailure(GetLogoService::isLogoNotFound).call(() -> missingLogoPort.markMissing(identifier)
+                        .onFailure().invoke(failure -> LOG.warn("Could not record missing logo %s".formatted(identifier), failure))
+                        .onFailure().recoverWithNull())
+                .flatMap(logoData -> save(Logo.fromUpstream(identifier, logoData, OffsetDateTime.now())));
+    }
+
+    /**
+     * Hands the logo to write-behind when it has room, so the caller gets the upstream bytes without waiting
+     * for the insert; otherwise saves it before answering.
+     */
+    private Uni<Logo> save(Logo logo) {
+        if (logoWriteBehind.offer(logo)) {
+            return Uni.createFrom().item(logo);
+        }
+        return logoPersistencePort.save(logo)
+                .invoke(logoVariantPregenerator::schedule);
+    }
+
+    private static boolean isLogoNotFound(Throwable throwable) {
+        return throwable instanceof ServiceException serviceException
+                && serviceException.getError() == Errors.LOGO_NOT_FOUND;
     }
 }
@@ -0,0 +1,111 @@
+package com.logo.application.get;
+
+import com.logo.application.concurrent.DuplicatedContexts;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import com.logo.domain.port.incoming.GetLogoUseCase;
+import com.logo.domain.port.incoming.GetLogosUseCase;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Resolves many identifiers at once: every stored logo comes back from a single query, and only the misses go on
+ * to {@link GetLogoService}, which fetches them upstream (sharing any fetch already in flight) and saves them
+ * without looking them up in storage again.
+ */
+@ApplicationScoped
+public class GetLogosService implements GetLogosUseCase {
+
+    private static final Logger LOG = Logger.getLogger(GetLogosService.class);
+
+    /**
+     * Each upstream miss saves what it fetched, so concurrent misses need a session, and a context, each.
+     */
+    private static final Executor NEW_DUPLICATED_CONTEXT = DuplicatedContexts.perTask();
+
+    private final LogoPersistencePort logoPersistencePort;
+    private final GetLogoService getLogoService;
+    private final int upstreamConcurrency;
+
+    public GetLogosService(LogoPersistencePort logoPersistencePort, GetLogoService getLogoService,
+                           @ConfigProperty(name = "logo.batch.upstream-concurrency", defaultValue = "8") int upstreamConcurrency) {
+        this.logoPersistencePort = logoPersistencePort;
+        this.getLogoService = getLogoService;
+        this.upstreamConcurrency = upstreamConcurrency;
+    }
+
+    @Override
+    public Uni<GetLogosUseCase.Result> execute(List<String> identifiers) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(identifiers));
+        return logoPersistencePort.getAll(distinct)
+                .flatMap(stored -> {
+                    Map<String, Logo> resolved = new HashMap<>();
+                    stored.forEach(logo -> resolved.put(logo.externalIdentifier(), logo));
+                    List<String> misses = distinct.stream()
+                            .filter(identifier -> !resolved.containsKey(identifier))
+                            .toList();
+                    LOG.info("Resolved %d of %d logos from storage, fetching %d upstream"
+                            .formatted(resolved.size(), distinct.size(), misses.size()));
+                    return fetchMisses(misses)
+                            .map(fetched -> {
+                                resolved.putAll(fetched);
+                                return toResult(distinct, resolved);
+                            });
+                })
+                .onFailure().recoverWithItem(throwable -> {
+                    LOG.error("Unexpected error retrieving %d logos".formatted(distinct.size()), throwable);
+                    return new GetLogosUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR);
+                });
+    }
+
+    private Uni<Map<String, Logo>> fetchMisses(List<String> misses) {
+        if (misses.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        return Multi.createFrom().iterable(misses)
+                .onItem().transformToUni(identifier -> getLogoService.executeUnstored(identifier)
+                        .runSubscriptionOn(NEW_DUPLICATED_CONTEXT)
+                        .map(result -> fetched(identifier, result)))
+                .merge(upstreamConcurrency)
+                .collect().asMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(fetched -> {
+                    Map<String, Logo> logos = new HashMap<>();
+                    fetched.forEach((identifier, logo) -> logo.ifPresent(found -> logos.put(identifier, found)));
+                    return logos;
+                });
+    }
+
+    private static Map.Entry<String, Optional<Logo>> fetched(String identifier, GetLogoUseCase.Result result) {
+        if (result instanceof GetLogoUseCase.Result.Success(var logo)) {
+            return Map.entry(identifier, Optional.of(logo));
+        }
+        LOG.warn("Logo with identifier %s could not be resolved: %s".formatted(identifier, result));
+        return Map.entry(identifier, Optional.empty());
+    }
+
+    private static GetLogosUseCase.Result toResult(List<String> identifiers, Map<String, Logo> resolved) {
+        List<Logo> logos = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String identifier : identifiers) {
+            Logo logo = resolved.get(identifier);
+            if (logo != null) {
+                logos.add(logo);
+            } else {
+                missing.add(identifier);
+            }
+        }
+        return new GetLogosUseCase.Result.Success(logos, missing);
+    }
+}
@@ -0,0 +1,241 @@
+package com.logo.application.get;
+
+import com.logo.application.concurrent.DuplicatedContexts;
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort.WriteBehindEvent;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded write-behind queue for logos fetched from upstream. A miss answers with the upstream bytes right away and
+ * the logo is saved in the background. Until the save lands, {@link #pending(String)} serves it, so a follow-up
+ * request neither misses nor fetches it again.
+ * <p>
+ * Logos queued twice for the same identifier are coalesced into one write. At most one save per identifier is in
+ * flight; a logo queued during a save waits for it and is then written as an update rather than a second insert.
+ * <p>
+ * Failed writes are retried with a linear backoff and dropped after {@code max-attempts}. A dropped logo is fetched
+ * from upstream again on its next miss. When the queue is full, {@link #offer(Logo)} refuses the logo and the caller
+ * saves it synchronously, so a burst of misses slows down instead of losing writes.
+ */
+@ApplicationScoped
+public class LogoWriteBehind {
+
+    private static final Logger LOG = Logger.getLogger(LogoWriteBehind.class);
+
+    /**
+     * @param saving Whether a save for the identifier is in flight; the entry is not picked up again meanwhile
+     * @param stored Whether an earlier logo for the identifier has been saved, so this one replaces it
+     */
+    private record Pending(Logo logo, int attempts, long dueAtMillis, boolean saving, boolean stored) {
+
+        Pending coalesce(Logo newer) {
+            return new Pending(newer, attempts, dueAtMillis, saving, stored);
+        }
+
+        Pending startSaving() {
+            return new Pending(logo, attempts, dueAtMillis, true, stored);
+        }
+    }
+
+    private final LogoPersistencePort logoPersistencePort;
+    private final LogoVariantPregenerator logoVariantPregenerator;
+    private final LogoMetricsPort logoMetricsPort;
+    private final boolean enabled;
+    private final int capacity;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final LongSupplier clock;
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    @Inject
+    public LogoWriteBehind(LogoPersistencePort logoPersistencePort,
+                           LogoVariantPregenerator logoVariantPregenerator,
+                           LogoMetricsPort logoMetricsPort,
+                           @ConfigProperty(name = "logo.write-behind.enabled", defaultValue = "false") boolean enabled,
+                           @ConfigProperty(name = "logo.write-behind.capacity", defaultValue = "1000") int capacity,
+                           @ConfigProperty(name = "logo.write-behind.concurrency", defaultValue = "4") int concurrency,
+                           @ConfigProperty(name = "logo.write-behind.max-attempts", defaultValue = "5") int maxAttempts,
+                           @ConfigProperty(name = "logo.write-behind.retry-backoff", defaultValue = "PT1S") Duration retryBackoff) {
+        this(logoPersistencePort, logoVariantPregenerator, logoMetricsPort, enabled, capacity, concurrency, maxAttempts,
+                retryBackoff, System::currentTimeMillis);
+    }
+
+    LogoWriteBehind(LogoPersistencePort logoPersistencePort, LogoVariantPregenerator logoVariantPregenerator,
+                    LogoMetricsPort logoMetricsPort, boolean enabled, int capacity, int concurrency, int maxAttempts,
+                    Duration retryBackoff, LongSupplier clock) {
+        this.logoPersistencePort = logoPersistencePort;
+        this.logoVariantPregenerator = logoVariantPregenerator;
+        this.logoMetricsPort = logoMetricsPort;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.concurrency = concurrency;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.clock = clock;
+
+        if (enabled) {
+            LOG.info("Logo write-behind enabled (capacity %d, concurrency %d)".formatted(capacity, concurrency));
+        }
+    }
+
+    /**
+     * Queues a logo to be saved in the background.
+     * @return true if the logo will be saved, false if write-behind is disabled or full and the caller has to save it
+     */
+    public boolean offer(Logo logo) {
+        if (!enabled) {
+            return false;
+        }
+        boolean[] accepted = {true};
+        pending.compute(logo.externalIdentifier(), (identifier, existing) -> {
+            if (existing != null) {
+                logoMetricsPort.writeBehind(WriteBehindEvent.COALESCED);
+                return existing.coalesce(logo);
+            }
+            if (pending.size() >= capacity) {
+                accepted[0] = false;
+                return null;
+            }
+            return new Pending(logo, 0, clock.getAsLong(), false, false);
+        });
+        if (accepted[0]) {
+            logoMetricsPort.writeBehindDepth(pending.size());
+        } else {
+            logoMetricsPort.writeBehind(WriteBehindEvent.OVERFLOWED);
+        }
+        return accepted[0];
+    }
+
+    /**
+     * @return The logo waiting to be saved for the identifier, or null if there is none
+     */
+    public Logo pending(String externalIdentifier) {
+        if (!enabled) {
+            return null;
+        }
+        Pending entry = pending.get(externalIdentifier);
+        return entry != null ? entry.logo() : null;
+    }
+
+    @Scheduled(every = "${logo.write-behind.flush-interval:200ms}", delayed = "${logo.write-behind.flush-interval:200ms}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> flush() {
+        if (!enabled || pending.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return drain()
+                .onFailure().invoke(throwable -> LOG.error("Logo write-behind flush failed", throwable))
+                .onFailure().recoverWithNull();
+    }
+
+    /**
+     * Saves every logo that is due. Entries stay visible through {@link #pending(String)} until their save completes.
+     */
+    Uni<Void> drain() {
+        long now = clock.getAsLong();
+        List<Map.Entry<String, Pending>> due = new ArrayList<>();
+        for (Map.Entry<String, Pending> entry : pending.entrySet()) {
+            Pending current = entry.getValue();
+            if (!current.saving() && current.dueAtMillis() <= now) {
+                Pending claimed = current.startSaving();
+                // Claims the entry, unless it was coalesced since it was read
+                if (pending.replace(entry.getKey(), current, claimed)) {
+                    due.add(Map.entry(entry.getKey(), claimed));
+                }
+            }
+        }
+        if (due.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        LOG.debug("Saving %d logos in the background".formatted(due.size()));
+        return Multi.createFrom().iterable(due)
+                // Saves touch persistence concurrently, so each needs a context of its own
+                .onItem().transformToUni(entry -> write(entry.getKey(), entry.getValue())
+                        .runSubscriptionOn(DuplicatedContexts.perTask()))
+                .merge(concurrency)
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> write(String identifier, Pending entry) {
+        Logo logo = entry.logo();
+        Uni<Void> write = entry.stored()
+                ? logoPersistencePort.refresh(logo, UpstreamValidators.NONE, logo.updatedAt())
+                        .invoke(replaced -> {
+                            if (replaced) {
+                                logoVariantPregenerator.schedule(logo);
+                            }
+                        })
+                        .replaceWithVoid()
+                : logoPersistencePort.save(logo)
+                        .invoke(logoVariantPregenerator::schedule)
+                        .replaceWithVoid();
+        return write
+                .invoke(() -> saved(identifier, entry))
+                .onFailure().recoverWithUni(throwable -> {
+                    failed(identifier, entry, throwable);
+                    return Uni.createFrom().voidItem();
+                });
+    }
+
+    private void saved(String identifier, Pending entry) {
+        pending.computeIfPresent(identifier, (key, current) -> current == entry
+                ? null
+                // Coalesced while saving: the newer logo now replaces the row just written
+                : new Pending(current.logo(), 0, clock.getAsLong(), false, true));
+        logoMetricsPort.writeBehindDepth(pending.size());
+    }
+
+    private void failed(String identifier, Pending entry, Throwable throwable) {
+        int attempts = entry.attempts() + 1;
+        boolean giveUp = attempts >= maxAttempts;
+        boolean[] replaced = {false};
+        pending.computeIfPresent(identifier, (key, current) -> {
+            if (current != entry) {
+                // A coalesced newer logo replaced the entry meanwhile and gets attempts of its own
+                replaced[0] = true;
+                return new Pending(current.logo(), 0, clock.getAsLong(), false, current.stored());
+            }
+            long dueAt = clock.getAsLong() + retryBackoff.multipliedBy(attempts).toMillis();
+            return giveUp ? null : new Pending(entry.logo(), attempts, dueAt, false, entry.stored());
+        });
+        if (replaced[0]) {
+            LOG.debug("Saving logo %s failed, saving the logo queued since instead".formatted(identifier), throwable);
+        } else if (giveUp) {
+            LOG.warn("Giving up saving logo %s after %d attempts".formatted(identifier, attempts), throwable);
+            logoMetricsPort.writeBehind(WriteBehindEvent.DROPPED);
+            logoMetricsPort.writeBehindDepth(pending.size());
+        } else {
+            LOG.debug("Saving logo %s failed (attempt %d), retrying".formatted(identifier, attempts), throwable);
+            logoMetricsPort.writeBehind(WriteBehindEvent.RETRIED);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (!pending.isEmpty()) {
+            LOG.warn("%d logos were not saved before shutdown; they will be fetched from upstream again"
+                    .formatted(pending.size()));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.logo.application.missing;
+
+import com.logo.domain.port.incoming.PurgeMissingLogosUseCase;
+import com.logo.domain.port.outgoing.MissingLogoPort;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class PurgeMissingLogosService implements PurgeMissingLogosUseCase {
+
+    private static final Logger LOG = Logger.getLogger(PurgeMissingLogosService.class);
+
+    private final MissingLogoPort missingLogoPort;
+
+    public PurgeMissingLogosService(MissingLogoPort missingLogoPort) {
+        this.missingLogoPort = missingLogoPort;
+    }
+
+    @Override
+    public Uni<Boolean> purge(String identifier) {
+        return missingLogoPort.purge(identifier)
+                .invoke(purged -> LOG.info("Purged missing-logo entry for identifier %s: %s".formatted(identifier, purged)));
+    }
+
+    @Override
+    public Uni<Long> purgeAll() {
+        return missingLogoPort.purgeAll()
+                .invoke(purged -> LOG.info("Purged %d missing-logo entries".formatted(purged)));
+    }
+}
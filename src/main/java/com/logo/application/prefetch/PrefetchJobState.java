@@ -0,0 +1,61 @@
+package com.logo.application.prefetch;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.PrefetchJob;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mutable progress of a running prefetch job; updated from the job's pipeline and read by status requests.
+ */
+class PrefetchJobState {
+
+    private final String id;
+    private final int total;
+    private final OffsetDateTime startedAt;
+    private final AtomicInteger alreadyStored = new AtomicInteger();
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final Map<String, Errors> failures = new ConcurrentHashMap<>();
+    private volatile PrefetchJob.Status status = PrefetchJob.Status.RUNNING;
+    private volatile OffsetDateTime finishedAt;
+
+    PrefetchJobState(String id, int total, OffsetDateTime startedAt) {
+        this.id = id;
+        this.total = total;
+        this.startedAt = startedAt;
+    }
+
+    String id() {
+        return id;
+    }
+
+    void alreadyStored(int count) {
+        alreadyStored.addAndGet(count);
+    }
+
+    void fetched(int count) {
+        fetched.addAndGet(count);
+    }
+
+    void failed(String identifier, Errors error) {
+        failures.put(identifier, error);
+    }
+
+    void finish(PrefetchJob.Status finalStatus) {
+        finishedAt = OffsetDateTime.now();
+        status = finalStatus;
+    }
+
+    boolean finishedBefore(OffsetDateTime instant) {
+        OffsetDateTime finished = finishedAt;
+        return finished != null && finished.isBefore(instant);
+    }
+
+    PrefetchJob snapshot() {
+        return new PrefetchJob(id, status, total, alreadyStored.get(), fetched.get(), Map.copyOf(failures),
+                startedAt, finishedAt);
+    }
+}
@@ -0,0 +1,226 @@
+package com.logo.application.prefetch;
+
+import com.logo.application.concurrent.DuplicatedContexts;
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.PrefetchJob;
+import com.logo.domain.port.incoming.PrefetchLogosUseCase;
+import com.logo.domain.port.outgoing.LogoApiPort;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.MissingLogoPort;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Warms the store ahead of demand. Identifiers that already have a logo, or that logo.dev recently had none for,
+ * are skipped; the rest are fetched from logo.dev with bounded concurrency and an optional rate cap, and saved in
+ * batches. Identifiers logo.dev answers 404 for are recorded in the negative cache, as on-demand misses are. Jobs run in the background
+ * and their progress is kept in memory until {@code logo.prefetch.retention} after they finish.
+ */
+@ApplicationScoped
+public class PrefetchLogosService implements PrefetchLogosUseCase {
+
+    private static final Logger LOG = Logger.getLogger(PrefetchLogosService.class);
+
+    /**
+     * Keeps the IN lists of the stored-identifier lookups at a size the database plans well.
+     */
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final LogoPersistencePort logoPersistencePort;
+    private final LogoApiPort logoApiPort;
+    private final MissingLogoPort missingLogoPort;
+    private final LogoVariantPregenerator logoVariantPregenerator;
+    private final int concurrency;
+    private final int ratePerSecond;
+    private final int batchSize;
+    private final Duration retention;
+
+    private final Map<String, PrefetchJobState> jobs = new ConcurrentHashMap<>();
+
+    public PrefetchLogosService(LogoPersistencePort logoPersistencePort, LogoApiPort logoApiPort,
+                                MissingLogoPort missingLogoPort, LogoVariantPregenerator logoVariantPregenerator,
+                                @ConfigProperty(name = "logo.prefetch.concurrency", defaultValue = "16") int concurrency,
+                                @ConfigProperty(name = "logo.prefetch.rate-per-second", defaultValue = "8") int ratePerSecond,
+                                @ConfigProperty(name = "logo.prefetch.batch-size", defaultValue = "100") int batchSize,
+                                @ConfigProperty(name = "logo.prefetch.retention", defaultValue = "PT24H") Duration retention) {
+        this.logoPersistencePort = logoPersistencePort;
+        this.logoApiPort = logoApiPort;
+        this.missingLogoPort = missingLogoPort;
+        this.logoVariantPregenerator = logoVariantPregenerator;
+        this.concurrency = concurrency;
+        this.ratePerSecond = ratePerSecond;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Override
+    public Uni<PrefetchJob> start(List<String> identifiers) {
+        return Uni.createFrom().item(() -> {
+            OffsetDateTime now = OffsetDateTime.now();
+            jobs.values().removeIf(job -> job.finishedBefore(now.minus(retention)));
+
+            List<String> distinct = List.copyOf(new LinkedHashSet<>(identifiers));
+            PrefetchJobState job = new PrefetchJobState(UUID.randomUUID().toString(), distinct.size(), now);
+            jobs.put(job.id(), job);
+            LOG.info("Starting prefetch job %s for %d identifiers".formatted(job.id(), distinct.size()));
+
+            // The job outlives this request, so it gets a context, and therefore sessions, of its own
+            Executor jobContext = DuplicatedContexts.single();
+            run(job, distinct, jobContext)
+                    .runSubscriptionOn(jobContext)
+                    .subscribe().with(
+                            ignored -> {
+                                job.finish(PrefetchJob.Status.COMPLETED);
+                                PrefetchJob result = job.snapshot();
+                                LOG.info("Prefetch job %s completed: %d already stored, %d fetched, %d failed"
+                                        .formatted(job.id(), result.alreadyStored(), result.fetched(), result.failed()));
+                            },
+                            failure -> {
+                                job.finish(PrefetchJob.Status.FAILED);
+                                LOG.error("Prefetch job %s failed".formatted(job.id()), failure);
+                            });
+            return job.snapshot();
+        });
+    }
+
+    @Override
+    public Uni<PrefetchLogosUseCase.Result> status(String jobId) {
+        return Uni.createFrom().item(() -> {
+            PrefetchJobState job = jobs.get(jobId);
+            return job != null
+                    ? new PrefetchLogosUseCase.Result.Success(job.snapshot())
+                    : new PrefetchLogosUseCase.Result.NotFound();
+        });
+    }
+
+    private Uni<Void> run(PrefetchJobState job, List<String> identifiers, Executor jobContext) {
+        return findStored(identifiers)
+                .flatMap(stored -> {
+                    job.alreadyStored(stored.size());
+                    List<String> missing = identifiers.stream()
+                            .filter(identifier -> !stored.contains(identifier))
+                            .toList();
+                    return Multi.createFrom().iterable(missing)
+                            // Known misses are settled before pacing, so they take none of the upstream rate
+                            .onItem().transformToUniAndConcatenate(identifier -> skipKnownMissing(job, identifier))
+                            .onItem().call(this::pace)
+                            .onItem().transformToUni(identifier -> fetch(job, identifier)).merge(concurrency)
+                            .group().intoLists().of(batchSize)
+                            // Fetches complete on other threads; saves go back to the job's context, one batch at a time
+                            .emitOn(jobContext)
+                            .onItem().transformToUniAndConcatenate(batch -> save(job, batch))
+                            .collect().last()
+                            .replaceWithVoid();
+                });
+    }
+
+    private Uni<Set<String>> findStored(List<String> identifiers) {
+        return Multi.createFrom().range(0, (identifiers.size() + LOOKUP_CHUNK_SIZE - 1) / LOOKUP_CHUNK_SIZE)
+                .map(chunk -> identifiers.subList(chunk * LOOKUP_CHUNK_SIZE,
+                        Math.min(identifiers.size(), (chunk + 1) * LOOKUP_CHUNK_SIZE)))
+                .onItem().transformToUniAndConcatenate(logoPersistencePort::findStoredIdentifiers)
+                .collect().in(HashSet::new, Set::addAll);
+    }
+
+    /**
+     * Spaces out upstream calls so they start at no more than {@code logo.prefetch.rate-per-second}.
+     * Items pass through one at a time, so the delay holds back every call behind it.
+     */
+    private Uni<Void> pace(String identifier) {
+        if (ratePerSecond <= 0) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().voidItem()
+                .onItem().delayIt().by(Duration.ofNanos(1_000_000_000L / ratePerSecond));
+    }
+
+    /**
+     * @return Uni containing the identifier, or a null item, dropped by the stream, if logo.dev recently had no logo for it
+     */
+    private Uni<String> skipKnownMissing(PrefetchJobState job, String identifier) {
+        return missingLogoPort.isMissing(identifier)
+                .onFailure().invoke(failure -> LOG.warn("Could not check whether logo %s is known to be missing"
+                        .formatted(identifier), failure))
+                .onFailure().recoverWithItem(false)
+                .map(missing -> {
+                    if (missing) {
+                        job.failed(identifier, Errors.LOGO_NOT_FOUND);
+                        return null;
+                    }
+                    return identifier;
+                });
+    }
+
+    private Uni<Logo> fetch(PrefetchJobState job, String identifier) {
+        return logoApiPort.fetchLogo(identifier)
+                .onFailure(PrefetchLogosService::isLogoNotFound).call(() -> missingLogoPort.markMissing(identifier)
+                        .onFailure().invoke(failure -> LOG.warn("Could not record missing logo %s".formatted(identifier), failure))
+                        .onFailure().recoverWithNull())
+                .map(logoData -> Logo.fromUpstream(identifier, logoData, OffsetDateTime.now()))
+                .onFailure().recoverWithItem(throwable -> {
+                    Errors error = throwable instanceof ServiceException serviceException
+                            ? serviceException.getError()
+                            : Errors.EXTERNAL_SERVICE_ERROR;
+                    LOG.warn("Prefetch job %s could not fetch logo with identifier %s: %s".formatted(job.id(), identifier, error));
+                    job.failed(identifier, error);
+                    // A null item is dropped by the merge
+                    return null;
+                });
+    }
+
+    private Uni<Void> save(PrefetchJobState job, List<Logo> batch) {
+        return logoPersistencePort.saveAll(batch)
+                .invoke(saved -> {
+                    job.fetched(saved.size());
+                    PrefetchJob progress = job.snapshot();
+                    LOG.info("Prefetch job %s saved %d logos, %d remaining"
+                            .formatted(job.id(), saved.size(), progress.remaining()));
+                })
+                .invoke(logoVariantPregenerator::scheduleAll)
+                .replaceWithVoid()
+                .onFailure().recoverWithUni(throwable -> {
+                    // One bad row fails the whole batch; save the logos one by one to find it
+                    LOG.warn("Prefetch job %s could not save a batch of %d logos, saving them one by one"
+                            .formatted(job.id(), batch.size()), throwable);
+                    return saveIndividually(job, batch);
+                });
+    }
+
+    private Uni<Void> saveIndividually(PrefetchJobState job, List<Logo> batch) {
+        return Multi.createFrom().iterable(batch)
+                .onItem().transformToUniAndConcatenate(logo -> logoPersistencePort.save(logo)
+                        .invoke(saved -> job.fetched(1))
+                        .invoke(logoVariantPregenerator::schedule)
+                        .replaceWithVoid()
+                        .onFailure().recoverWithItem(throwable -> {
+                            LOG.warn("Prefetch job %s could not save logo with identifier %s"
+                                    .formatted(job.id(), logo.externalIdentifier()), throwable);
+                            job.failed(logo.externalIdentifier(), Errors.EXTERNAL_SERVICE_ERROR);
+                            return null;
+                        }))
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private static boolean isLogoNotFound(Throwable throwable) {
+        return throwable instanceof ServiceException serviceException
+                && serviceException.getError() == Errors.LOGO_NOT_FOUND;
+    }
+}
@@ -0,0 +1,174 @@
+package com.logo.application.refresh;
+
+import com.logo.application.concurrent.DuplicatedContexts;
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamFetch;
+import com.logo.domain.port.outgoing.LogoApiPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort.RefreshOutcome;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Refetches logos that came from logo.dev once they are older than {@code max-age}, so a rebrand is picked up without
+ * deleting rows. Every poll takes the {@code batch-size} least recently checked logos and refetches at most
+ * {@code concurrency} of them at once, through the same rate limiter and circuit breaker as request-time fetches.
+ * Stored copies keep being served throughout: a row is only rewritten when the fetched bytes differ, and a logo that
+ * upstream no longer has, or that cannot be fetched, keeps its current content. Fetches send back the ETag and
+ * Last-Modified logo.dev last sent for the logo, so an unchanged logo costs a 304 instead of its bytes. Successful
+ * checks, changed or not, move the logo to the back of the line; a failed one is retried after {@code retry-backoff},
+ * so a batch that keeps failing does not hold back the stale logos behind it.
+ */
+@ApplicationScoped
+public class LogoRefreshScheduler {
+
+    private static final Logger LOG = Logger.getLogger(LogoRefreshScheduler.class);
+
+    private final LogoPersistencePort logoPersistencePort;
+    private final LogoApiPort logoApiPort;
+    private final LogoVariantPregenerator logoVariantPregenerator;
+    private final LogoMetricsPort logoMetricsPort;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final Duration retryBackoff;
+    private final int batchSize;
+    private final int concurrency;
+    private final Supplier<OffsetDateTime> clock;
+
+    @Inject
+    public LogoRefreshScheduler(LogoPersistencePort logoPersistencePort,
+                                LogoApiPort logoApiPort,
+                                LogoVariantPregenerator logoVariantPregenerator,
+                                LogoMetricsPort logoMetricsPort,
+                                @ConfigProperty(name = "logo.refresh.enabled", defaultValue = "true") boolean enabled,
+                                @ConfigProperty(name = "logo.refresh.max-age", defaultValue = "P7D") Duration maxAge,
+                                @ConfigProperty(name = "logo.refresh.retry-backoff", defaultValue = "PT1H") Duration retryBackoff,
+                                @ConfigProperty(name = "logo.refresh.batch-size", defaultValue = "50") int batchSize,
+                                @ConfigProperty(name = "logo.refresh.concurrency", defaultValue = "2") int concurrency) {
+        this(logoPersistencePort, logoApiPort, logoVariantPregenerator, logoMetricsPort, enabled, maxAge, retryBackoff,
+                batchSize, concurrency, OffsetDateTime::now);
+    }
+
+    LogoRefreshScheduler(LogoPersistencePort logoPersistencePort, LogoApiPort logoApiPort,
+                         LogoVariantPregenerator logoVariantPregenerator, LogoMetricsPort logoMetricsPort, boolean enabled,
+                         Duration maxAge, Duration retryBackoff, int batchSize, int concurrency,
+                         Supplier<OffsetDateTime> clock) {
+        this.logoPersistencePort = logoPersistencePort;
+        this.logoApiPort = logoApiPort;
+        this.logoVariantPregenerator = logoVariantPregenerator;
+        this.logoMetricsPort = logoMetricsPort;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.retryBackoff = retryBackoff;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.clock = clock;
+    }
+
+    @Scheduled(every = "${logo.refresh.poll-interval:1m}", delayed = "${logo.refresh.poll-interval:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> poll() {
+        if (!enabled) {
+            return Uni.createFrom().voidItem();
+        }
+        return refreshStale()
+                .onFailure().invoke(throwable -> LOG.error("Logo refresh poll failed", throwable))
+                .onFailure().recoverWithNull();
+    }
+
+    /**
+     * Checks one batch of stale logos. Logos whose check failed are put back for later, so a poll never loops over them.
+     */
+    Uni<Void> refreshStale() {
+        return logoPersistencePort.findRefreshedBefore(LogoSource.UPSTREAM, clock.get().minus(maxAge), batchSize)
+                .flatMap(stale -> {
+                    if (stale.isEmpty()) {
+                        return Uni.createFrom().voidItem();
+                    }
+                    LOG.debug("Refreshing %d logos older than %s".formatted(stale.size(), maxAge));
+                    return refresh(stale);
+                });
+    }
+
+    private Uni<Void> refresh(List<LogoRefreshCandidate> stale) {
+        return Multi.createFrom().iterable(stale)
+                // Refreshes touch persistence concurrently, so each needs a context of its own
+                .onItem().transformToUni(candidate -> refresh(candidate)
+                        .runSubscriptionOn(DuplicatedContexts.perTask()))
+                .merge(concurrency)
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> refresh(LogoRefreshCandidate candidate) {
+        String identifier = candidate.externalIdentifier();
+        OffsetDateTime now = clock.get();
+        return logoApiPort.fetchLogoIfChanged(identifier, candidate.validators())
+                .flatMap(fetch -> switch (fetch) {
+                    case UpstreamFetch.NotModified notModifiedFetch -> {
+                        logoMetricsPort.refreshChecked(RefreshOutcome.NOT_MODIFIED);
+                        yield logoPersistencePort.markRefreshed(identifier, notModifiedFetch.validators(), now);
+                    }
+                    case UpstreamFetch.Modified modified -> store(identifier, modified, now);
+                })
+                .onFailure(LogoRefreshScheduler::isLogoNotFound).recoverWithUni(() -> {
+                    // Keep serving what we have rather than turning a stored logo into a 404
+                    LOG.info("Logo with identifier %s is gone upstream, keeping the stored copy".formatted(identifier));
+                    logoMetricsPort.refreshChecked(RefreshOutcome.UNCHANGED);
+                    return logoPersistencePort.markRefreshed(identifier, null, now);
+                })
+                .onFailure().recoverWithUni(throwable -> {
+                    LOG.warn("Could not refresh logo with identifier %s, retrying in %s".formatted(identifier, retryBackoff),
+                            throwable);
+                    logoMetricsPort.refreshChecked(RefreshOutcome.FAILED);
+                    return logoPersistencePort.markRefreshed(identifier, null, retryAt(now));
+                })
+                .onFailure().invoke(throwable -> LOG.warn("Could not put logo with identifier %s back for a retry"
+                        .formatted(identifier), throwable))
+                .onFailure().recoverWithNull();
+    }
+
+    /**
+     * A check time that makes the logo stale again once {@code retry-backoff} has passed, rather than {@code max-age}.
+     * Its validators are left alone, so the retry can still be answered with a 304.
+     */
+    private OffsetDateTime retryAt(OffsetDateTime now) {
+        return retryBackoff.compareTo(maxAge) < 0 ? now.minus(maxAge).plus(retryBackoff) : now;
+    }
+
+    private Uni<Void> store(String identifier, UpstreamFetch.Modified modified, OffsetDateTime now) {
+        Logo fetched = Logo.fromUpstream(identifier, modified.content(), now);
+        return logoPersistencePort.refresh(fetched, modified.validators(), now)
+                .flatMap(changed -> {
+                    if (!changed) {
+                        logoMetricsPort.refreshChecked(RefreshOutcome.UNCHANGED);
+                        return Uni.createFrom().voidItem();
+                    }
+                    LOG.info("Logo with identifier %s changed upstream, stored the new content".formatted(identifier));
+                    logoMetricsPort.refreshChecked(RefreshOutcome.REPLACED);
+                    logoVariantPregenerator.schedule(fetched);
+                    return Uni.createFrom().voidItem();
+                });
+    }
+
+    private static boolean isLogoNotFound(Throwable throwable) {
+        return throwable instanceof ServiceException serviceException
+                && serviceException.getError() == Errors.LOGO_NOT_FOUND;
+    }
+}
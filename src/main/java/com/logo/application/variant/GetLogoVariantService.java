@@ -0,0 +1,178 @@
+package com.logo.application.variant;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoVariant;
+import com.logo.domain.port.incoming.GetLogoUseCase;
+import com.logo.domain.port.incoming.GetLogoVariantUseCase;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.LogoVariantPort;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves resized and re-encoded logos. Variants are keyed by (content hash, size, format) and generated at most once:
+ * a stored variant is answered from its metadata lookup without loading the original, and concurrent requests for a
+ * variant that does not exist yet share one encoding.
+ */
+@ApplicationScoped
+public class GetLogoVariantService implements GetLogoVariantUseCase {
+
+    private static final Logger LOG = Logger.getLogger(GetLogoVariantService.class);
+
+    private final LogoPersistencePort logoPersistencePort;
+    private final LogoVariantPort logoVariantPort;
+    private final LogoImagePort logoImagePort;
+    private final GetLogoUseCase getLogoUseCase;
+    private final Set<Integer> allowedSizes;
+
+    private final Map<String, Uni<LogoVariant>> inFlight = new ConcurrentHashMap<>();
+
+    public GetLogoVariantService(LogoPersistencePort logoPersistencePort,
+                                 LogoVariantPort logoVariantPort,
+                                 LogoImagePort logoImagePort,
+                                 GetLogoUseCase getLogoUseCase,
+                                 @ConfigProperty(name = "logo.variants.sizes", defaultValue = "16,32,64,128,256") List<Integer> allowedSizes) {
+        this.logoPersistencePort = logoPersistencePort;
+        this.logoVariantPort = logoVariantPort;
+        this.logoImagePort = logoImagePort;
+        this.getLogoUseCase = getLogoUseCase;
+        this.allowedSizes = Set.copyOf(allowedSizes);
+    }
+
+    @Override
+    public Uni<GetLogoVariantUseCase.Result> execute(String identifier, Integer size, ImageFormat format) {
+        if (size != null && !allowedSizes.contains(size)) {
+            LOG.debug("Rejecting logo variant size %d for identifier %s".formatted(size, identifier));
+            return Uni.createFrom().item(new GetLogoVariantUseCase.Result.Error(Errors.INVALID_REQUEST));
+        }
+        if (format != null && !logoImagePort.canEncode(format)) {
+            LOG.debug("Rejecting logo variant format %s for identifier %s".formatted(format, identifier));
+            return Uni.createFrom().item(new GetLogoVariantUseCase.Result.Error(Errors.INVALID_REQUEST));
+        }
+        int targetSize = size != null ? size : LogoVariant.ORIGINAL_SIZE;
+        return logoPersistencePort.getMetadata(identifier)
+                .flatMap(metadata -> {
+                    if (metadata == null || metadata.contentHash() == null) {
+                        return fromOriginal(identifier, targetSize, format);
+                    }
+                    return logoVariantPort.find(metadata.contentHash(), targetSize, targetFormat(format, metadata.contentType()))
+                            .flatMap(variant -> variant != null
+                                    ? Uni.createFrom().item((GetLogoVariantUseCase.Result) new GetLogoVariantUseCase.Result.Success(metadata, variant))
+                                    : fromOriginal(identifier, targetSize, format));
+                })
+                .onFailure().recoverWithItem(throwable -> recover(identifier, throwable));
+    }
+
+    /**
+     * Generates a variant of the stored original only, for background jobs. Unlike {@link #execute} it never falls
+     * back to {@link GetLogoUseCase}, so a job that outlived its logo, or the content it was queued for, finds
+     * nothing instead of fetching the logo again.
+     * @param contentHash Hash of the content the variant was asked for
+     * @return {@link GetLogoVariantUseCase.Result.NotFound} if no logo with that content is stored any more
+     */
+    Uni<GetLogoVariantUseCase.Result> executeStored(String identifier, String contentHash, int size, ImageFormat format) {
+        return logoPersistencePort.getMetadata(identifier)
+                .flatMap(metadata -> {
+                    if (metadata == null || !contentHash.equals(metadata.contentHash())) {
+                        return Uni.createFrom().item((GetLogoVariantUseCase.Result) new GetLogoVariantUseCase.Result.NotFound());
+                    }
+                    return logoVariantPort.find(contentHash, size, format)
+                            .flatMap(variant -> variant != null
+                                    ? Uni.createFrom().item((GetLogoVariantUseCase.Result) new GetLogoVariantUseCase.Result.Success(metadata, variant))
+                                    : fromStored(identifier, contentHash, size, format));
+                })
+                .onFailure().recoverWithItem(throwable -> recover(identifier, throwable));
+    }
+
+    private Uni<GetLogoVariantUseCase.Result> fromStored(String identifier, String contentHash, int size, ImageFormat format) {
+        return logoPersistencePort.get(identifier)
+                .flatMap(logo -> {
+                    // Replaced or deleted since its metadata was read
+                    if (logo == null || !contentHash.equals(logo.contentHash())) {
+                        return Uni.createFrom().item((GetLogoVariantUseCase.Result) new GetLogoVariantUseCase.Result.NotFound());
+                    }
+                    return variantOnce(logo, size, format)
+                            .map(variant -> (GetLogoVariantUseCase.Result) new GetLogoVariantUseCase.Result.Success(logo.metadata(), variant));
+                });
+    }
+
+    private static GetLogoVariantUseCase.Result recover(String identifier, Throwable throwable) {
+        if (throwable instanceof ServiceException serviceException) {
+            LOG.warn("Service error generating logo variant for identifier %s: %s".formatted(
+                    identifier, serviceException.getError()));
+            return new GetLogoVariantUseCase.Result.Error(serviceException.getError());
+        }
+        LOG.error("Unexpected error generating logo variant for identifier %s".formatted(identifier), throwable);
+        return new GetLogoVariantUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR);
+    }
+
+    private Uni<GetLogoVariantUseCase.Result> fromOriginal(String identifier, int size, ImageFormat format) {
+        return getLogoUseCase.execute(identifier)
+                .flatMap(result -> switch (result) {
+                    case GetLogoUseCase.Result.Success(var logo) ->
+                            variantOnce(logo, size, targetFormat(format, logo.contentType()))
+                                    .map(variant -> (GetLogoVariantUseCase.Result) new GetLogoVariantUseCase.Result.Success(logo.metadata(), variant));
+                    case GetLogoUseCase.Result.NotFound() ->
+                            Uni.createFrom().item(new GetLogoVariantUseCase.Result.NotFound());
+                    case GetLogoUseCase.Result.Error(var error) ->
+                            Uni.createFrom().item(new GetLogoVariantUseCase.Result.Error(error));
+                });
+    }
+
+    private Uni<LogoVariant> variantOnce(Logo logo, int size, ImageFormat format) {
+        if (logo.contentHash() == null) {
+            return render(logo, size, format);
+        }
+        String key = "%s/%d/%s".formatted(logo.contentHash(), size, format);
+        return Uni.createFrom().deferred(() -> inFlight.computeIfAbsent(key, ignored -> findOrGenerate(logo, size, format)
+                .onTermination().invoke(() -> inFlight.remove(key))
+                .memoize().indefinitely()));
+    }
+
+    private Uni<LogoVariant> findOrGenerate(Logo logo, int size, ImageFormat format) {
+        return logoVariantPort.find(logo.contentHash(), size, format)
+                .flatMap(stored -> {
+                    if (stored != null) {
+                        return Uni.createFrom().item(stored);
+                    }
+                    LOG.info("Generating %s variant of size %d for logo %s".formatted(format, size, logo.externalIdentifier()));
+                    return render(logo, size, format)
+                            .flatMap(variant -> logoVariantPort.save(variant)
+                                    // The variant is still good to serve; the next request simply generates it again
+                                    .onFailure().recoverWithItem(throwable -> {
+                                        LOG.warn("Could not store logo variant %s/%d/%s".formatted(
+                                                variant.contentHash(), size, format), throwable);
+                                        return variant;
+                                    }));
+                });
+    }
+
+    private Uni<LogoVariant> render(Logo logo, int size, ImageFormat format) {
+        return logoImagePort.render(logo, size, format)
+                .map(content -> new LogoVariant(logo.contentHash(), size, format, content, OffsetDateTime.now()));
+    }
+
+    /**
+     * Keeps the original encoding when no format is requested and it can be produced, otherwise falls back to PNG.
+     */
+    private ImageFormat targetFormat(ImageFormat requested, String originalContentType) {
+        if (requested != null) {
+            return requested;
+        }
+        return ImageFormat.fromContentType(originalContentType)
+                .filter(logoImagePort::canEncode)
+                .orElse(ImageFormat.PNG);
+    }
+}
@@ -0,0 +1,127 @@
+package com.logo.application.variant;
+
+import com.logo.application.concurrent.DuplicatedContexts;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.LogoVariantJob;
+import com.logo.domain.port.incoming.GetLogoVariantUseCase;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Drains the variant job queue. Every poll claims due jobs in batches until none are left and generates them through
+ * {@link GetLogoVariantService}, so a background job and a concurrent request for the same variant share one encoding
+ * and the result lands where requests look for it. Jobs only use the stored original: one whose logo was deleted or
+ * replaced since it was queued is dropped. At most {@code concurrency} jobs run at once per instance.
+ * Failed jobs are retried with a linear backoff and parked after {@code max-attempts}; jobs that can never succeed,
+ * such as logos that cannot be decoded, are parked right away.
+ */
+@ApplicationScoped
+public class LogoVariantJobWorker {
+
+    private static final Logger LOG = Logger.getLogger(LogoVariantJobWorker.class);
+
+    private final LogoVariantJobPort logoVariantJobPort;
+    private final GetLogoVariantService getLogoVariantService;
+    private final LogoMetricsPort logoMetricsPort;
+    private final boolean enabled;
+    private final int concurrency;
+    private final int batchSize;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    @Inject
+    public LogoVariantJobWorker(LogoVariantJobPort logoVariantJobPort,
+                                GetLogoVariantService getLogoVariantService,
+                                LogoMetricsPort logoMetricsPort,
+                                @ConfigProperty(name = "logo.variants.pregenerate.enabled", defaultValue = "true") boolean enabled,
+                                @ConfigProperty(name = "logo.variants.pregenerate.concurrency", defaultValue = "2") int concurrency,
+                                @ConfigProperty(name = "logo.variants.pregenerate.batch-size", defaultValue = "20") int batchSize,
+                                @ConfigProperty(name = "logo.variants.pregenerate.lease", defaultValue = "PT5M") Duration lease,
+                                @ConfigProperty(name = "logo.variants.pregenerate.max-attempts", defaultValue = "5") int maxAttempts,
+                                @ConfigProperty(name = "logo.variants.pregenerate.retry-backoff", defaultValue = "PT30S") Duration retryBackoff) {
+        this.logoVariantJobPort = logoVariantJobPort;
+        this.getLogoVariantService = getLogoVariantService;
+        this.logoMetricsPort = logoMetricsPort;
+        this.enabled = enabled;
+        this.concurrency = concurrency;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Scheduled(every = "${logo.variants.pregenerate.poll-interval:5s}", delayed = "${logo.variants.pregenerate.poll-interval:5s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> poll() {
+        if (!enabled) {
+            return Uni.createFrom().voidItem();
+        }
+        return drain()
+                .onFailure().invoke(throwable -> LOG.error("Logo variant job poll failed", throwable))
+                .onFailure().recoverWithNull();
+    }
+
+    /**
+     * Runs due jobs until the queue has none left, then reports the backlog.
+     */
+    Uni<Void> drain() {
+        return logoVariantJobPort.claim(batchSize, lease)
+                .flatMap(jobs -> {
+                    if (jobs.isEmpty()) {
+                        return logoVariantJobPort.countPending()
+                                .invoke(logoMetricsPort::variantBacklog)
+                                .replaceWithVoid();
+                    }
+                    LOG.debug("Running %d logo variant jobs".formatted(jobs.size()));
+                    return run(jobs).flatMap(ignored -> jobs.size() < batchSize
+                            ? logoVariantJobPort.countPending().invoke(logoMetricsPort::variantBacklog).replaceWithVoid()
+                            : drain());
+                });
+    }
+
+    private Uni<Void> run(List<LogoVariantJob> jobs) {
+        return Multi.createFrom().iterable(jobs)
+                // Jobs touch persistence concurrently, so each needs a context of its own
+                .onItem().transformToUni(job -> run(job).runSubscriptionOn(DuplicatedContexts.perTask()))
+                .merge(concurrency)
+                .collect().last()
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> run(LogoVariantJob job) {
+        return getLogoVariantService.executeStored(job.externalIdentifier(), job.contentHash(), job.size(), job.format())
+                .flatMap(result -> switch (result) {
+                    case GetLogoVariantUseCase.Result.Success ignored -> logoVariantJobPort.complete(job.id());
+                    case GetLogoVariantUseCase.Result.NotFound() -> {
+                        LOG.debug("Dropping variant job %d, logo %s is no longer stored with that content".formatted(
+                                job.id(), job.externalIdentifier()));
+                        yield logoVariantJobPort.complete(job.id());
+                    }
+                    case GetLogoVariantUseCase.Result.Error(var error) -> failed(job, error);
+                })
+                .onFailure().invoke(throwable -> LOG.warn("Could not update variant job %d".formatted(job.id()), throwable))
+                .onFailure().recoverWithNull();
+    }
+
+    private Uni<Void> failed(LogoVariantJob job, Errors error) {
+        String reason = "%s (attempt %d)".formatted(error, job.attempts());
+        if (error == Errors.INVALID_REQUEST || job.attempts() >= maxAttempts) {
+            LOG.warn("Giving up on %s variant of size %d for logo %s: %s".formatted(
+                    job.format(), job.size(), job.externalIdentifier(), reason));
+            return logoVariantJobPort.abandon(job.id(), reason);
+        }
+        return logoVariantJobPort.retry(job.id(), OffsetDateTime.now().plus(retryBackoff.multipliedBy(job.attempts())), reason);
+    }
+}
@@ -0,0 +1,67 @@
+package com.logo.application.variant;
+
+import com.logo.application.concurrent.DuplicatedContexts;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoVariantJob;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+
+/**
+ * Queues the configured variants of newly stored logos, so they are generated in the background by
+ * {@link LogoVariantJobWorker} before anyone asks for them. Queueing runs in the background on a context of its own,
+ * so the ingest that triggered it neither waits for the insert nor fails with it: a variant that could not be queued
+ * is simply generated on its first request.
+ */
+@ApplicationScoped
+public class LogoVariantPregenerator {
+
+    private static final Logger LOG = Logger.getLogger(LogoVariantPregenerator.class);
+
+    private final LogoVariantJobPort logoVariantJobPort;
+    private final LogoImagePort logoImagePort;
+    private final boolean enabled;
+    private final List<Integer> sizes;
+    private final List<ImageFormat> formats;
+
+    public LogoVariantPregenerator(LogoVariantJobPort logoVariantJobPort,
+                                   LogoImagePort logoImagePort,
+                                   @ConfigProperty(name = "logo.variants.pregenerate.enabled", defaultValue = "true") boolean enabled,
+                                   @ConfigProperty(name = "logo.variants.pregenerate.sizes", defaultValue = "32,64,128") List<Integer> sizes,
+                                   @ConfigProperty(name = "logo.variants.pregenerate.formats", defaultValue = "PNG") List<ImageFormat> formats) {
+        this.logoVariantJobPort = logoVariantJobPort;
+        this.logoImagePort = logoImagePort;
+        this.enabled = enabled;
+        this.sizes = List.copyOf(sizes);
+        this.formats = List.copyOf(formats);
+    }
+
+    public void schedule(Logo logo) {
+        scheduleAll(List.of(logo));
+    }
+
+    public void scheduleAll(List<Logo> logos) {
+        if (!enabled) {
+            return;
+        }
+        List<LogoVariantJob> jobs = logos.stream()
+                .filter(logo -> logo.contentHash() != null)
+                .flatMap(logo -> formats.stream()
+                        .filter(logoImagePort::canEncode)
+                        .flatMap(format -> sizes.stream().map(size -> LogoVariantJob.of(logo, size, format))))
+                .toList();
+        if (jobs.isEmpty()) {
+            return;
+        }
+        logoVariantJobPort.enqueue(jobs)
+                .runSubscriptionOn(DuplicatedContexts.perTask())
+                .subscribe().with(
+                        ignored -> LOG.debug("Queued %d logo variants for generation".formatted(jobs.size())),
+                        throwable -> LOG.warn("Could not queue %d logo variants for generation".formatted(jobs.size()), throwable));
+    }
+}
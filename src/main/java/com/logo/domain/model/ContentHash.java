@@ -0,0 +1,30 @@
+package com.logo.domain.model;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Strong content hash of a logo's bytes, computed once when the logo is written.
+ * Two logos with the same hash have identical content.
+ */
+public final class ContentHash {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private ContentHash() {
+    }
+
+    /**
+     * @param content The logo bytes
+     * @return Lower-case hex SHA-256 of the content (64 characters)
+     */
+    public static String of(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(ALGORITHM).digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.logo.domain.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Encodings a logo variant can be requested in.
+ */
+public enum ImageFormat {
+    PNG("image/png", "png"),
+    JPEG("image/jpeg", "jpeg"),
+    WEBP("image/webp", "webp");
+
+    private final String contentType;
+    private final String extension;
+
+    ImageFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * @param name A format name as given by clients, e.g. {@code png} or {@code jpg}, in any case
+     */
+    public static Optional<ImageFormat> fromName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        String normalized = name.trim().toUpperCase();
+        if (normalized.equals("JPG")) {
+            return Optional.of(JPEG);
+        }
+        return Arrays.stream(values())
+                .filter(format -> format.name().equals(normalized))
+                .findFirst();
+    }
+
+    public static Optional<ImageFormat> fromContentType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        String normalized = contentType.trim().toLowerCase();
+        if (normalized.equals("image/jpg")) {
+            return Optional.of(JPEG);
+        }
+        return Arrays.stream(values())
+                .filter(format -> format.contentType.equals(normalized))
+                .findFirst();
+    }
+}
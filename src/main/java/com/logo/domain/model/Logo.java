@@ -2,13 +2,43 @@ package com.logo.domain.model;
 
 import java.time.OffsetDateTime;
 
+/**
+ * A stored logo. Its {@link #content} is either in memory or left in storage until it is served.
+ */
 public record Logo(
         String externalIdentifier,
         String resourceUrl,
-        byte[] fileContent,
+        LogoContent content,
         String fileName,
         String contentType,
+        String contentHash,
+        LogoSource source,
         OffsetDateTime createdAt,
         OffsetDateTime updatedAt
 ) {
+
+    private static final String UPSTREAM_URL = "https://img.logo.dev/ticker/%s";
+
+    /**
+     * Builds a logo from the bytes logo.dev returned for a ticker.
+     */
+    public static Logo fromUpstream(String identifier, byte[] content, OffsetDateTime now) {
+        return new Logo(
+                identifier,
+                UPSTREAM_URL.formatted(identifier),
+                new LogoContent.InMemory(content),
+                identifier + ".jpeg",
+                "image/jpeg",
+                ContentHash.of(content),
+                LogoSource.UPSTREAM,
+                now,
+                now
+        );
+    }
+
+    public LogoMetadata metadata() {
+        Long sizeBytes = content != null ? content.size() : null;
+        return new LogoMetadata(externalIdentifier, resourceUrl, fileName, contentType, contentHash, sizeBytes, source,
+                createdAt, updatedAt);
+    }
 }
@@ -0,0 +1,59 @@
+package com.logo.domain.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * The bytes of a logo: either held in memory, or kept in storage and only read when they are served.
+ */
+public sealed interface LogoContent {
+
+    /**
+     * @return The length of the content in bytes
+     */
+    long size();
+
+    /**
+     * Opens the content for reading. May block on storage, so keep it off the event loop.
+     */
+    InputStream open() throws IOException;
+
+    /**
+     * @return The bytes as in-memory content, or null if there are none
+     */
+    static LogoContent of(byte[] bytes) {
+        return bytes != null ? new InMemory(bytes) : null;
+    }
+
+    /**
+     * Content that has been read, or was just received.
+     */
+    record InMemory(byte[] bytes) implements LogoContent {
+
+        @Override
+        public long size() {
+            return bytes.length;
+        }
+
+        @Override
+        public InputStream open() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+
+    /**
+     * Content left in storage until it is read, implemented by the storage that knows where it lives.
+     */
+    non-sealed interface Streamed extends LogoContent {
+
+        /**
+         * @return The local file holding the content, if it is kept in one, so it can be sent without being read
+         */
+        default Optional<Path> file() {
+            return Optional.empty();
+        }
+    }
+}
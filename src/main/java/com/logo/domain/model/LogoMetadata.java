@@ -0,0 +1,21 @@
+package com.logo.domain.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Everything known about a stored logo except its bytes.
+ * Used for validator checks and probes that must not load the file content.
+ * {@link #sizeBytes} is null when the size is not known without reading the content.
+ */
+public record LogoMetadata(
+        String externalIdentifier,
+        String resourceUrl,
+        String fileName,
+        String contentType,
+        String contentHash,
+        Long sizeBytes,
+        LogoSource source,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.logo.domain.model;
+
+/**
+ * A stored logo due to be checked against its source, with the validators its source last sent.
+ */
+public record LogoRefreshCandidate(String externalIdentifier, UpstreamValidators validators) {
+}
@@ -0,0 +1,17 @@
+package com.logo.domain.model;
+
+/**
+ * Where the bytes of a stored logo came from.
+ */
+public enum LogoSource {
+
+    /**
+     * Uploaded by a client through the create use case
+     */
+    UPLOADED,
+
+    /**
+     * Fetched from logo.dev on a read miss
+     */
+    UPSTREAM
+}
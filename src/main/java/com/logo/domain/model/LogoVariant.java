@@ -0,0 +1,20 @@
+package com.logo.domain.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A logo re-encoded for clients that do not want the original.
+ * Variants are derived from content, not from an identifier, so every logo sharing the same bytes shares its variants.
+ * @param contentHash SHA-256 of the original content the variant was derived from
+ * @param size Longest edge in pixels, or {@link #ORIGINAL_SIZE} to keep the original dimensions
+ */
+public record LogoVariant(
+        String contentHash,
+        int size,
+        ImageFormat format,
+        byte[] content,
+        OffsetDateTime createdAt
+) {
+
+    public static final int ORIGINAL_SIZE = 0;
+}
@@ -0,0 +1,20 @@
+package com.logo.domain.model;
+
+/**
+ * A variant queued for generation in the background.
+ * @param id Queue position assigned when the job is stored, null before that
+ * @param attempts Generation attempts made so far, including the one in progress once claimed
+ */
+public record LogoVariantJob(
+        Long id,
+        String externalIdentifier,
+        String contentHash,
+        int size,
+        ImageFormat format,
+        int attempts
+) {
+
+    public static LogoVariantJob of(Logo logo, int size, ImageFormat format) {
+        return new LogoVariantJob(null, logo.externalIdentifier(), logo.contentHash(), size, format, 0);
+    }
+}
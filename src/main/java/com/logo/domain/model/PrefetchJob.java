@@ -0,0 +1,37 @@
+package com.logo.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Snapshot of a prefetch job's progress.
+ * @param total The number of distinct identifiers requested
+ * @param alreadyStored The identifiers that were skipped because a logo was already stored
+ * @param fetched The identifiers fetched upstream and saved so far
+ * @param failures The error of every identifier that could not be fetched or saved so far
+ */
+public record PrefetchJob(
+        String id,
+        Status status,
+        int total,
+        int alreadyStored,
+        int fetched,
+        Map<String, Errors> failures,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt
+) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public int failed() {
+        return failures.size();
+    }
+
+    public int remaining() {
+        return total - alreadyStored - fetched - failed();
+    }
+}
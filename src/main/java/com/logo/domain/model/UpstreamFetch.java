@@ -0,0 +1,21 @@
+package com.logo.domain.model;
+
+/**
+ * Outcome of a conditional fetch from the upstream service.
+ */
+public sealed interface UpstreamFetch {
+
+    UpstreamValidators validators();
+
+    /**
+     * The logo changed, or no validators were sent: its full content.
+     */
+    record Modified(byte[] content, UpstreamValidators validators) implements UpstreamFetch {
+    }
+
+    /**
+     * The copy matching the validators sent is still current; nothing was downloaded.
+     */
+    record NotModified(UpstreamValidators validators) implements UpstreamFetch {
+    }
+}
@@ -0,0 +1,22 @@
+package com.logo.domain.model;
+
+/**
+ * Validators the upstream service sent with a logo, echoed back on the next fetch so an unchanged logo
+ * is answered without its content. Either may be null.
+ */
+public record UpstreamValidators(String etag, String lastModified) {
+
+    public static final UpstreamValidators NONE = new UpstreamValidators(null, null);
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+
+    /**
+     * @return These validators, with any that are missing taken from {@code previous}
+     */
+    public UpstreamValidators orElse(UpstreamValidators previous) {
+        return new UpstreamValidators(etag != null ? etag : previous.etag(),
+                lastModified != null ? lastModified : previous.lastModified());
+    }
+}
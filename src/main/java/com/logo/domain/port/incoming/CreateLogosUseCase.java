@@ -0,0 +1,24 @@
+package com.logo.domain.port.incoming;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+
+public interface CreateLogosUseCase {
+
+    /**
+     * Creates a batch of logos, in as few transactions as possible.
+     * @return Uni containing one result per command, in the order of the commands
+     */
+    Uni<List<Result>> execute(List<CreateLogoCommand> createLogoCommands);
+
+    sealed interface Result {
+        record Success(Logo logo) implements Result {
+        }
+
+        record Error(String externalIdentifier, Errors error) implements Result {
+        }
+    }
+}
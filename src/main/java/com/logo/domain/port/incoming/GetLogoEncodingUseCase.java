@@ -0,0 +1,45 @@
+package com.logo.domain.port.incoming;
+
+import com.logo.domain.model.Errors;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Reads the gzip encoding stored for logo content, addressed by its hash like {@link GetLogoRangeUseCase}. A logo
+ * without one is served as it is, so NotFound is an ordinary answer.
+ */
+public interface GetLogoEncodingUseCase {
+
+    /**
+     * @return Whether content of this type may have been stored with a gzip encoding, answered without reading storage
+     */
+    boolean mayBeGzipped(String contentType);
+
+    Uni<Result> execute(String contentHash);
+
+    /**
+     * Like {@link #execute(String)}, but only reads the length of the encoding.
+     */
+    Uni<SizeResult> size(String contentHash);
+
+    sealed interface Result {
+        record Success(byte[] content) implements Result {
+        }
+
+        record NotFound() implements Result {
+        }
+
+        record Error(Errors errors) implements Result {
+        }
+    }
+
+    sealed interface SizeResult {
+        record Success(int size) implements SizeResult {
+        }
+
+        record NotFound() implements SizeResult {
+        }
+
+        record Error(Errors errors) implements SizeResult {
+        }
+    }
+}
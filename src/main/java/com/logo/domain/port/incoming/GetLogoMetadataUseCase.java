@@ -0,0 +1,20 @@
+package com.logo.domain.port.incoming;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.LogoMetadata;
+import io.smallrye.mutiny.Uni;
+
+public interface GetLogoMetadataUseCase {
+    Uni<Result> execute(String identifier);
+
+    sealed interface Result {
+        record Success(LogoMetadata metadata) implements Result {
+        }
+
+        record NotFound() implements Result {
+        }
+
+        record Error(Errors errors) implements Result {
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.logo.domain.port.incoming;
+
+import com.logo.domain.model.Errors;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Reads part of stored logo content, addressed by its hash so the slice always belongs to the
+ * representation whose validators the caller checked.
+ */
+public interface GetLogoRangeUseCase {
+    Uni<Result> execute(String contentHash, long offset, int length);
+
+    sealed interface Result {
+        record Success(byte[] content) implements Result {
+        }
+
+        record NotFound() implements Result {
+        }
+
+        record Error(Errors errors) implements Result {
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.logo.domain.port.incoming;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoVariant;
+import io.smallrye.mutiny.Uni;
+
+public interface GetLogoVariantUseCase {
+
+    /**
+     * Returns the logo resized and/or re-encoded, fetching the original first if it is not stored yet.
+     * @param size Longest edge in pixels, or null to keep the original dimensions
+     * @param format Target encoding, or null to keep the original one where possible
+     */
+    Uni<Result> execute(String identifier, Integer size, ImageFormat format);
+
+    sealed interface Result {
+        /**
+         * @param original Metadata of the logo the variant was derived from
+         */
+        record Success(LogoMetadata original, LogoVariant variant) implements Result {
+        }
+
+        record NotFound() implements Result {
+        }
+
+        record Error(Errors errors) implements Result {
+        }
+    }
+}
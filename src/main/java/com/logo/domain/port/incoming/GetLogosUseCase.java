@@ -0,0 +1,23 @@
+package com.logo.domain.port.incoming;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+
+public interface GetLogosUseCase {
+    Uni<Result> execute(List<String> identifiers);
+
+    sealed interface Result {
+        /**
+         * @param logos The resolved logos, in the order their identifiers were requested
+         * @param missing The identifiers that could neither be found nor fetched
+         */
+        record Success(List<Logo> logos, List<String> missing) implements Result {
+        }
+
+        record Error(Errors errors) implements Result {
+        }
+    }
+}
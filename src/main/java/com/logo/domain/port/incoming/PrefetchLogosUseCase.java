@@ -0,0 +1,25 @@
+package com.logo.domain.port.incoming;
+
+import com.logo.domain.model.PrefetchJob;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+
+public interface PrefetchLogosUseCase {
+
+    /**
+     * Starts fetching and storing the logos of the given identifiers in the background.
+     * @return Uni containing the job as it was started
+     */
+    Uni<PrefetchJob> start(List<String> identifiers);
+
+    Uni<Result> status(String jobId);
+
+    sealed interface Result {
+        record Success(PrefetchJob job) implements Result {
+        }
+
+        record NotFound() implements Result {
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.logo.domain.port.incoming;
+
+import io.smallrye.mutiny.Uni;
+
+public interface PurgeMissingLogosUseCase {
+
+    /**
+     * Forgets that an identifier has no upstream logo, e.g. because logo.dev has one now.
+     * @return Uni containing true if the identifier was remembered as missing
+     */
+    Uni<Boolean> purge(String identifier);
+
+    /**
+     * @return Uni containing the number of identifiers forgotten
+     */
+    Uni<Long> purgeAll();
+}
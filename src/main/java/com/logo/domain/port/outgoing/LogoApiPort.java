@@ -1,5 +1,7 @@
 package com.logo.domain.port.outgoing;
 
+import com.logo.domain.model.UpstreamFetch;
+import com.logo.domain.model.UpstreamValidators;
 import io.smallrye.mutiny.Uni;
 
 public interface LogoApiPort {
@@ -10,4 +12,12 @@ public interface LogoApiPort {
      * @return Uni containing the logo image data as byte array
      */
     Uni<byte[]> fetchLogo(String ticker);
+
+    /**
+     * Fetches a logo from logo.dev unless the copy described by {@code validators} is still current
+     * @param ticker The stock ticker symbol (e.g., "AMZN")
+     * @param validators The validators logo.dev sent with the stored copy, or {@link UpstreamValidators#NONE}
+     * @return Uni containing the new content, or the fact that the stored copy is current, with the validators sent
+     */
+    Uni<UpstreamFetch> fetchLogoIfChanged(String ticker, UpstreamValidators validators);
 }
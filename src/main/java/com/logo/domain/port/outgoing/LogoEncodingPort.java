@@ -0,0 +1,26 @@
+package com.logo.domain.port.outgoing;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Gzip encodings stored next to compressible logo content. They are a transfer encoding of content already known by
+ * its hash, so they are only looked up once a client has said it accepts gzip rather than loaded with every logo.
+ */
+public interface LogoEncodingPort {
+
+    /**
+     * Answers without reading storage, so responses can say they vary by encoding whether or not one was stored.
+     * @return Whether content of this type may have been stored with a gzip encoding
+     */
+    boolean mayBeGzipped(String contentType);
+
+    /**
+     * @return Uni containing the gzip encoding of the content, or a null item if none is stored
+     */
+    Uni<byte[]> findGzip(String contentHash);
+
+    /**
+     * @return Uni containing the length of the gzip encoding of the content, or a null item if none is stored
+     */
+    Uni<Integer> findGzipSize(String contentHash);
+}
@@ -0,0 +1,21 @@
+package com.logo.domain.port.outgoing;
+
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.Logo;
+import io.smallrye.mutiny.Uni;
+
+public interface LogoImagePort {
+
+    /**
+     * @return true if variants can be encoded in the given format
+     */
+    boolean canEncode(ImageFormat format);
+
+    /**
+     * Decodes the logo, scales it down so its longest edge is at most {@code size} pixels and encodes it.
+     * Logos are never scaled up.
+     * @param size Longest edge in pixels, or {@link com.logo.domain.model.LogoVariant#ORIGINAL_SIZE} to keep the dimensions
+     * @return Uni containing the encoded image, failing with a ServiceException if the logo cannot be decoded
+     */
+    Uni<byte[]> render(Logo logo, int size, ImageFormat format);
+}
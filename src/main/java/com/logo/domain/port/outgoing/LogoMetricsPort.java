@@ -0,0 +1,56 @@
+package com.logo.domain.port.outgoing;
+
+/**
+ * Records how logo lookups, background saves, refresh checks and variant jobs went, for whatever monitoring the
+ * service is deployed with. Calls are made on the request path, so implementations must not block; identifiers are
+ * never passed.
+ */
+public interface LogoMetricsPort {
+
+    /**
+     * Where the answer to a single logo lookup came from.
+     */
+    enum LookupOutcome {
+        STORED, PENDING, UPSTREAM, NOT_FOUND, ERROR
+    }
+
+    /**
+     * Things that happen to logos queued for a background save.
+     */
+    enum WriteBehindEvent {
+        /** Queued for an identifier that was already waiting to be saved */
+        COALESCED,
+        /** Saved synchronously because the queue was full */
+        OVERFLOWED,
+        /** A failed save scheduled for another attempt */
+        RETRIED,
+        /** Given up on after the last attempt failed */
+        DROPPED
+    }
+
+    /**
+     * How checking a stored upstream logo against logo.dev ended.
+     */
+    enum RefreshOutcome {
+        NOT_MODIFIED, UNCHANGED, REPLACED, FAILED
+    }
+
+    /**
+     * @param payloadBytes Size of the logo served, or -1 if none was
+     */
+    void lookupCompleted(LookupOutcome outcome, long durationNanos, long payloadBytes);
+
+    void writeBehind(WriteBehindEvent event);
+
+    /**
+     * @param depth Logos currently waiting to be saved
+     */
+    void writeBehindDepth(int depth);
+
+    void refreshChecked(RefreshOutcome outcome);
+
+    /**
+     * @param jobs Variant generation jobs waiting in the queue
+     */
+    void variantBacklog(long jobs);
+}
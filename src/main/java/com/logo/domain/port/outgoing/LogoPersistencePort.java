@@ -1,11 +1,78 @@
 package com.logo.domain.port.outgoing;
 
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamValidators;
 import io.smallrye.mutiny.Uni;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
 public interface LogoPersistencePort {
 
     Uni<Logo> save(Logo logo);
 
+    /**
+     * Saves several new logos in one transaction, so their inserts can be batched.
+     * @param logos The logos to save
+     * @return Uni containing the saved logos; fails as a whole if any of them cannot be saved
+     */
+    Uni<List<Logo>> saveAll(List<Logo> logos);
+
     Uni<Logo> get(String externalIdentifier);
+
+    /**
+     * Looks up several stored logos at once.
+     * @param externalIdentifiers The external identifiers of the logos
+     * @return Uni containing the stored logos, in no particular order; identifiers without a logo are left out
+     */
+    Uni<List<Logo>> getAll(Collection<String> externalIdentifiers);
+
+    /**
+     * Checks which of the given identifiers already have a stored logo, without loading any of them.
+     * @param externalIdentifiers The external identifiers to check
+     * @return Uni containing the subset of identifiers that are stored
+     */
+    Uni<Set<String>> findStoredIdentifiers(Collection<String> externalIdentifiers);
+
+    /**
+     * Looks up a stored logo without loading its file content.
+     * @param externalIdentifier The external identifier of the logo
+     * @return Uni containing the metadata, or a null item if no logo is stored
+     */
+    Uni<LogoMetadata> getMetadata(String externalIdentifier);
+
+    /**
+     * Reads part of stored content, fetching only the requested bytes from storage.
+     * @param contentHash SHA-256 of the content
+     * @param offset Position of the first byte to read
+     * @param length Number of bytes to read; fewer are returned if the content ends first
+     * @return Uni containing the bytes, or a null item if no such content is stored
+     */
+    Uni<byte[]> getContentRange(String contentHash, long offset, int length);
+
+    /**
+     * Finds logos from a source that have not been checked against it since the cutoff, least recently checked first.
+     * @return Uni containing at most {@code limit} logos, with the validators their source last sent
+     */
+    Uni<List<LogoRefreshCandidate>> findRefreshedBefore(LogoSource source, OffsetDateTime cutoff, int limit);
+
+    /**
+     * Records a fresh copy of a stored logo. The row is only rewritten when the content differs from the stored
+     * one; either way the logo counts as checked at {@code refreshedAt} and keeps the validators sent with it.
+     * @param logo The logo as just fetched from its source
+     * @param validators The validators its source sent with it
+     * @return Uni containing true if the stored content was replaced, false if it was unchanged or no longer stored
+     */
+    Uni<Boolean> refresh(Logo logo, UpstreamValidators validators, OffsetDateTime refreshedAt);
+
+    /**
+     * Records that a stored logo was checked against its source without touching its content.
+     * @param validators The validators its source sent, or null to keep the stored ones
+     */
+    Uni<Void> markRefreshed(String externalIdentifier, UpstreamValidators validators, OffsetDateTime refreshedAt);
 }
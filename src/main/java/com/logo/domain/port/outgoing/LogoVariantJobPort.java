@@ -0,0 +1,46 @@
+package com.logo.domain.port.outgoing;
+
+import com.logo.domain.model.LogoVariantJob;
+import io.smallrye.mutiny.Uni;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Durable queue of variants to generate. A claimed job is leased rather than removed, so jobs held by an instance
+ * that dies are handed out again once their lease runs out.
+ */
+public interface LogoVariantJobPort {
+
+    /**
+     * Queues the jobs, skipping those already queued for the same content, size and format.
+     */
+    Uni<Void> enqueue(List<LogoVariantJob> jobs);
+
+    /**
+     * Leases up to {@code limit} due jobs, oldest first, and counts the attempt.
+     * Jobs leased by another instance are skipped rather than waited for.
+     */
+    Uni<List<LogoVariantJob>> claim(int limit, Duration lease);
+
+    /**
+     * Removes a job that is done or not worth retrying.
+     */
+    Uni<Void> complete(long jobId);
+
+    /**
+     * Keeps the job queued, due again at {@code retryAt}.
+     */
+    Uni<Void> retry(long jobId, OffsetDateTime retryAt, String error);
+
+    /**
+     * Parks a job that failed too often; it stays in the table for inspection but is no longer claimed.
+     */
+    Uni<Void> abandon(long jobId, String error);
+
+    /**
+     * @return Uni containing the number of jobs still to be run
+     */
+    Uni<Long> countPending();
+}
@@ -0,0 +1,18 @@
+package com.logo.domain.port.outgoing;
+
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.LogoVariant;
+import io.smallrye.mutiny.Uni;
+
+public interface LogoVariantPort {
+
+    /**
+     * @return Uni containing the stored variant, or a null item if it has not been generated yet
+     */
+    Uni<LogoVariant> find(String contentHash, int size, ImageFormat format);
+
+    /**
+     * Stores a generated variant. Saving a variant that is already stored keeps the existing one.
+     */
+    Uni<LogoVariant> save(LogoVariant variant);
+}
@@ -0,0 +1,27 @@
+package com.logo.domain.port.outgoing;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Remembers identifiers logo.dev has no logo for, so repeated requests for them do not go upstream again.
+ * Entries expire on their own; purging one makes the next request try upstream again.
+ */
+public interface MissingLogoPort {
+
+    /**
+     * @return Uni containing true if the identifier was recently reported as missing upstream
+     */
+    Uni<Boolean> isMissing(String externalIdentifier);
+
+    Uni<Void> markMissing(String externalIdentifier);
+
+    /**
+     * @return Uni containing true if an entry was removed
+     */
+    Uni<Boolean> purge(String externalIdentifier);
+
+    /**
+     * @return Uni containing the number of entries removed
+     */
+    Uni<Long> purgeAll();
+}
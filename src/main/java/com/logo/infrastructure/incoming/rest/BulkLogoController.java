@@ -0,0 +1,176 @@
+package com.logo.infrastructure.incoming.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logo.application.concurrent.DuplicatedContexts;
+import com.logo.domain.port.incoming.CreateLogosUseCase;
+import com.logo.infrastructure.incoming.rest.mapper.LogoDtoMapper;
+import com.logo.infrastructure.incoming.rest.request.CreateLogoRequest;
+import com.logo.infrastructure.incoming.rest.response.BulkCreateLogoResponse;
+import com.logo.infrastructure.incoming.rest.upload.BoundedBatches;
+import com.logo.infrastructure.incoming.rest.upload.BoundedLineReader;
+import com.logo.infrastructure.incoming.rest.upload.RequestBodyLimitFilter;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming bulk ingestion. The upload is read line by line and saved in batches, one transaction each. A batch is
+ * closed once it holds {@code logo.bulk.batch-size} logos or {@code logo.bulk.batch-max-bytes} of decoded content,
+ * and the lines of the next batch are only read once the previous one is saved. A line is only kept in memory up to
+ * the size of a {@code logo.upload.max-bytes} logo in base64, so memory stays bounded by one batch however large the
+ * upload is. Longer lines are skipped and answered with 413. Results are streamed back as NDJSON, one per input line.
+ * <p>
+ * This is the only route whose body may exceed {@code logo.http.max-body-size}; see {@link RequestBodyLimitFilter}.
+ */
+@Path("/api/v1/logos/bulk")
+public class BulkLogoController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private static final Logger LOG = Logger.getLogger(BulkLogoController.class);
+    /**
+     * Room on a line for the JSON field names and the fields besides the content, escaping included.
+     */
+    private static final long LINE_ENVELOPE_BYTES = 16 * 1024;
+
+    private final CreateLogosUseCase createLogosUseCase;
+    private final LogoDtoMapper logoDtoMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+    private final long batchMaxBytes;
+    private final long maxLineBytes;
+
+    @Inject
+    public BulkLogoController(CreateLogosUseCase createLogosUseCase, LogoDtoMapper logoDtoMapper,
+                              ObjectMapper objectMapper, Validator validator,
+                              @ConfigProperty(name = "logo.bulk.batch-size", defaultValue = "500") int batchSize,
+                              @ConfigProperty(name = "logo.bulk.batch-max-bytes", defaultValue = "67108864") long batchMaxBytes,
+                              @ConfigProperty(name = "logo.upload.max-bytes", defaultValue = "10485760") long maxBytes) {
+        this.createLogosUseCase = createLogosUseCase;
+        this.logoDtoMapper = logoDtoMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.batchMaxBytes = batchMaxBytes;
+        this.maxLineBytes = 4 * ((maxBytes + 2) / 3) + LINE_ENVELOPE_BYTES;
+    }
+
+    /**
+     * One {@link CreateLogoRequest} JSON object per line.
+     */
+    @POST
+    @Blocking
+    @Consumes(NDJSON)
+    @Produces(NDJSON)
+    @RestStreamElementType("application/json")
+    public Multi<BulkCreateLogoResponse> createLogos(InputStream body) {
+        BoundedLineReader reader = new BoundedLineReader(body, maxLineBytes);
+        Iterator<BulkItem> items = StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED), false)
+                .filter(line -> line.tooLong() || !line.text().isBlank())
+                .map(this::parse)
+                .iterator();
+        BoundedBatches<BulkItem> batches = new BoundedBatches<>(items, batchSize, batchMaxBytes, BulkItem::contentBytes);
+        Executor batchContext = DuplicatedContexts.single();
+        return Multi.createFrom().iterable(() -> batches)
+                // Reading blocks, so every read (not just the first) happens on a worker thread
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                // Concatenation asks for the next batch only once the previous one is saved, so a single batch is
+                // held at a time; each is saved on the upload's own context
+                .onItem().transformToUniAndConcatenate(batch -> Uni.createFrom().deferred(() -> createBatch(batch))
+                        .runSubscriptionOn(batchContext))
+                .<BulkCreateLogoResponse>onItem().disjoint()
+                .onTermination().invoke(() -> closeQuietly(reader));
+    }
+
+    private BulkItem parse(BoundedLineReader.Line line) {
+        if (line.tooLong()) {
+            return new BulkItem(line.number(), null, 413, List.of("Line exceeds %d bytes".formatted(maxLineBytes)));
+        }
+        try {
+            CreateLogoRequest request = objectMapper.readValue(line.text(), CreateLogoRequest.class);
+            List<String> violations = validator.validate(request).stream()
+                    .map(BulkLogoController::describe)
+                    .sorted()
+                    .toList();
+            return new BulkItem(line.number(), request, 400, violations);
+        } catch (JsonProcessingException e) {
+            return new BulkItem(line.number(), null, 400, List.of("Malformed JSON: " + e.getOriginalMessage()));
+        }
+    }
+
+    private Uni<List<BulkCreateLogoResponse>> createBatch(List<BulkItem> batch) {
+        List<BulkCreateLogoResponse> responses = new ArrayList<>(batch.size());
+        List<BulkItem> valid = new ArrayList<>(batch.size());
+        for (BulkItem item : batch) {
+            if (item.violations().isEmpty()) {
+                valid.add(item);
+            } else {
+                String externalIdentifier = item.request() != null ? item.request().externalIdentifier() : null;
+                responses.add(new BulkCreateLogoResponse(item.line(), externalIdentifier, item.status(), item.violations()));
+            }
+        }
+        return createLogosUseCase.execute(valid.stream().map(item -> logoDtoMapper.toCommand(item.request())).toList())
+                .map(results -> {
+                    Iterator<BulkItem> items = valid.iterator();
+                    for (CreateLogosUseCase.Result result : results) {
+                        BulkItem item = items.next();
+                        responses.add(switch (result) {
+                            case CreateLogosUseCase.Result.Success(var logo) ->
+                                    new BulkCreateLogoResponse(item.line(), logo.externalIdentifier(), 201, List.of());
+                            case CreateLogosUseCase.Result.Error(var externalIdentifier, var error) ->
+                                    new BulkCreateLogoResponse(item.line(), externalIdentifier,
+                                            ErrorCodeMapper.toHttpStatus(error), List.of(error.getMessage()));
+                        });
+                    }
+                    responses.sort(Comparator.comparingLong(BulkCreateLogoResponse::line));
+                    return responses;
+                });
+    }
+
+    private static void closeQuietly(BoundedLineReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            LOG.debug("Unable to close bulk upload body", e);
+        }
+    }
+
+    private static String describe(ConstraintViolation<CreateLogoRequest> violation) {
+        return "%s: %s".formatted(violation.getPropertyPath(), violation.getMessage());
+    }
+
+    /**
+     * @param status The status the item is rejected with if it has violations
+     */
+    private record BulkItem(long line, CreateLogoRequest request, int status, List<String> violations) {
+
+        long contentBytes() {
+            return request != null && request.fileContent() != null ? request.fileContent().length : 0;
+        }
+    }
+}
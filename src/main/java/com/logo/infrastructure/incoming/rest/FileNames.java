@@ -0,0 +1,24 @@
+package com.logo.infrastructure.incoming.rest;
+
+/**
+ * File names taken from clients, reduced to a bare name before they are stored or written anywhere.
+ */
+public final class FileNames {
+
+    private FileNames() {
+    }
+
+    /**
+     * Drops any directory part, whichever separator the client used, e.g. {@code C:\logos\AMZN.png} and
+     * {@code ../../AMZN.png} both become {@code AMZN.png}.
+     *
+     * @return The bare name, or {@code null} if nothing usable is left (no name, {@code .} or {@code ..})
+     */
+    public static String sanitize(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1).strip();
+        return name.isEmpty() || name.equals(".") || name.equals("..") ? null : name;
+    }
+}
@@ -1,28 +1,87 @@
 package com.logo.infrastructure.incoming.rest;
 
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoVariant;
 import com.logo.domain.port.incoming.CreateLogoUseCase;
+import com.logo.domain.port.incoming.GetLogoEncodingUseCase;
+import com.logo.domain.port.incoming.GetLogoMetadataUseCase;
+import com.logo.domain.port.incoming.GetLogoRangeUseCase;
 import com.logo.domain.port.incoming.GetLogoUseCase;
+import com.logo.domain.port.incoming.GetLogoVariantUseCase;
+import com.logo.domain.port.incoming.GetLogosUseCase;
+import com.logo.infrastructure.incoming.rest.archive.LogoZipArchive;
+import com.logo.infrastructure.incoming.rest.caching.LogoCachePolicy;
+import com.logo.infrastructure.incoming.rest.encoding.AcceptEncoding;
 import com.logo.infrastructure.incoming.rest.mapper.LogoDtoMapper;
+import com.logo.infrastructure.incoming.rest.range.ByteRange;
 import com.logo.infrastructure.incoming.rest.request.CreateLogoRequest;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 @Path("/api/v1")
 public class LogoController {
 
+    static final String MISSING_LOGOS_HEADER = "X-Missing-Logos";
+
+    private static final String RANGE = "Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+    private static final String CONTENT_RANGE = "Content-Range";
+
+    private static final String GZIP_TAG_SUFFIX = "-" + AcceptEncoding.GZIP;
+
     private final CreateLogoUseCase createLogoUseCase;
     private final GetLogoUseCase getLogoUseCase;
+    private final GetLogosUseCase getLogosUseCase;
+    private final GetLogoMetadataUseCase getLogoMetadataUseCase;
+    private final GetLogoVariantUseCase getLogoVariantUseCase;
+    private final GetLogoRangeUseCase getLogoRangeUseCase;
     private final LogoDtoMapper logoDtoMapper;
+    private final LogoCachePolicy logoCachePolicy;
+    private final GetLogoEncodingUseCase getLogoEncodingUseCase;
+    private final int batchMaxIdentifiers;
 
     @Inject
-    public LogoController(CreateLogoUseCase createLogoUseCase, GetLogoUseCase getLogoUseCase, LogoDtoMapper logoDtoMapper) {
+    public LogoController(CreateLogoUseCase createLogoUseCase, GetLogoUseCase getLogoUseCase,
+                          GetLogosUseCase getLogosUseCase, GetLogoMetadataUseCase getLogoMetadataUseCase,
+                          GetLogoVariantUseCase getLogoVariantUseCase, GetLogoRangeUseCase getLogoRangeUseCase,
+                          GetLogoEncodingUseCase getLogoEncodingUseCase, LogoDtoMapper logoDtoMapper,
+                          LogoCachePolicy logoCachePolicy,
+                          @ConfigProperty(name = "logo.batch.max-identifiers", defaultValue = "200") int batchMaxIdentifiers) {
         this.createLogoUseCase = createLogoUseCase;
         this.getLogoUseCase = getLogoUseCase;
+        this.getLogosUseCase = getLogosUseCase;
+        this.getLogoMetadataUseCase = getLogoMetadataUseCase;
+        this.getLogoVariantUseCase = getLogoVariantUseCase;
+        this.getLogoRangeUseCase = getLogoRangeUseCase;
+        this.getLogoEncodingUseCase = getLogoEncodingUseCase;
         this.logoDtoMapper = logoDtoMapper;
+        this.logoCachePolicy = logoCachePolicy;
+        this.batchMaxIdentifiers = batchMaxIdentifiers;
     }
 
     @POST
@@ -41,20 +100,397 @@ public class LogoController {
                 });
     }
 
+    /**
+     * Returns the original logo, or a derivative when {@code size} (longest edge in pixels) and/or {@code format}
+     * ({@code png}, {@code jpeg}, {@code webp}) are given. Unsupported sizes and formats are rejected with 400.
+     * An original stored with a gzip encoding is served gzipped to clients that accept it, under its own ETag; only
+     * the encoding served is read from storage.
+     * A single {@code Range} of the original is answered with 206 and only that slice is read from storage;
+     * {@code If-Range} falls back to the full content when the client's copy is outdated.
+     */
     @GET
     @Path("/logos/external/{externalId}")
     @Produces("*/*")
-    public Uni<Response> getLogoByExternalId(@PathParam("externalId") String externalId) {
+    public Uni<Response> getLogoByExternalId(@PathParam("externalId") String externalId,
+                                             @QueryParam("size") Integer size,
+                                             @QueryParam("format") String format,
+                                             @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+                                             @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince,
+                                             @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+                                             @HeaderParam(RANGE) String range,
+                                             @HeaderParam(IF_RANGE) String ifRange,
+                                             @Context Request request) {
+        if (size != null || format != null) {
+            return getLogoVariant(externalId, size, format, request);
+        }
+        boolean acceptsGzip = AcceptEncoding.accepts(acceptEncoding, AcceptEncoding.GZIP);
+        if (range != null) {
+            return getLogoRange(externalId, range, ifRange, acceptsGzip, request);
+        }
+        if (ifNoneMatch == null && ifModifiedSince == null) {
+            return getLogo(externalId, acceptsGzip);
+        }
+        // Revalidation: answer from metadata only, so a matching validator never loads the file content
+        return getLogoMetadataUseCase.execute(externalId)
+                .flatMap(result -> {
+                    if (result instanceof GetLogoMetadataUseCase.Result.Success(var metadata)) {
+                        // Metadata does not say whether a gzip encoding is stored, but a client only holds the gzip
+                        // ETag if one was served
+                        boolean gzipValidator = acceptsGzip && metadata.contentHash() != null
+                                && namesTag(ifNoneMatch, gzipTag(metadata.contentHash()));
+                        Response.ResponseBuilder notModified = evaluatePreconditions(request, metadata, gzipValidator);
+                        if (notModified != null) {
+                            return Uni.createFrom().item(() -> gzipValidator
+                                    ? withCachingHeaders(notModified, metadata, gzipTag(metadata.contentHash()))
+                                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING).build()
+                                    : withCachingHeaders(notModified, metadata).build());
+                        }
+                    }
+                    return getLogo(externalId, acceptsGzip);
+                });
+    }
+
+    /**
+     * Answers from stored metadata only: never loads the content and never fetches from upstream, so probes cost one
+     * index lookup, plus the length of the gzip encoding for clients that accept it. Headers are the ones GET would
+     * send. A logo that is not stored yet is reported as 404.
+     */
+    @HEAD
+    @Path("/logos/external/{externalId}")
+    @Produces("*/*")
+    public Uni<Response> headLogoByExternalId(@PathParam("externalId") String externalId,
+                                              @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+                                              @Context Request request) {
+        boolean acceptsGzip = AcceptEncoding.accepts(acceptEncoding, AcceptEncoding.GZIP);
+        return getLogoMetadataUseCase.execute(externalId)
+                .flatMap(result -> switch (result) {
+                    case GetLogoMetadataUseCase.Result.Success(var metadata) -> {
+                        boolean encodable = encodable(metadata);
+                        if (!acceptsGzip || !encodable) {
+                            yield Uni.createFrom().item(() -> head(request, metadata, null, encodable));
+                        }
+                        yield getLogoEncodingUseCase.size(metadata.contentHash())
+                                .map(gzip -> head(request, metadata,
+                                        gzip instanceof GetLogoEncodingUseCase.SizeResult.Success(var gzipSize) ? gzipSize : null,
+                                        true));
+                    }
+                    case GetLogoMetadataUseCase.Result.NotFound() -> Uni.createFrom().item(() -> Response.status(404).build());
+                    case GetLogoMetadataUseCase.Result.Error(var error) ->
+                            Uni.createFrom().item(() -> Response.status(ErrorCodeMapper.toHttpStatus(error)).build());
+                });
+    }
+
+    /**
+     * @param gzipSize The length of the gzip encoding this client would be served, or null for the content itself
+     */
+    private Response head(Request request, LogoMetadata metadata, Integer gzipSize, boolean vary) {
+        boolean gzip = gzipSize != null;
+        EntityTag tag = gzip ? gzipTag(metadata.contentHash()) : null;
+        Response.ResponseBuilder builder = evaluatePreconditions(request, metadata, gzip);
+        if (builder == null) {
+            builder = Response.ok()
+                    .header("Content-Type", metadata.contentType())
+                    .header("Content-Disposition", "inline; filename=\"" + metadata.fileName() + "\"");
+            if (gzip) {
+                builder.header(HttpHeaders.CONTENT_LENGTH, gzipSize)
+                        .header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+            } else if (metadata.sizeBytes() != null) {
+                builder.header(HttpHeaders.CONTENT_LENGTH, metadata.sizeBytes())
+                        .header(ACCEPT_RANGES, ByteRange.UNIT);
+            }
+        }
+        if (vary) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return (tag != null ? withCachingHeaders(builder, metadata, tag) : withCachingHeaders(builder, metadata)).build();
+    }
+
+    @GET
+    @Path("/logos/external/{externalId}/metadata")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<Response> getLogoMetadataByExternalId(@PathParam("externalId") String externalId) {
+        return getLogoMetadataUseCase.execute(externalId)
+                .map(result -> switch (result) {
+                    case GetLogoMetadataUseCase.Result.Success(var metadata) ->
+                            Response.ok(logoDtoMapper.toMetadataResponse(metadata)).build();
+                    case GetLogoMetadataUseCase.Result.NotFound() -> Response.status(404).build();
+                    case GetLogoMetadataUseCase.Result.Error(var error) ->
+                            Response.status(ErrorCodeMapper.toHttpStatus(error)).build();
+                });
+    }
+
+    /**
+     * Returns several logos as one zip archive. Identifiers may be repeated ({@code ?ids=AMZN&ids=MSFT})
+     * or comma separated ({@code ?ids=AMZN,MSFT}); the ones that could not be resolved are listed in the
+     * {@value #MISSING_LOGOS_HEADER} header.
+     */
+    @GET
+    @Path("/logos/external")
+    @Produces(LogoZipArchive.MEDIA_TYPE)
+    public Uni<Response> getLogosByExternalIds(@QueryParam("ids") List<String> ids) {
+        List<String> identifiers = ids.stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .filter(identifier -> !identifier.isEmpty())
+                .distinct()
+                .toList();
+        if (identifiers.isEmpty() || identifiers.size() > batchMaxIdentifiers) {
+            return Uni.createFrom().item(() -> Response.status(400).build());
+        }
+        return getLogosUseCase.execute(identifiers)
+                .flatMap(result -> switch (result) {
+                    case GetLogosUseCase.Result.Success(var logos, var missing) ->
+                            // The archive is written to the response as it is built and may read files, so the
+                            // response is completed, and written, off the event loop
+                            Uni.createFrom().item(() -> {
+                                        StreamingOutput archive = output -> LogoZipArchive.write(logos, output);
+                                        Response.ResponseBuilder builder = Response.ok(archive, LogoZipArchive.MEDIA_TYPE)
+                                                .header("Content-Disposition", "attachment; filename=\"logos.zip\"");
+                                        if (!missing.isEmpty()) {
+                                            builder.header(MISSING_LOGOS_HEADER, String.join(",", missing));
+                                        }
+                                        return builder.build();
+                                    })
+                                    .emitOn(Infrastructure.getDefaultWorkerPool());
+                    case GetLogosUseCase.Result.Error(var error) ->
+                            Uni.createFrom().item(() -> Response.status(ErrorCodeMapper.toHttpStatus(error)).build());
+                });
+    }
+
+    private Uni<Response> getLogo(String externalId, boolean acceptsGzip) {
         return getLogoUseCase.execute(externalId)
                 .flatMap(result -> switch (result) {
-                    case GetLogoUseCase.Result.Success(var logo) ->
-                            Uni.createFrom().item(() -> Response.ok(logo.fileContent())
-                                    .header("Content-Type", logo.contentType())
-                                    .header("Content-Disposition", "inline; filename=\"" + logo.fileName() + "\"")
-                                    .build());
+                    case GetLogoUseCase.Result.Success(var logo) -> {
+                        boolean encodable = encodable(logo.metadata());
+                        if (!acceptsGzip || !encodable) {
+                            yield Uni.createFrom().item(() -> identity(logo, encodable));
+                        }
+                        // Only the encoding this client is served is read: the gzip copy here, the content otherwise
+                        yield getLogoEncodingUseCase.execute(logo.contentHash())
+                                .map(gzip -> gzip instanceof GetLogoEncodingUseCase.Result.Success(var content)
+                                        ? gzipped(logo.metadata(), content)
+                                        : identity(logo, true));
+                    }
                     case GetLogoUseCase.Result.NotFound() -> Uni.createFrom().item(() -> Response.status(404).build());
                     case GetLogoUseCase.Result.Error(var error) ->
                             Uni.createFrom().item(() -> Response.status(ErrorCodeMapper.toHttpStatus(error)).build());
                 });
     }
+
+    /**
+     * Whether the content may be stored with a gzip encoding. Caches must then key on Accept-Encoding whichever
+     * representation a client gets, so GET and HEAD send Vary for these without looking the encoding up.
+     */
+    private boolean encodable(LogoMetadata metadata) {
+        return metadata.contentHash() != null && getLogoEncodingUseCase.mayBeGzipped(metadata.contentType());
+    }
+
+    private Response identity(Logo logo, boolean vary) {
+        Response.ResponseBuilder builder = Response.ok(body(logo.content()))
+                .header("Content-Type", logo.contentType())
+                .header("Content-Disposition", "inline; filename=\"" + logo.fileName() + "\"")
+                .header(ACCEPT_RANGES, ByteRange.UNIT);
+        if (vary) {
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return withCachingHeaders(builder, logo.metadata()).build();
+    }
+
+    private Response gzipped(LogoMetadata metadata, byte[] gzip) {
+        Response.ResponseBuilder builder = Response.ok(gzip)
+                .header("Content-Type", metadata.contentType())
+                .header("Content-Disposition", "inline; filename=\"" + metadata.fileName() + "\"")
+                .header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        return withCachingHeaders(builder, metadata, gzipTag(metadata.contentHash())).build();
+    }
+
+    /**
+     * Content that is not in memory is not read here: content kept in a local file is sent from disk by the Path
+     * body writer, anything else is copied to the response as it is written.
+     */
+    private static Object body(LogoContent content) {
+        return switch (content) {
+            case null -> null;
+            case LogoContent.InMemory(var bytes) -> bytes;
+            case LogoContent.Streamed streamed -> {
+                Optional<Path> file = streamed.file();
+                yield file.isPresent() ? file.get() : (StreamingOutput) output -> {
+                    try (InputStream input = streamed.open()) {
+                        input.transferTo(output);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Serves one slice of the stored original from metadata plus a ranged read, so a resumed download never loads
+     * the whole payload. Anything that cannot be answered with a slice gets the full response instead.
+     */
+    private Uni<Response> getLogoRange(String externalId, String range, String ifRange, boolean acceptsGzip,
+                                       Request request) {
+        return getLogoMetadataUseCase.execute(externalId)
+                .flatMap(result -> {
+                    if (!(result instanceof GetLogoMetadataUseCase.Result.Success(var metadata))
+                            || metadata.contentHash() == null || metadata.sizeBytes() == null) {
+                        return getLogo(externalId, acceptsGzip);
+                    }
+                    Response.ResponseBuilder notModified = evaluatePreconditions(request, metadata);
+                    if (notModified != null) {
+                        return Uni.createFrom().item(() -> withCachingHeaders(notModified, metadata).build());
+                    }
+                    if (ifRange != null && !ifRangeMatches(ifRange, metadata)) {
+                        return getLogo(externalId, acceptsGzip);
+                    }
+                    long size = metadata.sizeBytes();
+                    return switch (ByteRange.resolve(range, size)) {
+                        case ByteRange.Resolution.Full() -> getLogo(externalId, acceptsGzip);
+                        case ByteRange.Resolution.Unsatisfiable() -> Uni.createFrom().item(() -> Response.status(416)
+                                .header(CONTENT_RANGE, ByteRange.unsatisfiedContentRange(size))
+                                .build());
+                        case ByteRange.Resolution.Partial partial ->
+                                getLogoRangeUseCase.execute(metadata.contentHash(), partial.first(), partial.length())
+                                        .flatMap(slice -> switch (slice) {
+                                            case GetLogoRangeUseCase.Result.Success(var content) ->
+                                                    Uni.createFrom().item(() -> partialContent(metadata, partial, content, acceptsGzip));
+                                            case GetLogoRangeUseCase.Result.NotFound() -> getLogo(externalId, acceptsGzip);
+                                            case GetLogoRangeUseCase.Result.Error(var error) ->
+                                                    Uni.createFrom().item(() -> Response.status(ErrorCodeMapper.toHttpStatus(error)).build());
+                                        });
+                    };
+                });
+    }
+
+    private Response partialContent(LogoMetadata metadata, ByteRange.Resolution.Partial range, byte[] content,
+                                    boolean acceptsGzip) {
+        long size = metadata.sizeBytes();
+        // Content is immutable per hash, so a short read only happens if the stored size disagrees with the bytes
+        ByteRange.Resolution.Partial served = new ByteRange.Resolution.Partial(range.first(), range.first() + content.length - 1);
+        Response.ResponseBuilder builder = Response.status(206)
+                .entity(content)
+                .header("Content-Type", metadata.contentType())
+                .header("Content-Disposition", "inline; filename=\"" + metadata.fileName() + "\"")
+                .header(CONTENT_RANGE, ByteRange.contentRange(served, size))
+                .header(ACCEPT_RANGES, ByteRange.UNIT);
+        if (acceptsGzip) {
+            // Slices are always of the identity encoding, which this client would not get without a Range
+            builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return withCachingHeaders(builder, metadata).build();
+    }
+
+    /**
+     * If-Range holds either a strong ETag or the Last-Modified date; a slice is only served when it names the
+     * stored content exactly, weak tags never match.
+     */
+    private static boolean ifRangeMatches(String ifRange, LogoMetadata metadata) {
+        String validator = ifRange.trim();
+        if (validator.startsWith("\"")) {
+            return validator.equals("\"" + metadata.contentHash() + "\"");
+        }
+        if (validator.startsWith("W/")) {
+            return false;
+        }
+        Date lastModified = LogoCachePolicy.lastModified(metadata);
+        try {
+            return lastModified != null && Date.from(ZonedDateTime.parse(validator, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant()).equals(lastModified);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private Uni<Response> getLogoVariant(String externalId, Integer size, String format, Request request) {
+        ImageFormat imageFormat = null;
+        if (format != null) {
+            imageFormat = ImageFormat.fromName(format).orElse(null);
+            if (imageFormat == null) {
+                return Uni.createFrom().item(() -> Response.status(400).build());
+            }
+        }
+        return getLogoVariantUseCase.execute(externalId, size, imageFormat)
+                .map(result -> switch (result) {
+                    case GetLogoVariantUseCase.Result.Success(var original, var variant) -> {
+                        EntityTag tag = variantTag(variant);
+                        Date lastModified = LogoCachePolicy.lastModified(original);
+                        Response.ResponseBuilder notModified = lastModified != null
+                                ? request.evaluatePreconditions(lastModified, tag)
+                                : request.evaluatePreconditions(tag);
+                        Response.ResponseBuilder builder = notModified != null ? notModified : Response.ok(variant.content())
+                                .header("Content-Type", variant.format().contentType())
+                                .header("Content-Disposition", "inline; filename=\"" + variantFileName(externalId, variant) + "\"");
+                        yield logoCachePolicy.apply(builder.tag(tag), original).build();
+                    }
+                    case GetLogoVariantUseCase.Result.NotFound() -> Response.status(404).build();
+                    case GetLogoVariantUseCase.Result.Error(var error) ->
+                            Response.status(ErrorCodeMapper.toHttpStatus(error)).build();
+                });
+    }
+
+    private static EntityTag variantTag(LogoVariant variant) {
+        return new EntityTag("%s-%d-%s".formatted(variant.contentHash(), variant.size(), variant.format().extension()));
+    }
+
+    private static String variantFileName(String externalId, LogoVariant variant) {
+        return variant.size() == LogoVariant.ORIGINAL_SIZE
+                ? "%s.%s".formatted(externalId, variant.format().extension())
+                : "%s-%d.%s".formatted(externalId, variant.size(), variant.format().extension());
+    }
+
+    private static Response.ResponseBuilder evaluatePreconditions(Request request, LogoMetadata metadata) {
+        return evaluatePreconditions(request, metadata, false);
+    }
+
+    private static Response.ResponseBuilder evaluatePreconditions(Request request, LogoMetadata metadata, boolean gzip) {
+        Date lastModified = LogoCachePolicy.lastModified(metadata);
+        if (metadata.contentHash() != null) {
+            EntityTag tag = gzip ? gzipTag(metadata.contentHash()) : entityTag(metadata.contentHash());
+            return lastModified != null
+                    ? request.evaluatePreconditions(lastModified, tag)
+                    : request.evaluatePreconditions(tag);
+        } else if (lastModified != null) {
+            return request.evaluatePreconditions(lastModified);
+        }
+        return null;
+    }
+
+    private Response.ResponseBuilder withCachingHeaders(Response.ResponseBuilder builder, LogoMetadata metadata) {
+        if (metadata.contentHash() != null) {
+            builder.tag(entityTag(metadata.contentHash()));
+        }
+        return logoCachePolicy.apply(builder, metadata);
+    }
+
+    private Response.ResponseBuilder withCachingHeaders(Response.ResponseBuilder builder, LogoMetadata metadata,
+                                                        EntityTag tag) {
+        return logoCachePolicy.apply(builder.tag(tag), metadata);
+    }
+
+    /**
+     * If-None-Match compares entity-tags weakly, so a {@code W/} prefix does not matter; anything else must name the
+     * tag exactly. The tags compared against are hashes without commas or quotes, so splitting the list on commas
+     * cannot produce a false match.
+     */
+    private static boolean namesTag(String ifNoneMatch, EntityTag tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String expected = "\"" + tag.getValue() + "\"";
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(expected::equals);
+    }
+
+    private static EntityTag entityTag(String contentHash) {
+        return new EntityTag(contentHash);
+    }
+
+    /**
+     * The gzip encoding is a different representation of the same logo, so it needs its own strong validator.
+     */
+    private static EntityTag gzipTag(String contentHash) {
+        return new EntityTag(contentHash + GZIP_TAG_SUFFIX);
+    }
 }
@@ -0,0 +1,140 @@
+package com.logo.infrastructure.incoming.rest;
+
+import com.logo.domain.port.incoming.CreateLogoUseCase;
+import com.logo.infrastructure.incoming.rest.mapper.LogoDtoMapper;
+import com.logo.infrastructure.incoming.rest.request.CreateLogoRequest;
+import com.logo.infrastructure.incoming.rest.upload.BoundedBodyReader;
+import com.logo.infrastructure.incoming.rest.upload.RequestBodyLimitFilter;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.RestForm;
+import org.jboss.resteasy.reactive.multipart.FileUpload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Set;
+
+/**
+ * Binary uploads, so logo bytes do not have to travel as base64 inside JSON. The content goes through the same
+ * bean validation as {@link CreateLogoRequest}, but its size is checked before it is read into memory.
+ */
+@Path("/api/v1/logos/upload")
+public class LogoUploadController {
+
+    private static final Logger LOG = Logger.getLogger(LogoUploadController.class);
+
+    private final CreateLogoUseCase createLogoUseCase;
+    private final LogoDtoMapper logoDtoMapper;
+    private final Validator validator;
+    private final long maxBytes;
+
+    @Inject
+    public LogoUploadController(CreateLogoUseCase createLogoUseCase, LogoDtoMapper logoDtoMapper, Validator validator,
+                                @ConfigProperty(name = "logo.upload.max-bytes", defaultValue = "10485760") long maxBytes) {
+        this.createLogoUseCase = createLogoUseCase;
+        this.logoDtoMapper = logoDtoMapper;
+        this.validator = validator;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Raw image body; the metadata comes from the path, the query and the Content-Type header.
+     * A declared Content-Length over the limit is rejected before anything is read.
+     */
+    @PUT
+    @Path("/{externalId}")
+    @Blocking
+    @Consumes("image/*")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<Response> uploadRaw(@PathParam("externalId") String externalId,
+                                   @QueryParam("resourceUrl") String resourceUrl,
+                                   @QueryParam("fileName") String fileName,
+                                   @HeaderParam(HttpHeaders.CONTENT_TYPE) String contentType,
+                                   @HeaderParam(HttpHeaders.CONTENT_LENGTH) Long contentLength,
+                                   InputStream body) {
+        String mediaType = MediaType.valueOf(contentType).withoutParameters().toString();
+        byte[] content;
+        try {
+            content = BoundedBodyReader.read(body, contentLength != null ? contentLength : -1, maxBytes);
+        } catch (BoundedBodyReader.ContentTooLargeException e) {
+            LOG.warn("Rejected raw upload for external identifier %s: %s".formatted(externalId, e.getMessage()));
+            return Uni.createFrom().item(() -> Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE).build());
+        } catch (IOException e) {
+            LOG.warn("Unable to read raw upload for external identifier %s".formatted(externalId), e);
+            return Uni.createFrom().item(() -> Response.status(400).build());
+        }
+        return create(new CreateLogoRequest(externalId, resourceUrl, content,
+                fileName != null ? fileName : defaultFileName(externalId, mediaType), mediaType));
+    }
+
+    /**
+     * Multipart form with a {@code file} part and the remaining fields as plain form parts. The request body is
+     * capped before it is received (see {@link RequestBodyLimitFilter}), so the file part spooled to disk by the
+     * server is never much larger than the limit; its exact size is checked before it is read.
+     */
+    @POST
+    @Blocking
+    @Consumes(MediaType.MULTIPART_FORM_DATA)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<Response> uploadMultipart(@RestForm("externalIdentifier") String externalIdentifier,
+                                         @RestForm("resourceUrl") String resourceUrl,
+                                         @RestForm("file") FileUpload file) {
+        if (file == null) {
+            return Uni.createFrom().item(() -> Response.status(400).build());
+        }
+        if (file.size() > maxBytes) {
+            LOG.warn("Rejected multipart upload for external identifier %s: %d bytes".formatted(externalIdentifier, file.size()));
+            return Uni.createFrom().item(() -> Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE).build());
+        }
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file.uploadedFile());
+        } catch (IOException e) {
+            LOG.error("Unable to read multipart upload for external identifier %s".formatted(externalIdentifier), e);
+            return Uni.createFrom().item(() -> Response.status(500).build());
+        }
+        String mediaType = file.contentType() != null
+                ? MediaType.valueOf(file.contentType()).withoutParameters().toString()
+                : MediaType.APPLICATION_OCTET_STREAM;
+        String fileName = FileNames.sanitize(file.fileName());
+        if (fileName == null) {
+            fileName = defaultFileName(externalIdentifier, mediaType);
+        }
+        return create(new CreateLogoRequest(externalIdentifier, resourceUrl, content, fileName, mediaType));
+    }
+
+    private Uni<Response> create(CreateLogoRequest request) {
+        Set<ConstraintViolation<CreateLogoRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return Uni.createFrom().failure(new ConstraintViolationException(violations));
+        }
+        return Uni.createFrom().item(() -> logoDtoMapper.toCommand(request))
+                .flatMap(createLogoUseCase::execute)
+                .map(result -> switch (result) {
+                    case CreateLogoUseCase.Result.Success(var logo) ->
+                            Response.status(201).entity(logoDtoMapper.toResponse(logo)).build();
+                    case CreateLogoUseCase.Result.Error(var error) ->
+                            Response.status(ErrorCodeMapper.toHttpStatus(error)).build();
+                });
+    }
+
+    /**
+     * e.g. {@code AMZN.png} for image/png and {@code AMZN.svg} for image/svg+xml.
+     */
+    static String defaultFileName(String externalId, String mediaType) {
+        String subtype = mediaType.substring(mediaType.indexOf('/') + 1);
+        int suffix = subtype.indexOf('+');
+        return externalId + "." + (suffix > 0 ? subtype.substring(0, suffix) : subtype);
+    }
+}
@@ -0,0 +1,43 @@
+package com.logo.infrastructure.incoming.rest;
+
+import com.logo.domain.port.incoming.PurgeMissingLogosUseCase;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.Map;
+
+/**
+ * Admin operations on the negative cache of identifiers logo.dev has no logo for.
+ * Purging an identifier makes the next request for it go upstream again. Other instances may answer from memory
+ * until {@code logo.negative-cache.local-ttl} passes, or until the entry expires when the cache is not persistent.
+ */
+@Path("/api/v1/admin/missing-logos")
+public class MissingLogoController {
+
+    private final PurgeMissingLogosUseCase purgeMissingLogosUseCase;
+
+    @Inject
+    public MissingLogoController(PurgeMissingLogosUseCase purgeMissingLogosUseCase) {
+        this.purgeMissingLogosUseCase = purgeMissingLogosUseCase;
+    }
+
+    @DELETE
+    @Path("/{externalId}")
+    public Uni<Response> purge(@PathParam("externalId") String externalId) {
+        return purgeMissingLogosUseCase.purge(externalId)
+                .map(purged -> purged ? Response.noContent().build() : Response.status(404).build());
+    }
+
+    @DELETE
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<Response> purgeAll() {
+        return purgeMissingLogosUseCase.purgeAll()
+                .map(purged -> Response.ok(Map.of("purged", purged)).build());
+    }
+}
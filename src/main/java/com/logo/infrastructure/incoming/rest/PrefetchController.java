@@ -0,0 +1,50 @@
+package com.logo.infrastructure.incoming.rest;
+
+import com.logo.domain.port.incoming.PrefetchLogosUseCase;
+import com.logo.infrastructure.incoming.rest.mapper.PrefetchJobDtoMapper;
+import com.logo.infrastructure.incoming.rest.request.PrefetchLogosRequest;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
+
+/**
+ * Admin operations that warm the logo store ahead of demand.
+ */
+@Path("/api/v1/admin/prefetch")
+public class PrefetchController {
+
+    private final PrefetchLogosUseCase prefetchLogosUseCase;
+    private final PrefetchJobDtoMapper prefetchJobDtoMapper;
+
+    @Inject
+    public PrefetchController(PrefetchLogosUseCase prefetchLogosUseCase, PrefetchJobDtoMapper prefetchJobDtoMapper) {
+        this.prefetchLogosUseCase = prefetchLogosUseCase;
+        this.prefetchJobDtoMapper = prefetchJobDtoMapper;
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<Response> startPrefetch(@Valid PrefetchLogosRequest request) {
+        return prefetchLogosUseCase.start(request.identifiers())
+                .map(job -> Response.accepted(prefetchJobDtoMapper.toResponse(job))
+                        .location(UriBuilder.fromResource(PrefetchController.class).path(job.id()).build())
+                        .build());
+    }
+
+    @GET
+    @Path("/{jobId}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Uni<Response> getPrefetchJob(@PathParam("jobId") String jobId) {
+        return prefetchLogosUseCase.status(jobId)
+                .map(result -> switch (result) {
+                    case PrefetchLogosUseCase.Result.Success(var job) ->
+                            Response.ok(prefetchJobDtoMapper.toResponse(job)).build();
+                    case PrefetchLogosUseCase.Result.NotFound() -> Response.status(404).build();
+                });
+    }
+}
@@ -0,0 +1,99 @@
+package com.logo.infrastructure.incoming.rest.archive;
+
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.infrastructure.incoming.rest.FileNames;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Packs logos into a zip archive with one {@code <externalIdentifier>/<fileName>} entry per logo, written straight
+ * to the response so the archive is never held in memory. Raster formats are already compressed and are stored
+ * as they are; everything else (SVG) is deflated.
+ */
+public final class LogoZipArchive {
+
+    public static final String MEDIA_TYPE = "application/zip";
+
+    private static final Set<String> COMPRESSED_CONTENT_TYPES = Set.of(
+            "image/png", "image/jpeg", "image/jpg", "image/gif", "image/webp", "application/pdf");
+
+    private LogoZipArchive() {
+    }
+
+    /**
+     * Writes the archive to {@code output}, which is left open. Reads content that is not in memory from storage
+     * (twice when the entry is stored, as the checksum has to be known up front), so call it off the event loop.
+     */
+    public static void write(List<Logo> logos, OutputStream output) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(output);
+        for (Logo logo : logos) {
+            ZipEntry entry = new ZipEntry(entryName(logo));
+            if (logo.updatedAt() != null) {
+                entry.setLastModifiedTime(FileTime.from(logo.updatedAt().toInstant()));
+            }
+            if (COMPRESSED_CONTENT_TYPES.contains(logo.contentType())) {
+                store(entry, logo);
+            }
+            zip.putNextEntry(entry);
+            switch (logo.content()) {
+                case null -> {
+                }
+                case LogoContent.InMemory(var bytes) -> zip.write(bytes);
+                case LogoContent.Streamed streamed -> {
+                    try (InputStream content = streamed.open()) {
+                        content.transferTo(zip);
+                    }
+                }
+            }
+            zip.closeEntry();
+        }
+        // Writes the central directory without closing the response stream underneath
+        zip.finish();
+    }
+
+    /**
+     * A stored entry needs its size and checksum before its data is written.
+     */
+    private static void store(ZipEntry entry, Logo logo) throws IOException {
+        CRC32 crc = new CRC32();
+        long size = switch (logo.content()) {
+            case null -> 0;
+            case LogoContent.InMemory(var bytes) -> {
+                crc.update(bytes);
+                yield bytes.length;
+            }
+            case LogoContent.Streamed streamed -> checksum(streamed, crc);
+        };
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc.getValue());
+    }
+
+    private static long checksum(LogoContent.Streamed streamed, CRC32 crc) throws IOException {
+        try (InputStream content = new CheckedInputStream(streamed.open(), crc)) {
+            return content.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    /**
+     * Both parts come from clients, so any directory part is dropped and entries cannot point outside the archive
+     * root when extracted.
+     */
+    static String entryName(Logo logo) {
+        String directory = Objects.requireNonNullElse(FileNames.sanitize(logo.externalIdentifier()), "_");
+        String fileName = Objects.requireNonNullElse(FileNames.sanitize(logo.fileName()), directory);
+        return directory + "/" + fileName;
+    }
+}
@@ -0,0 +1,84 @@
+package com.logo.infrastructure.incoming.rest.caching;
+
+import com.logo.domain.model.LogoMetadata;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.Response;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+/**
+ * Decides the Cache-Control and Last-Modified headers of a logo response from its content type and source.
+ */
+@ApplicationScoped
+public class LogoCachePolicy {
+
+    static final String NO_CACHE = "no-cache";
+
+    private final LogoCachePolicyConfig config;
+
+    public LogoCachePolicy(LogoCachePolicyConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Adds Cache-Control and Last-Modified to a 200 or 304 response for the given logo.
+     */
+    public Response.ResponseBuilder apply(Response.ResponseBuilder builder, LogoMetadata metadata) {
+        builder.header("Cache-Control", cacheControl(metadata));
+        Date lastModified = lastModified(metadata);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder;
+    }
+
+    public String cacheControl(LogoMetadata metadata) {
+        Optional<Duration> maxAge = resolve(metadata, LogoCachePolicyConfig.Directives::maxAge);
+        if (maxAge.isEmpty()) {
+            return NO_CACHE;
+        }
+        StringJoiner directives = new StringJoiner(", ");
+        directives.add("public");
+        directives.add("max-age=" + maxAge.get().toSeconds());
+        resolve(metadata, LogoCachePolicyConfig.Directives::sMaxage)
+                .ifPresent(sMaxage -> directives.add("s-maxage=" + sMaxage.toSeconds()));
+        resolve(metadata, LogoCachePolicyConfig.Directives::staleWhileRevalidate)
+                .ifPresent(swr -> directives.add("stale-while-revalidate=" + swr.toSeconds()));
+        if (resolve(metadata, LogoCachePolicyConfig.Directives::immutable).orElse(false)) {
+            directives.add("immutable");
+        }
+        return directives.toString();
+    }
+
+    /**
+     * HTTP dates carry whole seconds, so the timestamp is truncated for If-Modified-Since to ever match.
+     */
+    public static Date lastModified(LogoMetadata metadata) {
+        OffsetDateTime updatedAt = metadata.updatedAt();
+        return updatedAt != null ? Date.from(updatedAt.toInstant().truncatedTo(ChronoUnit.SECONDS)) : null;
+    }
+
+    private <T> Optional<T> resolve(LogoMetadata metadata,
+                                    Function<LogoCachePolicyConfig.Directives, Optional<T>> directive) {
+        Optional<T> value = Optional.empty();
+        if (metadata.contentType() != null) {
+            value = Optional.ofNullable(config.contentType().get(metadata.contentType().toLowerCase(Locale.ROOT)))
+                    .flatMap(directive);
+        }
+        if (value.isEmpty() && metadata.source() != null) {
+            value = Optional.ofNullable(config.source().get(metadata.source().name().toLowerCase(Locale.ROOT)))
+                    .flatMap(directive);
+        }
+        if (value.isEmpty()) {
+            value = directive.apply(config.defaults());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,47 @@
+package com.logo.infrastructure.incoming.rest.caching;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithName;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * HTTP caching directives for logo responses.
+ * Each directive is resolved from the most specific group that sets it: content type, then source, then default.
+ * <pre>
+ * logo.http-cache.default.max-age=PT1H
+ * logo.http-cache.source.uploaded.immutable=true
+ * logo.http-cache.content-type."image/svg+xml".max-age=P7D
+ * </pre>
+ */
+@ConfigMapping(prefix = "logo.http-cache")
+public interface LogoCachePolicyConfig {
+
+    @WithName("default")
+    Directives defaults();
+
+    /**
+     * Keyed by lower-case {@link com.logo.domain.model.LogoSource} name: {@code uploaded} or {@code upstream}
+     */
+    Map<String, Directives> source();
+
+    /**
+     * Keyed by media type, e.g. {@code image/png}
+     */
+    @WithName("content-type")
+    Map<String, Directives> contentType();
+
+    interface Directives {
+
+        Optional<Duration> maxAge();
+
+        @WithName("s-maxage")
+        Optional<Duration> sMaxage();
+
+        Optional<Duration> staleWhileRevalidate();
+
+        Optional<Boolean> immutable();
+    }
+}
@@ -0,0 +1,50 @@
+package com.logo.infrastructure.incoming.rest.encoding;
+
+import java.util.Locale;
+
+/**
+ * Reads an Accept-Encoding header. A coding is accepted when it is listed, or covered by {@code *}, with a
+ * non-zero quality; an explicit entry for the coding wins over the wildcard, so {@code *, gzip;q=0} refuses gzip.
+ */
+public final class AcceptEncoding {
+
+    public static final String GZIP = "gzip";
+
+    private AcceptEncoding() {
+    }
+
+    public static boolean accepts(String header, String coding) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        Double explicit = null;
+        Double wildcard = null;
+        for (String entry : header.split(",")) {
+            String[] parts = entry.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (name.equals(coding) || (coding.equals(GZIP) && name.equals("x-gzip"))) {
+                explicit = explicit == null ? quality : Math.max(explicit, quality);
+            } else if (name.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        Double quality = explicit != null ? explicit : wildcard;
+        return quality != null && quality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -1,10 +1,14 @@
 package com.logo.infrastructure.incoming.rest.mapper;
 
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoMetadata;
 import com.logo.domain.port.incoming.CreateLogoCommand;
 import com.logo.infrastructure.incoming.rest.request.CreateLogoRequest;
+import com.logo.infrastructure.incoming.rest.response.LogoMetadataResponse;
 import com.logo.infrastructure.incoming.rest.response.LogoResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import static org.mapstruct.MappingConstants.ComponentModel.JAKARTA_CDI;
 
@@ -13,5 +17,15 @@ public interface LogoDtoMapper {
 
     CreateLogoCommand toCommand(CreateLogoRequest request);
 
+    @Mapping(target = "fileContent", source = "content")
     LogoResponse toResponse(Logo logo);
+
+    LogoMetadataResponse toMetadataResponse(LogoMetadata metadata);
+
+    /**
+     * Responses only carry content that is already in memory, such as that of a logo just created.
+     */
+    default byte[] toBytes(LogoContent content) {
+        return content instanceof LogoContent.InMemory(var bytes) ? bytes : null;
+    }
 }
@@ -0,0 +1,16 @@
+package com.logo.infrastructure.incoming.rest.mapper;
+
+import com.logo.domain.model.PrefetchJob;
+import com.logo.infrastructure.incoming.rest.response.PrefetchJobResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import static org.mapstruct.MappingConstants.ComponentModel.JAKARTA_CDI;
+
+@Mapper(componentModel = JAKARTA_CDI)
+public interface PrefetchJobDtoMapper {
+
+    @Mapping(target = "failed", expression = "java(job.failed())")
+    @Mapping(target = "remaining", expression = "java(job.remaining())")
+    PrefetchJobResponse toResponse(PrefetchJob job);
+}
@@ -0,0 +1,80 @@
+package com.logo.infrastructure.incoming.rest.range;
+
+/**
+ * Resolves a Range header against the length of the representation. Only a single {@code bytes} range is served;
+ * multiple ranges and malformed headers are answered with the full content, which a server is always allowed to do.
+ */
+public final class ByteRange {
+
+    public static final String UNIT = "bytes";
+
+    private static final String BYTES_UNIT = UNIT + "=";
+
+    private ByteRange() {
+    }
+
+    public sealed interface Resolution {
+        record Full() implements Resolution {
+        }
+
+        record Partial(long first, long last) implements Resolution {
+            public int length() {
+                return Math.toIntExact(last - first + 1);
+            }
+        }
+
+        record Unsatisfiable() implements Resolution {
+        }
+    }
+
+    public static Resolution resolve(String header, long size) {
+        if (header == null || !header.regionMatches(true, 0, BYTES_UNIT, 0, BYTES_UNIT.length())) {
+            return new Resolution.Full();
+        }
+        String spec = header.substring(BYTES_UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (spec.indexOf(',') >= 0 || dash < 0) {
+            return new Resolution.Full();
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the final n bytes
+                long suffix = Long.parseLong(last);
+                if (suffix < 0) {
+                    return new Resolution.Full();
+                }
+                if (suffix == 0 || size == 0) {
+                    return new Resolution.Unsatisfiable();
+                }
+                return new Resolution.Partial(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return new Resolution.Full();
+            }
+            if (start >= size) {
+                return new Resolution.Unsatisfiable();
+            }
+            return new Resolution.Partial(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return new Resolution.Full();
+        }
+    }
+
+    /**
+     * @return The Content-Range value of a 206 response
+     */
+    public static String contentRange(Resolution.Partial range, long size) {
+        return "%s %d-%d/%d".formatted(UNIT, range.first(), range.last(), size);
+    }
+
+    /**
+     * @return The Content-Range value of a 416 response
+     */
+    public static String unsatisfiedContentRange(long size) {
+        return "%s */%d".formatted(UNIT, size);
+    }
+}
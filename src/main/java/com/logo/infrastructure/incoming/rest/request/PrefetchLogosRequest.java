@@ -0,0 +1,17 @@
+package com.logo.infrastructure.incoming.rest.request;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@RegisterForReflection
+public record PrefetchLogosRequest(
+        @NotEmpty(message = "At least one identifier is required")
+        @Size(max = 50000, message = "At most 50000 identifiers can be prefetched at once")
+        List<@NotBlank(message = "Identifiers must not be blank")
+             @Size(max = 50, message = "Identifiers must not exceed 50 characters") String> identifiers
+) {
+}
@@ -0,0 +1,22 @@
+package com.logo.infrastructure.incoming.rest.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.util.List;
+
+/**
+ * Outcome of one line of a bulk upload.
+ * @param line The 1-based line number in the uploaded NDJSON
+ * @param status The HTTP status the item would have got from the single create endpoint
+ * @param errors Why the item was rejected, absent when it was created
+ */
+@RegisterForReflection
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record BulkCreateLogoResponse(
+        long line,
+        String externalIdentifier,
+        int status,
+        List<String> errors
+) {
+}
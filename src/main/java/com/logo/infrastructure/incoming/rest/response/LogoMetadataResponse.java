@@ -0,0 +1,20 @@
+package com.logo.infrastructure.incoming.rest.response;
+
+import com.logo.domain.model.LogoSource;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.time.OffsetDateTime;
+
+@RegisterForReflection
+public record LogoMetadataResponse(
+        String externalIdentifier,
+        String resourceUrl,
+        String fileName,
+        String contentType,
+        String contentHash,
+        Long sizeBytes,
+        LogoSource source,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+}
@@ -0,0 +1,22 @@
+package com.logo.infrastructure.incoming.rest.response;
+
+import com.logo.domain.model.Errors;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+@RegisterForReflection
+public record PrefetchJobResponse(
+        String id,
+        String status,
+        int total,
+        int alreadyStored,
+        int fetched,
+        int failed,
+        int remaining,
+        Map<String, Errors> failures,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt
+) {
+}
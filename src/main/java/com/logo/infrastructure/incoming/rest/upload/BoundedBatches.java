@@ -0,0 +1,47 @@
+package com.logo.infrastructure.incoming.rest.upload;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * Groups the items of an iterator into batches, closing a batch once it holds {@code maxCount} items or the bytes
+ * of its items add up to {@code maxBytes}, whichever comes first. An item larger than {@code maxBytes} makes a batch
+ * of its own. Items are only pulled from the source when the next batch is asked for, so at most one batch is held.
+ */
+public final class BoundedBatches<T> implements Iterator<List<T>> {
+
+    private final Iterator<T> source;
+    private final int maxCount;
+    private final long maxBytes;
+    private final ToLongFunction<T> bytes;
+
+    public BoundedBatches(Iterator<T> source, int maxCount, long maxBytes, ToLongFunction<T> bytes) {
+        this.source = source;
+        this.maxCount = maxCount;
+        this.maxBytes = maxBytes;
+        this.bytes = bytes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return source.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<T> batch = new ArrayList<>();
+        long batchBytes = 0;
+        while (batch.size() < maxCount && batchBytes < maxBytes && source.hasNext()) {
+            T item = source.next();
+            batch.add(item);
+            batchBytes += bytes.applyAsLong(item);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,46 @@
+package com.logo.infrastructure.incoming.rest.upload;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads request bodies up to a size limit, failing as soon as the limit is crossed rather than after
+ * the whole body has been received.
+ */
+public final class BoundedBodyReader {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private BoundedBodyReader() {
+    }
+
+    /**
+     * @param declaredLength The Content-Length of the body, or a negative value if unknown (chunked)
+     * @throws ContentTooLargeException If the declared or actual length exceeds {@code maxBytes}
+     */
+    public static byte[] read(InputStream body, long declaredLength, long maxBytes) throws IOException {
+        if (declaredLength > maxBytes) {
+            throw new ContentTooLargeException(maxBytes);
+        }
+        // A declared length sizes the buffer exactly, so the content is copied once
+        ByteArrayOutputStream content = new ByteArrayOutputStream(declaredLength > 0 ? (int) declaredLength : CHUNK_SIZE);
+        byte[] chunk = new byte[CHUNK_SIZE];
+        long total = 0;
+        int read;
+        while ((read = body.read(chunk)) != -1) {
+            total += read;
+            if (total > maxBytes) {
+                throw new ContentTooLargeException(maxBytes);
+            }
+            content.write(chunk, 0, read);
+        }
+        return content.toByteArray();
+    }
+
+    public static class ContentTooLargeException extends IOException {
+        public ContentTooLargeException(long maxBytes) {
+            super("Content exceeds the limit of %d bytes".formatted(maxBytes));
+        }
+    }
+}
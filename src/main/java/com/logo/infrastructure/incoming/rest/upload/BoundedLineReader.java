@@ -0,0 +1,120 @@
+package com.logo.infrastructure.incoming.rest.upload;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads UTF-8 lines from a request body, holding at most {@code maxLineBytes} of a line in memory. A longer line
+ * is skipped up to its line break without being buffered and reported as {@link Line#tooLong() too long}, so one
+ * oversized line cannot exhaust memory and the lines after it are still read.
+ */
+public final class BoundedLineReader implements Iterator<BoundedLineReader.Line>, Closeable {
+
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final InputStream body;
+    private final long maxLineBytes;
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private boolean ended;
+    private Line next;
+
+    public BoundedLineReader(InputStream body, long maxLineBytes) {
+        this.body = body;
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    /**
+     * @param number The 1-based line number
+     * @param text The line without its line break, or {@code null} if it was longer than the limit
+     */
+    public record Line(long number, String text) {
+        public boolean tooLong() {
+            return text == null;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !ended) {
+            try {
+                next = readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Line next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Line current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+
+    private Line readLine() throws IOException {
+        line.reset();
+        boolean tooLong = false;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = body.read(chunk);
+                position = 0;
+                if (limit == -1) {
+                    limit = 0;
+                    ended = true;
+                    return read ? complete(tooLong) : null;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && chunk[position] != '\n') {
+                position++;
+            }
+            int length = position - start;
+            if (!tooLong && line.size() + length > maxLineBytes) {
+                // Whatever was kept of this line is dropped; the rest is skipped until the line break
+                tooLong = true;
+                line.reset();
+            }
+            if (!tooLong) {
+                line.write(chunk, start, length);
+            }
+            if (position < limit) {
+                position++;
+                return complete(tooLong);
+            }
+        }
+    }
+
+    private Line complete(boolean tooLong) {
+        lineNumber++;
+        if (tooLong) {
+            return new Line(lineNumber, null);
+        }
+        int length = line.size();
+        byte[] bytes = line.toByteArray();
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new Line(lineNumber, new String(bytes, 0, length, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,102 @@
+package com.logo.infrastructure.incoming.rest.upload;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.vertx.http.runtime.filters.Filters;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Per-route request body limits. Quarkus only has one, {@code quarkus.http.limits.max-body-size}, which is set to
+ * what the streaming bulk upload may send; every other route is held here to {@code logo.http.max-body-size}, and
+ * the binary upload routes to a {@code logo.upload.max-bytes} logo plus multipart framing. The check runs before the
+ * body is read: a declared Content-Length over the limit is answered with 413 and the connection closed. A body
+ * without a declared length is only accepted by the bulk route and by the raw upload, whose reader stops at the
+ * limit itself; elsewhere it is answered with 411, since the JSON and multipart readers only know the global
+ * limit.
+ */
+@ApplicationScoped
+public class RequestBodyLimitFilter {
+
+    static final String BULK_PATH = "/api/v1/logos/bulk";
+    static final String UPLOAD_PATH = "/api/v1/logos/upload";
+
+    private static final Logger LOG = Logger.getLogger(RequestBodyLimitFilter.class);
+    /**
+     * Room in a multipart upload for the part headers, boundaries and the form fields besides the file.
+     */
+    private static final long MULTIPART_OVERHEAD_BYTES = 64 * 1024;
+    /**
+     * Right after Quarkus' own Content-Length check (route order -2) and before any handler reads the body.
+     */
+    private static final int PRIORITY = 1;
+
+    private final long maxBodyBytes;
+    private final long maxUploadBodyBytes;
+
+    @Inject
+    public RequestBodyLimitFilter(@ConfigProperty(name = "logo.http.max-body-size", defaultValue = "10M") MemorySize maxBodySize,
+                                  @ConfigProperty(name = "logo.upload.max-bytes", defaultValue = "10485760") long maxUploadBytes) {
+        this.maxBodyBytes = maxBodySize.asLongValue();
+        this.maxUploadBodyBytes = maxUploadBytes + MULTIPART_OVERHEAD_BYTES;
+    }
+
+    void register(@Observes Filters filters) {
+        filters.register(this::limit, PRIORITY);
+    }
+
+    void limit(RoutingContext context) {
+        String path = context.normalizedPath();
+        if (path.equals(BULK_PATH)) {
+            context.next();
+            return;
+        }
+        HttpServerRequest request = context.request();
+        boolean upload = path.equals(UPLOAD_PATH) || path.startsWith(UPLOAD_PATH + "/");
+        long limit = upload ? maxUploadBodyBytes : maxBodyBytes;
+        String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                reject(context, HttpResponseStatus.BAD_REQUEST);
+                return;
+            }
+            if (length > limit) {
+                LOG.debugf("Rejected %s %s: Content-Length %d over the limit of %d bytes",
+                        request.method(), path, length, limit);
+                reject(context, HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE);
+                return;
+            }
+        } else if (hasStreamedBody(request) && !(upload && request.method() == HttpMethod.PUT)) {
+            reject(context, HttpResponseStatus.LENGTH_REQUIRED);
+            return;
+        }
+        context.next();
+    }
+
+    private static boolean hasStreamedBody(HttpServerRequest request) {
+        // HTTP/2 frames the body itself, so a body without Content-Length carries no Transfer-Encoding header
+        return request.version() == HttpVersion.HTTP_2
+                ? !request.isEnded()
+                : request.headers().contains(HttpHeaders.TRANSFER_ENCODING);
+    }
+
+    private static void reject(RoutingContext context, HttpResponseStatus status) {
+        // The unread body would otherwise be drained from the connection; closing it is cheaper
+        context.response()
+                .putHeader(HttpHeaders.CONNECTION, HttpHeaders.CLOSE)
+                .setStatusCode(status.code())
+                .endHandler(ignored -> context.request().connection().close())
+                .end();
+    }
+}
@@ -0,0 +1,60 @@
+package com.logo.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Publishes histogram buckets for the HTTP server timers Quarkus records per endpoint (tagged by URI template, never
+ * by identifier) and for the service's own {@code logo.*} timers and payload summaries, so latency and size
+ * percentiles can be aggregated across instances. Buckets are bounded by the expected range to keep series down.
+ */
+@Singleton
+public class LogoHistogramFilter implements MeterFilter {
+
+    private static final List<String> PREFIXES = List.of("http.server.", "logo.");
+
+    private static final Duration MIN_LATENCY = Duration.ofMillis(1);
+    private static final double MIN_PAYLOAD_BYTES = 64;
+
+    private final boolean enabled;
+    private final Duration maxLatency;
+    private final long maxPayloadBytes;
+
+    @Inject
+    public LogoHistogramFilter(@ConfigProperty(name = "logo.metrics.histograms.enabled", defaultValue = "true") boolean enabled,
+                               @ConfigProperty(name = "logo.metrics.histograms.max-latency", defaultValue = "PT10S") Duration maxLatency,
+                               @ConfigProperty(name = "logo.metrics.histograms.max-payload-bytes", defaultValue = "10485760") long maxPayloadBytes) {
+        this.enabled = enabled;
+        this.maxLatency = maxLatency;
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (!enabled || PREFIXES.stream().noneMatch(id.getName()::startsWith)) {
+            return config;
+        }
+        return switch (id.getType()) {
+            case TIMER -> DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .minimumExpectedValue((double) MIN_LATENCY.toNanos())
+                    .maximumExpectedValue((double) maxLatency.toNanos())
+                    .build()
+                    .merge(config);
+            case DISTRIBUTION_SUMMARY -> DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .minimumExpectedValue(MIN_PAYLOAD_BYTES)
+                    .maximumExpectedValue((double) maxPayloadBytes)
+                    .build()
+                    .merge(config);
+            default -> config;
+        };
+    }
+}
@@ -0,0 +1,112 @@
+package com.logo.infrastructure.metrics;
+
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes lookups under {@code logo.get}, tagged with where the answer came from, and the size of every logo served
+ * under {@code logo.get.payload}. Write-behind shows up as the {@code logo.write-behind.depth} gauge and one
+ * {@code logo.write-behind.<event>} counter per event, refresh checks under {@code logo.refresh.checks} tagged with
+ * their outcome, and the variant job queue as the {@code logo.variants.pregenerate.backlog} gauge.
+ */
+@ApplicationScoped
+public class MicrometerLogoMetricsAdapter implements LogoMetricsPort {
+
+    private final Map<LookupOutcome, Timer> lookups = new EnumMap<>(LookupOutcome.class);
+    private final Map<LookupOutcome, DistributionSummary> payloads = new EnumMap<>(LookupOutcome.class);
+    private final Map<WriteBehindEvent, Counter> writeBehindEvents = new EnumMap<>(WriteBehindEvent.class);
+    private final AtomicInteger writeBehindDepth = new AtomicInteger();
+    private final Map<RefreshOutcome, Counter> refreshChecks = new EnumMap<>(RefreshOutcome.class);
+    private final AtomicLong variantBacklog = new AtomicLong();
+
+    public MicrometerLogoMetricsAdapter(MeterRegistry meterRegistry) {
+        for (LookupOutcome outcome : LookupOutcome.values()) {
+            lookups.put(outcome, Timer.builder("logo.get")
+                    .description("Single logo lookups, by where the answer came from")
+                    .tag("outcome", tag(outcome))
+                    .register(meterRegistry));
+        }
+        for (LookupOutcome outcome : List.of(LookupOutcome.STORED, LookupOutcome.PENDING, LookupOutcome.UPSTREAM)) {
+            payloads.put(outcome, DistributionSummary.builder("logo.get.payload")
+                    .description("Size of logos served, by where they came from")
+                    .baseUnit(BaseUnits.BYTES)
+                    .tag("outcome", tag(outcome))
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("logo.write-behind.depth", writeBehindDepth, AtomicInteger::get)
+                .description("Logos answered to clients and still waiting to be saved")
+                .register(meterRegistry);
+        writeBehindEvents.put(WriteBehindEvent.COALESCED, writeBehindCounter(meterRegistry, WriteBehindEvent.COALESCED,
+                "Logos queued for an identifier that was already waiting to be saved"));
+        writeBehindEvents.put(WriteBehindEvent.OVERFLOWED, writeBehindCounter(meterRegistry, WriteBehindEvent.OVERFLOWED,
+                "Logos saved synchronously because the write-behind queue was full"));
+        writeBehindEvents.put(WriteBehindEvent.RETRIED, writeBehindCounter(meterRegistry, WriteBehindEvent.RETRIED,
+                "Failed background saves scheduled for another attempt"));
+        writeBehindEvents.put(WriteBehindEvent.DROPPED, writeBehindCounter(meterRegistry, WriteBehindEvent.DROPPED,
+                "Logos given up on after max-attempts failed saves"));
+
+        for (RefreshOutcome outcome : RefreshOutcome.values()) {
+            refreshChecks.put(outcome, Counter.builder("logo.refresh.checks")
+                    .description("Stored upstream logos checked against logo.dev, by outcome")
+                    .tag("outcome", tag(outcome))
+                    .register(meterRegistry));
+        }
+        Gauge.builder("logo.variants.pregenerate.backlog", variantBacklog, AtomicLong::get)
+                .description("Variant generation jobs waiting in the queue, as of the last poll")
+                .register(meterRegistry);
+    }
+
+    private static Counter writeBehindCounter(MeterRegistry meterRegistry, WriteBehindEvent event, String description) {
+        return Counter.builder("logo.write-behind." + tag(event))
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void lookupCompleted(LookupOutcome outcome, long durationNanos, long payloadBytes) {
+        lookups.get(outcome).record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary payload = payloads.get(outcome);
+        if (payload != null && payloadBytes >= 0) {
+            payload.record(payloadBytes);
+        }
+    }
+
+    @Override
+    public void writeBehind(WriteBehindEvent event) {
+        writeBehindEvents.get(event).increment();
+    }
+
+    @Override
+    public void writeBehindDepth(int depth) {
+        writeBehindDepth.set(depth);
+    }
+
+    @Override
+    public void refreshChecked(RefreshOutcome outcome) {
+        refreshChecks.get(outcome).increment();
+    }
+
+    @Override
+    public void variantBacklog(long jobs) {
+        variantBacklog.set(jobs);
+    }
+}
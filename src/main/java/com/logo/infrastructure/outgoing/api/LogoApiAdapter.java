@@ -2,32 +2,127 @@ package com.logo.infrastructure.outgoing.api;
 
 import com.logo.domain.exception.ServiceException;
 import com.logo.domain.model.Errors;
+import com.logo.domain.model.UpstreamFetch;
+import com.logo.domain.model.UpstreamValidators;
 import com.logo.domain.port.outgoing.LogoApiPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.core.HttpHeaders;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.resteasy.reactive.RestResponse;
 import org.jboss.logging.Logger;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Fetches logos from logo.dev through the circuit breaker and then the rate limiter. Every fetch is timed under
+ * {@code logo.dev.fetch}, including any wait for the rate limiter, and tagged with its {@link Errors} code
+ * ({@code fetched} or {@code not_modified} when it succeeded); downloaded sizes go to {@code logo.dev.fetch.payload}.
+ */
 @ApplicationScoped
 public class LogoApiAdapter implements LogoApiPort {
 
     private static final Logger LOG = Logger.getLogger(LogoApiAdapter.class);
 
     private final LogoDevClient logoDevClient;
+    private final UpstreamRateLimiter rateLimiter;
+    private final UpstreamCircuitBreaker circuitBreaker;
     private final String logoDevToken;
 
+    private final MeterRegistry meterRegistry;
+    private final Timer fetched;
+    private final Timer notModified;
+    private final Map<Errors, Timer> failed = new EnumMap<>(Errors.class);
+    private final DistributionSummary payload;
+
     public LogoApiAdapter(@RestClient LogoDevClient logoDevClient,
+                          UpstreamRateLimiter rateLimiter,
+                          UpstreamCircuitBreaker circuitBreaker,
+                          MeterRegistry meterRegistry,
                           @ConfigProperty(name = "logo.dev.token") String logoDevToken) {
         this.logoDevClient = logoDevClient;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
         this.logoDevToken = logoDevToken;
+        this.meterRegistry = meterRegistry;
+        this.fetched = fetches(meterRegistry, "fetched");
+        this.notModified = fetches(meterRegistry, "not_modified");
+        for (Errors error : Errors.values()) {
+            failed.put(error, fetches(meterRegistry, error.name()));
+        }
+        this.payload = DistributionSummary.builder("logo.dev.fetch.payload")
+                .description("Size of logos downloaded from logo.dev")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    private static Timer fetches(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("logo.dev.fetch")
+                .description("Logo fetches from logo.dev, by outcome or error code")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
     public Uni<byte[]> fetchLogo(String ticker) {
         LOG.debug("Fetching logo for ticker: %s".formatted(ticker));
-        
-        return logoDevClient.fetchLogo(ticker, logoDevToken)
+
+        return fetch(ticker, UpstreamValidators.NONE)
+                .map(RestResponse::getEntity);
+    }
+
+    @Override
+    public Uni<UpstreamFetch> fetchLogoIfChanged(String ticker, UpstreamValidators validators) {
+        LOG.debug("Fetching logo for ticker %s if changed since %s".formatted(ticker, validators));
+
+        return fetch(ticker, validators)
+                .map(response -> {
+                    UpstreamValidators received = new UpstreamValidators(
+                            response.getHeaderString(HttpHeaders.ETAG), response.getHeaderString(HttpHeaders.LAST_MODIFIED));
+                    if (response.getStatus() == RestResponse.StatusCode.NOT_MODIFIED) {
+                        // A 304 may leave out validators that did not change
+                        return new UpstreamFetch.NotModified(received.orElse(validators));
+                    }
+                    return new UpstreamFetch.Modified(response.getEntity(), received);
+                });
+    }
+
+    private Uni<RestResponse<byte[]>> fetch(String ticker, UpstreamValidators validators) {
+        return Uni.createFrom().deferred(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return attempt(ticker, validators)
+                    .onItemOrFailure().invoke((response, failure) -> record(sample, response, failure));
+        });
+    }
+
+    private void record(Timer.Sample sample, RestResponse<byte[]> response, Throwable failure) {
+        if (failure != null) {
+            // Failures leave attempt() as ServiceException, anything else has already been mapped to COMMUNICATION_ERROR
+            Errors error = failure instanceof ServiceException serviceException
+                    ? serviceException.getError() : Errors.COMMUNICATION_ERROR;
+            sample.stop(failed.get(error));
+        } else if (response.getStatus() == RestResponse.StatusCode.NOT_MODIFIED) {
+            sample.stop(notModified);
+        } else {
+            sample.stop(fetched);
+            if (response.getEntity() != null) {
+                payload.record(response.getEntity().length);
+            }
+        }
+    }
+
+    private Uni<RestResponse<byte[]>> attempt(String ticker, UpstreamValidators validators) {
+        // The breaker decides first, so calls it refuses fail fast without taking or waiting for a rate limiter permit
+        return circuitBreaker.call(rateLimiter::acquire,
+                        () -> logoDevClient.fetchLogo(ticker, logoDevToken, validators.etag(), validators.lastModified()))
+                .onFailure(UpstreamRateLimitedException.class).invoke(throwable ->
+                        rateLimiter.pause(((UpstreamRateLimitedException) throwable).getRetryAfter()))
                 .onFailure(ServiceException.class).transform(throwable -> {
                     // ServiceException already contains domain-specific error information
                     ServiceException serviceException = (ServiceException) throwable;
@@ -2,20 +2,29 @@ package com.logo.infrastructure.outgoing.api;
 
 import io.smallrye.mutiny.Uni;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.jboss.resteasy.reactive.RestResponse;
 
 @RegisterRestClient(configKey = "logo-dev-api")
 @RegisterProvider(LogoDevClientExceptionMapper.class)
 public interface LogoDevClient {
-    
+
+    /**
+     * Returns the whole response so callers can read its validators, and tell a 304 (no body) from a 200.
+     * Null conditional headers are not sent.
+     */
     @GET
     @Path("/ticker/{ticker}")
-    Uni<byte[]> fetchLogo(
-            @PathParam("ticker") String ticker, 
-            @QueryParam("token") String token
+    Uni<RestResponse<byte[]>> fetchLogo(
+            @PathParam("ticker") String ticker,
+            @QueryParam("token") String token,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince
     );
 }
@@ -2,11 +2,18 @@ package com.logo.infrastructure.outgoing.api;
 
 import com.logo.domain.exception.ServiceException;
 import com.logo.domain.model.Errors;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper;
 import org.jboss.logging.Logger;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
 /**
  * Maps HTTP status codes from the external logo service to domain-specific exceptions.
  * This ensures that HTTP details never leak into the domain layer.
@@ -14,6 +21,13 @@ import org.jboss.logging.Logger;
 public class LogoDevClientExceptionMapper implements ResponseExceptionMapper<ServiceException> {
     
     private static final Logger LOG = Logger.getLogger(LogoDevClientExceptionMapper.class);
+
+    private static final String[] RESET_HEADERS = {"RateLimit-Reset", "X-RateLimit-Reset"};
+
+    /**
+     * Reset values above this are epoch seconds rather than a delay (about 31 years of delay).
+     */
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
     
     @Override
     public ServiceException toThrowable(Response response) {
@@ -45,10 +59,7 @@ public class LogoDevClientExceptionMapper implements ResponseExceptionMapper<Ser
                     "No logo found for the requested ticker symbol"
             );
             
-            case 429 -> new ServiceException(
-                    Errors.RATE_LIMITED, 
-                    "API rate limit exceeded"
-            );
+            case 429 -> new UpstreamRateLimitedException(retryAfter(response));
             
             case 500 -> new ServiceException(
                     Errors.EXTERNAL_SERVICE_ERROR, 
@@ -87,6 +98,45 @@ public class LogoDevClientExceptionMapper implements ResponseExceptionMapper<Ser
         };
     }
     
+    /**
+     * Reads the back-off from {@code Retry-After} (seconds or an HTTP date), falling back to the
+     * {@code RateLimit-Reset} / {@code X-RateLimit-Reset} headers (seconds until reset, or an epoch second).
+     * @return The back-off, or null if the response carries none that can be parsed
+     */
+    static Duration retryAfter(Response response) {
+        String retryAfter = response.getHeaderString(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+            } catch (NumberFormatException e) {
+                try {
+                    Instant until = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+                    return nonNegative(Duration.between(Instant.now(), until));
+                } catch (DateTimeParseException ignored) {
+                    LOG.debug("Ignoring unparseable Retry-After header: %s".formatted(retryAfter));
+                }
+            }
+        }
+        for (String header : RESET_HEADERS) {
+            String reset = response.getHeaderString(header);
+            if (reset != null) {
+                try {
+                    long value = Long.parseLong(reset.trim());
+                    return value > EPOCH_SECONDS_THRESHOLD
+                            ? nonNegative(Duration.between(Instant.now(), Instant.ofEpochSecond(value)))
+                            : Duration.ofSeconds(Math.max(0, value));
+                } catch (NumberFormatException ignored) {
+                    LOG.debug("Ignoring unparseable %s header: %s".formatted(header, reset));
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Duration nonNegative(Duration duration) {
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+
     @Override
     public boolean handles(int status, MultivaluedMap<String, Object> headers) {
         // Handle all HTTP error status codes (4xx and 5xx)
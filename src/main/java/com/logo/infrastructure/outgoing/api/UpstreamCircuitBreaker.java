@@ -0,0 +1,236 @@
+package com.logo.infrastructure.outgoing.api;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker shared by every call to logo.dev. While closed, the outcome of the most recent calls is kept in a
+ * count-based window; once enough calls are recorded and either the failure rate or the slow-call rate reaches its
+ * threshold, the circuit opens and callers fail fast with {@link Errors#SERVICE_UNAVAILABLE} instead of waiting for
+ * the REST client timeout. After the open duration a fixed number of probe calls is let through; the circuit closes
+ * if they stay under both thresholds and opens again otherwise.
+ * <p>
+ * Only failures that say something about upstream health count: 5xx responses, timeouts and connection errors.
+ * A 404 or 429 is a healthy answer as far as the breaker is concerned.
+ */
+@ApplicationScoped
+public class UpstreamCircuitBreaker {
+
+    private static final Logger LOG = Logger.getLogger(UpstreamCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean enabled;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    private final Map<State, Map<State, Counter>> transitions = new EnumMap<>(State.class);
+    private final Counter rejected;
+
+    private State state = State.CLOSED;
+    /**
+     * Bumped on every transition so outcomes of calls started in an earlier state are not recorded in the new one.
+     */
+    private long generation;
+    private long openedAt;
+
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slow;
+    private int probesStarted;
+
+    @Inject
+    public UpstreamCircuitBreaker(UpstreamCircuitBreakerConfig config, MeterRegistry meterRegistry) {
+        this(config.enabled(), config.windowSize(), config.minimumCalls(), config.failureRateThreshold(),
+                config.slowCallDuration(), config.slowCallRateThreshold(), config.openDuration(), config.halfOpenProbes(),
+                meterRegistry, System::nanoTime);
+    }
+
+    UpstreamCircuitBreaker(boolean enabled, int windowSize, int minimumCalls, double failureRateThreshold,
+                           Duration slowCallDuration, double slowCallRateThreshold, Duration openDuration,
+                           int halfOpenProbes, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = Math.min(halfOpenProbes, windowSize);
+        this.nanoClock = nanoClock;
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+
+        Gauge.builder("logo.dev.circuit-breaker.state", this, breaker -> breaker.state().ordinal())
+                .description("State of the logo.dev circuit breaker: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        for (State from : State.values()) {
+            Map<State, Counter> to = new EnumMap<>(State.class);
+            for (State target : State.values()) {
+                if (target != from) {
+                    to.put(target, Counter.builder("logo.dev.circuit-breaker.transitions")
+                            .tag("from", from.name().toLowerCase())
+                            .tag("to", target.name().toLowerCase())
+                            .register(meterRegistry));
+                }
+            }
+            transitions.put(from, to);
+        }
+        this.rejected = Counter.builder("logo.dev.circuit-breaker.rejected")
+                .description("Calls to logo.dev refused because the circuit was open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call if the circuit lets it through and records its outcome, or fails fast with
+     * {@link Errors#SERVICE_UNAVAILABLE} without subscribing to it.
+     */
+    public <T> Uni<T> call(Supplier<Uni<T>> upstreamCall) {
+        return call(() -> Uni.createFrom().voidItem(), upstreamCall);
+    }
+
+    /**
+     * Like {@link #call(Supplier)}, but once the circuit lets the call through it first waits for {@code admission},
+     * e.g. a rate limiter permit, so calls the circuit refuses never take one. A failed admission is passed on
+     * without being recorded, and the wait does not count towards the duration of the call.
+     */
+    public <T> Uni<T> call(Supplier<Uni<Void>> admission, Supplier<Uni<T>> upstreamCall) {
+        if (!enabled) {
+            return admission.get().flatMap(ignored -> upstreamCall.get());
+        }
+        return Uni.createFrom().deferred(() -> {
+            long permit = tryAcquire();
+            if (permit < 0) {
+                rejected.increment();
+                return Uni.createFrom().failure(new ServiceException(Errors.SERVICE_UNAVAILABLE,
+                        "logo.dev circuit breaker is open, not calling upstream"));
+            }
+            return admission.get()
+                    .onFailure().invoke(() -> release(permit))
+                    .flatMap(ignored -> {
+                        long startedAt = nanoClock.getAsLong();
+                        return upstreamCall.get()
+                                .onItemOrFailure().invoke((item, failure) -> record(
+                                        permit, isFailure(failure), nanoClock.getAsLong() - startedAt >= slowCallNanos));
+                    })
+                    .onCancellation().invoke(() -> release(permit));
+        });
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * @return The generation the permit was granted in, or -1 if the call must not be made
+     */
+    synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return -1;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenProbes) {
+                return -1;
+            }
+            probesStarted++;
+        }
+        return generation;
+    }
+
+    synchronized void record(long permit, boolean failed, boolean slowCall) {
+        if (permit != generation) {
+            return;
+        }
+        if (recorded == windowSize) {
+            failures -= failedCalls[next] ? 1 : 0;
+            slow -= slowCalls[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failedCalls[next] = failed;
+        slowCalls[next] = slowCall;
+        failures += failed ? 1 : 0;
+        slow += slowCall ? 1 : 0;
+        next = (next + 1) % windowSize;
+
+        if (state == State.CLOSED) {
+            if (recorded >= minimumCalls && thresholdReached()) {
+                transitionTo(State.OPEN);
+            }
+        } else if (state == State.HALF_OPEN && recorded == halfOpenProbes) {
+            transitionTo(thresholdReached() ? State.OPEN : State.CLOSED);
+        }
+    }
+
+    /**
+     * Gives back a half-open probe that was not made or whose caller went away before it completed.
+     */
+    private synchronized void release(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            probesStarted--;
+        }
+    }
+
+    private boolean thresholdReached() {
+        return failures >= failureRateThreshold * recorded || slow >= slowCallRateThreshold * recorded;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        if (target == State.OPEN) {
+            LOG.warn("Opening logo.dev circuit breaker after %d failed and %d slow of the last %d calls".formatted(
+                    failures, slow, recorded));
+            openedAt = nanoClock.getAsLong();
+        } else {
+            LOG.info("logo.dev circuit breaker %s -> %s".formatted(previous, target));
+        }
+        state = target;
+        generation++;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        slow = 0;
+        probesStarted = 0;
+        transitions.get(previous).get(target).increment();
+    }
+
+    private static boolean isFailure(Throwable failure) {
+        if (failure == null) {
+            return false;
+        }
+        if (failure instanceof ServiceException serviceException) {
+            return switch (serviceException.getError()) {
+                case SERVICE_UNAVAILABLE, EXTERNAL_SERVICE_ERROR, COMMUNICATION_ERROR -> true;
+                case LOGO_NOT_FOUND, INVALID_REQUEST, ACCESS_DENIED, RATE_LIMITED -> false;
+            };
+        }
+        return true;
+    }
+}
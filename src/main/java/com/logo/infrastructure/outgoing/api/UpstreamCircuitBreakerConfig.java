@@ -0,0 +1,58 @@
+package com.logo.infrastructure.outgoing.api;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * When to stop calling logo.dev and how to find out it is back.
+ */
+@ConfigMapping(prefix = "logo.dev.circuit-breaker")
+public interface UpstreamCircuitBreakerConfig {
+
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Number of most recent calls the failure and slow-call rates are computed over.
+     */
+    @WithDefault("20")
+    int windowSize();
+
+    /**
+     * Calls that must be recorded before the rates are acted on.
+     */
+    @WithDefault("10")
+    int minimumCalls();
+
+    /**
+     * Share of failed calls, between 0 and 1, that opens the circuit.
+     */
+    @WithDefault("0.5")
+    double failureRateThreshold();
+
+    /**
+     * Calls taking at least this long count as slow, whatever their outcome.
+     */
+    @WithDefault("PT2S")
+    Duration slowCallDuration();
+
+    /**
+     * Share of slow calls, between 0 and 1, that opens the circuit.
+     */
+    @WithDefault("0.8")
+    double slowCallRateThreshold();
+
+    /**
+     * How long the circuit stays open before probe calls are let through.
+     */
+    @WithDefault("PT30S")
+    Duration openDuration();
+
+    /**
+     * Probe calls let through while half-open; the circuit closes again only if they stay under both thresholds.
+     */
+    @WithDefault("3")
+    int halfOpenProbes();
+}
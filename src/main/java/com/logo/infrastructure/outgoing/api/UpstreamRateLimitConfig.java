@@ -0,0 +1,40 @@
+package com.logo.infrastructure.outgoing.api;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Client-side quota for logo.dev, taken from our plan.
+ */
+@ConfigMapping(prefix = "logo.dev.rate-limit")
+public interface UpstreamRateLimitConfig {
+
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Sustained requests per second the plan allows.
+     */
+    @WithDefault("10")
+    double requestsPerSecond();
+
+    /**
+     * Requests that may be sent back to back after an idle period.
+     */
+    @WithDefault("10")
+    int burst();
+
+    /**
+     * Longest a caller is queued for a permit; callers that would wait longer fail fast with RATE_LIMITED.
+     */
+    @WithDefault("PT2S")
+    Duration maxWait();
+
+    /**
+     * Pause applied after a 429 that carries no Retry-After or reset header.
+     */
+    @WithDefault("PT1S")
+    Duration defaultPause();
+}
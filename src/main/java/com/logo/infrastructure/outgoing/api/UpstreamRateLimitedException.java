@@ -0,0 +1,26 @@
+package com.logo.infrastructure.outgoing.api;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+
+import java.time.Duration;
+
+/**
+ * A 429 from logo.dev, with how long it asked us to back off when it said so.
+ */
+public class UpstreamRateLimitedException extends ServiceException {
+
+    private final Duration retryAfter;
+
+    public UpstreamRateLimitedException(Duration retryAfter) {
+        super(Errors.RATE_LIMITED, "API rate limit exceeded");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return The requested back-off, or null if the response did not carry one
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,116 @@
+package com.logo.infrastructure.outgoing.api;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket shared by every call to logo.dev. Permits refill continuously at the configured rate up to the burst
+ * size; a caller that finds the bucket empty reserves the next permit and waits for it, unless the wait would exceed
+ * the configured maximum, in which case it fails fast. A 429 from upstream pauses the whole bucket until the time the
+ * server asked for, so queued callers do not spend quota on requests that would be rejected anyway.
+ */
+@ApplicationScoped
+public class UpstreamRateLimiter {
+
+    private static final Logger LOG = Logger.getLogger(UpstreamRateLimiter.class);
+
+    private final boolean enabled;
+    private final double permitsPerNano;
+    private final double burst;
+    private final long maxWaitNanos;
+    private final Duration defaultPause;
+    private final LongSupplier nanoClock;
+
+    private double permits;
+    private long refilledAt;
+    private long pausedUntil;
+
+    @Inject
+    public UpstreamRateLimiter(UpstreamRateLimitConfig config) {
+        this(config.enabled(), config.requestsPerSecond(), config.burst(), config.maxWait(), config.defaultPause(),
+                System::nanoTime);
+    }
+
+    UpstreamRateLimiter(boolean enabled, double requestsPerSecond, int burst, Duration maxWait, Duration defaultPause,
+                        LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.permitsPerNano = requestsPerSecond / 1_000_000_000d;
+        this.burst = burst;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.defaultPause = defaultPause;
+        this.nanoClock = nanoClock;
+        this.permits = burst;
+        this.refilledAt = nanoClock.getAsLong();
+        this.pausedUntil = refilledAt;
+    }
+
+    /**
+     * Completes once the caller may send a request, on the caller's Vert.x context if it had one.
+     * Fails with {@link Errors#RATE_LIMITED} if that would take longer than the configured maximum wait.
+     */
+    public Uni<Void> acquire() {
+        if (!enabled) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().deferred(() -> {
+            long waitNanos = reserve();
+            if (waitNanos < 0) {
+                return Uni.createFrom().failure(new ServiceException(Errors.RATE_LIMITED,
+                        "Local logo.dev quota exhausted, not queueing longer than %d ms".formatted(maxWaitNanos / 1_000_000)));
+            }
+            if (waitNanos == 0) {
+                return Uni.createFrom().voidItem();
+            }
+            Uni<Void> delayed = Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofNanos(waitNanos));
+            // The delay fires on a scheduler thread; resume on the caller's context so persistence keeps working
+            Context context = Vertx.currentContext();
+            return context != null ? delayed.emitOn(task -> context.runOnContext(ignored -> task.run())) : delayed;
+        });
+    }
+
+    /**
+     * Stops handing out permits until the given delay has passed.
+     * @param retryAfter How long upstream asked us to wait, or null to use the configured default
+     */
+    public synchronized void pause(Duration retryAfter) {
+        Duration pause = retryAfter != null ? retryAfter : defaultPause;
+        long until = nanoClock.getAsLong() + pause.toNanos();
+        if (until > pausedUntil) {
+            pausedUntil = until;
+            // Whatever was saved up is not usable after a rejection
+            permits = Math.min(permits, 0);
+            LOG.warn("Pausing logo.dev requests for %d ms".formatted(pause.toMillis()));
+        }
+    }
+
+    /**
+     * @return Nanoseconds to wait for the reserved permit, or -1 if it is not reserved because the wait is too long
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        // Permits only accrue while not paused
+        long accrueFrom = Math.max(refilledAt, Math.min(pausedUntil, now));
+        if (now > accrueFrom) {
+            permits = Math.min(burst, permits + (now - accrueFrom) * permitsPerNano);
+        }
+        refilledAt = now;
+
+        long pauseWait = Math.max(0, pausedUntil - now);
+        long permitWait = permits >= 1 ? 0 : (long) Math.ceil((1 - permits) / permitsPerNano);
+        long wait = pauseWait + permitWait;
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+        permits -= 1;
+        return wait;
+    }
+}
@@ -0,0 +1,193 @@
+package com.logo.infrastructure.outgoing.imaging;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoVariant;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Resizes and re-encodes logos with the JDK's ImageIO and Java2D, so no native imaging library is needed.
+ * Work runs on a small dedicated pool with a bounded queue: image decoding is CPU and memory heavy, and when the pool
+ * is saturated callers fail fast with {@link Errors#SERVICE_UNAVAILABLE} rather than piling up on the event loop or
+ * the shared worker pool. Formats are only offered if an ImageIO writer for them is installed; the JDK ships PNG and
+ * JPEG writers but none for WebP.
+ */
+@ApplicationScoped
+public class ImageIoLogoRenderer implements LogoImagePort {
+
+    private static final Logger LOG = Logger.getLogger(ImageIoLogoRenderer.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Set<ImageFormat> encodable;
+    private final long maxSourcePixels;
+    private final float jpegQuality;
+
+    @Inject
+    public ImageIoLogoRenderer(@ConfigProperty(name = "logo.variants.workers", defaultValue = "2") int workers,
+                               @ConfigProperty(name = "logo.variants.queue-size", defaultValue = "64") int queueSize,
+                               @ConfigProperty(name = "logo.variants.max-source-pixels", defaultValue = "16777216") long maxSourcePixels,
+                               @ConfigProperty(name = "logo.variants.jpeg-quality", defaultValue = "0.85") float jpegQuality) {
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), task -> {
+                    Thread thread = new Thread(task, "logo-variant-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.maxSourcePixels = maxSourcePixels;
+        this.jpegQuality = jpegQuality;
+        this.encodable = EnumSet.noneOf(ImageFormat.class);
+        for (ImageFormat format : ImageFormat.values()) {
+            if (ImageIO.getImageWritersByFormatName(format.extension()).hasNext()) {
+                encodable.add(format);
+            }
+        }
+        LOG.info("Logo variants encodable as %s on %d workers".formatted(encodable, workers));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean canEncode(ImageFormat format) {
+        return encodable.contains(format);
+    }
+
+    @Override
+    public Uni<byte[]> render(Logo logo, int size, ImageFormat format) {
+        return Uni.createFrom().deferred(() -> {
+            Uni<byte[]> rendered = Uni.createFrom().item(() -> encode(scale(decode(logo), size, format), format))
+                    .runSubscriptionOn(executor)
+                    .onFailure(RejectedExecutionException.class).transform(throwable -> new ServiceException(
+                            Errors.SERVICE_UNAVAILABLE, "Logo variant workers are saturated", throwable));
+            // The result arrives on a variant worker; resume on the caller's context so persistence keeps working
+            Context context = Vertx.currentContext();
+            return context != null ? rendered.emitOn(task -> context.runOnContext(ignored -> task.run())) : rendered;
+        });
+    }
+
+    private BufferedImage decode(Logo logo) {
+        try (InputStream content = logo.content().open();
+             ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new ServiceException(Errors.INVALID_REQUEST,
+                        "Logo %s is stored as %s, which cannot be converted".formatted(logo.externalIdentifier(), logo.contentType()));
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Check the header before decoding so a small file cannot expand into a huge raster
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxSourcePixels) {
+                    throw new ServiceException(Errors.INVALID_REQUEST,
+                            "Logo %s is too large to convert".formatted(logo.externalIdentifier()));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new ServiceException(Errors.INVALID_REQUEST,
+                    "Logo %s could not be decoded: %s".formatted(logo.externalIdentifier(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Scales down to fit a square of {@code size} pixels, halving first so the final bicubic pass keeps detail.
+     * Formats without an alpha channel get a white background.
+     */
+    static BufferedImage scale(BufferedImage source, int size, ImageFormat format) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        int longest = Math.max(width, height);
+        int targetWidth = width;
+        int targetHeight = height;
+        if (size != LogoVariant.ORIGINAL_SIZE && longest > size) {
+            targetWidth = Math.max(1, Math.round((float) width * size / longest));
+            targetHeight = Math.max(1, Math.round((float) height * size / longest));
+        }
+        int type = format == ImageFormat.JPEG ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = draw(source, width, height, type);
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2, type);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = draw(current, targetWidth, targetHeight, type);
+        }
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            if (type == BufferedImage.TYPE_INT_RGB) {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image, ImageFormat format) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format.extension()).next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format == ImageFormat.JPEG) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,35 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Logo bytes stored once per distinct content, keyed by their SHA-256.
+ * {@link #refCount} counts the logo rows pointing at this blob. {@link #gzipContent} holds the gzip encoding of
+ * compressible content, inline whatever the storage mode.
+ */
+@Entity
+@Table(name = "logo_blob")
+public class LogoBlobEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    public String contentHash;
+
+    @Column(name = "content")
+    public byte[] content;
+
+    @Column(name = "gzip_content")
+    public byte[] gzipContent;
+
+    @Column(name = "size_bytes", nullable = false)
+    public long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    public int refCount;
+
+    @Column(name = "created_at")
+    public OffsetDateTime createdAt;
+}
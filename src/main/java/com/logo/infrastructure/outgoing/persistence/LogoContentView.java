@@ -0,0 +1,26 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import com.logo.domain.model.LogoSource;
+import io.quarkus.hibernate.reactive.panache.common.ProjectedFieldName;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projection of {@link LogoEntity} with the identity encoding of its content: the blob is joined for its inline
+ * content and size only, so the gzip encoding stored next to them is never read along.
+ */
+@RegisterForReflection
+public record LogoContentView(
+        String externalIdentifier,
+        String resourceUrl,
+        @ProjectedFieldName("blob.content") byte[] content,
+        String fileName,
+        String contentType,
+        String contentHash,
+        @ProjectedFieldName("blob.sizeBytes") Long sizeBytes,
+        LogoSource source,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+}
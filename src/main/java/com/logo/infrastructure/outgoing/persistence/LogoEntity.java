@@ -1,5 +1,6 @@
 package com.logo.infrastructure.outgoing.persistence;
 
+import com.logo.domain.model.LogoSource;
 import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
 import jakarta.persistence.*;
 
@@ -9,8 +10,12 @@ import java.time.OffsetDateTime;
 @Table(name = "logo")
 public class LogoEntity extends PanacheEntityBase {
 
+    /**
+     * Pooled: each nextval reserves the 50 ids up to the returned value, so only one insert in 50 pays a
+     * sequence round trip. Must match the sequence's INCREMENT BY (changeset 006), which Hibernate checks at startup.
+     */
     @Id
-    @SequenceGenerator(name = "logo_seq", sequenceName = "logo_seq", allocationSize = 1)
+    @SequenceGenerator(name = "logo_seq", sequenceName = "logo_seq", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "logo_seq")
     public Long id;
 
@@ -20,18 +25,45 @@ public class LogoEntity extends PanacheEntityBase {
     @Column(name = "resource_url", length = 2048)
     public String resourceUrl;
 
-    @Column(name = "file_content")
-    public byte[] fileContent;
-
     @Column(name = "file_name")
     public String fileName;
 
     @Column(name = "content_type", length = 100)
     public String contentType;
 
+    @Column(name = "content_hash", length = 64)
+    public String contentHash;
+
+    /**
+     * The content itself, only loaded when a query fetches it explicitly. Written through {@link #contentHash}.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_hash", insertable = false, updatable = false)
+    public LogoBlobEntity blob;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", length = 20, nullable = false)
+    public LogoSource source;
+
     @Column(name = "created_at")
     public OffsetDateTime createdAt;
 
     @Column(name = "updated_at")
     public OffsetDateTime updatedAt;
+
+    /**
+     * When the content was last checked against its source; moves on every refresh, unlike {@link #updatedAt},
+     * which only moves when the content changes.
+     */
+    @Column(name = "refreshed_at", nullable = false)
+    public OffsetDateTime refreshedAt;
+
+    /**
+     * Validators logo.dev sent with the stored content, sent back when refreshing it.
+     */
+    @Column(name = "upstream_etag", length = 512)
+    public String upstreamEtag;
+
+    @Column(name = "upstream_last_modified", length = 64)
+    public String upstreamLastModified;
 }
@@ -0,0 +1,25 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import com.logo.domain.model.LogoSource;
+import io.quarkus.hibernate.reactive.panache.common.ProjectedFieldName;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projection of {@link LogoEntity} without the file content: the blob is only joined for its size,
+ * so the query never reads the content column.
+ */
+@RegisterForReflection
+public record LogoMetadataView(
+        String externalIdentifier,
+        String resourceUrl,
+        String fileName,
+        String contentType,
+        String contentHash,
+        @ProjectedFieldName("blob.sizeBytes") Long sizeBytes,
+        LogoSource source,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {
+}
@@ -1,41 +1,280 @@
 package com.logo.infrastructure.outgoing.persistence;
 
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamValidators;
 import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.infrastructure.outgoing.persistence.blob.LogoBlobStore;
+import com.logo.infrastructure.outgoing.persistence.compression.LogoCompressor;
 import com.logo.infrastructure.outgoing.persistence.mapper.LogoEntityMapper;
+import com.logo.infrastructure.outgoing.persistence.repository.LogoBlobRepository;
 import com.logo.infrastructure.outgoing.persistence.repository.LogoRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores logos as rows pointing at content-addressed blobs. Single gets and saves are timed under
+ * {@code logo.persistence} by operation and outcome, with their payload sizes under {@code logo.persistence.payload};
+ * cache hits in front of this adapter never reach it, so these are storage latencies.
+ */
 @ApplicationScoped
 public class LogoPersistenceAdapter implements LogoPersistencePort {
 
     private final LogoRepository logoRepository;
 
+    private final LogoBlobRepository logoBlobRepository;
+
+    private final LogoBlobStore logoBlobStore;
+
     private final LogoEntityMapper logoEntityMapper;
 
-    public LogoPersistenceAdapter(LogoRepository logoRepository, LogoEntityMapper logoEntityMapper) {
+    private final LogoCompressor logoCompressor;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer found;
+    private final Timer absent;
+    private final Timer getFailed;
+    private final Timer saved;
+    private final Timer saveFailed;
+    private final DistributionSummary readPayload;
+    private final DistributionSummary writtenPayload;
+
+    public LogoPersistenceAdapter(LogoRepository logoRepository, LogoBlobRepository logoBlobRepository,
+                                  LogoBlobStore logoBlobStore, LogoEntityMapper logoEntityMapper,
+                                  LogoCompressor logoCompressor, MeterRegistry meterRegistry) {
         this.logoRepository = logoRepository;
+        this.logoBlobRepository = logoBlobRepository;
+        this.logoBlobStore = logoBlobStore;
         this.logoEntityMapper = logoEntityMapper;
+        this.logoCompressor = logoCompressor;
+        this.meterRegistry = meterRegistry;
+        this.found = operations(meterRegistry, "get", "found");
+        this.absent = operations(meterRegistry, "get", "absent");
+        this.getFailed = operations(meterRegistry, "get", "error");
+        this.saved = operations(meterRegistry, "save", "saved");
+        this.saveFailed = operations(meterRegistry, "save", "error");
+        this.readPayload = payloads(meterRegistry, "get");
+        this.writtenPayload = payloads(meterRegistry, "save");
+    }
+
+    private static Timer operations(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("logo.persistence")
+                .description("Single logo reads and writes against storage, by outcome")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary payloads(MeterRegistry meterRegistry, String operation) {
+        return DistributionSummary.builder("logo.persistence.payload")
+                .description("Size of logo content read from or written to storage")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("operation", operation)
+                .register(meterRegistry);
     }
 
     @Override
     @WithTransaction
     public Uni<Logo> save(Logo logo) {
-        return Uni.createFrom().item(() -> logoEntityMapper.toEntity(logo))
-                .flatMap(logoRepository::persistAndFlush)
-                .map(logoEntityMapper::toDomain);
+        return Uni.createFrom().deferred(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return referenceBlob(logo)
+                    .map(ignored -> logoEntityMapper.toEntity(logo))
+                    .flatMap(logoRepository::persistAndFlush)
+                    .map(entity -> toSavedDomain(entity, logo))
+                    .onItemOrFailure().invoke((savedLogo, failure) -> {
+                        if (failure != null) {
+                            sample.stop(saveFailed);
+                            return;
+                        }
+                        sample.stop(saved);
+                        writtenPayload.record(logo.content().size());
+                    });
+        });
+    }
+
+    @Override
+    @WithTransaction
+    public Uni<List<Logo>> saveAll(List<Logo> logos) {
+        if (logos.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        // Blob references go one by one, so logos sharing content see each other's row
+        return Multi.createFrom().iterable(logos)
+                .onItem().transformToUniAndConcatenate(logo -> referenceBlob(logo).replaceWith(logo))
+                .collect().asList()
+                .flatMap(referenced -> {
+                    List<LogoEntity> entities = referenced.stream().map(logoEntityMapper::toEntity).toList();
+                    return logoRepository.persist(entities)
+                            .flatMap(ignored -> logoRepository.flush())
+                            .map(ignored -> {
+                                List<Logo> saved = new ArrayList<>(entities.size());
+                                for (int i = 0; i < entities.size(); i++) {
+                                    saved.add(toSavedDomain(entities.get(i), referenced.get(i)));
+                                }
+                                return saved;
+                            });
+                });
     }
 
     @Override
     public Uni<Logo> get(String externalIdentifier) {
-        return logoRepository.findByExternalIdentifier(externalIdentifier)
+        return Uni.createFrom().deferred(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return logoRepository.findByExternalIdentifier(externalIdentifier)
+                    .flatMap(view -> {
+                        if (view != null) {
+                            return Uni.createFrom().item(() -> toDomain(view));
+                        }
+                        return Uni.createFrom().<Logo>nullItem();
+                    })
+                    .onItemOrFailure().invoke((logo, failure) -> {
+                        if (failure != null) {
+                            sample.stop(getFailed);
+                        } else if (logo == null) {
+                            sample.stop(absent);
+                        } else {
+                            sample.stop(found);
+                            // Content kept on the filesystem is streamed later and not read here
+                            if (logo.content() instanceof LogoContent.InMemory(var bytes)) {
+                                readPayload.record(bytes.length);
+                            }
+                        }
+                    });
+        });
+    }
+
+    @Override
+    public Uni<List<Logo>> getAll(Collection<String> externalIdentifiers) {
+        if (externalIdentifiers.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        return logoRepository.findByExternalIdentifiers(externalIdentifiers)
+                .map(views -> views.stream()
+                        .map(this::toDomain)
+                        .toList());
+    }
+
+    @Override
+    public Uni<Set<String>> findStoredIdentifiers(Collection<String> externalIdentifiers) {
+        if (externalIdentifiers.isEmpty()) {
+            return Uni.createFrom().item(Set.of());
+        }
+        return logoRepository.findExternalIdentifiersIn(externalIdentifiers)
+                .map(HashSet::new);
+    }
+
+    @Override
+    public Uni<LogoMetadata> getMetadata(String externalIdentifier) {
+        return logoRepository.findMetadataByExternalIdentifier(externalIdentifier)
+                .map(view -> view != null ? logoEntityMapper.toMetadata(view) : null);
+    }
+
+    @Override
+    public Uni<byte[]> getContentRange(String contentHash, long offset, int length) {
+        return logoBlobStore.read(contentHash, offset, length)
+                .flatMap(slice -> slice != null
+                        ? Uni.createFrom().item(slice)
+                        : logoBlobRepository.findContentRange(contentHash, offset, length));
+    }
+
+    @Override
+    public Uni<List<LogoRefreshCandidate>> findRefreshedBefore(LogoSource source, OffsetDateTime cutoff, int limit) {
+        return logoRepository.findRefreshedBefore(source, cutoff, limit)
+                .map(views -> views.stream().map(logoEntityMapper::toRefreshCandidate).toList());
+    }
+
+    @Override
+    @WithTransaction
+    public Uni<Boolean> refresh(Logo logo, UpstreamValidators validators, OffsetDateTime refreshedAt) {
+        return logoRepository.findForUpdate(logo.externalIdentifier())
                 .flatMap(entity -> {
-                    if (entity != null) {
-                        return Uni.createFrom().item(() -> logoEntityMapper.toDomain(entity));
+                    if (entity == null) {
+                        return Uni.createFrom().item(false);
                     }
-                    return Uni.createFrom().nullItem();
+                    entity.refreshedAt = refreshedAt;
+                    entity.upstreamEtag = validators.etag();
+                    entity.upstreamLastModified = validators.lastModified();
+                    if (logo.contentHash().equals(entity.contentHash)) {
+                        return Uni.createFrom().item(false);
+                    }
+                    String previousHash = entity.contentHash;
+                    return referenceBlob(logo)
+                            .flatMap(ignored -> previousHash != null
+                                    ? logoBlobRepository.release(previousHash)
+                                    : Uni.createFrom().voidItem())
+                            .map(ignored -> {
+                                entity.contentHash = logo.contentHash();
+                                entity.contentType = logo.contentType();
+                                entity.fileName = logo.fileName();
+                                entity.updatedAt = refreshedAt;
+                                return true;
+                            });
                 });
     }
+
+    @Override
+    @WithTransaction
+    public Uni<Void> markRefreshed(String externalIdentifier, UpstreamValidators validators, OffsetDateTime refreshedAt) {
+        Uni<Integer> updated = validators == null
+                ? logoRepository.update("refreshedAt = ?1 where externalIdentifier = ?2", refreshedAt, externalIdentifier)
+                : logoRepository.update("refreshedAt = ?1, upstreamEtag = ?2, upstreamLastModified = ?3 where externalIdentifier = ?4",
+                        refreshedAt, validators.etag(), validators.lastModified(), externalIdentifier);
+        return updated.replaceWithVoid();
+    }
+
+    private Uni<Void> referenceBlob(Logo logo) {
+        return logoBlobRepository.addReference(logo.contentHash())
+                .flatMap(referenced -> referenced ? Uni.createFrom().voidItem() : storeBlob(logo));
+    }
+
+    /**
+     * Stores content seen for the first time, with its gzip encoding when the content type compresses well,
+     * so the encoding is computed once per distinct content rather than on every response.
+     */
+    private Uni<Void> storeBlob(Logo logo) {
+        byte[] content = received(logo);
+        return logoBlobStore.store(logo.contentHash(), content)
+                .flatMap(inlineContent -> logoBlobRepository.insertOrReference(logo.contentHash(), inlineContent,
+                        logoCompressor.gzip(logo.contentType(), content), content.length));
+    }
+
+    /**
+     * Logos are saved with the content just received or fetched; content already in storage is only referenced.
+     */
+    private static byte[] received(Logo logo) {
+        if (logo.content() instanceof LogoContent.InMemory(var bytes)) {
+            return bytes;
+        }
+        throw new IllegalArgumentException("Logo %s must be saved with its content in memory".formatted(
+                logo.externalIdentifier()));
+    }
+
+    private Logo toSavedDomain(LogoEntity entity, Logo logo) {
+        return logoEntityMapper.toDomain(entity, logo.content());
+    }
+
+    private Logo toDomain(LogoContentView view) {
+        if (view.content() != null || view.sizeBytes() == null) {
+            return logoEntityMapper.toDomain(view);
+        }
+        // Content lives outside the database: hand out a handle on it instead of loading it
+        return logoEntityMapper.toDomain(view, logoBlobStore.content(view.contentHash(), view.sizeBytes()));
+    }
 }
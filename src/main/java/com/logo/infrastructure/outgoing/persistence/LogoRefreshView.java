@@ -0,0 +1,14 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Projection of {@link LogoEntity} with what a refresh needs to fetch conditionally.
+ */
+@RegisterForReflection
+public record LogoRefreshView(
+        String externalIdentifier,
+        String upstreamEtag,
+        String upstreamLastModified
+) {
+}
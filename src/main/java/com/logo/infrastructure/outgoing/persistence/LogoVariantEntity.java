@@ -0,0 +1,23 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A resized or re-encoded logo, stored once per (content hash, size, format).
+ */
+@Entity
+@Table(name = "logo_variant")
+public class LogoVariantEntity extends PanacheEntityBase {
+
+    @EmbeddedId
+    public LogoVariantKey id;
+
+    @Column(name = "content", nullable = false)
+    public byte[] content;
+
+    @Column(name = "created_at", nullable = false)
+    public OffsetDateTime createdAt;
+}
@@ -0,0 +1,52 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A queued variant generation. Pending jobs are due at {@link #availableAt}; claiming one pushes that time out by
+ * the lease, so a job whose worker disappeared becomes due again without any cleanup.
+ */
+@Entity
+@Table(name = "logo_variant_job",
+        uniqueConstraints = @UniqueConstraint(name = "uk_logo_variant_job_variant", columnNames = {"content_hash", "size", "format"}))
+public class LogoVariantJobEntity extends PanacheEntityBase {
+
+    public enum Status {
+        PENDING, ABANDONED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Long id;
+
+    @Column(name = "external_identifier", nullable = false)
+    public String externalIdentifier;
+
+    @Column(name = "content_hash", length = 64, nullable = false)
+    public String contentHash;
+
+    @Column(name = "size", nullable = false)
+    public int size;
+
+    @Column(name = "format", length = 16, nullable = false)
+    public String format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 16, nullable = false)
+    public Status status;
+
+    @Column(name = "attempts", nullable = false)
+    public int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    public OffsetDateTime availableAt;
+
+    @Column(name = "last_error", length = 1000)
+    public String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    public OffsetDateTime createdAt;
+}
@@ -0,0 +1,45 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Identifies a logo variant by the content it was derived from and how it was derived.
+ */
+@Embeddable
+public class LogoVariantKey implements Serializable {
+
+    @Column(name = "content_hash", length = 64)
+    public String contentHash;
+
+    @Column(name = "size")
+    public int size;
+
+    @Column(name = "format", length = 16)
+    public String format;
+
+    public LogoVariantKey() {
+    }
+
+    public LogoVariantKey(String contentHash, int size, String format) {
+        this.contentHash = contentHash;
+        this.size = size;
+        this.format = format;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof LogoVariantKey key
+                && size == key.size
+                && Objects.equals(contentHash, key.contentHash)
+                && Objects.equals(format, key.format);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(contentHash, size, format);
+    }
+}
@@ -0,0 +1,24 @@
+package com.logo.infrastructure.outgoing.persistence;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntityBase;
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * An identifier logo.dev reported as not found, remembered until {@link #expiresAt}.
+ */
+@Entity
+@Table(name = "logo_missing")
+public class MissingLogoEntity extends PanacheEntityBase {
+
+    @Id
+    @Column(name = "external_identifier")
+    public String externalIdentifier;
+
+    @Column(name = "recorded_at", nullable = false)
+    public OffsetDateTime recordedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    public OffsetDateTime expiresAt;
+}
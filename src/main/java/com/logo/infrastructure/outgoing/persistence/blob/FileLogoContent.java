@@ -0,0 +1,26 @@
+package com.logo.infrastructure.outgoing.persistence.blob;
+
+import com.logo.domain.model.LogoContent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Content kept in a file by {@link FileSystemLogoBlobStore}. Its {@link #file()} lets responses send the file without
+ * reading it into memory.
+ */
+public record FileLogoContent(Path path, long size) implements LogoContent.Streamed {
+
+    @Override
+    public Optional<Path> file() {
+        return Optional.of(path);
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return Files.newInputStream(path);
+    }
+}
@@ -0,0 +1,128 @@
+package com.logo.infrastructure.outgoing.persistence.blob;
+
+import com.logo.domain.model.LogoContent;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Keeps content in files named after their hash, sharded two levels deep ({@code ab/cd/abcd...}) under a root
+ * directory on local disk or a mounted volume. Files are written to a temporary name, forced to disk and then
+ * atomically renamed, so a crash never leaves a partially written logo under its final name; the directory is then
+ * forced as well, so the rename itself survives a crash once the content is referenced from logo_blob.
+ */
+public class FileSystemLogoBlobStore implements LogoBlobStore {
+
+    private static final Logger LOG = Logger.getLogger(FileSystemLogoBlobStore.class);
+
+    private final Path root;
+    private final Vertx vertx;
+
+    public FileSystemLogoBlobStore(Path root, Vertx vertx) {
+        this.root = root;
+        this.vertx = vertx;
+    }
+
+    @Override
+    public Uni<byte[]> store(String contentHash, byte[] content) {
+        // Blocking file IO runs on a worker; the result is delivered back on the caller's context
+        return vertx.executeBlocking(Uni.createFrom().item(() -> {
+                    write(locate(contentHash), content);
+                    return (byte[]) null;
+                }));
+    }
+
+    @Override
+    public Uni<byte[]> read(String contentHash, long offset, int length) {
+        return vertx.executeBlocking(Uni.createFrom().item(() -> read(locate(contentHash), offset, length)));
+    }
+
+    @Override
+    public LogoContent.Streamed content(String contentHash, long sizeBytes) {
+        return new FileLogoContent(locate(contentHash), sizeBytes);
+    }
+
+    public Path locate(String contentHash) {
+        return root.resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+
+    /**
+     * Positioned read: only the requested slice is read from disk.
+     */
+    private static byte[] read(Path source, long offset, int length) {
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+            }
+            return buffer.position() == length ? buffer.array() : Arrays.copyOf(buffer.array(), buffer.position());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read logo blob " + source, e);
+        }
+    }
+
+    private static void write(Path target, byte[] content) {
+        if (Files.exists(target)) {
+            // Same name means same content
+            return;
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            forceDirectory(target.getParent());
+            LOG.debug("Stored logo blob %s".formatted(target));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to store logo blob " + target, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    LOG.warn("Unable to delete temporary logo blob %s".formatted(temp), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A rename is an update of the directory, which is only durable once the directory itself is forced. Not every
+     * platform lets a directory be opened for that (Windows does not); there the rename is left to the file system.
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException e) {
+            LOG.debug("Cannot force directory %s on this platform".formatted(directory));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.logo.infrastructure.outgoing.persistence.blob;
+
+import com.logo.domain.model.LogoContent;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Where the bytes of a logo_blob row live. The logo_blob table always holds the hash, size and reference count;
+ * the content itself is either inline in that row or in a file managed by the store.
+ */
+public interface LogoBlobStore {
+
+    enum Mode {
+        DATABASE,
+        FILESYSTEM
+    }
+
+    /**
+     * Stores new content under its hash.
+     * @param contentHash SHA-256 of the content
+     * @param content The logo bytes
+     * @return Uni containing the bytes to keep inline in logo_blob.content, or a null item when stored elsewhere
+     */
+    Uni<byte[]> store(String contentHash, byte[] content);
+
+    /**
+     * Reads part of stored content without loading the rest of it.
+     * @param contentHash SHA-256 of the content
+     * @param offset Position of the first byte to read
+     * @param length Number of bytes to read; fewer are returned if the content ends first
+     * @return Uni containing the bytes, or a null item when the content is kept inline or not stored
+     */
+    Uni<byte[]> read(String contentHash, long offset, int length);
+
+    /**
+     * @param contentHash SHA-256 of the content
+     * @param sizeBytes Size of the content, as recorded in logo_blob
+     * @return The content, read only when it is opened, or null when content is kept inline
+     */
+    LogoContent.Streamed content(String contentHash, long sizeBytes);
+}
@@ -0,0 +1,27 @@
+package com.logo.infrastructure.outgoing.persistence.blob;
+
+import io.vertx.mutiny.core.Vertx;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.nio.file.Path;
+
+@ApplicationScoped
+public class LogoBlobStoreProducer {
+
+    private static final Logger LOG = Logger.getLogger(LogoBlobStoreProducer.class);
+
+    @Produces
+    @ApplicationScoped
+    LogoBlobStore logoBlobStore(@ConfigProperty(name = "logo.storage.mode", defaultValue = "database") LogoBlobStore.Mode mode,
+                                @ConfigProperty(name = "logo.storage.filesystem.root", defaultValue = "data/logo-blobs") String root,
+                                Vertx vertx) {
+        LOG.info("Storing logo blobs in %s".formatted(mode == LogoBlobStore.Mode.FILESYSTEM ? root : "the database"));
+        return switch (mode) {
+            case DATABASE -> new DatabaseLogoBlobStore();
+            case FILESYSTEM -> new FileSystemLogoBlobStore(Path.of(root), vertx);
+        };
+    }
+}
@@ -0,0 +1,187 @@
+package com.logo.infrastructure.outgoing.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache in front of the persistence adapter.
+ * Entries are weighted by their payload size so the cache is bounded in bytes rather than in entries;
+ * admission and eviction follow Caffeine's W-TinyLFU policy. A hit is answered without touching the
+ * reactive connection pool, and every save invalidates the cached entry for its identifier.
+ * <p>
+ * A load is cached as a future while it is in flight, and concurrent reads of the same identifier share it. A save
+ * that lands during the load removes the future, so the row read before the save is handed to its reader but never
+ * cached over the newer one.
+ */
+@Decorator
+@Priority(10)
+public class CachingLogoPersistenceAdapter implements LogoPersistencePort {
+
+    private static final Logger LOG = Logger.getLogger(CachingLogoPersistenceAdapter.class);
+
+    /**
+     * Rough per-entry cost of the key, the record and its strings, so metadata-only entries are not free.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final LogoPersistencePort delegate;
+    private final boolean enabled;
+    private final AsyncCache<String, Logo> cache;
+
+    @Inject
+    public CachingLogoPersistenceAdapter(@Delegate LogoPersistencePort delegate,
+                                         MeterRegistry meterRegistry,
+                                         @ConfigProperty(name = "logo.cache.enabled", defaultValue = "true") boolean enabled,
+                                         @ConfigProperty(name = "logo.cache.max-bytes", defaultValue = "67108864") long maxBytes,
+                                         @ConfigProperty(name = "logo.cache.ttl", defaultValue = "PT10M") Duration ttl) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(CachingLogoPersistenceAdapter::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "logo-persistence");
+        LOG.info("Logo read cache %s (max %d bytes, ttl %s)".formatted(enabled ? "enabled" : "disabled", maxBytes, ttl));
+    }
+
+    @Override
+    public Uni<Logo> save(Logo logo) {
+        if (!enabled) {
+            return delegate.save(logo);
+        }
+        return delegate.save(logo)
+                .onTermination().invoke(() -> cache.synchronous().invalidate(logo.externalIdentifier()));
+    }
+
+    @Override
+    public Uni<List<Logo>> saveAll(List<Logo> logos) {
+        if (!enabled) {
+            return delegate.saveAll(logos);
+        }
+        return delegate.saveAll(logos)
+                .onTermination().invoke(() -> cache.synchronous()
+                        .invalidateAll(logos.stream().map(Logo::externalIdentifier).toList()));
+    }
+
+    @Override
+    public Uni<Logo> get(String externalIdentifier) {
+        if (!enabled) {
+            return delegate.get(externalIdentifier);
+        }
+        // A load that completes with no logo is not kept
+        return Uni.createFrom().deferred(() -> answer(cache.get(externalIdentifier,
+                (identifier, executor) -> delegate.get(identifier).subscribeAsCompletionStage())));
+    }
+
+    @Override
+    public Uni<List<Logo>> getAll(Collection<String> externalIdentifiers) {
+        if (!enabled) {
+            return delegate.getAll(externalIdentifiers);
+        }
+        // Only the misses are loaded, and identifiers the load does not return are left out
+        return Uni.createFrom().deferred(() -> answer(cache.getAll(externalIdentifiers,
+                        (misses, executor) -> delegate.getAll(List.copyOf(misses))
+                                .map(loaded -> loaded.stream()
+                                        .collect(Collectors.toMap(Logo::externalIdentifier, Function.identity())))
+                                .subscribeAsCompletionStage())))
+                .map(found -> List.copyOf(found.values()));
+    }
+
+    @Override
+    public Uni<Set<String>> findStoredIdentifiers(Collection<String> externalIdentifiers) {
+        return delegate.findStoredIdentifiers(externalIdentifiers);
+    }
+
+    @Override
+    public Uni<LogoMetadata> getMetadata(String externalIdentifier) {
+        Logo cached = enabled ? loaded(externalIdentifier) : null;
+        if (cached != null) {
+            return Uni.createFrom().item(cached.metadata());
+        }
+        return delegate.getMetadata(externalIdentifier);
+    }
+
+    @Override
+    public Uni<byte[]> getContentRange(String contentHash, long offset, int length) {
+        // Entries are keyed by identifier, not content, and a slice is cheap to read, so ranges go to storage
+        return delegate.getContentRange(contentHash, offset, length);
+    }
+
+    @Override
+    public Uni<List<LogoRefreshCandidate>> findRefreshedBefore(LogoSource source, OffsetDateTime cutoff, int limit) {
+        return delegate.findRefreshedBefore(source, cutoff, limit);
+    }
+
+    @Override
+    public Uni<Boolean> refresh(Logo logo, UpstreamValidators validators, OffsetDateTime refreshedAt) {
+        if (!enabled) {
+            return delegate.refresh(logo, validators, refreshedAt);
+        }
+        return delegate.refresh(logo, validators, refreshedAt)
+                .invoke(replaced -> {
+                    if (replaced) {
+                        cache.synchronous().invalidate(logo.externalIdentifier());
+                    }
+                });
+    }
+
+    @Override
+    public Uni<Void> markRefreshed(String externalIdentifier, UpstreamValidators validators, OffsetDateTime refreshedAt) {
+        return delegate.markRefreshed(externalIdentifier, validators, refreshedAt);
+    }
+
+    /**
+     * @return The cached logo, or null if there is none or it is still being loaded
+     */
+    private Logo loaded(String externalIdentifier) {
+        CompletableFuture<Logo> future = cache.getIfPresent(externalIdentifier);
+        return future != null && future.state() == Future.State.SUCCESS ? future.resultNow() : null;
+    }
+
+    private static <T> Uni<T> answer(CompletableFuture<T> future) {
+        if (future.isDone()) {
+            return Uni.createFrom().completionStage(future);
+        }
+        // A load started by another reader completes on its context, so hop back to ours. Waiting on a copy keeps a
+        // cancelled reader from cancelling the load for everyone else.
+        Uni<T> shared = Uni.createFrom().completionStage(future.thenApply(Function.identity()));
+        Context context = Vertx.currentContext();
+        return context != null ? shared.emitOn(task -> context.runOnContext(ignored -> task.run())) : shared;
+    }
+
+    private static int weigh(String externalIdentifier, Logo logo) {
+        // Content left in storage only costs its handle
+        long payload = logo.content() instanceof LogoContent.InMemory(var bytes) ? bytes.length : 0;
+        return (int) Math.min(Integer.MAX_VALUE, payload + ENTRY_OVERHEAD_BYTES);
+    }
+}
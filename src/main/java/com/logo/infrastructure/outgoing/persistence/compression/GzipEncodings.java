@@ -0,0 +1,36 @@
+package com.logo.infrastructure.outgoing.persistence.compression;
+
+import com.logo.domain.port.outgoing.LogoEncodingPort;
+import com.logo.infrastructure.outgoing.persistence.repository.LogoBlobRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Reads the gzip encodings {@link LogoCompressor} stored next to compressible content in {@code logo_blob}.
+ */
+@ApplicationScoped
+public class GzipEncodings implements LogoEncodingPort {
+
+    private final LogoCompressor logoCompressor;
+    private final LogoBlobRepository logoBlobRepository;
+
+    public GzipEncodings(LogoCompressor logoCompressor, LogoBlobRepository logoBlobRepository) {
+        this.logoCompressor = logoCompressor;
+        this.logoBlobRepository = logoBlobRepository;
+    }
+
+    @Override
+    public boolean mayBeGzipped(String contentType) {
+        return logoCompressor.compresses(contentType);
+    }
+
+    @Override
+    public Uni<byte[]> findGzip(String contentHash) {
+        return logoBlobRepository.findGzipContent(contentHash);
+    }
+
+    @Override
+    public Uni<Integer> findGzipSize(String contentHash) {
+        return logoBlobRepository.findGzipSize(contentHash);
+    }
+}
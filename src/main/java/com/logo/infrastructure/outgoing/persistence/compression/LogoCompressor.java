@@ -0,0 +1,69 @@
+package com.logo.infrastructure.outgoing.persistence.compression;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Computes the gzip encoding stored next to compressible logo content. Only configured content types are tried,
+ * which keeps already-compressed raster formats out, and an encoding that does not save at least
+ * {@code logo.compression.min-savings} of the original is dropped, so content that does not compress costs nothing
+ * at read time.
+ */
+@ApplicationScoped
+public class LogoCompressor {
+
+    private final boolean enabled;
+    private final Set<String> contentTypes;
+    private final double minSavings;
+
+    @Inject
+    public LogoCompressor(@ConfigProperty(name = "logo.compression.enabled", defaultValue = "true") boolean enabled,
+                          @ConfigProperty(name = "logo.compression.content-types", defaultValue = "image/svg+xml") List<String> contentTypes,
+                          @ConfigProperty(name = "logo.compression.min-savings", defaultValue = "0.1") double minSavings) {
+        this.enabled = enabled;
+        this.contentTypes = contentTypes.stream()
+                .map(contentType -> contentType.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.minSavings = minSavings;
+    }
+
+    /**
+     * @return Whether content of this type is tried, and so may be stored with a gzip encoding
+     */
+    public boolean compresses(String contentType) {
+        return enabled && contentType != null && contentTypes.contains(contentType.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @return The gzip encoding of the content, or null if the type is not compressible or compression does not pay off
+     */
+    public byte[] gzip(String contentType, byte[] content) {
+        if (content == null || !compresses(contentType)) {
+            return null;
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+            {
+                // Encoded once and served many times, so spend the CPU on the best ratio
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] compressed = output.toByteArray();
+        return compressed.length <= content.length * (1 - minSavings) ? compressed : null;
+    }
+}
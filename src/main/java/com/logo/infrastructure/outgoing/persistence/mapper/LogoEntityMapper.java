@@ -1,7 +1,14 @@
 package com.logo.infrastructure.outgoing.persistence.mapper;
 
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.infrastructure.outgoing.persistence.LogoContentView;
 import com.logo.infrastructure.outgoing.persistence.LogoEntity;
+import com.logo.infrastructure.outgoing.persistence.LogoMetadataView;
+import com.logo.infrastructure.outgoing.persistence.LogoRefreshView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -12,7 +19,37 @@ import static org.mapstruct.MappingConstants.ComponentModel.JAKARTA_CDI;
 public interface LogoEntityMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "blob", ignore = true)
+    @Mapping(target = "refreshedAt", source = "updatedAt")
+    @Mapping(target = "upstreamEtag", ignore = true)
+    @Mapping(target = "upstreamLastModified", ignore = true)
     LogoEntity toEntity(Logo logo);
 
-    Logo toDomain(LogoEntity entity);
+    /**
+     * Maps a logo read with its inline content.
+     */
+    Logo toDomain(LogoContentView view);
+
+    /**
+     * Maps a logo whose content is stored outside the database.
+     */
+    @Mapping(target = "content", source = "content")
+    Logo toDomain(LogoContentView view, LogoContent content);
+
+    /**
+     * Maps a logo just saved with the content it was saved with.
+     */
+    @Mapping(target = "content", source = "content")
+    Logo toDomain(LogoEntity entity, LogoContent content);
+
+    LogoMetadata toMetadata(LogoMetadataView view);
+
+    default LogoContent toContent(byte[] content) {
+        return LogoContent.of(content);
+    }
+
+    default LogoRefreshCandidate toRefreshCandidate(LogoRefreshView view) {
+        return new LogoRefreshCandidate(view.externalIdentifier(),
+                new UpstreamValidators(view.upstreamEtag(), view.upstreamLastModified()));
+    }
 }
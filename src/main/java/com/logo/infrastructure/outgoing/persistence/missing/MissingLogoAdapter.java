@@ -0,0 +1,164 @@
+package com.logo.infrastructure.outgoing.persistence.missing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.logo.domain.port.outgoing.MissingLogoPort;
+import com.logo.infrastructure.outgoing.persistence.repository.MissingLogoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.function.Supplier;
+
+/**
+ * Negative cache kept in memory and, when {@code logo.negative-cache.persistent} is set, in the logo_missing table
+ * so it survives restarts and is shared by every instance. Each in-memory entry expires when its stored expiry
+ * passes, so an entry loaded from the table does not outlive the row.
+ * <p>
+ * The in-memory layer belongs to one instance, and a purge only clears it on the instance that handled it. When
+ * persistent, in-memory entries are therefore also kept no longer than {@code logo.negative-cache.local-ttl}, after
+ * which the row is read again: a purge reaches every instance within that time. Expired rows are deleted every
+ * {@code logo.negative-cache.cleanup-interval}.
+ */
+@ApplicationScoped
+public class MissingLogoAdapter implements MissingLogoPort {
+
+    private static final Logger LOG = Logger.getLogger(MissingLogoAdapter.class);
+
+    private final MissingLogoRepository missingLogoRepository;
+    private final boolean enabled;
+    private final boolean persistent;
+    private final Duration ttl;
+    private final Duration localTtl;
+    private final Supplier<OffsetDateTime> clock;
+    private final Cache<String, OffsetDateTime> cache;
+
+    @Inject
+    public MissingLogoAdapter(MissingLogoRepository missingLogoRepository,
+                              MeterRegistry meterRegistry,
+                              @ConfigProperty(name = "logo.negative-cache.enabled", defaultValue = "true") boolean enabled,
+                              @ConfigProperty(name = "logo.negative-cache.persistent", defaultValue = "false") boolean persistent,
+                              @ConfigProperty(name = "logo.negative-cache.ttl", defaultValue = "PT1H") Duration ttl,
+                              @ConfigProperty(name = "logo.negative-cache.local-ttl", defaultValue = "PT1M") Duration localTtl,
+                              @ConfigProperty(name = "logo.negative-cache.max-entries", defaultValue = "100000") long maxEntries) {
+        this(missingLogoRepository, meterRegistry, enabled, persistent, ttl, localTtl, maxEntries, OffsetDateTime::now);
+    }
+
+    MissingLogoAdapter(MissingLogoRepository missingLogoRepository, MeterRegistry meterRegistry, boolean enabled,
+                       boolean persistent, Duration ttl, Duration localTtl, long maxEntries,
+                       Supplier<OffsetDateTime> clock) {
+        this.missingLogoRepository = missingLogoRepository;
+        this.enabled = enabled;
+        this.persistent = persistent;
+        this.ttl = ttl;
+        // Without the table, memory is the only copy and an entry lives for its whole ttl
+        this.localTtl = persistent ? localTtl : ttl;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilExpiry(clock, this.localTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "logo-missing");
+        LOG.info("Negative logo cache %s (ttl %s, %s)".formatted(enabled ? "enabled" : "disabled", ttl,
+                persistent ? "persisted in logo_missing, kept in memory for " + localTtl : "in memory only"));
+    }
+
+    @Override
+    public Uni<Boolean> isMissing(String externalIdentifier) {
+        if (!enabled) {
+            return Uni.createFrom().item(false);
+        }
+        if (cache.getIfPresent(externalIdentifier) != null) {
+            return Uni.createFrom().item(true);
+        }
+        if (!persistent) {
+            return Uni.createFrom().item(false);
+        }
+        return missingLogoRepository.findExpiry(externalIdentifier, clock.get())
+                .map(expiresAt -> {
+                    if (expiresAt == null) {
+                        return false;
+                    }
+                    cache.put(externalIdentifier, expiresAt);
+                    return true;
+                });
+    }
+
+    @Override
+    public Uni<Void> markMissing(String externalIdentifier) {
+        if (!enabled) {
+            return Uni.createFrom().voidItem();
+        }
+        OffsetDateTime now = clock.get();
+        OffsetDateTime expiresAt = now.plus(ttl);
+        cache.put(externalIdentifier, expiresAt);
+        if (!persistent) {
+            return Uni.createFrom().voidItem();
+        }
+        return missingLogoRepository.upsert(externalIdentifier, now, expiresAt);
+    }
+
+    @Override
+    public Uni<Boolean> purge(String externalIdentifier) {
+        boolean cached = cache.asMap().remove(externalIdentifier) != null;
+        if (!persistent) {
+            return Uni.createFrom().item(cached);
+        }
+        return missingLogoRepository.remove(externalIdentifier)
+                .map(removed -> removed || cached);
+    }
+
+    @Override
+    public Uni<Long> purgeAll() {
+        long cached = cache.estimatedSize();
+        cache.invalidateAll();
+        if (!persistent) {
+            return Uni.createFrom().item(cached);
+        }
+        return missingLogoRepository.removeAll()
+                .map(removed -> Math.max(removed, cached));
+    }
+
+    @Scheduled(every = "${logo.negative-cache.cleanup-interval:1h}", delayed = "${logo.negative-cache.cleanup-interval:1h}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> removeExpired() {
+        if (!enabled || !persistent) {
+            return Uni.createFrom().voidItem();
+        }
+        return missingLogoRepository.removeExpired(clock.get())
+                .invoke(removed -> LOG.debug("Removed %d expired missing logo entries".formatted(removed)))
+                .onFailure().invoke(throwable -> LOG.warn("Could not remove expired missing logo entries", throwable))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    /**
+     * Expires each entry at the instant stored as its value, or after {@code localTtl} if that comes first.
+     */
+    private record UntilExpiry(Supplier<OffsetDateTime> clock, Duration localTtl) implements Expiry<String, OffsetDateTime> {
+
+        @Override
+        public long expireAfterCreate(String key, OffsetDateTime expiresAt, long currentTime) {
+            return Math.max(0, Math.min(localTtl.toNanos(), Duration.between(clock.get(), expiresAt).toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, OffsetDateTime expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, OffsetDateTime expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.logo.infrastructure.outgoing.persistence.repository;
+
+import com.logo.infrastructure.outgoing.persistence.LogoBlobEntity;
+import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class LogoBlobRepository implements PanacheRepositoryBase<LogoBlobEntity, String> {
+
+    private static final String INSERT_OR_REFERENCE = """
+            INSERT INTO logo_blob (content_hash, content, gzip_content, size_bytes, ref_count, created_at)
+            VALUES (:contentHash, :content, :gzipContent, :sizeBytes, 1, CURRENT_TIMESTAMP)
+            ON CONFLICT (content_hash) DO UPDATE SET ref_count = logo_blob.ref_count + 1
+            """;
+
+    // substring on BYTEA is 1-based and returns only the slice, so the rest of the value never leaves the database
+    private static final String SELECT_CONTENT_RANGE = """
+            SELECT substring(content FROM :from FOR :length) FROM logo_blob WHERE content_hash = :contentHash
+            """;
+
+    private static final String SELECT_GZIP_CONTENT = """
+            SELECT gzip_content FROM logo_blob WHERE content_hash = :contentHash
+            """;
+
+    private static final String SELECT_GZIP_SIZE = """
+            SELECT octet_length(gzip_content) FROM logo_blob WHERE content_hash = :contentHash
+            """;
+
+    /**
+     * Adds a reference to an already stored blob without touching its content.
+     * Must run inside the caller's transaction.
+     * @return Uni containing true if the blob existed, false if its content still has to be stored
+     */
+    public Uni<Boolean> addReference(String contentHash) {
+        return update("refCount = refCount + 1 where contentHash = ?1", contentHash)
+                .map(updated -> updated > 0);
+    }
+
+    /**
+     * Drops a reference to a blob, deleting the row (and with it the blob's variants) once nothing points at it.
+     * Content kept in a file is left in place: files are named after their hash, so storing the same content again
+     * reuses it. Must run inside the caller's transaction.
+     */
+    public Uni<Void> release(String contentHash) {
+        return update("refCount = refCount - 1 where contentHash = ?1", contentHash)
+                .flatMap(ignored -> delete("contentHash = ?1 and refCount <= 0", contentHash))
+                .replaceWithVoid();
+    }
+
+    /**
+     * Reads part of inline content.
+     * @return Uni containing the bytes, or a null item when the blob is not stored or its content is kept elsewhere
+     */
+    @WithSession
+    public Uni<byte[]> findContentRange(String contentHash, long offset, int length) {
+        return getSession()
+                .flatMap(session -> session.createNativeQuery(SELECT_CONTENT_RANGE, byte[].class)
+                        .setParameter("from", Math.toIntExact(offset + 1))
+                        .setParameter("length", length)
+                        .setParameter("contentHash", contentHash)
+                        .getResultList())
+                .map(rows -> rows.isEmpty() ? null : rows.get(0));
+    }
+
+    /**
+     * Reads the gzip encoding of content, leaving the content itself in the database.
+     * @return Uni containing the encoding, or a null item when the blob is not stored or has none
+     */
+    @WithSession
+    public Uni<byte[]> findGzipContent(String contentHash) {
+        return getSession()
+                .flatMap(session -> session.createNativeQuery(SELECT_GZIP_CONTENT, byte[].class)
+                        .setParameter("contentHash", contentHash)
+                        .getResultList())
+                .map(rows -> rows.isEmpty() ? null : rows.get(0));
+    }
+
+    /**
+     * @return Uni containing the length of the gzip encoding of content, or a null item when the blob is not stored
+     * or has none
+     */
+    @WithSession
+    public Uni<Integer> findGzipSize(String contentHash) {
+        return getSession()
+                .flatMap(session -> session.createNativeQuery(SELECT_GZIP_SIZE, Integer.class)
+                        .setParameter("contentHash", contentHash)
+                        .getResultList())
+                .map(rows -> rows.isEmpty() ? null : rows.get(0));
+    }
+
+    /**
+     * Registers a new blob with one reference. If another transaction stored the same content in the meantime,
+     * its row is referenced instead. Must run inside the caller's transaction.
+     * @param inlineContent The bytes to keep in the row, or null when the content is stored outside the database
+     * @param gzipContent The gzip encoding of the content, or null when it is not worth keeping
+     */
+    public Uni<Void> insertOrReference(String contentHash, byte[] inlineContent, byte[] gzipContent, long sizeBytes) {
+        return getSession()
+                .flatMap(session -> session.createNativeQuery(INSERT_OR_REFERENCE)
+                        .setParameter("contentHash", contentHash)
+                        .setParameter("content", inlineContent)
+                        .setParameter("gzipContent", gzipContent)
+                        .setParameter("sizeBytes", sizeBytes)
+                        .executeUpdate())
+                .replaceWithVoid();
+    }
+}
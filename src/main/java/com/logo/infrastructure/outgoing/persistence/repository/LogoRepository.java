@@ -1,23 +1,88 @@
 package com.logo.infrastructure.outgoing.persistence.repository;
 
+import com.logo.domain.model.LogoSource;
+import com.logo.infrastructure.outgoing.persistence.LogoContentView;
 import com.logo.infrastructure.outgoing.persistence.LogoEntity;
+import com.logo.infrastructure.outgoing.persistence.LogoMetadataView;
+import com.logo.infrastructure.outgoing.persistence.LogoRefreshView;
 import io.quarkus.hibernate.reactive.panache.PanacheRepository;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
-import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.LockModeType;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @ApplicationScoped
 public class LogoRepository implements PanacheRepository<LogoEntity> {
 
     @WithSession
-    public Uni<LogoEntity> findByExternalIdentifier(String externalIdentifier) {
-        return find("externalIdentifier", externalIdentifier).firstResult();
+    public Uni<LogoContentView> findByExternalIdentifier(String externalIdentifier) {
+        return find("externalIdentifier", externalIdentifier)
+                .project(LogoContentView.class)
+                .firstResult();
+    }
+
+    @WithSession
+    public Uni<List<LogoContentView>> findByExternalIdentifiers(Collection<String> externalIdentifiers) {
+        return find("externalIdentifier in ?1", externalIdentifiers)
+                .project(LogoContentView.class)
+                .list();
+    }
+
+    @WithSession
+    public Uni<List<String>> findExternalIdentifiersIn(Collection<String> externalIdentifiers) {
+        return getSession()
+                .flatMap(session -> session.createSelectionQuery(
+                                "select l.externalIdentifier from LogoEntity l where l.externalIdentifier in :identifiers",
+                                String.class)
+                        .setParameter("identifiers", externalIdentifiers)
+                        .getResultList());
+    }
+
+    @WithSession
+    public Uni<LogoMetadataView> findMetadataByExternalIdentifier(String externalIdentifier) {
+        return find("externalIdentifier", externalIdentifier)
+                .project(LogoMetadataView.class)
+                .firstResult();
+    }
+
+    /**
+     * Loads a logo row without its content and locks it until the caller's transaction ends, so two instances
+     * refreshing the same logo apply their changes one after the other. Must run inside the caller's transaction.
+     */
+    public Uni<LogoEntity> findForUpdate(String externalIdentifier) {
+        return find("externalIdentifier", externalIdentifier)
+                .withLock(LockModeType.PESSIMISTIC_WRITE)
+                .firstResult();
+    }
+
+    /**
+     * Logos from the given source not checked since the cutoff, least recently checked first.
+     */
+    @WithSession
+    public Uni<List<LogoRefreshView>> findRefreshedBefore(LogoSource source, OffsetDateTime cutoff, int limit) {
+        return find("source = ?1 and refreshedAt < ?2", Sort.by("refreshedAt"), source, cutoff)
+                .project(LogoRefreshView.class)
+                .page(Page.ofSize(limit))
+                .list();
     }
 
-    @WithTransaction
+    /**
+     * Answers from the unique index on external_identifier alone; a read needs no transaction.
+     */
+    @WithSession
     public Uni<Boolean> existsByExternalIdentifier(String externalIdentifier) {
-        return find("externalIdentifier", externalIdentifier).count()
-                .map(count -> count > 0);
+        return getSession()
+                .flatMap(session -> session.createSelectionQuery(
+                                "select l.id from LogoEntity l where l.externalIdentifier = :externalIdentifier", Long.class)
+                        .setParameter("externalIdentifier", externalIdentifier)
+                        .setMaxResults(1)
+                        .getResultList())
+                .map(ids -> !ids.isEmpty());
     }
 }
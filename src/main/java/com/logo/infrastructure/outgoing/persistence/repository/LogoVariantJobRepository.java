@@ -0,0 +1,86 @@
+package com.logo.infrastructure.outgoing.persistence.repository;
+
+import com.logo.infrastructure.outgoing.persistence.LogoVariantJobEntity;
+import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@ApplicationScoped
+public class LogoVariantJobRepository implements PanacheRepositoryBase<LogoVariantJobEntity, Long> {
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO logo_variant_job (external_identifier, content_hash, size, format, status, attempts, available_at, created_at)
+            VALUES (:externalIdentifier, :contentHash, :size, :format, 'PENDING', 0, :now, :now)
+            ON CONFLICT (content_hash, size, format) DO NOTHING
+            """;
+
+    private static final String SELECT_DUE_FOR_UPDATE = """
+            SELECT * FROM logo_variant_job
+            WHERE status = 'PENDING' AND available_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    /**
+     * Inserts the new jobs in one transaction; jobs already queued for the same variant are left as they are.
+     */
+    @WithTransaction
+    public Uni<Void> insertIfAbsent(List<LogoVariantJobEntity> jobs, OffsetDateTime now) {
+        return getSession()
+                .flatMap(session -> Multi.createFrom().iterable(jobs)
+                        .onItem().transformToUniAndConcatenate(job -> session.createNativeQuery(INSERT_IF_ABSENT)
+                                .setParameter("externalIdentifier", job.externalIdentifier)
+                                .setParameter("contentHash", job.contentHash)
+                                .setParameter("size", job.size)
+                                .setParameter("format", job.format)
+                                .setParameter("now", now)
+                                .executeUpdate())
+                        .collect().last())
+                .replaceWithVoid();
+    }
+
+    /**
+     * Locks up to {@code limit} due jobs, skipping rows locked by other instances, and leases them until
+     * {@code now + lease}. The lease and the attempt count are written when the transaction commits.
+     */
+    @WithTransaction
+    public Uni<List<LogoVariantJobEntity>> claimDue(int limit, Duration lease, OffsetDateTime now) {
+        return getSession()
+                .flatMap(session -> session.createNativeQuery(SELECT_DUE_FOR_UPDATE, LogoVariantJobEntity.class)
+                        .setParameter("now", now)
+                        .setParameter("limit", limit)
+                        .getResultList())
+                .invoke(jobs -> jobs.forEach(job -> {
+                    job.attempts++;
+                    job.availableAt = now.plus(lease);
+                }));
+    }
+
+    @WithTransaction
+    public Uni<Boolean> remove(long id) {
+        return deleteById(id);
+    }
+
+    @WithTransaction
+    public Uni<Integer> reschedule(long id, OffsetDateTime availableAt, String lastError) {
+        return update("availableAt = ?1, lastError = ?2 where id = ?3", availableAt, lastError, id);
+    }
+
+    @WithTransaction
+    public Uni<Integer> abandon(long id, String lastError) {
+        return update("status = ?1, lastError = ?2 where id = ?3", LogoVariantJobEntity.Status.ABANDONED, lastError, id);
+    }
+
+    @WithSession
+    public Uni<Long> countPending() {
+        return count("status", LogoVariantJobEntity.Status.PENDING);
+    }
+}
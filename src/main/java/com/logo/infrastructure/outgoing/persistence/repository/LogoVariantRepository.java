@@ -0,0 +1,42 @@
+package com.logo.infrastructure.outgoing.persistence.repository;
+
+import com.logo.infrastructure.outgoing.persistence.LogoVariantEntity;
+import com.logo.infrastructure.outgoing.persistence.LogoVariantKey;
+import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.OffsetDateTime;
+
+@ApplicationScoped
+public class LogoVariantRepository implements PanacheRepositoryBase<LogoVariantEntity, LogoVariantKey> {
+
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO logo_variant (content_hash, size, format, content, created_at)
+            VALUES (:contentHash, :size, :format, :content, :createdAt)
+            ON CONFLICT (content_hash, size, format) DO NOTHING
+            """;
+
+    @WithSession
+    public Uni<LogoVariantEntity> findByKey(LogoVariantKey key) {
+        return findById(key);
+    }
+
+    /**
+     * Stores the variant unless another instance stored the same one first.
+     */
+    @WithTransaction
+    public Uni<Void> insertIfAbsent(LogoVariantKey key, byte[] content, OffsetDateTime createdAt) {
+        return getSession()
+                .flatMap(session -> session.createNativeQuery(INSERT_IF_ABSENT)
+                        .setParameter("contentHash", key.contentHash)
+                        .setParameter("size", key.size)
+                        .setParameter("format", key.format)
+                        .setParameter("content", content)
+                        .setParameter("createdAt", createdAt)
+                        .executeUpdate())
+                .replaceWithVoid();
+    }
+}
@@ -0,0 +1,63 @@
+package com.logo.infrastructure.outgoing.persistence.repository;
+
+import com.logo.infrastructure.outgoing.persistence.MissingLogoEntity;
+import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.OffsetDateTime;
+
+@ApplicationScoped
+public class MissingLogoRepository implements PanacheRepositoryBase<MissingLogoEntity, String> {
+
+    private static final String UPSERT = """
+            INSERT INTO logo_missing (external_identifier, recorded_at, expires_at)
+            VALUES (:externalIdentifier, :recordedAt, :expiresAt)
+            ON CONFLICT (external_identifier) DO UPDATE SET recorded_at = EXCLUDED.recorded_at, expires_at = EXCLUDED.expires_at
+            """;
+
+    /**
+     * @return Uni containing the expiry of a live entry, or a null item if there is none
+     */
+    @WithSession
+    public Uni<OffsetDateTime> findExpiry(String externalIdentifier, OffsetDateTime now) {
+        return find("externalIdentifier = ?1 and expiresAt > ?2", externalIdentifier, now)
+                .firstResult()
+                .map(entity -> entity != null ? entity.expiresAt : null);
+    }
+
+    @WithTransaction
+    public Uni<Void> upsert(String externalIdentifier, OffsetDateTime recordedAt, OffsetDateTime expiresAt) {
+        return getSession()
+                .flatMap(session -> session.createNativeQuery(UPSERT)
+                        .setParameter("externalIdentifier", externalIdentifier)
+                        .setParameter("recordedAt", recordedAt)
+                        .setParameter("expiresAt", expiresAt)
+                        .executeUpdate())
+                .replaceWithVoid();
+    }
+
+    @WithTransaction
+    public Uni<Boolean> remove(String externalIdentifier) {
+        return deleteById(externalIdentifier);
+    }
+
+    /**
+     * Removes every entry, expired ones included.
+     */
+    @WithTransaction
+    public Uni<Long> removeAll() {
+        return deleteAll();
+    }
+
+    /**
+     * Removes the entries whose expiry has passed; live entries are left alone.
+     * @return Uni containing the number of entries removed
+     */
+    @WithTransaction
+    public Uni<Long> removeExpired(OffsetDateTime now) {
+        return delete("expiresAt <= ?1", now);
+    }
+}
@@ -0,0 +1,82 @@
+package com.logo.infrastructure.outgoing.persistence.variant;
+
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.LogoVariantJob;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import com.logo.infrastructure.outgoing.persistence.LogoVariantJobEntity;
+import com.logo.infrastructure.outgoing.persistence.repository.LogoVariantJobRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@ApplicationScoped
+public class LogoVariantJobAdapter implements LogoVariantJobPort {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final LogoVariantJobRepository logoVariantJobRepository;
+
+    public LogoVariantJobAdapter(LogoVariantJobRepository logoVariantJobRepository) {
+        this.logoVariantJobRepository = logoVariantJobRepository;
+    }
+
+    @Override
+    public Uni<Void> enqueue(List<LogoVariantJob> jobs) {
+        if (jobs.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<LogoVariantJobEntity> entities = jobs.stream()
+                .map(LogoVariantJobAdapter::toEntity)
+                .toList();
+        return logoVariantJobRepository.insertIfAbsent(entities, OffsetDateTime.now());
+    }
+
+    @Override
+    public Uni<List<LogoVariantJob>> claim(int limit, Duration lease) {
+        return logoVariantJobRepository.claimDue(limit, lease, OffsetDateTime.now())
+                .map(entities -> entities.stream()
+                        .map(LogoVariantJobAdapter::toDomain)
+                        .toList());
+    }
+
+    @Override
+    public Uni<Void> complete(long jobId) {
+        return logoVariantJobRepository.remove(jobId).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> retry(long jobId, OffsetDateTime retryAt, String error) {
+        return logoVariantJobRepository.reschedule(jobId, retryAt, truncate(error)).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> abandon(long jobId, String error) {
+        return logoVariantJobRepository.abandon(jobId, truncate(error)).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Long> countPending() {
+        return logoVariantJobRepository.countPending();
+    }
+
+    private static LogoVariantJobEntity toEntity(LogoVariantJob job) {
+        LogoVariantJobEntity entity = new LogoVariantJobEntity();
+        entity.externalIdentifier = job.externalIdentifier();
+        entity.contentHash = job.contentHash();
+        entity.size = job.size();
+        entity.format = job.format().name();
+        return entity;
+    }
+
+    private static LogoVariantJob toDomain(LogoVariantJobEntity entity) {
+        return new LogoVariantJob(entity.id, entity.externalIdentifier, entity.contentHash, entity.size,
+                ImageFormat.valueOf(entity.format), entity.attempts);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
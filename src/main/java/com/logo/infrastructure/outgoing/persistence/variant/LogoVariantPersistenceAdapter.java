@@ -0,0 +1,66 @@
+package com.logo.infrastructure.outgoing.persistence.variant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.LogoVariant;
+import com.logo.domain.port.outgoing.LogoVariantPort;
+import com.logo.infrastructure.outgoing.persistence.LogoVariantEntity;
+import com.logo.infrastructure.outgoing.persistence.LogoVariantKey;
+import com.logo.infrastructure.outgoing.persistence.repository.LogoVariantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Stores variants in the logo_variant table, with the most used ones kept in memory. Variants are immutable for a
+ * given key, so cached entries never need invalidating; they are only bounded by their payload size.
+ */
+@ApplicationScoped
+public class LogoVariantPersistenceAdapter implements LogoVariantPort {
+
+    private final LogoVariantRepository logoVariantRepository;
+    private final Cache<LogoVariantKey, LogoVariant> cache;
+
+    @Inject
+    public LogoVariantPersistenceAdapter(LogoVariantRepository logoVariantRepository,
+                                         MeterRegistry meterRegistry,
+                                         @ConfigProperty(name = "logo.variants.cache.max-bytes", defaultValue = "16777216") long maxBytes) {
+        this.logoVariantRepository = logoVariantRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((LogoVariantKey key, LogoVariant variant) -> variant.content().length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "logo-variant");
+    }
+
+    @Override
+    public Uni<LogoVariant> find(String contentHash, int size, ImageFormat format) {
+        LogoVariantKey key = new LogoVariantKey(contentHash, size, format.name());
+        LogoVariant cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return logoVariantRepository.findByKey(key)
+                .map(entity -> {
+                    if (entity == null) {
+                        return null;
+                    }
+                    LogoVariant variant = new LogoVariant(contentHash, size, format, entity.content, entity.createdAt);
+                    cache.put(key, variant);
+                    return variant;
+                });
+    }
+
+    @Override
+    public Uni<LogoVariant> save(LogoVariant variant) {
+        LogoVariantKey key = new LogoVariantKey(variant.contentHash(), variant.size(), variant.format().name());
+        return logoVariantRepository.insertIfAbsent(key, variant.content(), variant.createdAt())
+                .invoke(() -> cache.put(key, variant))
+                .replaceWith(variant);
+    }
+}
@@ -0,0 +1,84 @@
+package com.logo.infrastructure.tracing;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs port calls inside spans. The span's context is passed explicitly to the call's subscription, which is made
+ * with it current and restores the caller's context before returning, so what the call starts when subscribed to
+ * (SQL statements, the logo.dev client) is recorded as its children without a scope outliving the callback that
+ * opened it. The span ends when the call terminates.
+ */
+@ApplicationScoped
+public class PortSpans {
+
+    static final AttributeKey<String> IDENTIFIER = AttributeKey.stringKey("logo.identifier");
+    static final AttributeKey<Boolean> FOUND = AttributeKey.booleanKey("logo.found");
+    static final AttributeKey<Long> PAYLOAD_BYTES = AttributeKey.longKey("logo.payload.bytes");
+    static final AttributeKey<Boolean> NOT_MODIFIED = AttributeKey.booleanKey("logo.upstream.not_modified");
+    static final AttributeKey<String> ERROR_CODE = AttributeKey.stringKey("logo.error.code");
+
+    private final Tracer tracer;
+
+    @Inject
+    public PortSpans(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * @param name Span name, {@code Port.method}
+     * @param identifier The logo identifier the call is about
+     * @param call The port call, made once the returned Uni is subscribed to
+     * @param onItem Adds attributes describing the call's item to the span
+     */
+    public <T> Uni<T> trace(String name, String identifier, Supplier<Uni<T>> call, BiConsumer<Span, T> onItem) {
+        return Uni.createFrom().deferred(() -> {
+            Context parent = Context.current();
+            Span span = tracer.spanBuilder(name)
+                    .setParent(parent)
+                    .setAttribute(IDENTIFIER, identifier)
+                    .startSpan();
+            Executor inSpan = parent.with(span).wrap((Executor) Runnable::run);
+            return Uni.createFrom().deferred(call)
+                    .runSubscriptionOn(inSpan)
+                    .onItemOrFailure().invoke((item, failure) -> {
+                        if (failure == null) {
+                            onItem.accept(span, item);
+                        }
+                        end(span, failure);
+                    })
+                    .onCancellation().invoke(() -> end(span, null));
+        });
+    }
+
+    private static void end(Span span, Throwable failure) {
+        if (failure != null) {
+            if (failure instanceof ServiceException serviceException) {
+                span.setAttribute(ERROR_CODE, serviceException.getError().name());
+            }
+            // A logo upstream does not have is an answer, not a failed call
+            if (!isLogoNotFound(failure)) {
+                span.recordException(failure);
+                span.setStatus(StatusCode.ERROR);
+            }
+        }
+        span.end();
+    }
+
+    private static boolean isLogoNotFound(Throwable throwable) {
+        return throwable instanceof ServiceException serviceException
+                && serviceException.getError() == Errors.LOGO_NOT_FOUND;
+    }
+}
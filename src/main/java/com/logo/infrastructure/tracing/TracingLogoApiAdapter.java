@@ -0,0 +1,46 @@
+package com.logo.infrastructure.tracing;
+
+import com.logo.domain.model.UpstreamFetch;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.domain.port.outgoing.LogoApiPort;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+
+/**
+ * Traces every call to logo.dev, including any wait for the rate limiter, with the bytes downloaded or the error
+ * code it failed with.
+ */
+@Decorator
+@Priority(5)
+public class TracingLogoApiAdapter implements LogoApiPort {
+
+    private final LogoApiPort delegate;
+    private final PortSpans portSpans;
+
+    @Inject
+    public TracingLogoApiAdapter(@Delegate LogoApiPort delegate, PortSpans portSpans) {
+        this.delegate = delegate;
+        this.portSpans = portSpans;
+    }
+
+    @Override
+    public Uni<byte[]> fetchLogo(String ticker) {
+        return portSpans.trace("LogoApiPort.fetchLogo", ticker, () -> delegate.fetchLogo(ticker),
+                (span, content) -> span.setAttribute(PortSpans.PAYLOAD_BYTES, (long) content.length));
+    }
+
+    @Override
+    public Uni<UpstreamFetch> fetchLogoIfChanged(String ticker, UpstreamValidators validators) {
+        return portSpans.trace("LogoApiPort.fetchLogoIfChanged", ticker, () -> delegate.fetchLogoIfChanged(ticker, validators),
+                (span, fetch) -> {
+                    switch (fetch) {
+                        case UpstreamFetch.Modified modified ->
+                                span.setAttribute(PortSpans.PAYLOAD_BYTES, (long) modified.content().length);
+                        case UpstreamFetch.NotModified ignored -> span.setAttribute(PortSpans.NOT_MODIFIED, true);
+                    }
+                });
+    }
+}
@@ -0,0 +1,98 @@
+package com.logo.infrastructure.tracing;
+
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Traces single logo gets and saves. It sits outside the read cache, so a get answered from memory shows up as a
+ * short span with no SQL underneath, and a miss shows the statements and any wait for a pooled connection. Batch
+ * and background operations are not traced here.
+ */
+@Decorator
+@Priority(5)
+public class TracingLogoPersistenceAdapter implements LogoPersistencePort {
+
+    private final LogoPersistencePort delegate;
+    private final PortSpans portSpans;
+
+    @Inject
+    public TracingLogoPersistenceAdapter(@Delegate LogoPersistencePort delegate, PortSpans portSpans) {
+        this.delegate = delegate;
+        this.portSpans = portSpans;
+    }
+
+    @Override
+    public Uni<Logo> save(Logo logo) {
+        return portSpans.trace("LogoPersistencePort.save", logo.externalIdentifier(), () -> delegate.save(logo),
+                (span, saved) -> {
+                    if (logo.content() != null) {
+                        span.setAttribute(PortSpans.PAYLOAD_BYTES, logo.content().size());
+                    }
+                });
+    }
+
+    @Override
+    public Uni<List<Logo>> saveAll(List<Logo> logos) {
+        return delegate.saveAll(logos);
+    }
+
+    @Override
+    public Uni<Logo> get(String externalIdentifier) {
+        return portSpans.trace("LogoPersistencePort.get", externalIdentifier, () -> delegate.get(externalIdentifier),
+                (span, logo) -> {
+                    span.setAttribute(PortSpans.FOUND, logo != null);
+                    if (logo != null && logo.content() != null) {
+                        span.setAttribute(PortSpans.PAYLOAD_BYTES, logo.content().size());
+                    }
+                });
+    }
+
+    @Override
+    public Uni<List<Logo>> getAll(Collection<String> externalIdentifiers) {
+        return delegate.getAll(externalIdentifiers);
+    }
+
+    @Override
+    public Uni<Set<String>> findStoredIdentifiers(Collection<String> externalIdentifiers) {
+        return delegate.findStoredIdentifiers(externalIdentifiers);
+    }
+
+    @Override
+    public Uni<LogoMetadata> getMetadata(String externalIdentifier) {
+        return delegate.getMetadata(externalIdentifier);
+    }
+
+    @Override
+    public Uni<byte[]> getContentRange(String contentHash, long offset, int length) {
+        return delegate.getContentRange(contentHash, offset, length);
+    }
+
+    @Override
+    public Uni<List<LogoRefreshCandidate>> findRefreshedBefore(LogoSource source, OffsetDateTime cutoff, int limit) {
+        return delegate.findRefreshedBefore(source, cutoff, limit);
+    }
+
+    @Override
+    public Uni<Boolean> refresh(Logo logo, UpstreamValidators validators, OffsetDateTime refreshedAt) {
+        return delegate.refresh(logo, validators, refreshedAt);
+    }
+
+    @Override
+    public Uni<Void> markRefreshed(String externalIdentifier, UpstreamValidators validators, OffsetDateTime refreshedAt) {
+        return delegate.markRefreshed(externalIdentifier, validators, refreshedAt);
+    }
+}
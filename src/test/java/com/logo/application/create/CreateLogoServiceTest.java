@@ -1,27 +1,42 @@
 package com.logo.application.create;
 
+import com.logo.application.variant.LogoVariantPregenerator;
 import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.LogoVariantJob;
 import com.logo.domain.port.incoming.CreateLogoCommand;
 import com.logo.domain.port.incoming.CreateLogoUseCase;
+import com.logo.domain.port.outgoing.LogoImagePort;
 import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CreateLogoServiceTest {
 
     private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+    private final LogoVariantJobPort logoVariantJobPort = mock(LogoVariantJobPort.class);
+    private final LogoImagePort logoImagePort = mock(LogoImagePort.class);
+    private final LogoVariantPregenerator logoVariantPregenerator = new LogoVariantPregenerator(
+            logoVariantJobPort, logoImagePort, true, List.of(64), List.of(ImageFormat.PNG));
     
-    private final CreateLogoService createLogoService = new CreateLogoService(logoPersistencePort);
+    private final CreateLogoService createLogoService = new CreateLogoService(logoPersistencePort, logoVariantPregenerator);
     
     private CreateLogoCommand createLogoCommand;
     private Logo savedLogo;
@@ -41,12 +56,16 @@ class CreateLogoServiceTest {
         savedLogo = new Logo(
                 "AMZN",
                 "https://img.logo.dev/ticker/AMZN",
-                "logo-data".getBytes(),
+                LogoContent.of("logo-data".getBytes()),
                 "AMZN.jpeg",
                 "image/jpeg",
+                "content-hash",
+                LogoSource.UPLOADED,
                 now,
                 now
         );
+        when(logoImagePort.canEncode(ImageFormat.PNG)).thenReturn(true);
+        when(logoVariantJobPort.enqueue(anyList())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @Test
@@ -68,7 +87,27 @@ class CreateLogoServiceTest {
         assertThat(success.logo().resourceUrl()).isEqualTo("https://img.logo.dev/ticker/AMZN");
         assertThat(success.logo().fileName()).isEqualTo("AMZN.jpeg");
         assertThat(success.logo().contentType()).isEqualTo("image/jpeg");
-        assertThat(success.logo().fileContent()).isEqualTo("logo-data".getBytes());
+        assertThat(success.logo().content()).isInstanceOfSatisfying(LogoContent.InMemory.class,
+                content -> assertThat(content.bytes()).isEqualTo("logo-data".getBytes()));
+    }
+
+    @Test
+    void shouldComputeContentHashBeforeSaving() {
+        // Given
+        ArgumentCaptor<Logo> logoCaptor = ArgumentCaptor.forClass(Logo.class);
+        when(logoPersistencePort.save(any(Logo.class)))
+                .thenReturn(Uni.createFrom().item(savedLogo));
+
+        // When
+        createLogoService.execute(createLogoCommand)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted();
+
+        // Then
+        verify(logoPersistencePort).save(logoCaptor.capture());
+        assertThat(logoCaptor.getValue().contentHash())
+                .isEqualTo("b854ea83ceb90567d2bf9c53ea5b5099092f309878c183cb799ad94c0afae40d");
+        assertThat(logoCaptor.getValue().source()).isEqualTo(LogoSource.UPLOADED);
     }
 
     @Test
@@ -88,4 +127,56 @@ class CreateLogoServiceTest {
         CreateLogoUseCase.Result.Error error = (CreateLogoUseCase.Result.Error) result;
         assertThat(error.error()).isEqualTo(Errors.EXTERNAL_SERVICE_ERROR);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldQueueConfiguredVariantsOfCreatedLogo() {
+        // Given
+        when(logoPersistencePort.save(any(Logo.class)))
+                .thenReturn(Uni.createFrom().item(savedLogo));
+
+        // When
+        createLogoService.execute(createLogoCommand)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted();
+
+        // Then
+        verify(logoVariantJobPort).enqueue(List.of(LogoVariantJob.of(savedLogo, 64, ImageFormat.PNG)));
+    }
+
+    @Test
+    void shouldCreateLogoEvenIfVariantsCannotBeQueued() {
+        // Given
+        when(logoPersistencePort.save(any(Logo.class)))
+                .thenReturn(Uni.createFrom().item(savedLogo));
+        when(logoVariantJobPort.enqueue(anyList()))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("Database error")));
+
+        // When
+        CreateLogoUseCase.Result result = createLogoService.execute(createLogoCommand)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isInstanceOf(CreateLogoUseCase.Result.Success.class);
+    }
+
+    @Test
+    void shouldNotWaitForVariantsToBeQueued() {
+        // Given
+        when(logoPersistencePort.save(any(Logo.class)))
+                .thenReturn(Uni.createFrom().item(savedLogo));
+        when(logoVariantJobPort.enqueue(anyList()))
+                .thenReturn(Uni.createFrom().nothing());
+
+        // When
+        CreateLogoUseCase.Result result = createLogoService.execute(createLogoCommand)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isInstanceOf(CreateLogoUseCase.Result.Success.class);
+        verify(logoVariantJobPort).enqueue(anyList());
+    }
+}
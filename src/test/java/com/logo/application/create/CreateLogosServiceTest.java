@@ -0,0 +1,97 @@
+package com.logo.application.create;
+
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.incoming.CreateLogoCommand;
+import com.logo.domain.port.incoming.CreateLogosUseCase;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CreateLogosServiceTest {
+
+    private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+    private final LogoVariantPregenerator logoVariantPregenerator = new LogoVariantPregenerator(
+            mock(LogoVariantJobPort.class), mock(LogoImagePort.class), false, List.of(), List.of());
+
+    private final CreateLogosService createLogosService = new CreateLogosService(logoPersistencePort, logoVariantPregenerator);
+
+    private final List<CreateLogoCommand> commands = List.of(command("AMZN"), command("MSFT"));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSaveAllLogosInOneBatch() {
+        // Given
+        when(logoPersistencePort.saveAll(anyList()))
+                .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+
+        // When
+        List<CreateLogosUseCase.Result> results = createLogosService.execute(commands)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(results).hasSize(2).allMatch(CreateLogosUseCase.Result.Success.class::isInstance);
+        ArgumentCaptor<List<Logo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logoPersistencePort).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(Logo::externalIdentifier).containsExactly("AMZN", "MSFT");
+        assertThat(captor.getValue()).allSatisfy(logo -> assertThat(logo.source()).isEqualTo(LogoSource.UPLOADED));
+        verify(logoPersistencePort, never()).save(any());
+    }
+
+    @Test
+    void shouldReportEachItemWhenBatchIsRejected() {
+        // Given
+        when(logoPersistencePort.saveAll(anyList()))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("duplicate key")));
+        when(logoPersistencePort.save(any(Logo.class))).thenAnswer(invocation -> {
+            Logo logo = invocation.getArgument(0);
+            return "AMZN".equals(logo.externalIdentifier())
+                    ? Uni.createFrom().failure(new RuntimeException("duplicate key"))
+                    : Uni.createFrom().item(logo);
+        });
+
+        // When
+        List<CreateLogosUseCase.Result> results = createLogosService.execute(commands)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isEqualTo(new CreateLogosUseCase.Result.Error("AMZN", Errors.EXTERNAL_SERVICE_ERROR));
+        assertThat(results.get(1)).isInstanceOf(CreateLogosUseCase.Result.Success.class);
+    }
+
+    @Test
+    void shouldNotTouchPersistenceForEmptyBatch() {
+        // When
+        List<CreateLogosUseCase.Result> results = createLogosService.execute(List.of()).await().indefinitely();
+
+        // Then
+        assertThat(results).isEmpty();
+        verify(logoPersistencePort, never()).saveAll(anyList());
+    }
+
+    private static CreateLogoCommand command(String identifier) {
+        return new CreateLogoCommand(identifier, "https://img.logo.dev/ticker/" + identifier,
+                (identifier + "-data").getBytes(), identifier + ".png", "image/png");
+    }
+}
@@ -0,0 +1,67 @@
+package com.logo.application.get;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.port.incoming.GetLogoEncodingUseCase;
+import com.logo.domain.port.outgoing.LogoEncodingPort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GetLogoEncodingServiceTest {
+
+    private final LogoEncodingPort logoEncodingPort = mock(LogoEncodingPort.class);
+
+    private final GetLogoEncodingService getLogoEncodingService = new GetLogoEncodingService(logoEncodingPort);
+
+    @Test
+    void shouldReturnStoredGzipEncoding() {
+        // Given
+        byte[] gzip = {0x1f, (byte) 0x8b, 8};
+        when(logoEncodingPort.findGzip("content-hash")).thenReturn(Uni.createFrom().item(gzip));
+
+        // When
+        GetLogoEncodingUseCase.Result result = getLogoEncodingService.execute("content-hash")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isInstanceOfSatisfying(GetLogoEncodingUseCase.Result.Success.class,
+                success -> assertThat(success.content()).isEqualTo(gzip));
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenNoEncodingIsStored() {
+        // Given
+        when(logoEncodingPort.findGzipSize("content-hash")).thenReturn(Uni.createFrom().nullItem());
+
+        // When
+        GetLogoEncodingUseCase.SizeResult result = getLogoEncodingService.size("content-hash")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoEncodingUseCase.SizeResult.NotFound());
+    }
+
+    @Test
+    void shouldReturnErrorWhenStorageFails() {
+        // Given
+        when(logoEncodingPort.findGzip("content-hash"))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("connection reset")));
+
+        // When
+        GetLogoEncodingUseCase.Result result = getLogoEncodingService.execute("content-hash")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoEncodingUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR));
+    }
+}
@@ -0,0 +1,71 @@
+package com.logo.application.get;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.incoming.GetLogoMetadataUseCase;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GetLogoMetadataServiceTest {
+
+    private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+
+    private final GetLogoMetadataService getLogoMetadataService = new GetLogoMetadataService(logoPersistencePort);
+
+    @Test
+    void shouldReturnSuccessWhenLogoIsStored() {
+        // Given
+        OffsetDateTime now = OffsetDateTime.now();
+        LogoMetadata metadata = new LogoMetadata("AMZN", "https://img.logo.dev/ticker/AMZN",
+                "AMZN.jpeg", "image/jpeg", "content-hash", 9L, LogoSource.UPLOADED, now, now);
+        when(logoPersistencePort.getMetadata("AMZN")).thenReturn(Uni.createFrom().item(metadata));
+
+        // When
+        GetLogoMetadataUseCase.Result result = getLogoMetadataService.execute("AMZN")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoMetadataUseCase.Result.Success(metadata));
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenLogoIsNotStored() {
+        // Given
+        when(logoPersistencePort.getMetadata("TSLA")).thenReturn(Uni.createFrom().nullItem());
+
+        // When
+        GetLogoMetadataUseCase.Result result = getLogoMetadataService.execute("TSLA")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isInstanceOf(GetLogoMetadataUseCase.Result.NotFound.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenPersistenceFails() {
+        // Given
+        when(logoPersistencePort.getMetadata("ERROR")).thenReturn(Uni.createFrom().failure(new RuntimeException("DB Error")));
+
+        // When
+        GetLogoMetadataUseCase.Result result = getLogoMetadataService.execute("ERROR")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoMetadataUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR));
+    }
+}
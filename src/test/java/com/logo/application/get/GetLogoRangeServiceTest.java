@@ -0,0 +1,67 @@
+package com.logo.application.get;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.port.incoming.GetLogoRangeUseCase;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GetLogoRangeServiceTest {
+
+    private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+
+    private final GetLogoRangeService getLogoRangeService = new GetLogoRangeService(logoPersistencePort);
+
+    @Test
+    void shouldReturnRequestedSlice() {
+        // Given
+        byte[] slice = "go-d".getBytes();
+        when(logoPersistencePort.getContentRange("content-hash", 2, 4)).thenReturn(Uni.createFrom().item(slice));
+
+        // When
+        GetLogoRangeUseCase.Result result = getLogoRangeService.execute("content-hash", 2, 4)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isInstanceOf(GetLogoRangeUseCase.Result.Success.class);
+        assertThat(((GetLogoRangeUseCase.Result.Success) result).content()).isEqualTo(slice);
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenContentIsNotStored() {
+        // Given
+        when(logoPersistencePort.getContentRange("unknown-hash", 0, 4)).thenReturn(Uni.createFrom().nullItem());
+
+        // When
+        GetLogoRangeUseCase.Result result = getLogoRangeService.execute("unknown-hash", 0, 4)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoRangeUseCase.Result.NotFound());
+    }
+
+    @Test
+    void shouldReturnErrorWhenStorageFails() {
+        // Given
+        when(logoPersistencePort.getContentRange("content-hash", 0, 4))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("connection reset")));
+
+        // When
+        GetLogoRangeUseCase.Result result = getLogoRangeService.execute("content-hash", 0, 4)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoRangeUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR));
+    }
+}
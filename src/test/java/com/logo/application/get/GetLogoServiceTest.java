@@ -1,20 +1,40 @@
 package com.logo.application.get;
 
+import com.logo.domain.exception.ServiceException;
+import com.logo.application.variant.LogoVariantPregenerator;
 import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.LogoVariantJob;
 import com.logo.domain.port.incoming.GetLogoUseCase;
 import com.logo.domain.port.outgoing.LogoApiPort;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort.LookupOutcome;
 import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import com.logo.domain.port.outgoing.MissingLogoPort;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,8 +42,19 @@ class GetLogoServiceTest {
 
     private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
     private final LogoApiPort logoApiPort = mock(LogoApiPort.class);
+    private final MissingLogoPort missingLogoPort = mock(MissingLogoPort.class);
+    private final LogoVariantJobPort logoVariantJobPort = mock(LogoVariantJobPort.class);
+    private final LogoImagePort logoImagePort = mock(LogoImagePort.class);
+    private final LogoVariantPregenerator logoVariantPregenerator = new LogoVariantPregenerator(
+            logoVariantJobPort, logoImagePort, true, List.of(64), List.of(ImageFormat.PNG));
 
-    private final GetLogoService getLogoService = new GetLogoService(logoPersistencePort, logoApiPort);
+    private final LogoMetricsPort logoMetricsPort = mock(LogoMetricsPort.class);
+
+    private final LogoWriteBehind disabledWriteBehind = new LogoWriteBehind(logoPersistencePort, logoVariantPregenerator,
+            logoMetricsPort, false, 10, 1, 3, Duration.ofSeconds(1), System::currentTimeMillis);
+
+    private final GetLogoService getLogoService = new GetLogoService(logoPersistencePort, logoApiPort, missingLogoPort,
+            logoVariantPregenerator, disabledWriteBehind, logoMetricsPort);
 
     private Logo existingLogo;
     private byte[] logoData;
@@ -32,8 +63,12 @@ class GetLogoServiceTest {
     void setUp() {
         OffsetDateTime now = OffsetDateTime.now();
         existingLogo = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN",
-                "logo-data".getBytes(), "AMZN.jpeg", "image/jpeg", now, now);
+                LogoContent.of("logo-data".getBytes()), "AMZN.jpeg", "image/jpeg", "content-hash", LogoSource.UPLOADED, now, now);
         logoData = "new-logo-data".getBytes();
+        when(missingLogoPort.isMissing(any())).thenReturn(Uni.createFrom().item(false));
+        when(missingLogoPort.markMissing(any())).thenReturn(Uni.createFrom().voidItem());
+        when(logoImagePort.canEncode(ImageFormat.PNG)).thenReturn(true);
+        when(logoVariantJobPort.enqueue(any())).thenReturn(Uni.createFrom().voidItem());
     }
 
     @Test
@@ -51,13 +86,33 @@ class GetLogoServiceTest {
         assertThat(result).isInstanceOf(GetLogoUseCase.Result.Success.class);
         GetLogoUseCase.Result.Success success = (GetLogoUseCase.Result.Success) result;
         assertThat(success.logo().externalIdentifier()).isEqualTo("AMZN");
+        verify(logoMetricsPort).lookupCompleted(eq(LookupOutcome.STORED), anyLong(), eq((long) "logo-data".length()));
+    }
+
+    @Test
+    void shouldFetchUnstoredLogoWithoutQueryingStorageAgain() {
+        // Given
+        Logo newLogo = Logo.fromUpstream("NFLX", logoData, OffsetDateTime.now());
+        when(logoApiPort.fetchLogo("NFLX")).thenReturn(Uni.createFrom().item(logoData));
+        when(logoPersistencePort.save(any(Logo.class))).thenReturn(Uni.createFrom().item(newLogo));
+
+        // When
+        GetLogoUseCase.Result result = getLogoService.executeUnstored("NFLX")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoUseCase.Result.Success(newLogo));
+        verify(logoPersistencePort, never()).get("NFLX");
+        verify(logoApiPort).fetchLogo("NFLX");
     }
 
     @Test
     void shouldFetchAndSaveLogoWhenNotFoundInDatabase() {
         // Given
         Logo newLogo = new Logo("TSLA", "https://img.logo.dev/ticker/TSLA",
-                logoData, "TSLA.jpeg", "image/jpeg", OffsetDateTime.now(), OffsetDateTime.now());
+                LogoContent.of(logoData), "TSLA.jpeg", "image/jpeg", "content-hash", LogoSource.UPSTREAM, OffsetDateTime.now(), OffsetDateTime.now());
         
         when(logoPersistencePort.get("TSLA")).thenReturn(Uni.createFrom().nullItem());
         when(logoApiPort.fetchLogo("TSLA")).thenReturn(Uni.createFrom().item(logoData));
@@ -76,7 +131,12 @@ class GetLogoServiceTest {
         
         verify(logoPersistencePort).get("TSLA");
         verify(logoApiPort).fetchLogo("TSLA");
-        verify(logoPersistencePort).save(any(Logo.class));
+        ArgumentCaptor<Logo> logoCaptor = ArgumentCaptor.forClass(Logo.class);
+        verify(logoPersistencePort).save(logoCaptor.capture());
+        assertThat(logoCaptor.getValue().contentHash())
+                .isEqualTo("cd0b4c013ece2632e9c3dc9a351394c2f8e00e49e5cf28c8a166d2bb0e51fd4b");
+        assertThat(logoCaptor.getValue().source()).isEqualTo(LogoSource.UPSTREAM);
+        verify(logoVariantJobPort).enqueue(List.of(LogoVariantJob.of(newLogo, 64, ImageFormat.PNG)));
     }
 
     @Test
@@ -95,6 +155,8 @@ class GetLogoServiceTest {
         assertThat(result).isInstanceOf(GetLogoUseCase.Result.Error.class);
         GetLogoUseCase.Result.Error error = (GetLogoUseCase.Result.Error) result;
         assertThat(error.errors()).isEqualTo(Errors.EXTERNAL_SERVICE_ERROR);
+        verify(logoMetricsPort).lookupCompleted(eq(LookupOutcome.ERROR), anyLong(), eq(-1L));
+        verify(logoMetricsPort, never()).lookupCompleted(eq(LookupOutcome.UPSTREAM), anyLong(), anyLong());
     }
 
     @Test
@@ -113,4 +175,128 @@ class GetLogoServiceTest {
         GetLogoUseCase.Result.Error error = (GetLogoUseCase.Result.Error) result;
         assertThat(error.errors()).isEqualTo(Errors.EXTERNAL_SERVICE_ERROR);
     }
+
+    @Test
+    void shouldShareSingleUpstreamFetchBetweenConcurrentMisses() {
+        // Given
+        Logo newLogo = new Logo("TSLA", "https://img.logo.dev/ticker/TSLA",
+                LogoContent.of(logoData), "TSLA.jpeg", "image/jpeg", "content-hash", LogoSource.UPSTREAM, OffsetDateTime.now(), OffsetDateTime.now());
+        AtomicReference<UniEmitter<? super byte[]>> upstream = new AtomicReference<>();
+
+        when(logoPersistencePort.get("TSLA")).thenReturn(Uni.createFrom().nullItem());
+        when(logoApiPort.fetchLogo("TSLA")).thenReturn(Uni.createFrom().emitter(upstream::set));
+        when(logoPersistencePort.save(any(Logo.class))).thenReturn(Uni.createFrom().item(newLogo));
+
+        // When
+        UniAssertSubscriber<GetLogoUseCase.Result> first = getLogoService.execute("TSLA")
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<GetLogoUseCase.Result> second = getLogoService.execute("TSLA")
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        upstream.get().complete(logoData);
+
+        // Then
+        assertThat(first.assertCompleted().getItem()).isInstanceOf(GetLogoUseCase.Result.Success.class);
+        assertThat(second.assertCompleted().getItem()).isInstanceOf(GetLogoUseCase.Result.Success.class);
+        verify(logoApiPort, times(1)).fetchLogo("TSLA");
+        verify(logoPersistencePort, times(1)).save(any(Logo.class));
+    }
+
+    @Test
+    void shouldShareFailureBetweenConcurrentMissesAndRetryAfterwards() {
+        // Given
+        AtomicReference<UniEmitter<? super byte[]>> upstream = new AtomicReference<>();
+
+        when(logoPersistencePort.get("FAIL")).thenReturn(Uni.createFrom().nullItem());
+        when(logoApiPort.fetchLogo("FAIL")).thenReturn(Uni.createFrom().emitter(upstream::set));
+
+        // When
+        UniAssertSubscriber<GetLogoUseCase.Result> first = getLogoService.execute("FAIL")
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<GetLogoUseCase.Result> second = getLogoService.execute("FAIL")
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        upstream.get().fail(new RuntimeException("API Error"));
+        getLogoService.execute("FAIL")
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        assertThat(first.assertCompleted().getItem()).isInstanceOf(GetLogoUseCase.Result.Error.class);
+        assertThat(second.assertCompleted().getItem()).isInstanceOf(GetLogoUseCase.Result.Error.class);
+        verify(logoApiPort, times(2)).fetchLogo("FAIL");
+    }
+
+    @Test
+    void shouldAnswerNotFoundWithoutUpstreamCallWhenKnownMissing() {
+        // Given
+        when(logoPersistencePort.get("GONE")).thenReturn(Uni.createFrom().nullItem());
+        when(missingLogoPort.isMissing("GONE")).thenReturn(Uni.createFrom().item(true));
+
+        // When
+        GetLogoUseCase.Result result = getLogoService.execute("GONE")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isInstanceOf(GetLogoUseCase.Result.NotFound.class);
+        verify(logoApiPort, never()).fetchLogo(any());
+    }
+
+    @Test
+    void shouldMarkLogoMissingWhenUpstreamHasNone() {
+        // Given
+        when(logoPersistencePort.get("GONE")).thenReturn(Uni.createFrom().nullItem());
+        when(logoApiPort.fetchLogo("GONE"))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.LOGO_NOT_FOUND)));
+
+        // When
+        GetLogoUseCase.Result result = getLogoService.execute("GONE")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoUseCase.Result.Error(Errors.LOGO_NOT_FOUND));
+        verify(missingLogoPort).markMissing("GONE");
+        verify(logoMetricsPort).lookupCompleted(eq(LookupOutcome.NOT_FOUND), anyLong(), eq(-1L));
+    }
+
+    @Test
+    void shouldNotMarkLogoMissingOnOtherUpstreamErrors() {
+        // Given
+        when(logoPersistencePort.get("DOWN")).thenReturn(Uni.createFrom().nullItem());
+        when(logoApiPort.fetchLogo("DOWN"))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.SERVICE_UNAVAILABLE)));
+
+        // When
+        getLogoService.execute("DOWN").await().indefinitely();
+
+        // Then
+        verify(missingLogoPort, never()).markMissing(any());
+    }
+
+    @Test
+    void shouldAnswerBeforeSavingWhenWriteBehindIsEnabled() {
+        // Given
+        LogoWriteBehind writeBehind = new LogoWriteBehind(logoPersistencePort, logoVariantPregenerator,
+                logoMetricsPort, true, 10, 1, 3, Duration.ofSeconds(1), System::currentTimeMillis);
+        GetLogoService service = new GetLogoService(logoPersistencePort, logoApiPort, missingLogoPort,
+                logoVariantPregenerator, writeBehind, logoMetricsPort);
+        when(logoPersistencePort.get("TSLA")).thenReturn(Uni.createFrom().nullItem());
+        when(logoApiPort.fetchLogo("TSLA")).thenReturn(Uni.createFrom().item(logoData));
+
+        // When
+        GetLogoUseCase.Result first = service.execute("TSLA").await().indefinitely();
+        GetLogoUseCase.Result second = service.execute("TSLA").await().indefinitely();
+
+        // Then
+        assertThat(first).isInstanceOf(GetLogoUseCase.Result.Success.class);
+        assertThat(((GetLogoUseCase.Result.Success) first).logo().content()).isInstanceOfSatisfying(LogoContent.InMemory.class,
+                content -> assertThat(content.bytes()).isEqualTo(logoData));
+        assertThat(second).isEqualTo(first);
+        verify(logoApiPort, times(1)).fetchLogo("TSLA");
+        verify(logoPersistencePort, never()).save(any());
+        assertThat(writeBehind.pending("TSLA")).isNotNull();
+        verify(logoMetricsPort).lookupCompleted(eq(LookupOutcome.UPSTREAM), anyLong(), eq((long) logoData.length));
+        verify(logoMetricsPort).lookupCompleted(eq(LookupOutcome.PENDING), anyLong(), eq((long) logoData.length));
+    }
 }
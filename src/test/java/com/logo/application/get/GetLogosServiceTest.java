@@ -0,0 +1,95 @@
+package com.logo.application.get;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.incoming.GetLogoUseCase;
+import com.logo.domain.port.incoming.GetLogosUseCase;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GetLogosServiceTest {
+
+    private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+    private final GetLogoService getLogoService = mock(GetLogoService.class);
+
+    private final GetLogosService getLogosService = new GetLogosService(logoPersistencePort, getLogoService, 4);
+
+    @Test
+    void shouldResolveStoredLogosWithoutFetchingUpstream() {
+        // Given
+        Logo amazon = logo("AMZN");
+        Logo microsoft = logo("MSFT");
+        when(logoPersistencePort.getAll(List.of("MSFT", "AMZN")))
+                .thenReturn(Uni.createFrom().item(List.of(amazon, microsoft)));
+
+        // When
+        GetLogosUseCase.Result result = getLogosService.execute(List.of("MSFT", "AMZN", "MSFT"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogosUseCase.Result.Success(List.of(microsoft, amazon), List.of()));
+        verify(getLogoService, never()).executeUnstored(anyString());
+    }
+
+    @Test
+    void shouldFetchOnlyMissesAndReportUnresolvedIdentifiers() {
+        // Given
+        Logo amazon = logo("AMZN");
+        Logo netflix = logo("NFLX");
+        when(logoPersistencePort.getAll(List.of("AMZN", "NFLX", "UNKNOWN")))
+                .thenReturn(Uni.createFrom().item(List.of(amazon)));
+        when(getLogoService.executeUnstored("NFLX"))
+                .thenReturn(Uni.createFrom().item(new GetLogoUseCase.Result.Success(netflix)));
+        when(getLogoService.executeUnstored("UNKNOWN"))
+                .thenReturn(Uni.createFrom().item(new GetLogoUseCase.Result.Error(Errors.LOGO_NOT_FOUND)));
+
+        // When
+        GetLogosUseCase.Result result = getLogosService.execute(List.of("AMZN", "NFLX", "UNKNOWN"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogosUseCase.Result.Success(List.of(amazon, netflix), List.of("UNKNOWN")));
+        verify(getLogoService, never()).executeUnstored("AMZN");
+        verify(getLogoService, never()).execute(anyString());
+    }
+
+    @Test
+    void shouldReturnErrorWhenStorageLookupFails() {
+        // Given
+        when(logoPersistencePort.getAll(List.of("AMZN")))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("Database error")));
+
+        // When
+        GetLogosUseCase.Result result = getLogosService.execute(List.of("AMZN"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogosUseCase.Result.Error(Errors.EXTERNAL_SERVICE_ERROR));
+    }
+
+    private static Logo logo(String identifier) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Logo(identifier, "https://img.logo.dev/ticker/" + identifier,
+                LogoContent.of("logo-data".getBytes()), identifier + ".jpeg", "image/jpeg", "content-hash", LogoSource.UPSTREAM, now, now);
+    }
+}
@@ -0,0 +1,175 @@
+package com.logo.application.get;
+
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort.WriteBehindEvent;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LogoWriteBehindTest {
+
+    private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+
+    private final LogoVariantPregenerator logoVariantPregenerator = new LogoVariantPregenerator(
+            mock(LogoVariantJobPort.class), mock(LogoImagePort.class), false, List.of(), List.of());
+
+    private final LogoMetricsPort logoMetricsPort = mock(LogoMetricsPort.class);
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    private LogoWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = new LogoWriteBehind(logoPersistencePort, logoVariantPregenerator, logoMetricsPort,
+                true, 2, 2, 3, Duration.ofSeconds(1), now::get);
+    }
+
+    @Test
+    void shouldKeepLogoVisibleUntilItIsSaved() {
+        // Given
+        Logo logo = logo("TSLA", "tsla-data");
+        when(logoPersistencePort.save(logo)).thenReturn(Uni.createFrom().item(logo));
+
+        // When
+        boolean accepted = writeBehind.offer(logo);
+        Logo beforeDrain = writeBehind.pending("TSLA");
+        writeBehind.drain().await().indefinitely();
+
+        // Then
+        assertThat(accepted).isTrue();
+        assertThat(beforeDrain).isSameAs(logo);
+        assertThat(writeBehind.pending("TSLA")).isNull();
+        verify(logoPersistencePort).save(logo);
+        verify(logoMetricsPort).writeBehindDepth(1);
+        verify(logoMetricsPort).writeBehindDepth(0);
+    }
+
+    @Test
+    void shouldCoalesceLogosQueuedForSameIdentifier() {
+        // Given
+        Logo older = logo("TSLA", "old-data");
+        Logo newer = logo("TSLA", "new-data");
+        when(logoPersistencePort.save(newer)).thenReturn(Uni.createFrom().item(newer));
+
+        // When
+        writeBehind.offer(older);
+        writeBehind.offer(newer);
+        writeBehind.drain().await().indefinitely();
+
+        // Then
+        verify(logoPersistencePort, never()).save(older);
+        verify(logoPersistencePort).save(newer);
+        verify(logoMetricsPort).writeBehind(WriteBehindEvent.COALESCED);
+    }
+
+    @Test
+    void shouldUpdateLogoQueuedWhileAnOlderOneIsBeingSaved() {
+        // Given: the older logo's save is still in flight when the newer one is queued
+        Logo older = logo("TSLA", "old-data");
+        Logo newer = logo("TSLA", "new-data");
+        AtomicReference<UniEmitter<? super Logo>> inFlightSave = new AtomicReference<>();
+        when(logoPersistencePort.save(older)).thenReturn(Uni.createFrom().emitter(inFlightSave::set));
+        when(logoPersistencePort.refresh(eq(newer), any(), any())).thenReturn(Uni.createFrom().item(true));
+        writeBehind.offer(older);
+        UniAssertSubscriber<Void> firstDrain = writeBehind.drain()
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // When
+        writeBehind.offer(newer);
+        writeBehind.drain().await().indefinitely();
+        inFlightSave.get().complete(older);
+        firstDrain.assertCompleted();
+        Logo pendingAfterFirstSave = writeBehind.pending("TSLA");
+        writeBehind.drain().await().indefinitely();
+
+        // Then: one insert, then the newer content as an update of the same row
+        assertThat(pendingAfterFirstSave).isSameAs(newer);
+        verify(logoPersistencePort, times(1)).save(any());
+        verify(logoPersistencePort).refresh(eq(newer), any(), eq(newer.updatedAt()));
+        assertThat(writeBehind.pending("TSLA")).isNull();
+        verify(logoMetricsPort, never()).writeBehind(WriteBehindEvent.DROPPED);
+    }
+
+    @Test
+    void shouldRefuseLogosBeyondCapacity() {
+        // When
+        boolean first = writeBehind.offer(logo("AMZN", "amzn-data"));
+        boolean second = writeBehind.offer(logo("MSFT", "msft-data"));
+        boolean third = writeBehind.offer(logo("TSLA", "tsla-data"));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(writeBehind.pending("TSLA")).isNull();
+        verify(logoMetricsPort).writeBehindDepth(2);
+        verify(logoMetricsPort).writeBehind(WriteBehindEvent.OVERFLOWED);
+    }
+
+    @Test
+    void shouldRetryFailedSavesAfterBackoffAndDropThemAfterMaxAttempts() {
+        // Given
+        Logo logo = logo("TSLA", "tsla-data");
+        when(logoPersistencePort.save(any())).thenReturn(Uni.createFrom().failure(new RuntimeException("connection reset")));
+        writeBehind.offer(logo);
+
+        // When
+        writeBehind.drain().await().indefinitely();
+        writeBehind.drain().await().indefinitely();
+        now.addAndGet(1_000);
+        writeBehind.drain().await().indefinitely();
+        now.addAndGet(2_000);
+        writeBehind.drain().await().indefinitely();
+
+        // Then
+        verify(logoPersistencePort, times(3)).save(logo);
+        assertThat(writeBehind.pending("TSLA")).isNull();
+        verify(logoMetricsPort, times(2)).writeBehind(WriteBehindEvent.RETRIED);
+        verify(logoMetricsPort).writeBehind(WriteBehindEvent.DROPPED);
+    }
+
+    @Test
+    void shouldAcceptNothingWhenDisabled() {
+        // Given
+        LogoWriteBehind disabled = new LogoWriteBehind(logoPersistencePort, logoVariantPregenerator,
+                logoMetricsPort, false, 2, 2, 3, Duration.ofSeconds(1), now::get);
+
+        // When
+        boolean accepted = disabled.offer(logo("TSLA", "tsla-data"));
+
+        // Then
+        assertThat(accepted).isFalse();
+        assertThat(disabled.pending("TSLA")).isNull();
+    }
+
+    private static Logo logo(String identifier, String content) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Logo(identifier, "https://img.logo.dev/ticker/" + identifier, LogoContent.of(content.getBytes()),
+                identifier + ".png", "image/png", content + "-hash", LogoSource.UPSTREAM, now, now);
+    }
+}
@@ -0,0 +1,169 @@
+package com.logo.application.prefetch;
+
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.PrefetchJob;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.incoming.PrefetchLogosUseCase;
+import com.logo.domain.port.outgoing.LogoApiPort;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import com.logo.domain.port.outgoing.MissingLogoPort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrefetchLogosServiceTest {
+
+    private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+    private final LogoApiPort logoApiPort = mock(LogoApiPort.class);
+    private final MissingLogoPort missingLogoPort = mock(MissingLogoPort.class);
+    private final LogoVariantPregenerator logoVariantPregenerator = new LogoVariantPregenerator(
+            mock(LogoVariantJobPort.class), mock(LogoImagePort.class), false, List.of(), List.of());
+
+    // No rate cap, so the pipeline completes synchronously with the mocked ports
+    private final PrefetchLogosService prefetchLogosService =
+            new PrefetchLogosService(logoPersistencePort, logoApiPort, missingLogoPort, logoVariantPregenerator, 4, 0, 2,
+                    Duration.ofHours(1));
+
+    @BeforeEach
+    void setUp() {
+        when(missingLogoPort.isMissing(anyString())).thenReturn(Uni.createFrom().item(false));
+        when(missingLogoPort.markMissing(anyString())).thenReturn(Uni.createFrom().voidItem());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSkipStoredLogosAndSaveFetchedOnesInBatches() {
+        // Given
+        when(logoPersistencePort.findStoredIdentifiers(List.of("AMZN", "MSFT", "NFLX", "TSLA")))
+                .thenReturn(Uni.createFrom().item(Set.of("AMZN")));
+        when(logoApiPort.fetchLogo(any())).thenReturn(Uni.createFrom().item("logo-data".getBytes()));
+        when(logoPersistencePort.saveAll(anyList()))
+                .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+
+        // When
+        PrefetchJob started = prefetchLogosService.start(List.of("AMZN", "MSFT", "NFLX", "TSLA", "MSFT"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        PrefetchJob job = status(started.id());
+        assertThat(job.status()).isEqualTo(PrefetchJob.Status.COMPLETED);
+        assertThat(job.total()).isEqualTo(4);
+        assertThat(job.alreadyStored()).isEqualTo(1);
+        assertThat(job.fetched()).isEqualTo(3);
+        assertThat(job.failures()).isEmpty();
+        assertThat(job.remaining()).isZero();
+        verify(logoApiPort, never()).fetchLogo("AMZN");
+
+        ArgumentCaptor<List<Logo>> batches = ArgumentCaptor.forClass(List.class);
+        verify(logoPersistencePort, times(2)).saveAll(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(batches.getAllValues().get(0)).allSatisfy(logo -> assertThat(logo.source()).isEqualTo(LogoSource.UPSTREAM));
+    }
+
+    @Test
+    void shouldRecordFailuresPerIdentifier() {
+        // Given
+        when(logoPersistencePort.findStoredIdentifiers(List.of("MSFT", "UNKNOWN")))
+                .thenReturn(Uni.createFrom().item(Set.of()));
+        when(logoApiPort.fetchLogo("MSFT")).thenReturn(Uni.createFrom().item("logo-data".getBytes()));
+        when(logoApiPort.fetchLogo("UNKNOWN"))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.LOGO_NOT_FOUND)));
+        when(logoPersistencePort.saveAll(anyList()))
+                .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+
+        // When
+        PrefetchJob started = prefetchLogosService.start(List.of("MSFT", "UNKNOWN")).await().indefinitely();
+
+        // Then
+        PrefetchJob job = status(started.id());
+        assertThat(job.status()).isEqualTo(PrefetchJob.Status.COMPLETED);
+        assertThat(job.fetched()).isEqualTo(1);
+        assertThat(job.failures()).isEqualTo(Map.of("UNKNOWN", Errors.LOGO_NOT_FOUND));
+        verify(missingLogoPort).markMissing("UNKNOWN");
+        verify(missingLogoPort, never()).markMissing("MSFT");
+    }
+
+    @Test
+    void shouldNotFetchIdentifiersKnownToBeMissing() {
+        // Given
+        when(logoPersistencePort.findStoredIdentifiers(List.of("MSFT", "UNKNOWN")))
+                .thenReturn(Uni.createFrom().item(Set.of()));
+        when(missingLogoPort.isMissing("UNKNOWN")).thenReturn(Uni.createFrom().item(true));
+        when(logoApiPort.fetchLogo("MSFT")).thenReturn(Uni.createFrom().item("logo-data".getBytes()));
+        when(logoPersistencePort.saveAll(anyList()))
+                .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+
+        // When
+        PrefetchJob started = prefetchLogosService.start(List.of("MSFT", "UNKNOWN")).await().indefinitely();
+
+        // Then
+        PrefetchJob job = status(started.id());
+        assertThat(job.status()).isEqualTo(PrefetchJob.Status.COMPLETED);
+        assertThat(job.fetched()).isEqualTo(1);
+        assertThat(job.failures()).isEqualTo(Map.of("UNKNOWN", Errors.LOGO_NOT_FOUND));
+        verify(logoApiPort, never()).fetchLogo("UNKNOWN");
+    }
+
+    @Test
+    void shouldFallBackToSingleSavesWhenBatchFails() {
+        // Given
+        when(logoPersistencePort.findStoredIdentifiers(List.of("MSFT", "NFLX")))
+                .thenReturn(Uni.createFrom().item(Set.of()));
+        when(logoApiPort.fetchLogo(any())).thenReturn(Uni.createFrom().item("logo-data".getBytes()));
+        when(logoPersistencePort.saveAll(anyList()))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("duplicate key")));
+        when(logoPersistencePort.save(any(Logo.class))).thenAnswer(invocation -> {
+            Logo logo = invocation.getArgument(0);
+            return "NFLX".equals(logo.externalIdentifier())
+                    ? Uni.createFrom().failure(new RuntimeException("duplicate key"))
+                    : Uni.createFrom().item(logo);
+        });
+
+        // When
+        PrefetchJob started = prefetchLogosService.start(List.of("MSFT", "NFLX")).await().indefinitely();
+
+        // Then
+        PrefetchJob job = status(started.id());
+        assertThat(job.fetched()).isEqualTo(1);
+        assertThat(job.failures()).isEqualTo(Map.of("NFLX", Errors.EXTERNAL_SERVICE_ERROR));
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownJob() {
+        // When
+        PrefetchLogosUseCase.Result result = prefetchLogosService.status("unknown").await().indefinitely();
+
+        // Then
+        assertThat(result).isInstanceOf(PrefetchLogosUseCase.Result.NotFound.class);
+    }
+
+    private PrefetchJob status(String jobId) {
+        PrefetchLogosUseCase.Result result = prefetchLogosService.status(jobId).await().indefinitely();
+        assertThat(result).isInstanceOf(PrefetchLogosUseCase.Result.Success.class);
+        return ((PrefetchLogosUseCase.Result.Success) result).job();
+    }
+}
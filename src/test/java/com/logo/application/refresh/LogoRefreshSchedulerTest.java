@@ -0,0 +1,217 @@
+package com.logo.application.refresh;
+
+import com.logo.application.variant.LogoVariantPregenerator;
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.ContentHash;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamFetch;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.domain.port.outgoing.LogoApiPort;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoMetricsPort.RefreshOutcome;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LogoRefreshSchedulerTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2026-03-01T12:00:00Z");
+    private static final UpstreamValidators STORED = new UpstreamValidators("\"v1\"", null);
+
+    private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+    private final LogoApiPort logoApiPort = mock(LogoApiPort.class);
+    private final LogoVariantJobPort logoVariantJobPort = mock(LogoVariantJobPort.class);
+    private final LogoImagePort logoImagePort = mock(LogoImagePort.class);
+    private final LogoMetricsPort logoMetricsPort = mock(LogoMetricsPort.class);
+
+    private LogoRefreshScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        LogoVariantPregenerator pregenerator = new LogoVariantPregenerator(
+                logoVariantJobPort, logoImagePort, true, List.of(64), List.of(ImageFormat.PNG));
+        scheduler = new LogoRefreshScheduler(logoPersistencePort, logoApiPort, pregenerator, logoMetricsPort,
+                true, Duration.ofDays(7), Duration.ofHours(1), 10, 2, () -> NOW);
+        when(logoImagePort.canEncode(ImageFormat.PNG)).thenReturn(true);
+        when(logoVariantJobPort.enqueue(any())).thenReturn(Uni.createFrom().voidItem());
+    }
+
+    @Test
+    void shouldLookForUpstreamLogosOlderThanMaxAge() {
+        // Given
+        when(logoPersistencePort.findRefreshedBefore(any(), any(), anyInt()))
+                .thenReturn(Uni.createFrom().item(List.of()));
+
+        // When
+        scheduler.refreshStale().await().indefinitely();
+
+        // Then
+        verify(logoPersistencePort).findRefreshedBefore(LogoSource.UPSTREAM, NOW.minusDays(7), 10);
+        verify(logoApiPort, never()).fetchLogoIfChanged(anyString(), any());
+    }
+
+    @Test
+    void shouldStoreChangedContentAndPregenerateItsVariants() {
+        // Given
+        byte[] rebranded = "rebranded-logo".getBytes();
+        stale("AMZN");
+        UpstreamValidators received = new UpstreamValidators("\"v2\"", null);
+        when(logoApiPort.fetchLogoIfChanged("AMZN", STORED))
+                .thenReturn(Uni.createFrom().item(new UpstreamFetch.Modified(rebranded, received)));
+        when(logoPersistencePort.refresh(any(), eq(received), eq(NOW))).thenReturn(Uni.createFrom().item(true));
+
+        // When
+        scheduler.refreshStale().await().indefinitely();
+
+        // Then
+        ArgumentCaptor<Logo> refreshed = ArgumentCaptor.forClass(Logo.class);
+        verify(logoPersistencePort).refresh(refreshed.capture(), eq(received), eq(NOW));
+        assertThat(refreshed.getValue().contentHash()).isEqualTo(ContentHash.of(rebranded));
+        verify(logoVariantJobPort).enqueue(any());
+        verify(logoMetricsPort).refreshChecked(RefreshOutcome.REPLACED);
+    }
+
+    @Test
+    void shouldNotPregenerateWhenContentIsUnchanged() {
+        // Given
+        stale("AMZN");
+        when(logoApiPort.fetchLogoIfChanged("AMZN", STORED))
+                .thenReturn(Uni.createFrom().item(new UpstreamFetch.Modified("same-logo".getBytes(), STORED)));
+        when(logoPersistencePort.refresh(any(), eq(STORED), eq(NOW))).thenReturn(Uni.createFrom().item(false));
+
+        // When
+        scheduler.refreshStale().await().indefinitely();
+
+        // Then
+        verify(logoVariantJobPort, never()).enqueue(any());
+        verify(logoMetricsPort).refreshChecked(RefreshOutcome.UNCHANGED);
+    }
+
+    @Test
+    void shouldOnlyRecordCheckWhenUpstreamReportsNotModified() {
+        // Given
+        UpstreamValidators received = new UpstreamValidators("\"v1\"", "Wed, 21 Oct 2025 07:28:00 GMT");
+        stale("AMZN");
+        when(logoApiPort.fetchLogoIfChanged("AMZN", STORED))
+                .thenReturn(Uni.createFrom().item(new UpstreamFetch.NotModified(received)));
+        when(logoPersistencePort.markRefreshed("AMZN", received, NOW)).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        scheduler.refreshStale().await().indefinitely();
+
+        // Then
+        verify(logoPersistencePort, never()).refresh(any(), any(), any());
+        verify(logoPersistencePort).markRefreshed("AMZN", received, NOW);
+        verify(logoVariantJobPort, never()).enqueue(any());
+        verify(logoMetricsPort).refreshChecked(RefreshOutcome.NOT_MODIFIED);
+    }
+
+    @Test
+    void shouldKeepStoredCopyWhenLogoIsGoneUpstream() {
+        // Given
+        stale("GONE");
+        when(logoApiPort.fetchLogoIfChanged("GONE", STORED))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.LOGO_NOT_FOUND)));
+        when(logoPersistencePort.markRefreshed("GONE", null, NOW)).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        scheduler.refreshStale().await().indefinitely();
+
+        // Then
+        verify(logoPersistencePort, never()).refresh(any(), any(), any());
+        verify(logoPersistencePort).markRefreshed("GONE", null, NOW);
+    }
+
+    @Test
+    void shouldRetryLogoAfterBackoffWhenUpstreamFails() {
+        // Given
+        stale("DOWN");
+        when(logoApiPort.fetchLogoIfChanged("DOWN", STORED))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.SERVICE_UNAVAILABLE)));
+        when(logoPersistencePort.markRefreshed(eq("DOWN"), eq(null), any())).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        scheduler.refreshStale().await().indefinitely();
+
+        // Then
+        verify(logoPersistencePort, never()).refresh(any(), any(), any());
+        // Stale again an hour from now, with its validators kept
+        verify(logoPersistencePort).markRefreshed("DOWN", null, NOW.minusDays(7).plusHours(1));
+        verify(logoMetricsPort).refreshChecked(RefreshOutcome.FAILED);
+    }
+
+    @Test
+    void shouldReachOtherStaleLogosAfterAFullBatchFailed() {
+        // Given
+        Map<String, OffsetDateTime> refreshedAt = new LinkedHashMap<>();
+        refreshedAt.put("DOWN1", NOW.minusDays(30));
+        refreshedAt.put("DOWN2", NOW.minusDays(20));
+        refreshedAt.put("AMZN", NOW.minusDays(10));
+        refreshedAt.put("MSFT", NOW.minusDays(9));
+        // Stands in for the logo table: the oldest checks first, and markRefreshed moves a logo in line
+        when(logoPersistencePort.findRefreshedBefore(eq(LogoSource.UPSTREAM), any(), anyInt())).thenAnswer(invocation -> {
+            OffsetDateTime cutoff = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            return Uni.createFrom().item(refreshedAt.entrySet().stream()
+                    .filter(entry -> entry.getValue().isBefore(cutoff))
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(limit)
+                    .map(entry -> new LogoRefreshCandidate(entry.getKey(), STORED))
+                    .toList());
+        });
+        when(logoPersistencePort.markRefreshed(anyString(), any(), any())).thenAnswer(invocation -> {
+            refreshedAt.put(invocation.getArgument(0), invocation.getArgument(2));
+            return Uni.createFrom().voidItem();
+        });
+        when(logoApiPort.fetchLogoIfChanged(anyString(), eq(STORED)))
+                .thenReturn(Uni.createFrom().item(new UpstreamFetch.NotModified(STORED)));
+        when(logoApiPort.fetchLogoIfChanged(startsWith("DOWN"), eq(STORED)))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.SERVICE_UNAVAILABLE)));
+        LogoRefreshScheduler smallBatches = new LogoRefreshScheduler(logoPersistencePort, logoApiPort,
+                new LogoVariantPregenerator(logoVariantJobPort, logoImagePort, false, List.of(), List.of()),
+                logoMetricsPort, true, Duration.ofDays(7), Duration.ofHours(1), 2, 2, () -> NOW);
+
+        // When
+        smallBatches.refreshStale().await().indefinitely();
+        smallBatches.refreshStale().await().indefinitely();
+
+        // Then
+        verify(logoApiPort).fetchLogoIfChanged("AMZN", STORED);
+        verify(logoApiPort).fetchLogoIfChanged("MSFT", STORED);
+        verify(logoApiPort, times(1)).fetchLogoIfChanged("DOWN1", STORED);
+        verify(logoMetricsPort, times(2)).refreshChecked(RefreshOutcome.FAILED);
+        verify(logoMetricsPort, times(2)).refreshChecked(RefreshOutcome.NOT_MODIFIED);
+        assertThat(refreshedAt).containsEntry("AMZN", NOW).containsEntry("DOWN1", NOW.minusDays(7).plusHours(1));
+    }
+
+    private void stale(String identifier) {
+        when(logoPersistencePort.findRefreshedBefore(LogoSource.UPSTREAM, NOW.minusDays(7), 10))
+                .thenReturn(Uni.createFrom().item(List.of(new LogoRefreshCandidate(identifier, STORED))));
+    }
+}
@@ -0,0 +1,199 @@
+package com.logo.application.variant;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.LogoVariant;
+import com.logo.domain.port.incoming.GetLogoUseCase;
+import com.logo.domain.port.incoming.GetLogoVariantUseCase;
+import com.logo.domain.port.outgoing.LogoImagePort;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import com.logo.domain.port.outgoing.LogoVariantPort;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GetLogoVariantServiceTest {
+
+    private final LogoPersistencePort logoPersistencePort = mock(LogoPersistencePort.class);
+    private final LogoVariantPort logoVariantPort = mock(LogoVariantPort.class);
+    private final LogoImagePort logoImagePort = mock(LogoImagePort.class);
+    private final GetLogoUseCase getLogoUseCase = mock(GetLogoUseCase.class);
+
+    private final GetLogoVariantService service = new GetLogoVariantService(
+            logoPersistencePort, logoVariantPort, logoImagePort, getLogoUseCase, List.of(32, 64));
+
+    private Logo logo;
+
+    @BeforeEach
+    void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+        logo = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN",
+                LogoContent.of("logo-data".getBytes()), "AMZN.png", "image/png", "content-hash", LogoSource.UPLOADED, now, now);
+        when(logoImagePort.canEncode(ImageFormat.PNG)).thenReturn(true);
+        when(logoImagePort.canEncode(ImageFormat.JPEG)).thenReturn(true);
+        when(logoVariantPort.save(any())).thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+    }
+
+    @Test
+    void shouldServeStoredVariantWithoutLoadingOriginal() {
+        // Given
+        LogoVariant stored = new LogoVariant("content-hash", 32, ImageFormat.JPEG, "small".getBytes(), OffsetDateTime.now());
+        when(logoPersistencePort.getMetadata("AMZN")).thenReturn(Uni.createFrom().item(logo.metadata()));
+        when(logoVariantPort.find("content-hash", 32, ImageFormat.JPEG)).thenReturn(Uni.createFrom().item(stored));
+
+        // When
+        GetLogoVariantUseCase.Result result = service.execute("AMZN", 32, ImageFormat.JPEG)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new GetLogoVariantUseCase.Result.Success(logo.metadata(), stored));
+        verify(getLogoUseCase, never()).execute(any());
+        verify(logoImagePort, never()).render(any(), anyInt(), any());
+    }
+
+    @Test
+    void shouldRenderAndStoreMissingVariantKeepingOriginalFormat() {
+        // Given
+        when(logoPersistencePort.getMetadata("AMZN")).thenReturn(Uni.createFrom().item(logo.metadata()));
+        when(logoVariantPort.find("content-hash", 64, ImageFormat.PNG)).thenReturn(Uni.createFrom().nullItem());
+        when(getLogoUseCase.execute("AMZN")).thenReturn(Uni.createFrom().item(new GetLogoUseCase.Result.Success(logo)));
+        when(logoImagePort.render(logo, 64, ImageFormat.PNG)).thenReturn(Uni.createFrom().item("resized".getBytes()));
+
+        // When
+        GetLogoVariantUseCase.Result result = service.execute("AMZN", 64, null)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isInstanceOf(GetLogoVariantUseCase.Result.Success.class);
+        LogoVariant variant = ((GetLogoVariantUseCase.Result.Success) result).variant();
+        assertThat(variant.content()).isEqualTo("resized".getBytes());
+        assertThat(variant.format()).isEqualTo(ImageFormat.PNG);
+        verify(logoVariantPort).save(variant);
+    }
+
+    @Test
+    void shouldShareOneRenderingBetweenConcurrentRequests() {
+        // Given
+        AtomicReference<UniEmitter<? super byte[]>> rendering = new AtomicReference<>();
+        when(logoPersistencePort.getMetadata("AMZN")).thenReturn(Uni.createFrom().nullItem());
+        when(logoVariantPort.find("content-hash", 32, ImageFormat.JPEG)).thenReturn(Uni.createFrom().nullItem());
+        when(getLogoUseCase.execute("AMZN")).thenReturn(Uni.createFrom().item(new GetLogoUseCase.Result.Success(logo)));
+        when(logoImagePort.render(logo, 32, ImageFormat.JPEG)).thenReturn(Uni.createFrom().emitter(rendering::set));
+
+        // When
+        UniAssertSubscriber<GetLogoVariantUseCase.Result> first = service.execute("AMZN", 32, ImageFormat.JPEG)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        UniAssertSubscriber<GetLogoVariantUseCase.Result> second = service.execute("AMZN", 32, ImageFormat.JPEG)
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+        rendering.get().complete("resized".getBytes());
+
+        // Then
+        assertThat(first.assertCompleted().getItem()).isInstanceOf(GetLogoVariantUseCase.Result.Success.class);
+        assertThat(second.assertCompleted().getItem()).isInstanceOf(GetLogoVariantUseCase.Result.Success.class);
+        verify(logoImagePort, times(1)).render(logo, 32, ImageFormat.JPEG);
+        verify(logoVariantPort, times(1)).save(any());
+    }
+
+    @Test
+    void shouldRejectSizesAndFormatsNotOffered() {
+        // When
+        GetLogoVariantUseCase.Result badSize = service.execute("AMZN", 33, ImageFormat.PNG).await().indefinitely();
+        GetLogoVariantUseCase.Result badFormat = service.execute("AMZN", 32, ImageFormat.WEBP).await().indefinitely();
+
+        // Then
+        assertThat(badSize).isEqualTo(new GetLogoVariantUseCase.Result.Error(Errors.INVALID_REQUEST));
+        assertThat(badFormat).isEqualTo(new GetLogoVariantUseCase.Result.Error(Errors.INVALID_REQUEST));
+        verify(logoPersistencePort, never()).getMetadata(any());
+    }
+
+    @Test
+    void shouldReportNotFoundWhenOriginalIsUnknown() {
+        // Given
+        when(logoPersistencePort.getMetadata("GONE")).thenReturn(Uni.createFrom().nullItem());
+        when(getLogoUseCase.execute("GONE")).thenReturn(Uni.createFrom().item(new GetLogoUseCase.Result.NotFound()));
+
+        // When
+        GetLogoVariantUseCase.Result result = service.execute("GONE", 32, null).await().indefinitely();
+
+        // Then
+        assertThat(result).isInstanceOf(GetLogoVariantUseCase.Result.NotFound.class);
+        verify(logoImagePort, never()).render(any(), anyInt(), eq(ImageFormat.PNG));
+    }
+
+    @Test
+    void shouldServeRenderedVariantWhenStoringItFails() {
+        // Given
+        when(logoPersistencePort.getMetadata("AMZN")).thenReturn(Uni.createFrom().nullItem());
+        when(logoVariantPort.find("content-hash", 32, ImageFormat.PNG)).thenReturn(Uni.createFrom().nullItem());
+        when(logoVariantPort.save(any())).thenReturn(Uni.createFrom().failure(new RuntimeException("DB Error")));
+        when(getLogoUseCase.execute("AMZN")).thenReturn(Uni.createFrom().item(new GetLogoUseCase.Result.Success(logo)));
+        when(logoImagePort.render(logo, 32, ImageFormat.PNG)).thenReturn(Uni.createFrom().item("resized".getBytes()));
+
+        // When
+        GetLogoVariantUseCase.Result result = service.execute("AMZN", 32, ImageFormat.PNG).await().indefinitely();
+
+        // Then
+        assertThat(result).isInstanceOf(GetLogoVariantUseCase.Result.Success.class);
+    }
+
+    @Test
+    void shouldGenerateJobVariantFromStoredOriginalOnly() {
+        // Given
+        when(logoPersistencePort.getMetadata("AMZN")).thenReturn(Uni.createFrom().item(logo.metadata()));
+        when(logoVariantPort.find("content-hash", 64, ImageFormat.PNG)).thenReturn(Uni.createFrom().nullItem());
+        when(logoPersistencePort.get("AMZN")).thenReturn(Uni.createFrom().item(logo));
+        when(logoImagePort.render(logo, 64, ImageFormat.PNG)).thenReturn(Uni.createFrom().item("resized".getBytes()));
+
+        // When
+        GetLogoVariantUseCase.Result result = service.executeStored("AMZN", "content-hash", 64, ImageFormat.PNG)
+                .await().indefinitely();
+
+        // Then
+        assertThat(result).isInstanceOf(GetLogoVariantUseCase.Result.Success.class);
+        verify(logoVariantPort).save(any());
+        verify(getLogoUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldNotFetchAgainForJobWhoseLogoWasDeletedOrReplaced() {
+        // Given
+        when(logoPersistencePort.getMetadata("GONE")).thenReturn(Uni.createFrom().nullItem());
+        when(logoPersistencePort.getMetadata("AMZN")).thenReturn(Uni.createFrom().item(logo.metadata()));
+
+        // When
+        GetLogoVariantUseCase.Result deleted = service.executeStored("GONE", "content-hash", 64, ImageFormat.PNG)
+                .await().indefinitely();
+        GetLogoVariantUseCase.Result replaced = service.executeStored("AMZN", "older-hash", 64, ImageFormat.PNG)
+                .await().indefinitely();
+
+        // Then
+        assertThat(deleted).isInstanceOf(GetLogoVariantUseCase.Result.NotFound.class);
+        assertThat(replaced).isInstanceOf(GetLogoVariantUseCase.Result.NotFound.class);
+        verify(getLogoUseCase, never()).execute(any());
+        verify(logoPersistencePort, never()).get(any());
+        verify(logoImagePort, never()).render(any(), anyInt(), any());
+    }
+}
@@ -0,0 +1,133 @@
+package com.logo.application.variant;
+
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoVariant;
+import com.logo.domain.model.LogoVariantJob;
+import com.logo.domain.port.incoming.GetLogoVariantUseCase;
+import com.logo.domain.port.outgoing.LogoMetricsPort;
+import com.logo.domain.port.outgoing.LogoVariantJobPort;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LogoVariantJobWorkerTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final LogoVariantJobPort logoVariantJobPort = mock(LogoVariantJobPort.class);
+    private final GetLogoVariantService getLogoVariantService = mock(GetLogoVariantService.class);
+    private final LogoMetricsPort logoMetricsPort = mock(LogoMetricsPort.class);
+
+    // Two jobs at once, two per claim, three attempts
+    private final LogoVariantJobWorker worker = new LogoVariantJobWorker(logoVariantJobPort, getLogoVariantService,
+            logoMetricsPort, true, 2, 2, LEASE, 3, Duration.ofSeconds(30));
+
+    private GetLogoVariantUseCase.Result success;
+
+    @BeforeEach
+    void setUp() {
+        OffsetDateTime now = OffsetDateTime.now();
+        LogoVariant variant = new LogoVariant("content-hash", 64, ImageFormat.PNG, "variant".getBytes(), now);
+        LogoMetadata metadata = new LogoMetadata("AMZN", "https://img.logo.dev/ticker/AMZN", "AMZN.png", "image/png",
+                "content-hash", 10L, null, now, now);
+        success = new GetLogoVariantUseCase.Result.Success(metadata, variant);
+        when(logoVariantJobPort.complete(anyLong())).thenReturn(Uni.createFrom().voidItem());
+        when(logoVariantJobPort.retry(anyLong(), any(), anyString())).thenReturn(Uni.createFrom().voidItem());
+        when(logoVariantJobPort.abandon(anyLong(), anyString())).thenReturn(Uni.createFrom().voidItem());
+        when(logoVariantJobPort.countPending()).thenReturn(Uni.createFrom().item(7L));
+    }
+
+    @Test
+    void shouldClaimUntilQueueIsDrainedAndCompleteGeneratedJobs() {
+        // Given
+        when(logoVariantJobPort.claim(2, LEASE))
+                .thenReturn(Uni.createFrom().item(List.of(job(1, "AMZN", 1), job(2, "MSFT", 1))))
+                .thenReturn(Uni.createFrom().item(List.of(job(3, "NFLX", 1))));
+        when(getLogoVariantService.executeStored(anyString(), anyString(), eq(64), eq(ImageFormat.PNG))).thenReturn(Uni.createFrom().item(success));
+
+        // When
+        worker.drain().await().indefinitely();
+
+        // Then
+        verify(logoVariantJobPort, times(2)).claim(2, LEASE);
+        verify(logoVariantJobPort).complete(1);
+        verify(logoVariantJobPort).complete(2);
+        verify(logoVariantJobPort).complete(3);
+        verify(logoMetricsPort).variantBacklog(7);
+    }
+
+    @Test
+    void shouldRetryTransientFailuresWithBackoff() {
+        // Given
+        when(logoVariantJobPort.claim(2, LEASE)).thenReturn(Uni.createFrom().item(List.of(job(1, "AMZN", 2))));
+        when(getLogoVariantService.executeStored("AMZN", "hash-AMZN", 64, ImageFormat.PNG))
+                .thenReturn(Uni.createFrom().item(new GetLogoVariantUseCase.Result.Error(Errors.SERVICE_UNAVAILABLE)));
+        OffsetDateTime before = OffsetDateTime.now();
+
+        // When
+        worker.drain().await().indefinitely();
+
+        // Then
+        // Second attempt, so twice the backoff
+        verify(logoVariantJobPort).retry(eq(1L), argThat(retryAt -> !retryAt.isBefore(before.plusSeconds(60))),
+                eq("SERVICE_UNAVAILABLE (attempt 2)"));
+        verify(logoVariantJobPort, never()).abandon(anyLong(), anyString());
+        verify(logoVariantJobPort, never()).complete(anyLong());
+    }
+
+    @Test
+    void shouldAbandonJobsThatCannotSucceedOrFailedTooOften() {
+        // Given
+        when(logoVariantJobPort.claim(2, LEASE))
+                .thenReturn(Uni.createFrom().item(List.of(job(1, "SVG", 1), job(2, "DOWN", 3))))
+                .thenReturn(Uni.createFrom().item(List.of()));
+        when(getLogoVariantService.executeStored("SVG", "hash-SVG", 64, ImageFormat.PNG))
+                .thenReturn(Uni.createFrom().item(new GetLogoVariantUseCase.Result.Error(Errors.INVALID_REQUEST)));
+        when(getLogoVariantService.executeStored("DOWN", "hash-DOWN", 64, ImageFormat.PNG))
+                .thenReturn(Uni.createFrom().item(new GetLogoVariantUseCase.Result.Error(Errors.SERVICE_UNAVAILABLE)));
+
+        // When
+        worker.drain().await().indefinitely();
+
+        // Then
+        verify(logoVariantJobPort).abandon(1, "INVALID_REQUEST (attempt 1)");
+        verify(logoVariantJobPort).abandon(2, "SERVICE_UNAVAILABLE (attempt 3)");
+        verify(logoVariantJobPort, never()).retry(anyLong(), any(), anyString());
+    }
+
+    @Test
+    void shouldDropJobsForLogosThatNoLongerExist() {
+        // Given
+        when(logoVariantJobPort.claim(2, LEASE)).thenReturn(Uni.createFrom().item(List.of(job(1, "GONE", 1))));
+        when(getLogoVariantService.executeStored("GONE", "hash-GONE", 64, ImageFormat.PNG))
+                .thenReturn(Uni.createFrom().item(new GetLogoVariantUseCase.Result.NotFound()));
+
+        // When
+        worker.drain().await().indefinitely();
+
+        // Then
+        verify(logoVariantJobPort).complete(1);
+    }
+
+    private static LogoVariantJob job(long id, String identifier, int attempts) {
+        return new LogoVariantJob(id, identifier, "hash-" + identifier, 64, ImageFormat.PNG, attempts);
+    }
+}
@@ -0,0 +1,102 @@
+package com.logo.infrastructure.incoming.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.incoming.CreateLogoCommand;
+import com.logo.domain.port.incoming.CreateLogosUseCase;
+import com.logo.infrastructure.incoming.rest.mapper.LogoDtoMapper;
+import com.logo.infrastructure.incoming.rest.response.BulkCreateLogoResponse;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkLogoControllerTest {
+
+    private final CreateLogosUseCase createLogosUseCase = mock(CreateLogosUseCase.class);
+
+    // Up to 500 logos per batch, but only 1 KB of decoded content
+    private final BulkLogoController controller = new BulkLogoController(createLogosUseCase,
+            Mappers.getMapper(LogoDtoMapper.class), new ObjectMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(), 500, 1024, 10_485_760);
+
+    @Test
+    void shouldSplitLargeLogosIntoSeparateBatches() {
+        // Given
+        when(createLogosUseCase.execute(any())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+        String ndjson = String.join("\n", line("BIG1", 1500), line("BIG2", 1500), line("SMALL1", 10), line("SMALL2", 10));
+
+        // When
+        List<BulkCreateLogoResponse> responses = controller.createLogos(new ByteArrayInputStream(ndjson.getBytes()))
+                .collect().asList()
+                .await().atMost(Duration.ofSeconds(5));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CreateLogoCommand>> batches = ArgumentCaptor.forClass(List.class);
+        verify(createLogosUseCase, times(3)).execute(batches.capture());
+        assertThat(batches.getAllValues())
+                .extracting(batch -> batch.stream().map(CreateLogoCommand::externalIdentifier).toList())
+                .containsExactly(List.of("BIG1"), List.of("BIG2"), List.of("SMALL1", "SMALL2"));
+        assertThat(responses).extracting(BulkCreateLogoResponse::status).containsExactly(201, 201, 201, 201);
+    }
+
+    @Test
+    void shouldNotSaveNextBatchBeforePreviousOneIsSaved() {
+        // Given
+        AtomicReference<UniEmitter<? super List<CreateLogosUseCase.Result>>> firstSave = new AtomicReference<>();
+        when(createLogosUseCase.execute(any()))
+                .thenReturn(Uni.createFrom().emitter(firstSave::set))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+        String ndjson = String.join("\n", line("BIG1", 1500), line("BIG2", 1500));
+
+        // When
+        AssertSubscriber<BulkCreateLogoResponse> subscriber = controller.createLogos(new ByteArrayInputStream(ndjson.getBytes()))
+                .subscribe().withSubscriber(AssertSubscriber.create(Long.MAX_VALUE));
+        await().atMost(Duration.ofSeconds(5)).until(() -> firstSave.get() != null);
+
+        // Then
+        verify(createLogosUseCase, times(1)).execute(any());
+        firstSave.get().complete(List.of(success("BIG1")));
+        subscriber.awaitCompletion(Duration.ofSeconds(5));
+        verify(createLogosUseCase, times(2)).execute(any());
+        assertThat(subscriber.getItems()).extracting(BulkCreateLogoResponse::externalIdentifier)
+                .containsExactly("BIG1", "BIG2");
+    }
+
+    private static Uni<List<CreateLogosUseCase.Result>> created(List<CreateLogoCommand> commands) {
+        return Uni.createFrom().item(commands.stream().map(command -> success(command.externalIdentifier())).toList());
+    }
+
+    private static CreateLogosUseCase.Result success(String identifier) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new CreateLogosUseCase.Result.Success(new Logo(identifier, "https://img.logo.dev/ticker/" + identifier,
+                LogoContent.of(new byte[0]), identifier + ".png", "image/png", "content-hash", LogoSource.UPLOADED, now, now));
+    }
+
+    private static String line(String identifier, int contentBytes) {
+        return """
+                {"externalIdentifier":"%s","resourceUrl":"https://img.logo.dev/ticker/%s","fileContent":"%s","fileName":"%s.png","contentType":"image/png"}"""
+                .formatted(identifier, identifier, Base64.getEncoder().encodeToString(new byte[contentBytes]), identifier);
+    }
+}
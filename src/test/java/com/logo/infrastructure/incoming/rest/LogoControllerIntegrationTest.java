@@ -2,16 +2,42 @@ package com.logo.infrastructure.incoming.rest;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.common.http.TestHTTPResource;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.TestProfile;
 import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
 import org.junit.jupiter.api.*;
 
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipInputStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static io.restassured.RestAssured.given;
+import static org.awaitility.Awaitility.await;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.Matchers.equalTo;
 
@@ -21,6 +47,12 @@ class LogoControllerIntegrationTest {
 
     private static WireMockServer wireMockServer;
 
+    @Inject
+    InMemorySpanExporter spanExporter;
+
+    @TestHTTPResource("/api/v1/logos/upload")
+    URL uploadUrl;
+
     public static class SimpleIntegrationTestProfile implements io.quarkus.test.junit.QuarkusTestProfile {
         @Override
         public Map<String, String> getConfigOverrides() {
@@ -30,7 +62,10 @@ class LogoControllerIntegrationTest {
                     // Use PostgreSQL with dev services (test containers)
                     "quarkus.datasource.devservices.enabled", "true",
                     "quarkus.hibernate-orm.database.generation", "drop-and-create",
-                    "quarkus.liquibase.migrate-at-start", "false"
+                    "quarkus.liquibase.migrate-at-start", "false",
+                    "logo.upload.max-bytes", "1024",
+                    // Export finished spans promptly so tests need not wait long for them
+                    "quarkus.otel.bsp.schedule.delay", "50ms"
             );
         }
     }
@@ -51,6 +86,7 @@ class LogoControllerIntegrationTest {
     @BeforeEach
     void resetWireMock() {
         wireMockServer.resetAll();
+        given().delete("/api/v1/admin/missing-logos").then().statusCode(200);
     }
 
     @Test
@@ -134,6 +170,45 @@ class LogoControllerIntegrationTest {
         wireMockServer.verify(1, getRequestedFor(urlEqualTo("/ticker/MSFT?token=test-token")));
     }
 
+    @Test
+    @DisplayName("Should trace an upstream lookup through the persistence and logo.dev ports")
+    void shouldTraceUpstreamLookupThroughPorts() {
+        // Given
+        byte[] logoData = "traced-logo-content".getBytes();
+        wireMockServer.stubFor(get(urlEqualTo("/ticker/NFLX?token=test-token"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "image/jpeg")
+                        .withBody(logoData)));
+        spanExporter.reset();
+
+        // When
+        given()
+                .when()
+                .get("/api/v1/logos/external/NFLX")
+                .then()
+                .statusCode(200);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(spanExporter.getFinishedSpanItems())
+                .extracting(SpanData::getName)
+                .contains("LogoPersistencePort.get", "LogoApiPort.fetchLogo", "LogoPersistencePort.save")
+                .anyMatch(name -> name.contains("/logos/external/")));
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        SpanData server = spans.stream()
+                .filter(span -> span.getKind() == SpanKind.SERVER && span.getName().contains("/logos/external/"))
+                .findFirst().orElseThrow();
+        SpanData fetch = spans.stream()
+                .filter(span -> span.getName().equals("LogoApiPort.fetchLogo"))
+                .findFirst().orElseThrow();
+        assertThat(server.getName()).doesNotContain("NFLX");
+        assertThat(fetch.getTraceId()).isEqualTo(server.getTraceId());
+        assertThat(fetch.getAttributes().get(AttributeKey.longKey("logo.payload.bytes"))).isEqualTo((long) logoData.length);
+        // The logo.dev request itself is recorded underneath the port call
+        assertThat(spans).anyMatch(span -> span.getKind() == SpanKind.CLIENT
+                && span.getParentSpanId().equals(fetch.getSpanId()));
+    }
+
     @Test
     @DisplayName("Should return 500 when external API fails")
     void shouldReturn500WhenExternalApiFails() {
@@ -206,4 +281,622 @@ class LogoControllerIntegrationTest {
         // Verify NO external API calls were made (since logo exists in DB)
         wireMockServer.verify(0, getRequestedFor(urlEqualTo("/ticker/NFLX?token=test-token")));
     }
+
+    @Test
+    @DisplayName("Should return 304 when If-None-Match matches the stored content hash")
+    void shouldReturnNotModifiedWhenETagMatches() {
+        // Given
+        String logoData = Base64.getEncoder().encodeToString("created-logo-data".getBytes());
+        String requestBody = """
+                {
+                    "externalIdentifier": "ORCL",
+                    "resourceUrl": "https://img.logo.dev/ticker/ORCL",
+                    "fileContent": "%s",
+                    "fileName": "ORCL.png",
+                    "contentType": "image/png"
+                }
+                """.formatted(logoData);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/api/v1/logos")
+                .then()
+                .statusCode(201);
+
+        String eTag = "\"9c4b2402dfa11f2fdf5c7384dbb6706623661f7cac9af5ae2e4600cb4d96c4d0\"";
+
+        // When & Then - the first response carries the strong ETag
+        given()
+                .when()
+                .get("/api/v1/logos/external/ORCL")
+                .then()
+                .statusCode(200)
+                .header("ETag", equalTo(eTag));
+
+        // When & Then - revalidation with the same ETag is answered without a body
+        given()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/api/v1/logos/external/ORCL")
+                .then()
+                .statusCode(304)
+                .header("ETag", equalTo(eTag))
+                .body(emptyOrNullString());
+
+        // When & Then - a stale ETag gets the full content again
+        given()
+                .header("If-None-Match", "\"stale\"")
+                .when()
+                .get("/api/v1/logos/external/ORCL")
+                .then()
+                .statusCode(200)
+                .body(equalTo("created-logo-data"));
+    }
+
+    @Test
+    @DisplayName("Should send caching headers and honour If-Modified-Since")
+    void shouldSendCachingHeadersAndHonourIfModifiedSince() {
+        // Given
+        String logoData = Base64.getEncoder().encodeToString("created-logo-data".getBytes());
+        String requestBody = """
+                {
+                    "externalIdentifier": "IBM",
+                    "resourceUrl": "https://img.logo.dev/ticker/IBM",
+                    "fileContent": "%s",
+                    "fileName": "IBM.png",
+                    "contentType": "image/png"
+                }
+                """.formatted(logoData);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/api/v1/logos")
+                .then()
+                .statusCode(201);
+
+        // When & Then
+        String lastModified = given()
+                .when()
+                .get("/api/v1/logos/external/IBM")
+                .then()
+                .statusCode(200)
+                .header("Cache-Control", containsString("max-age="))
+                .header("Last-Modified", notNullValue())
+                .extract().header("Last-Modified");
+
+        given()
+                .header("If-Modified-Since", lastModified)
+                .when()
+                .get("/api/v1/logos/external/IBM")
+                .then()
+                .statusCode(304)
+                .header("Cache-Control", containsString("max-age="));
+    }
+
+    @Test
+    @DisplayName("Should return stored and fetched logos in one zip and list the missing ones")
+    void shouldReturnLogosInBatch() throws IOException {
+        // Given
+        String logoData = Base64.getEncoder().encodeToString("batch-stored-logo".getBytes());
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {
+                            "externalIdentifier": "GOOG",
+                            "resourceUrl": "https://img.logo.dev/ticker/GOOG",
+                            "fileContent": "%s",
+                            "fileName": "GOOG.png",
+                            "contentType": "image/png"
+                        }
+                        """.formatted(logoData))
+                .when()
+                .post("/api/v1/logos")
+                .then()
+                .statusCode(201);
+        wireMockServer.stubFor(get(urlEqualTo("/ticker/TSLA?token=test-token"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "image/jpeg")
+                        .withBody("batch-fetched-logo".getBytes())));
+        wireMockServer.stubFor(get(urlEqualTo("/ticker/NOPE?token=test-token"))
+                .willReturn(aResponse().withStatus(404)));
+
+        // When
+        byte[] archive = given()
+                .when()
+                .get("/api/v1/logos/external?ids=GOOG,TSLA&ids=NOPE")
+                .then()
+                .statusCode(200)
+                .contentType("application/zip")
+                .header("X-Missing-Logos", equalTo("NOPE"))
+                .extract().asByteArray();
+
+        // Then
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes()));
+            }
+        }
+        assertThat(entries).containsExactly(
+                Map.entry("GOOG/GOOG.png", "batch-stored-logo"),
+                Map.entry("TSLA/TSLA.jpeg", "batch-fetched-logo"));
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/ticker/GOOG?token=test-token")));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch request without identifiers")
+    void shouldRejectEmptyBatch() {
+        given()
+                .when()
+                .get("/api/v1/logos/external")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Should create logos from an NDJSON upload and report every line")
+    void shouldCreateLogosInBulk() {
+        // Given
+        String content = Base64.getEncoder().encodeToString("bulk-logo".getBytes());
+        String ndjson = String.join("\n",
+                """
+                {"externalIdentifier":"BULK1","resourceUrl":"https://img.logo.dev/ticker/BULK1","fileContent":"%s","fileName":"BULK1.png","contentType":"image/png"}"""
+                        .formatted(content),
+                "",
+                """
+                {"externalIdentifier":"BULK2","resourceUrl":"https://img.logo.dev/ticker/BULK2","fileContent":"%s","fileName":"BULK2.png","contentType":"text/plain"}"""
+                        .formatted(content),
+                "{not json");
+
+        // When
+        String[] results = given()
+                .contentType("application/x-ndjson")
+                .body(ndjson)
+                .when()
+                .post("/api/v1/logos/bulk")
+                .then()
+                .statusCode(200)
+                .extract().asString()
+                .strip()
+                .split("\n");
+
+        // Then
+        assertThat(results).hasSize(3);
+        assertThat(results[0]).contains("\"line\":1", "\"externalIdentifier\":\"BULK1\"", "\"status\":201");
+        assertThat(results[1]).contains("\"line\":3", "\"status\":400", "contentType");
+        assertThat(results[2]).contains("\"line\":4", "\"status\":400", "Malformed JSON");
+        given()
+                .when()
+                .get("/api/v1/logos/external/BULK1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("bulk-logo"));
+    }
+
+    @Test
+    @DisplayName("Should answer a bulk line over the size limit with 413 and keep reading the upload")
+    void shouldRejectOversizedBulkLine() {
+        // Given
+        String content = Base64.getEncoder().encodeToString("bulk-logo".getBytes());
+        String ndjson = String.join("\n",
+                "{\"externalIdentifier\":\"BULK3\",\"fileContent\":\"%s\"}".formatted("A".repeat(64 * 1024)),
+                """
+                {"externalIdentifier":"BULK4","resourceUrl":"https://img.logo.dev/ticker/BULK4","fileContent":"%s","fileName":"BULK4.png","contentType":"image/png"}"""
+                        .formatted(content));
+
+        // When
+        String[] results = given()
+                .contentType("application/x-ndjson")
+                .body(ndjson)
+                .when()
+                .post("/api/v1/logos/bulk")
+                .then()
+                .statusCode(200)
+                .extract().asString()
+                .strip()
+                .split("\n");
+
+        // Then
+        assertThat(results).hasSize(2);
+        assertThat(results[0]).contains("\"line\":1", "\"status\":413").doesNotContain("BULK3");
+        assertThat(results[1]).contains("\"line\":2", "\"externalIdentifier\":\"BULK4\"", "\"status\":201");
+    }
+
+    @Test
+    @DisplayName("Should create a logo from a raw image body")
+    void shouldCreateLogoFromRawBody() {
+        // When & Then
+        given()
+                .contentType("image/png")
+                .queryParam("resourceUrl", "https://img.logo.dev/ticker/RAW1")
+                .body("raw-logo".getBytes())
+                .when()
+                .put("/api/v1/logos/upload/RAW1")
+                .then()
+                .statusCode(201)
+                .body("externalIdentifier", equalTo("RAW1"))
+                .body("fileName", equalTo("RAW1.png"))
+                .body("contentType", equalTo("image/png"));
+
+        given()
+                .when()
+                .get("/api/v1/logos/external/RAW1")
+                .then()
+                .statusCode(200)
+                .body(equalTo("raw-logo"));
+    }
+
+    @Test
+    @DisplayName("Should reject a raw image body over the size limit")
+    void shouldRejectOversizedRawBody() {
+        given()
+                .contentType("image/png")
+                .queryParam("resourceUrl", "https://img.logo.dev/ticker/RAW2")
+                .body(new byte[2048])
+                .when()
+                .put("/api/v1/logos/upload/RAW2")
+                .then()
+                .statusCode(413);
+    }
+
+    @Test
+    @DisplayName("Should create a logo from a multipart upload")
+    void shouldCreateLogoFromMultipart() {
+        given()
+                .multiPart("file", "MULTI.png", "multipart-logo".getBytes(), "image/png")
+                .multiPart("externalIdentifier", "MULTI")
+                .multiPart("resourceUrl", "https://img.logo.dev/ticker/MULTI")
+                .when()
+                .post("/api/v1/logos/upload")
+                .then()
+                .statusCode(201)
+                .body("externalIdentifier", equalTo("MULTI"))
+                .body("fileName", equalTo("MULTI.png"));
+    }
+
+    @Test
+    @DisplayName("Should reject an oversized multipart upload from its declared length before receiving the body")
+    void shouldRejectOversizedMultipartBeforeReceivingBody() throws IOException {
+        // Given: headers declaring a body far over the limit, followed by only the start of it
+        String boundary = "logo-boundary";
+        String head = """
+                POST %s HTTP/1.1\r
+                Host: %s:%d\r
+                Content-Type: multipart/form-data; boundary=%s\r
+                Content-Length: %d\r
+                \r
+                --%s\r
+                Content-Disposition: form-data; name="file"; filename="HUGE.png"\r
+                Content-Type: image/png\r
+                \r
+                """.formatted(uploadUrl.getPath(), uploadUrl.getHost(), uploadUrl.getPort(), boundary,
+                100L * 1024 * 1024, boundary);
+
+        try (Socket socket = new Socket(uploadUrl.getHost(), uploadUrl.getPort())) {
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write(head.getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().write(new byte[1024]);
+            socket.getOutputStream().flush();
+
+            // When: the rest of the body is never sent, so only a check made before receiving it can answer
+            String statusLine = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+                    .readLine();
+
+            // Then
+            assertThat(statusLine).startsWith("HTTP/1.1 413");
+        }
+    }
+
+    @Test
+    @DisplayName("Should strip directories from multipart file names")
+    void shouldStripDirectoriesFromMultipartFileName() {
+        given()
+                .multiPart("file", "../../MULTI2.png", "multipart-logo".getBytes(), "image/png")
+                .multiPart("externalIdentifier", "MULTI2")
+                .multiPart("resourceUrl", "https://img.logo.dev/ticker/MULTI2")
+                .when()
+                .post("/api/v1/logos/upload")
+                .then()
+                .statusCode(201)
+                .body("fileName", equalTo("MULTI2.png"));
+    }
+
+    @Test
+    @DisplayName("Should answer HEAD and metadata requests from stored metadata")
+    void shouldServeHeadAndMetadataWithoutContent() {
+        // Given
+        given()
+                .contentType("image/png")
+                .queryParam("resourceUrl", "https://img.logo.dev/ticker/HEAD1")
+                .body("head-logo".getBytes())
+                .when()
+                .put("/api/v1/logos/upload/HEAD1")
+                .then()
+                .statusCode(201);
+
+        // When & Then
+        given()
+                .when()
+                .head("/api/v1/logos/external/HEAD1")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", "image/png")
+                .header("Content-Length", "9")
+                .header("ETag", notNullValue());
+
+        given()
+                .when()
+                .get("/api/v1/logos/external/HEAD1/metadata")
+                .then()
+                .statusCode(200)
+                .contentType(ContentType.JSON)
+                .body("externalIdentifier", equalTo("HEAD1"))
+                .body("sizeBytes", equalTo(9))
+                .body("source", equalTo("UPLOADED"))
+                .body("fileContent", nullValue());
+    }
+
+    @Test
+    @DisplayName("Should answer HEAD for an unknown logo with 404 without calling upstream")
+    void shouldNotFetchUpstreamOnHead() {
+        given()
+                .when()
+                .head("/api/v1/logos/external/HEAD404")
+                .then()
+                .statusCode(404);
+
+        wireMockServer.verify(0, getRequestedFor(urlPathEqualTo("/ticker/HEAD404")));
+    }
+
+    @Test
+    @DisplayName("Should answer a known-missing logo from the negative cache until it is purged")
+    void shouldRememberLogosMissingUpstream() {
+        // Given
+        wireMockServer.stubFor(get(urlEqualTo("/ticker/GONE?token=test-token"))
+                .willReturn(aResponse().withStatus(404)));
+
+        // When & Then
+        given().when().get("/api/v1/logos/external/GONE").then().statusCode(404);
+        given().when().get("/api/v1/logos/external/GONE").then().statusCode(404);
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/ticker/GONE?token=test-token")));
+
+        given().when().delete("/api/v1/admin/missing-logos/GONE").then().statusCode(204);
+        given().when().delete("/api/v1/admin/missing-logos/GONE").then().statusCode(404);
+        given().when().get("/api/v1/logos/external/GONE").then().statusCode(404);
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/ticker/GONE?token=test-token")));
+    }
+
+    @Test
+    @DisplayName("Should serve resized and converted variants of a logo")
+    void shouldServeLogoVariants() throws IOException {
+        // Given
+        BufferedImage original = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = original.createGraphics();
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(0, 0, 50, 50);
+        graphics.dispose();
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(original, "png", png);
+        given()
+                .contentType("image/png")
+                .queryParam("resourceUrl", "https://img.logo.dev/ticker/SIZED")
+                .body(png.toByteArray())
+                .when()
+                .put("/api/v1/logos/upload/SIZED")
+                .then()
+                .statusCode(201);
+
+        // When
+        io.restassured.response.Response response = given()
+                .queryParam("size", 32)
+                .queryParam("format", "jpeg")
+                .when()
+                .get("/api/v1/logos/external/SIZED");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.contentType()).isEqualTo("image/jpeg");
+        BufferedImage variant = ImageIO.read(new ByteArrayInputStream(response.asByteArray()));
+        assertThat(variant.getWidth()).isEqualTo(32);
+        assertThat(variant.getHeight()).isEqualTo(16);
+
+        given()
+                .queryParam("size", 32)
+                .queryParam("format", "jpeg")
+                .header("If-None-Match", response.header("ETag"))
+                .when()
+                .get("/api/v1/logos/external/SIZED")
+                .then()
+                .statusCode(304);
+        given().queryParam("size", 33).when().get("/api/v1/logos/external/SIZED").then().statusCode(400);
+        given().queryParam("format", "webp").when().get("/api/v1/logos/external/SIZED").then().statusCode(400);
+        given().queryParam("format", "tiff").when().get("/api/v1/logos/external/SIZED").then().statusCode(400);
+    }
+
+    @Test
+    @DisplayName("Should serve the stored gzip encoding of compressible logos to clients accepting it")
+    void shouldServeGzipEncodedSvg() throws IOException {
+        // Given
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\">%s</svg>".formatted("<rect width=\"1\" height=\"1\"/>".repeat(40));
+        String requestBody = """
+                {
+                    "externalIdentifier": "SVGZ",
+                    "resourceUrl": "https://img.logo.dev/ticker/SVGZ",
+                    "fileContent": "%s",
+                    "fileName": "SVGZ.svg",
+                    "contentType": "image/svg+xml"
+                }
+                """.formatted(Base64.getEncoder().encodeToString(svg.getBytes()));
+        given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/api/v1/logos")
+                .then()
+                .statusCode(201);
+
+        // When
+        io.restassured.response.Response gzipped = given()
+                .config(io.restassured.RestAssured.config().decoderConfig(
+                        io.restassured.config.DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip")
+                .when()
+                .get("/api/v1/logos/external/SVGZ");
+
+        // Then
+        assertThat(gzipped.statusCode()).isEqualTo(200);
+        assertThat(gzipped.header("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzipped.header("Vary")).containsIgnoringCase("Accept-Encoding");
+        assertThat(gzipped.header("ETag")).endsWith("-gzip\"");
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzipped.asByteArray()))) {
+            assertThat(new String(input.readAllBytes())).isEqualTo(svg);
+        }
+
+        given()
+                .header("Accept-Encoding", "identity")
+                .when()
+                .get("/api/v1/logos/external/SVGZ")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", containsStringIgnoringCase("Accept-Encoding"))
+                .body(equalTo(svg));
+
+        given()
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", gzipped.header("ETag"))
+                .when()
+                .get("/api/v1/logos/external/SVGZ")
+                .then()
+                .statusCode(304)
+                .header("ETag", equalTo(gzipped.header("ETag")));
+
+        // A gzip tag of other content is no match, however it ends
+        given()
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "\"other-content-gzip\", W/\"stale-gzip\"")
+                .when()
+                .get("/api/v1/logos/external/SVGZ")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    @DisplayName("Should answer HEAD with the length and Vary the gzip or identity GET would send")
+    void shouldAnswerHeadLikeGetForGzipEncodedSvg() {
+        // Given
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\">%s</svg>".formatted("<circle r=\"1\"/>".repeat(60));
+        given()
+                .contentType("image/svg+xml")
+                .queryParam("resourceUrl", "https://img.logo.dev/ticker/SVGH")
+                .body(svg.getBytes())
+                .when()
+                .put("/api/v1/logos/upload/SVGH")
+                .then()
+                .statusCode(201);
+        io.restassured.response.Response gzipped = given()
+                .config(io.restassured.RestAssured.config().decoderConfig(
+                        io.restassured.config.DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip")
+                .when()
+                .get("/api/v1/logos/external/SVGH");
+
+        // When & Then
+        given()
+                .header("Accept-Encoding", "gzip")
+                .when()
+                .head("/api/v1/logos/external/SVGH")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Length", String.valueOf(gzipped.asByteArray().length))
+                .header("Vary", containsStringIgnoringCase("Accept-Encoding"))
+                .header("ETag", equalTo(gzipped.header("ETag")));
+
+        given()
+                .header("Accept-Encoding", "identity")
+                .when()
+                .head("/api/v1/logos/external/SVGH")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Content-Length", String.valueOf(svg.length()))
+                .header("Vary", containsStringIgnoringCase("Accept-Encoding"));
+    }
+
+    @Test
+    @DisplayName("Should serve a single byte range of a logo and honour If-Range")
+    void shouldServeByteRanges() {
+        // Given
+        String requestBody = """
+                {
+                    "externalIdentifier": "RNGE",
+                    "resourceUrl": "https://img.logo.dev/ticker/RNGE",
+                    "fileContent": "%s",
+                    "fileName": "RNGE.png",
+                    "contentType": "image/png"
+                }
+                """.formatted(Base64.getEncoder().encodeToString("0123456789".getBytes()));
+        given()
+                .contentType(ContentType.JSON)
+                .body(requestBody)
+                .when()
+                .post("/api/v1/logos")
+                .then()
+                .statusCode(201);
+        String eTag = given()
+                .when()
+                .get("/api/v1/logos/external/RNGE")
+                .then()
+                .statusCode(200)
+                .header("Accept-Ranges", equalTo("bytes"))
+                .extract().header("ETag");
+
+        // When & Then - a slice of the stored content
+        given()
+                .header("Range", "bytes=2-5")
+                .when()
+                .get("/api/v1/logos/external/RNGE")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", equalTo("bytes 2-5/10"))
+                .header("ETag", equalTo(eTag))
+                .body(equalTo("2345"));
+
+        // When & Then - suffix range with a matching If-Range
+        given()
+                .header("Range", "bytes=-3")
+                .header("If-Range", eTag)
+                .when()
+                .get("/api/v1/logos/external/RNGE")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", equalTo("bytes 7-9/10"))
+                .body(equalTo("789"));
+
+        // When & Then - an outdated If-Range gets the whole logo
+        given()
+                .header("Range", "bytes=2-5")
+                .header("If-Range", "\"stale\"")
+                .when()
+                .get("/api/v1/logos/external/RNGE")
+                .then()
+                .statusCode(200)
+                .body(equalTo("0123456789"));
+
+        // When & Then - a range past the end cannot be satisfied
+        given()
+                .header("Range", "bytes=10-")
+                .when()
+                .get("/api/v1/logos/external/RNGE")
+                .then()
+                .statusCode(416)
+                .header("Content-Range", equalTo("bytes */10"));
+    }
 }
@@ -0,0 +1,100 @@
+package com.logo.infrastructure.incoming.rest.archive;
+
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogoZipArchiveTest {
+
+    @Test
+    void shouldStoreRasterLogosAndDeflateTheRest() throws IOException {
+        // Given
+        Logo png = logo("AMZN", "AMZN.png", "image/png", "png-bytes");
+        Logo svg = logo("MSFT", "MSFT.svg", "image/svg+xml", "<svg>" + " ".repeat(1000) + "</svg>");
+
+        // When
+        Map<String, ZipEntry> entries = read(write(List.of(png, svg)));
+
+        // Then
+        assertThat(entries).containsOnlyKeys("AMZN/AMZN.png", "MSFT/MSFT.svg");
+        assertThat(entries.get("AMZN/AMZN.png").getMethod()).isEqualTo(ZipEntry.STORED);
+        assertThat(entries.get("MSFT/MSFT.svg").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+    }
+
+    @Test
+    void shouldCopyContentLeftInStorage() throws IOException {
+        // Given
+        byte[] bytes = "stored-png-bytes".getBytes();
+        LogoContent.Streamed stored = new LogoContent.Streamed() {
+            @Override
+            public long size() {
+                return bytes.length;
+            }
+
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(bytes);
+            }
+        };
+        OffsetDateTime now = OffsetDateTime.now();
+        Logo logo = new Logo("AMZN", null, stored, "AMZN.png", "image/png", "hash", LogoSource.UPLOADED, now, now);
+
+        // When
+        byte[] archive = write(List.of(logo));
+
+        // Then
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+            assertThat(zip.readAllBytes()).isEqualTo(bytes);
+        }
+    }
+
+    @Test
+    void shouldKeepEntriesInsideTheArchiveRoot() {
+        // Given
+        Logo logo = logo("AMZN", "../../etc/AMZN.png", "image/png", "png-bytes");
+        Logo unnamed = logo("..", "..", "image/png", "png-bytes");
+
+        // When & Then
+        assertThat(LogoZipArchive.entryName(logo)).isEqualTo("AMZN/AMZN.png");
+        assertThat(LogoZipArchive.entryName(unnamed)).isEqualTo("_/_");
+    }
+
+    private static byte[] write(List<Logo> logos) throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        LogoZipArchive.write(logos, archive);
+        return archive.toByteArray();
+    }
+
+    private static Map<String, ZipEntry> read(byte[] archive) throws IOException {
+        Map<String, ZipEntry> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                zip.readAllBytes();
+                entries.put(entry.getName(), entry);
+            }
+        }
+        return entries;
+    }
+
+    private static Logo logo(String identifier, String fileName, String contentType, String content) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Logo(identifier, "https://img.logo.dev/ticker/" + identifier, LogoContent.of(content.getBytes()), fileName,
+                contentType, "hash", LogoSource.UPLOADED, now, now);
+    }
+}
@@ -0,0 +1,101 @@
+package com.logo.infrastructure.incoming.rest.caching;
+
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoSource;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogoCachePolicyTest {
+
+    private static final OffsetDateTime UPDATED_AT = OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 123_000_000, ZoneOffset.UTC);
+
+    @Test
+    void shouldUseDefaultDirectives() {
+        // Given
+        LogoCachePolicy policy = policy(Map.of(
+                "logo.http-cache.default.max-age", "PT1H",
+                "logo.http-cache.default.s-maxage", "P1D",
+                "logo.http-cache.default.stale-while-revalidate", "PT10M"));
+
+        // When
+        String cacheControl = policy.cacheControl(metadata("image/png", LogoSource.UPLOADED));
+
+        // Then
+        assertThat(cacheControl).isEqualTo("public, max-age=3600, s-maxage=86400, stale-while-revalidate=600");
+    }
+
+    @Test
+    void shouldOverrideDefaultsPerSource() {
+        // Given
+        LogoCachePolicy policy = policy(Map.of(
+                "logo.http-cache.default.max-age", "PT1H",
+                "logo.http-cache.source.uploaded.max-age", "P1D",
+                "logo.http-cache.source.uploaded.immutable", "true"));
+
+        // When
+        String uploaded = policy.cacheControl(metadata("image/png", LogoSource.UPLOADED));
+        String upstream = policy.cacheControl(metadata("image/png", LogoSource.UPSTREAM));
+
+        // Then
+        assertThat(uploaded).isEqualTo("public, max-age=86400, immutable");
+        assertThat(upstream).isEqualTo("public, max-age=3600");
+    }
+
+    @Test
+    void shouldPreferContentTypeOverSource() {
+        // Given
+        LogoCachePolicy policy = policy(Map.of(
+                "logo.http-cache.default.max-age", "PT1H",
+                "logo.http-cache.source.upstream.max-age", "PT6H",
+                "logo.http-cache.content-type.\"image/svg+xml\".max-age", "P7D"));
+
+        // When
+        String cacheControl = policy.cacheControl(metadata("image/svg+xml", LogoSource.UPSTREAM));
+
+        // Then
+        assertThat(cacheControl).isEqualTo("public, max-age=604800");
+    }
+
+    @Test
+    void shouldSendNoCacheWithoutMaxAge() {
+        // Given
+        LogoCachePolicy policy = policy(Map.of());
+
+        // When
+        String cacheControl = policy.cacheControl(metadata("image/png", LogoSource.UPLOADED));
+
+        // Then
+        assertThat(cacheControl).isEqualTo(LogoCachePolicy.NO_CACHE);
+    }
+
+    @Test
+    void shouldTruncateLastModifiedToSeconds() {
+        // When
+        Date lastModified = LogoCachePolicy.lastModified(metadata("image/png", LogoSource.UPLOADED));
+
+        // Then
+        assertThat(lastModified).isEqualTo(Date.from(UPDATED_AT.toInstant().withNano(0)));
+    }
+
+    private static LogoCachePolicy policy(Map<String, String> properties) {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(LogoCachePolicyConfig.class)
+                .withSources(new PropertiesConfigSource(properties, "test", 100))
+                .build();
+        return new LogoCachePolicy(config.getConfigMapping(LogoCachePolicyConfig.class));
+    }
+
+    private static LogoMetadata metadata(String contentType, LogoSource source) {
+        return new LogoMetadata("AMZN", "https://img.logo.dev/ticker/AMZN", "AMZN.png", contentType,
+                "content-hash", 9L, source, UPDATED_AT, UPDATED_AT);
+    }
+}
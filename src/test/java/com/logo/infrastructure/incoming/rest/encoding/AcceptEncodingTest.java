@@ -0,0 +1,38 @@
+package com.logo.infrastructure.incoming.rest.encoding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptEncodingTest {
+
+    @Test
+    void shouldAcceptListedGzip() {
+        assertThat(AcceptEncoding.accepts("gzip", AcceptEncoding.GZIP)).isTrue();
+        assertThat(AcceptEncoding.accepts("gzip, deflate, br", AcceptEncoding.GZIP)).isTrue();
+        assertThat(AcceptEncoding.accepts("br;q=1.0, GZIP;q=0.8", AcceptEncoding.GZIP)).isTrue();
+        assertThat(AcceptEncoding.accepts("x-gzip", AcceptEncoding.GZIP)).isTrue();
+    }
+
+    @Test
+    void shouldAcceptGzipThroughWildcard() {
+        assertThat(AcceptEncoding.accepts("*", AcceptEncoding.GZIP)).isTrue();
+        assertThat(AcceptEncoding.accepts("*;q=0", AcceptEncoding.GZIP)).isFalse();
+    }
+
+    @Test
+    void shouldLetExplicitZeroQualityWinOverWildcard() {
+        assertThat(AcceptEncoding.accepts("gzip;q=0", AcceptEncoding.GZIP)).isFalse();
+        assertThat(AcceptEncoding.accepts("*, gzip;q=0", AcceptEncoding.GZIP)).isFalse();
+        assertThat(AcceptEncoding.accepts("gzip;q=0, *", AcceptEncoding.GZIP)).isFalse();
+    }
+
+    @Test
+    void shouldRefuseGzipWhenNotOffered() {
+        assertThat(AcceptEncoding.accepts(null, AcceptEncoding.GZIP)).isFalse();
+        assertThat(AcceptEncoding.accepts("", AcceptEncoding.GZIP)).isFalse();
+        assertThat(AcceptEncoding.accepts("identity", AcceptEncoding.GZIP)).isFalse();
+        assertThat(AcceptEncoding.accepts("deflate, br", AcceptEncoding.GZIP)).isFalse();
+        assertThat(AcceptEncoding.accepts("gzip;q=abc", AcceptEncoding.GZIP)).isFalse();
+    }
+}
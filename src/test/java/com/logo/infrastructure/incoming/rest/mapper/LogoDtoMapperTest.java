@@ -1,8 +1,11 @@
 package com.logo.infrastructure.incoming.rest.mapper;
 
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
 import com.logo.domain.port.incoming.CreateLogoCommand;
 import com.logo.infrastructure.incoming.rest.request.CreateLogoRequest;
+import com.logo.infrastructure.incoming.rest.response.LogoMetadataResponse;
 import com.logo.infrastructure.incoming.rest.response.LogoResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,9 +38,11 @@ class LogoDtoMapperTest {
         domainLogo = new Logo(
                 "AMZN",
                 "https://img.logo.dev/ticker/AMZN",
-                "logo-data".getBytes(),
+                LogoContent.of("logo-data".getBytes()),
                 "AMZN.jpeg",
                 "image/jpeg",
+                "content-hash",
+                LogoSource.UPLOADED,
                 testTime,
                 testTime
         );
@@ -62,10 +67,22 @@ class LogoDtoMapperTest {
         assertThat(result).isNotNull();
         assertThat(result.externalIdentifier()).isEqualTo(domainLogo.externalIdentifier());
         assertThat(result.resourceUrl()).isEqualTo(domainLogo.resourceUrl());
-        assertThat(result.fileContent()).isEqualTo(domainLogo.fileContent());
+        assertThat(result.fileContent()).isEqualTo("logo-data".getBytes());
         assertThat(result.fileName()).isEqualTo(domainLogo.fileName());
         assertThat(result.contentType()).isEqualTo(domainLogo.contentType());
         assertThat(result.createdAt()).isEqualTo(domainLogo.createdAt());
         assertThat(result.updatedAt()).isEqualTo(domainLogo.updatedAt());
     }
+
+    @Test
+    void shouldMapMetadataToResponse() {
+        // When
+        LogoMetadataResponse result = logoDtoMapper.toMetadataResponse(domainLogo.metadata());
+
+        // Then
+        assertThat(result.externalIdentifier()).isEqualTo(domainLogo.externalIdentifier());
+        assertThat(result.contentHash()).isEqualTo(domainLogo.contentHash());
+        assertThat(result.sizeBytes()).isEqualTo(domainLogo.content().size());
+        assertThat(result.source()).isEqualTo(LogoSource.UPLOADED);
+    }
 }
@@ -0,0 +1,49 @@
+package com.logo.infrastructure.incoming.rest.range;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeTest {
+
+    @Test
+    void shouldResolveBoundedRange() {
+        // When
+        ByteRange.Resolution resolution = ByteRange.resolve("bytes=10-19", 100);
+
+        // Then
+        assertThat(resolution).isEqualTo(new ByteRange.Resolution.Partial(10, 19));
+        assertThat(((ByteRange.Resolution.Partial) resolution).length()).isEqualTo(10);
+        assertThat(ByteRange.contentRange((ByteRange.Resolution.Partial) resolution, 100)).isEqualTo("bytes 10-19/100");
+    }
+
+    @Test
+    void shouldResolveOpenAndSuffixRanges() {
+        assertThat(ByteRange.resolve("bytes=90-", 100)).isEqualTo(new ByteRange.Resolution.Partial(90, 99));
+        assertThat(ByteRange.resolve("bytes=-10", 100)).isEqualTo(new ByteRange.Resolution.Partial(90, 99));
+        assertThat(ByteRange.resolve("bytes=-500", 100)).isEqualTo(new ByteRange.Resolution.Partial(0, 99));
+        assertThat(ByteRange.resolve("BYTES=0-", 100)).isEqualTo(new ByteRange.Resolution.Partial(0, 99));
+    }
+
+    @Test
+    void shouldClampRangeEndingPastTheContent() {
+        assertThat(ByteRange.resolve("bytes=50-1000", 100)).isEqualTo(new ByteRange.Resolution.Partial(50, 99));
+    }
+
+    @Test
+    void shouldReportUnsatisfiableRanges() {
+        assertThat(ByteRange.resolve("bytes=100-", 100)).isEqualTo(new ByteRange.Resolution.Unsatisfiable());
+        assertThat(ByteRange.resolve("bytes=-0", 100)).isEqualTo(new ByteRange.Resolution.Unsatisfiable());
+        assertThat(ByteRange.resolve("bytes=0-", 0)).isEqualTo(new ByteRange.Resolution.Unsatisfiable());
+        assertThat(ByteRange.unsatisfiedContentRange(100)).isEqualTo("bytes */100");
+    }
+
+    @Test
+    void shouldFallBackToFullContentForMalformedOrMultipleRanges() {
+        assertThat(ByteRange.resolve("bytes=0-9,20-29", 100)).isEqualTo(new ByteRange.Resolution.Full());
+        assertThat(ByteRange.resolve("bytes=20-10", 100)).isEqualTo(new ByteRange.Resolution.Full());
+        assertThat(ByteRange.resolve("bytes=a-b", 100)).isEqualTo(new ByteRange.Resolution.Full());
+        assertThat(ByteRange.resolve("items=0-9", 100)).isEqualTo(new ByteRange.Resolution.Full());
+        assertThat(ByteRange.resolve("bytes=5", 100)).isEqualTo(new ByteRange.Resolution.Full());
+    }
+}
@@ -0,0 +1,52 @@
+package com.logo.infrastructure.incoming.rest.upload;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedBatchesTest {
+
+    @Test
+    void shouldCloseBatchAtMaxCount() {
+        // When
+        List<List<Integer>> batches = batches(List.of(1, 1, 1, 1, 1), 2, 100);
+
+        // Then
+        assertThat(batches).containsExactly(List.of(1, 1), List.of(1, 1), List.of(1));
+    }
+
+    @Test
+    void shouldCloseBatchOnceItsBytesReachMaxBytes() {
+        // When
+        List<List<Integer>> batches = batches(List.of(40, 40, 40, 150, 10), 100, 100);
+
+        // Then
+        assertThat(batches).containsExactly(List.of(40, 40, 40), List.of(150), List.of(10));
+    }
+
+    @Test
+    void shouldOnlyPullItemsOfTheBatchAskedFor() {
+        // Given
+        List<Integer> pulled = new ArrayList<>();
+        Iterator<Integer> source = List.of(60, 60, 60, 60).stream().peek(pulled::add).iterator();
+        BoundedBatches<Integer> batches = new BoundedBatches<>(source, 100, 100, Integer::longValue);
+
+        // When
+        List<Integer> first = batches.next();
+
+        // Then
+        assertThat(first).containsExactly(60, 60);
+        assertThat(pulled).hasSize(2);
+    }
+
+    private static List<List<Integer>> batches(List<Integer> bytes, int maxCount, long maxBytes) {
+        BoundedBatches<Integer> batches = new BoundedBatches<>(bytes.iterator(), maxCount, maxBytes, Integer::longValue);
+        List<List<Integer>> all = new ArrayList<>();
+        batches.forEachRemaining(all::add);
+        return all;
+    }
+}
@@ -0,0 +1,56 @@
+package com.logo.infrastructure.incoming.rest.upload;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedBodyReaderTest {
+
+    @Test
+    void shouldReadBodyWithinLimit() throws IOException {
+        // Given
+        byte[] content = new byte[40_000];
+
+        // When
+        byte[] result = BoundedBodyReader.read(new ByteArrayInputStream(content), content.length, 40_000);
+
+        // Then
+        assertThat(result).isEqualTo(content);
+    }
+
+    @Test
+    void shouldRejectDeclaredLengthOverLimitWithoutReading() {
+        // Given
+        AtomicInteger reads = new AtomicInteger();
+        InputStream body = new InputStream() {
+            @Override
+            public int read() {
+                reads.incrementAndGet();
+                return -1;
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> BoundedBodyReader.read(body, 2048, 1024))
+                .isInstanceOf(BoundedBodyReader.ContentTooLargeException.class);
+        assertThat(reads).hasValue(0);
+    }
+
+    @Test
+    void shouldStopReadingChunkedBodyOnceLimitIsCrossed() {
+        // Given
+        byte[] content = new byte[100_000];
+        ByteArrayInputStream body = new ByteArrayInputStream(content);
+
+        // When & Then
+        assertThatThrownBy(() -> BoundedBodyReader.read(body, -1, 20_000))
+                .isInstanceOf(BoundedBodyReader.ContentTooLargeException.class);
+        assertThat(body.available()).isGreaterThan(0);
+    }
+}
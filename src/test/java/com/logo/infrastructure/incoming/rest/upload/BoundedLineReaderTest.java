@@ -0,0 +1,104 @@
+package com.logo.infrastructure.incoming.rest.upload;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedLineReaderTest {
+
+    @Test
+    void shouldReadLinesWithoutLineBreaks() {
+        // Given
+        BoundedLineReader reader = reader("first\r\nsecond\n\nlast", 100);
+
+        // When
+        List<BoundedLineReader.Line> lines = readAll(reader);
+
+        // Then
+        assertThat(lines).containsExactly(
+                new BoundedLineReader.Line(1, "first"),
+                new BoundedLineReader.Line(2, "second"),
+                new BoundedLineReader.Line(3, ""),
+                new BoundedLineReader.Line(4, "last"));
+    }
+
+    @Test
+    void shouldNotReportEmptyLineAfterTrailingLineBreak() {
+        // Given
+        BoundedLineReader reader = reader("only\n", 100);
+
+        // When & Then
+        assertThat(readAll(reader)).containsExactly(new BoundedLineReader.Line(1, "only"));
+    }
+
+    @Test
+    void shouldSkipLineOverLimitAndKeepReading() {
+        // Given
+        String longLine = "x".repeat(50_000);
+        BoundedLineReader reader = reader("short\n" + longLine + "\nafter", 1024);
+
+        // When
+        List<BoundedLineReader.Line> lines = readAll(reader);
+
+        // Then
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).text()).isEqualTo("short");
+        assertThat(lines.get(1).tooLong()).isTrue();
+        assertThat(lines.get(1).number()).isEqualTo(2);
+        assertThat(lines.get(2)).isEqualTo(new BoundedLineReader.Line(3, "after"));
+    }
+
+    @Test
+    void shouldDecodeMultiByteCharactersSplitAcrossReads() {
+        // Given
+        String text = "é".repeat(20_000);
+        InputStream body = new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                // Odd-sized reads split the two-byte characters
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+
+        // When
+        List<BoundedLineReader.Line> lines = readAll(new BoundedLineReader(body, 100_000));
+
+        // Then
+        assertThat(lines).containsExactly(new BoundedLineReader.Line(1, text));
+    }
+
+    @Test
+    void shouldCloseBody() throws IOException {
+        // Given
+        boolean[] closed = {false};
+        InputStream body = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        // When
+        new BoundedLineReader(body, 100).close();
+
+        // Then
+        assertThat(closed[0]).isTrue();
+    }
+
+    private static BoundedLineReader reader(String body, long maxLineBytes) {
+        return new BoundedLineReader(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), maxLineBytes);
+    }
+
+    private static List<BoundedLineReader.Line> readAll(BoundedLineReader reader) {
+        List<BoundedLineReader.Line> lines = new ArrayList<>();
+        reader.forEachRemaining(lines::add);
+        return lines;
+    }
+}
@@ -0,0 +1,65 @@
+package com.logo.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogoHistogramFilterTest {
+
+    private final LogoHistogramFilter filter = new LogoHistogramFilter(true, Duration.ofSeconds(10), 10_485_760);
+
+    @Test
+    void shouldPublishBoundedLatencyBucketsForLogoTimers() {
+        // When
+        DistributionStatisticConfig config = filter.configure(id("logo.get", Meter.Type.TIMER),
+                DistributionStatisticConfig.DEFAULT);
+
+        // Then
+        assertThat(config.isPercentileHistogram()).isTrue();
+        assertThat(config.getMinimumExpectedValueAsDouble()).isEqualTo((double) Duration.ofMillis(1).toNanos());
+        assertThat(config.getMaximumExpectedValueAsDouble()).isEqualTo((double) Duration.ofSeconds(10).toNanos());
+    }
+
+    @Test
+    void shouldPublishPayloadBucketsForEndpointSummaries() {
+        // When
+        DistributionStatisticConfig config = filter.configure(id("http.server.bytes.written", Meter.Type.DISTRIBUTION_SUMMARY),
+                DistributionStatisticConfig.DEFAULT);
+
+        // Then
+        assertThat(config.isPercentileHistogram()).isTrue();
+        assertThat(config.getMaximumExpectedValueAsDouble()).isEqualTo(10_485_760d);
+    }
+
+    @Test
+    void shouldLeaveOtherMetersAlone() {
+        // When
+        DistributionStatisticConfig config = filter.configure(id("jvm.gc.pause", Meter.Type.TIMER),
+                DistributionStatisticConfig.DEFAULT);
+
+        // Then
+        assertThat(config).isSameAs(DistributionStatisticConfig.DEFAULT);
+    }
+
+    @Test
+    void shouldNotPublishBucketsWhenDisabled() {
+        // Given
+        LogoHistogramFilter disabled = new LogoHistogramFilter(false, Duration.ofSeconds(10), 10_485_760);
+
+        // When
+        DistributionStatisticConfig config = disabled.configure(id("logo.get", Meter.Type.TIMER),
+                DistributionStatisticConfig.DEFAULT);
+
+        // Then
+        assertThat(config).isSameAs(DistributionStatisticConfig.DEFAULT);
+    }
+
+    private static Meter.Id id(String name, Meter.Type type) {
+        return new Meter.Id(name, Tags.empty(), null, null, type);
+    }
+}
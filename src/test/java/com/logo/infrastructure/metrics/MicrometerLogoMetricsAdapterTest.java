@@ -0,0 +1,74 @@
+package com.logo.infrastructure.metrics;
+
+import com.logo.domain.port.outgoing.LogoMetricsPort.LookupOutcome;
+import com.logo.domain.port.outgoing.LogoMetricsPort.RefreshOutcome;
+import com.logo.domain.port.outgoing.LogoMetricsPort.WriteBehindEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerLogoMetricsAdapterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MicrometerLogoMetricsAdapter adapter = new MicrometerLogoMetricsAdapter(meterRegistry);
+
+    @Test
+    void shouldTimeLookupsAndRecordPayloadByOutcome() {
+        // When
+        adapter.lookupCompleted(LookupOutcome.STORED, TimeUnit.MILLISECONDS.toNanos(5), 1024);
+
+        // Then
+        assertThat(meterRegistry.get("logo.get").tag("outcome", "stored").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("logo.get").tag("outcome", "stored").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(5);
+        assertThat(meterRegistry.get("logo.get.payload").tag("outcome", "stored").summary().totalAmount())
+                .isEqualTo(1024);
+    }
+
+    @Test
+    void shouldTimeUnansweredLookupsWithoutPayload() {
+        // When
+        adapter.lookupCompleted(LookupOutcome.NOT_FOUND, 1_000, -1);
+        adapter.lookupCompleted(LookupOutcome.UPSTREAM, 1_000, -1);
+
+        // Then
+        assertThat(meterRegistry.get("logo.get").tag("outcome", "not_found").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("logo.get.payload").tag("outcome", "not_found").summary()).isNull();
+        assertThat(meterRegistry.get("logo.get.payload").tag("outcome", "upstream").summary().count()).isZero();
+    }
+
+    @Test
+    void shouldPublishWriteBehindDepthAndEvents() {
+        // When
+        adapter.writeBehindDepth(3);
+        adapter.writeBehind(WriteBehindEvent.RETRIED);
+        adapter.writeBehind(WriteBehindEvent.RETRIED);
+        adapter.writeBehind(WriteBehindEvent.DROPPED);
+
+        // Then
+        assertThat(meterRegistry.get("logo.write-behind.depth").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("logo.write-behind.retried").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("logo.write-behind.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("logo.write-behind.coalesced").counter().count()).isZero();
+        assertThat(meterRegistry.get("logo.write-behind.overflowed").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldCountRefreshChecksAndPublishVariantBacklog() {
+        // When
+        adapter.refreshChecked(RefreshOutcome.NOT_MODIFIED);
+        adapter.refreshChecked(RefreshOutcome.FAILED);
+        adapter.variantBacklog(7);
+
+        // Then
+        assertThat(meterRegistry.get("logo.refresh.checks").tag("outcome", "not_modified").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("logo.refresh.checks").tag("outcome", "failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("logo.refresh.checks").tag("outcome", "replaced").counter().count()).isZero();
+        assertThat(meterRegistry.get("logo.variants.pregenerate.backlog").gauge().value()).isEqualTo(7);
+    }
+}
@@ -2,8 +2,13 @@ package com.logo.infrastructure.outgoing.api;
 
 import com.logo.domain.exception.ServiceException;
 import com.logo.domain.model.Errors;
+import com.logo.domain.model.UpstreamFetch;
+import com.logo.domain.model.UpstreamValidators;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.jboss.resteasy.reactive.RestResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,9 +16,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -23,13 +35,18 @@ class LogoApiAdapterTest {
     @Mock
     private LogoDevClient logoDevClient;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private LogoApiAdapter logoApiAdapter;
     private final String logoDevToken = "test-token-123";
     private byte[] mockLogoData;
 
     @BeforeEach
     void setUp() {
-        logoApiAdapter = new LogoApiAdapter(logoDevClient, logoDevToken);
+        UpstreamRateLimiter rateLimiter = new UpstreamRateLimiter(true, 10, 10, Duration.ofMillis(100), Duration.ofSeconds(1), System::nanoTime);
+        UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(true, 4, 4, 0.5, Duration.ofSeconds(2), 1.0,
+                Duration.ofSeconds(30), 1, new SimpleMeterRegistry(), System::nanoTime);
+        logoApiAdapter = new LogoApiAdapter(logoDevClient, rateLimiter, circuitBreaker, meterRegistry, logoDevToken);
         mockLogoData = "fake-logo-data".getBytes();
     }
 
@@ -37,8 +54,8 @@ class LogoApiAdapterTest {
     void shouldFetchLogoSuccessfully() {
         // Given
         String ticker = "AAPL";
-        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken)))
-                .thenReturn(Uni.createFrom().item(mockLogoData));
+        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken), isNull(), isNull()))
+                .thenReturn(Uni.createFrom().item(RestResponse.ok(mockLogoData)));
 
         // When
         byte[] result = logoApiAdapter.fetchLogo(ticker)
@@ -48,7 +65,9 @@ class LogoApiAdapterTest {
 
         // Then
         assertThat(result).isEqualTo(mockLogoData);
-        verify(logoDevClient).fetchLogo(ticker, logoDevToken);
+        verify(logoDevClient).fetchLogo(ticker, logoDevToken, null, null);
+        assertThat(meterRegistry.get("logo.dev.fetch").tag("outcome", "fetched").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("logo.dev.fetch.payload").summary().totalAmount()).isEqualTo(mockLogoData.length);
     }
 
     @Test
@@ -59,7 +78,7 @@ class LogoApiAdapterTest {
                 Errors.LOGO_NOT_FOUND,
                 "No logo found for ticker UNKNOWN"
         );
-        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken)))
+        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken), isNull(), isNull()))
                 .thenReturn(Uni.createFrom().failure(originalException));
 
         // When
@@ -74,7 +93,8 @@ class LogoApiAdapterTest {
         assertThat(serviceException.getError()).isEqualTo(Errors.LOGO_NOT_FOUND);
         assertThat(serviceException.getDetails()).isEqualTo("No logo found for ticker UNKNOWN");
         assertThat(serviceException).isSameAs(originalException);
-        verify(logoDevClient).fetchLogo(ticker, logoDevToken);
+        verify(logoDevClient).fetchLogo(ticker, logoDevToken, null, null);
+        assertThat(meterRegistry.get("logo.dev.fetch").tag("outcome", "LOGO_NOT_FOUND").timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -85,7 +105,7 @@ class LogoApiAdapterTest {
                 Errors.ACCESS_DENIED,
                 "Invalid authentication token"
         );
-        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken)))
+        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken), isNull(), isNull()))
                 .thenReturn(Uni.createFrom().failure(originalException));
 
         // When
@@ -100,7 +120,7 @@ class LogoApiAdapterTest {
         assertThat(serviceException.getError()).isEqualTo(Errors.ACCESS_DENIED);
         assertThat(serviceException.getDetails()).isEqualTo("Invalid authentication token");
         assertThat(serviceException).isSameAs(originalException);
-        verify(logoDevClient).fetchLogo(ticker, logoDevToken);
+        verify(logoDevClient).fetchLogo(ticker, logoDevToken, null, null);
     }
 
     @Test
@@ -111,7 +131,7 @@ class LogoApiAdapterTest {
                 Errors.RATE_LIMITED,
                 "API rate limit exceeded"
         );
-        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken)))
+        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken), isNull(), isNull()))
                 .thenReturn(Uni.createFrom().failure(originalException));
 
         // When
@@ -126,7 +146,7 @@ class LogoApiAdapterTest {
         assertThat(serviceException.getError()).isEqualTo(Errors.RATE_LIMITED);
         assertThat(serviceException.getDetails()).isEqualTo("API rate limit exceeded");
         assertThat(serviceException).isSameAs(originalException);
-        verify(logoDevClient).fetchLogo(ticker, logoDevToken);
+        verify(logoDevClient).fetchLogo(ticker, logoDevToken, null, null);
     }
 
     @Test
@@ -134,7 +154,7 @@ class LogoApiAdapterTest {
         // Given
         String ticker = "NETWORK_ERROR";
         ConnectException unexpectedException = new ConnectException("Connection refused");
-        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken)))
+        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken), isNull(), isNull()))
                 .thenReturn(Uni.createFrom().failure(unexpectedException));
 
         // When
@@ -150,7 +170,7 @@ class LogoApiAdapterTest {
         assertThat(serviceException.getDetails()).isEqualTo("Unexpected error communicating with logo service: Connection refused");
         assertThat(serviceException.getMessage()).contains("Connection refused");
         assertThat(serviceException.getCause()).isEqualTo(unexpectedException);
-        verify(logoDevClient).fetchLogo(ticker, logoDevToken);
+        verify(logoDevClient).fetchLogo(ticker, logoDevToken, null, null);
     }
 
     @Test
@@ -161,7 +181,7 @@ class LogoApiAdapterTest {
                 Errors.EXTERNAL_SERVICE_ERROR,
                 "Server internal error"
         );
-        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken)))
+        when(logoDevClient.fetchLogo(eq(ticker), eq(logoDevToken), isNull(), isNull()))
                 .thenReturn(Uni.createFrom().failure(alreadyWrappedException));
 
         // When
@@ -177,6 +197,121 @@ class LogoApiAdapterTest {
         assertThat(serviceException).isSameAs(alreadyWrappedException);
         assertThat(serviceException.getError()).isEqualTo(Errors.EXTERNAL_SERVICE_ERROR);
         assertThat(serviceException.getDetails()).isEqualTo("Server internal error");
-        verify(logoDevClient).fetchLogo(ticker, logoDevToken);
+        verify(logoDevClient).fetchLogo(ticker, logoDevToken, null, null);
+    }
+
+    @Test
+    void shouldPauseFurtherCallsWhenUpstreamAsksToRetryLater() {
+        // Given
+        when(logoDevClient.fetchLogo(eq("AAPL"), eq(logoDevToken), isNull(), isNull()))
+                .thenReturn(Uni.createFrom().failure(new UpstreamRateLimitedException(Duration.ofSeconds(30))));
+
+        // When
+        logoApiAdapter.fetchLogo("AAPL")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(UpstreamRateLimitedException.class);
+        Throwable second = logoApiAdapter.fetchLogo("MSFT")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(ServiceException.class)
+                .getFailure();
+
+        // Then
+        assertThat(((ServiceException) second).getError()).isEqualTo(Errors.RATE_LIMITED);
+        verify(logoDevClient, never()).fetchLogo(eq("MSFT"), anyString(), any(), any());
+    }
+
+    @Test
+    void shouldFailFastOnceUpstreamKeepsFailing() {
+        // Given
+        when(logoDevClient.fetchLogo(anyString(), eq(logoDevToken), any(), any()))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.SERVICE_UNAVAILABLE, "Down")));
+        for (int i = 0; i < 4; i++) {
+            logoApiAdapter.fetchLogo("DOWN" + i)
+                    .subscribe().withSubscriber(UniAssertSubscriber.create())
+                    .assertFailedWith(ServiceException.class);
+        }
+
+        // When
+        Throwable failure = logoApiAdapter.fetchLogo("AAPL")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(ServiceException.class)
+                .getFailure();
+
+        // Then
+        assertThat(((ServiceException) failure).getError()).isEqualTo(Errors.SERVICE_UNAVAILABLE);
+        verify(logoDevClient, never()).fetchLogo("AAPL", logoDevToken, null, null);
+    }
+
+    @Test
+    void shouldNotTakeRateLimiterPermitsWhileCircuitIsOpen() {
+        // Given: five permits that never refill, and a circuit opened by the first four calls
+        AtomicLong now = new AtomicLong();
+        UpstreamRateLimiter rateLimiter = new UpstreamRateLimiter(true, 0.001, 5, Duration.ZERO, Duration.ofSeconds(1), now::get);
+        UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(true, 4, 4, 0.5, Duration.ofSeconds(2), 1.0,
+                Duration.ofSeconds(30), 1, new SimpleMeterRegistry(), now::get);
+        LogoApiAdapter adapter = new LogoApiAdapter(logoDevClient, rateLimiter, circuitBreaker, meterRegistry, logoDevToken);
+        when(logoDevClient.fetchLogo(startsWith("DOWN"), eq(logoDevToken), any(), any()))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.SERVICE_UNAVAILABLE, "Down")));
+        for (int i = 0; i < 4; i++) {
+            adapter.fetchLogo("DOWN" + i)
+                    .subscribe().withSubscriber(UniAssertSubscriber.create())
+                    .assertFailedWith(ServiceException.class);
+        }
+
+        // When: callers keep coming while the circuit is open
+        for (int i = 0; i < 10; i++) {
+            Throwable failure = adapter.fetchLogo("OPEN" + i)
+                    .subscribe().withSubscriber(UniAssertSubscriber.create())
+                    .assertFailedWith(ServiceException.class)
+                    .getFailure();
+            assertThat(((ServiceException) failure).getError()).isEqualTo(Errors.SERVICE_UNAVAILABLE);
+        }
+
+        // Then: the last permit is still there for the half-open probe
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        when(logoDevClient.fetchLogo(eq("AAPL"), eq(logoDevToken), isNull(), isNull()))
+                .thenReturn(Uni.createFrom().item(RestResponse.ok(mockLogoData)));
+        adapter.fetchLogo("AAPL")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertItem(mockLogoData);
+        verify(logoDevClient, never()).fetchLogo(startsWith("OPEN"), anyString(), any(), any());
+    }
+
+    @Test
+    void shouldSendValidatorsAndReportUnchangedLogo() {
+        // Given
+        UpstreamValidators validators = new UpstreamValidators("\"v1\"", "Tue, 03 Mar 2026 10:00:00 GMT");
+        when(logoDevClient.fetchLogo("AAPL", logoDevToken, "\"v1\"", "Tue, 03 Mar 2026 10:00:00 GMT"))
+                .thenReturn(Uni.createFrom().item(RestResponse.notModified()));
+
+        // When
+        UpstreamFetch result = logoApiAdapter.fetchLogoIfChanged("AAPL", validators)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isEqualTo(new UpstreamFetch.NotModified(validators));
+        assertThat(meterRegistry.get("logo.dev.fetch").tag("outcome", "not_modified").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnChangedLogoWithItsNewValidators() {
+        // Given
+        when(logoDevClient.fetchLogo("AAPL", logoDevToken, "\"v1\"", null))
+                .thenReturn(Uni.createFrom().item(RestResponse.ResponseBuilder.ok(mockLogoData)
+                        .header("ETag", "\"v2\"")
+                        .build()));
+
+        // When
+        UpstreamFetch result = logoApiAdapter.fetchLogoIfChanged("AAPL", new UpstreamValidators("\"v1\"", null))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isInstanceOf(UpstreamFetch.Modified.class);
+        assertThat(((UpstreamFetch.Modified) result).content()).isEqualTo(mockLogoData);
+        assertThat(result.validators()).isEqualTo(new UpstreamValidators("\"v2\"", null));
     }
 }
@@ -7,6 +7,11 @@ import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -70,6 +75,48 @@ class LogoDevClientExceptionMapperTest {
         // Then
         assertThat(exception.getError()).isEqualTo(Errors.RATE_LIMITED);
         assertThat(exception.getDetails()).contains("API rate limit exceeded");
+        assertThat(((UpstreamRateLimitedException) exception).getRetryAfter()).isNull();
+    }
+
+    @Test
+    void shouldReadRetryAfterSeconds() {
+        // Given
+        Response response = mockResponse(429, "Too Many Requests");
+        when(response.getHeaderString("Retry-After")).thenReturn("12");
+
+        // When
+        ServiceException exception = mapper.toThrowable(response);
+
+        // Then
+        assertThat(((UpstreamRateLimitedException) exception).getRetryAfter()).isEqualTo(Duration.ofSeconds(12));
+    }
+
+    @Test
+    void shouldReadRetryAfterHttpDate() {
+        // Given
+        Response response = mockResponse(429, "Too Many Requests");
+        String inOneMinute = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusMinutes(1));
+        when(response.getHeaderString("Retry-After")).thenReturn(inOneMinute);
+
+        // When
+        ServiceException exception = mapper.toThrowable(response);
+
+        // Then
+        assertThat(((UpstreamRateLimitedException) exception).getRetryAfter())
+                .isBetween(Duration.ofSeconds(55), Duration.ofSeconds(60));
+    }
+
+    @Test
+    void shouldFallBackToRateLimitResetHeader() {
+        // Given
+        Response response = mockResponse(429, "Too Many Requests");
+        when(response.getHeaderString("X-RateLimit-Reset")).thenReturn("7");
+
+        // When
+        ServiceException exception = mapper.toThrowable(response);
+
+        // Then
+        assertThat(((UpstreamRateLimitedException) exception).getRetryAfter()).isEqualTo(Duration.ofSeconds(7));
     }
 
     @Test
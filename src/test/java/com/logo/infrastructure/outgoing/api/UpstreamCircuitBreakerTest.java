@@ -0,0 +1,169 @@
+package com.logo.infrastructure.outgoing.api;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstreamCircuitBreakerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Window of 4 calls, opens at 50% failures or 75% slow calls (>= 1s), stays open 10s, 2 probes
+    private final UpstreamCircuitBreaker circuitBreaker = new UpstreamCircuitBreaker(true, 4, 4, 0.5,
+            Duration.ofSeconds(1), 0.75, Duration.ofSeconds(10), 2, meterRegistry, clock::get);
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void shouldStayClosedBelowFailureRate() {
+        // When
+        succeed();
+        succeed();
+        succeed();
+        fail(Errors.SERVICE_UNAVAILABLE);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldOpenOnFailureRateAndFailFastWithoutCallingUpstream() {
+        // Given
+        succeed();
+        succeed();
+        fail(Errors.SERVICE_UNAVAILABLE);
+        fail(Errors.COMMUNICATION_ERROR);
+
+        // When
+        Throwable failure = circuitBreaker.call(this::upstreamSuccess)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(ServiceException.class)
+                .getFailure();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+        assertThat(((ServiceException) failure).getError()).isEqualTo(Errors.SERVICE_UNAVAILABLE);
+        assertThat(upstreamCalls).hasValue(4);
+        assertThat(meterRegistry.get("logo.dev.circuit-breaker.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("logo.dev.circuit-breaker.state").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCountClientErrorsAsFailures() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            fail(Errors.LOGO_NOT_FOUND);
+        }
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldOpenOnSlowCallRate() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            slowSuccess();
+        }
+        succeed();
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldLetLimitedProbesThroughAndCloseWhenTheySucceed() {
+        // Given
+        open();
+        clock.addAndGet(10 * SECOND);
+
+        // When
+        long firstProbe = circuitBreaker.tryAcquire();
+        long secondProbe = circuitBreaker.tryAcquire();
+        long thirdProbe = circuitBreaker.tryAcquire();
+        circuitBreaker.record(firstProbe, false, false);
+        circuitBreaker.record(secondProbe, false, false);
+
+        // Then
+        assertThat(firstProbe).isNotNegative();
+        assertThat(secondProbe).isNotNegative();
+        assertThat(thirdProbe).isNegative();
+        assertThat(circuitBreaker.state()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("logo.dev.circuit-breaker.transitions")
+                .tag("from", "half_open").tag("to", "closed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReopenWhenProbesFail() {
+        // Given
+        open();
+        clock.addAndGet(10 * SECOND);
+
+        // When
+        fail(Errors.SERVICE_UNAVAILABLE);
+        fail(Errors.SERVICE_UNAVAILABLE);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isNegative();
+    }
+
+    @Test
+    void shouldIgnoreOutcomesOfCallsStartedBeforeTransition() {
+        // Given
+        long stalePermit = circuitBreaker.tryAcquire();
+        open();
+        clock.addAndGet(10 * SECOND);
+        long probe = circuitBreaker.tryAcquire();
+
+        // When
+        circuitBreaker.record(stalePermit, true, true);
+        circuitBreaker.record(probe, false, false);
+
+        // Then
+        assertThat(circuitBreaker.state()).isEqualTo(UpstreamCircuitBreaker.State.HALF_OPEN);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            fail(Errors.EXTERNAL_SERVICE_ERROR);
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+    }
+
+    private void succeed() {
+        circuitBreaker.call(this::upstreamSuccess).await().indefinitely();
+    }
+
+    private void slowSuccess() {
+        circuitBreaker.call(() -> upstreamSuccess().invoke(() -> clock.addAndGet(SECOND))).await().indefinitely();
+    }
+
+    private void fail(Errors error) {
+        circuitBreaker.call(() -> {
+                    upstreamCalls.incrementAndGet();
+                    return Uni.createFrom().<byte[]>failure(new ServiceException(error));
+                })
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(ServiceException.class);
+    }
+
+    private Uni<byte[]> upstreamSuccess() {
+        upstreamCalls.incrementAndGet();
+        return Uni.createFrom().item("logo".getBytes());
+    }
+}
@@ -0,0 +1,97 @@
+package com.logo.infrastructure.outgoing.api;
+
+import com.logo.domain.exception.ServiceException;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class UpstreamRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private static final long ROUNDING = 10L;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // 2 requests per second, burst of 2, callers queue for at most 1.2 seconds
+    private final UpstreamRateLimiter rateLimiter =
+            new UpstreamRateLimiter(true, 2, 2, Duration.ofMillis(1200), Duration.ofSeconds(5), clock::get);
+
+    @Test
+    void shouldAllowBurstThenQueueCallersForTheNextPermits() {
+        // When
+        long first = rateLimiter.reserve();
+        long second = rateLimiter.reserve();
+        long third = rateLimiter.reserve();
+        long fourth = rateLimiter.reserve();
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isCloseTo(SECOND / 2, within(ROUNDING));
+        assertThat(fourth).isCloseTo(SECOND, within(ROUNDING));
+    }
+
+    @Test
+    void shouldFailFastWhenWaitExceedsMaximum() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.reserve();
+        }
+
+        // When
+        long fifth = rateLimiter.reserve();
+
+        // Then
+        assertThat(fifth).isEqualTo(-1);
+        rateLimiter.acquire()
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(ServiceException.class);
+    }
+
+    @Test
+    void shouldRefillOverTimeUpToBurst() {
+        // Given
+        rateLimiter.reserve();
+        rateLimiter.reserve();
+
+        // When
+        clock.addAndGet(10 * SECOND);
+
+        // Then
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isCloseTo(SECOND / 2, within(ROUNDING));
+    }
+
+    @Test
+    void shouldHoldEveryCallerWhilePaused() {
+        // Given
+        rateLimiter.pause(Duration.ofMillis(400));
+
+        // When
+        long wait = rateLimiter.reserve();
+        clock.addAndGet(2 * SECOND);
+        long afterPause = rateLimiter.reserve();
+
+        // Then
+        assertThat(wait).isCloseTo(400_000_000L + SECOND / 2, within(ROUNDING));
+        assertThat(afterPause).isZero();
+    }
+
+    @Test
+    void shouldUseDefaultPauseWhenUpstreamGaveNone() {
+        // When
+        rateLimiter.pause(null);
+
+        // Then
+        assertThat(rateLimiter.reserve()).isEqualTo(-1);
+        clock.addAndGet(5 * SECOND);
+        assertThat(rateLimiter.reserve()).isCloseTo(SECOND / 2, within(ROUNDING));
+    }
+}
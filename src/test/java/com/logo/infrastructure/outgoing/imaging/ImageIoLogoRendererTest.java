@@ -0,0 +1,138 @@
+package com.logo.infrastructure.outgoing.imaging;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.ImageFormat;
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.LogoVariant;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageIoLogoRendererTest {
+
+    private final ImageIoLogoRenderer renderer = new ImageIoLogoRenderer(1, 4, 1_000_000, 0.85f);
+
+    @AfterEach
+    void tearDown() {
+        renderer.shutdown();
+    }
+
+    @Test
+    void shouldScaleDownKeepingAspectRatio() throws IOException {
+        // Given
+        Logo logo = logo(png(400, 200));
+
+        // When
+        byte[] rendered = renderer.render(logo, 64, ImageFormat.PNG)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem(Duration.ofSeconds(5))
+                .getItem();
+
+        // Then
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(rendered));
+        assertThat(image.getWidth()).isEqualTo(64);
+        assertThat(image.getHeight()).isEqualTo(32);
+    }
+
+    @Test
+    void shouldConvertFormatWithoutUpscaling() throws IOException {
+        // Given
+        Logo logo = logo(png(20, 10));
+
+        // When
+        byte[] rendered = renderer.render(logo, 128, ImageFormat.JPEG)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem(Duration.ofSeconds(5))
+                .getItem();
+
+        // Then
+        assertThat(rendered).startsWith(0xFF, 0xD8);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(rendered));
+        assertThat(image.getWidth()).isEqualTo(20);
+        assertThat(image.getHeight()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldKeepDimensionsForOriginalSize() throws IOException {
+        // Given
+        Logo logo = logo(png(300, 300));
+
+        // When
+        byte[] rendered = renderer.render(logo, LogoVariant.ORIGINAL_SIZE, ImageFormat.JPEG)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem(Duration.ofSeconds(5))
+                .getItem();
+
+        // Then
+        assertThat(ImageIO.read(new ByteArrayInputStream(rendered)).getWidth()).isEqualTo(300);
+    }
+
+    @Test
+    void shouldRejectContentThatIsNotAnImage() {
+        // Given
+        Logo logo = logo("<svg/>".getBytes());
+
+        // When
+        Throwable failure = renderer.render(logo, 32, ImageFormat.PNG)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitFailure(Duration.ofSeconds(5))
+                .getFailure();
+
+        // Then
+        assertThat(failure).isInstanceOf(ServiceException.class);
+        assertThat(((ServiceException) failure).getError()).isEqualTo(Errors.INVALID_REQUEST);
+    }
+
+    @Test
+    void shouldRejectImagesAboveThePixelLimit() throws IOException {
+        // Given
+        Logo logo = logo(png(2000, 1000));
+
+        // When
+        Throwable failure = renderer.render(logo, 32, ImageFormat.PNG)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitFailure(Duration.ofSeconds(5))
+                .getFailure();
+
+        // Then
+        assertThat(((ServiceException) failure).getError()).isEqualTo(Errors.INVALID_REQUEST);
+    }
+
+    @Test
+    void shouldOnlyOfferFormatsWithAnInstalledEncoder() {
+        assertThat(renderer.canEncode(ImageFormat.PNG)).isTrue();
+        assertThat(renderer.canEncode(ImageFormat.JPEG)).isTrue();
+    }
+
+    private static Logo logo(byte[] content) {
+        OffsetDateTime now = OffsetDateTime.now();
+        return new Logo("AMZN", "https://img.logo.dev/ticker/AMZN",
+                LogoContent.of(content), "AMZN.png", "image/png", "content-hash", LogoSource.UPLOADED, now, now);
+    }
+
+    static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.ORANGE);
+        graphics.fillRect(0, 0, width, height / 2);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -1,52 +1,95 @@
 package com.logo.infrastructure.outgoing.persistence;
 
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.infrastructure.outgoing.persistence.blob.FileLogoContent;
+import com.logo.infrastructure.outgoing.persistence.blob.LogoBlobStore;
+import com.logo.infrastructure.outgoing.persistence.compression.LogoCompressor;
 import com.logo.infrastructure.outgoing.persistence.mapper.LogoEntityMapper;
+import com.logo.infrastructure.outgoing.persistence.repository.LogoBlobRepository;
 import com.logo.infrastructure.outgoing.persistence.repository.LogoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class LogoPersistenceAdapterTest {
 
     private final LogoRepository logoRepository = mock(LogoRepository.class);
 
+    private final LogoBlobRepository logoBlobRepository = mock(LogoBlobRepository.class);
+
+    private final LogoBlobStore logoBlobStore = mock(LogoBlobStore.class);
+
     private final LogoEntityMapper logoEntityMapper = mock(LogoEntityMapper.class);
 
-    private final LogoPersistenceAdapter logoPersistenceAdapter = new LogoPersistenceAdapter(logoRepository, logoEntityMapper);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final LogoPersistenceAdapter logoPersistenceAdapter =
+            new LogoPersistenceAdapter(logoRepository, logoBlobRepository, logoBlobStore, logoEntityMapper,
+                    new LogoCompressor(true, List.of("image/svg+xml"), 0.1), meterRegistry);
+
+    private final byte[] content = "logo-data".getBytes();
 
     private Logo domainLogo;
     private LogoEntity logoEntity;
+    private LogoContentView contentView;
 
     @BeforeEach
     void setUp() {
         OffsetDateTime now = OffsetDateTime.now();
         domainLogo = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN",
-                "logo-data".getBytes(), "AMZN.jpeg", "image/jpeg", now, now);
+                LogoContent.of(content), "AMZN.jpeg", "image/jpeg", "content-hash", LogoSource.UPLOADED, now, now);
 
         logoEntity = new LogoEntity();
         logoEntity.externalIdentifier = "AMZN";
         logoEntity.resourceUrl = "https://img.logo.dev/ticker/AMZN";
-        logoEntity.fileContent = "logo-data".getBytes();
         logoEntity.fileName = "AMZN.jpeg";
         logoEntity.contentType = "image/jpeg";
+        logoEntity.contentHash = "content-hash";
+        logoEntity.source = LogoSource.UPLOADED;
         logoEntity.createdAt = now;
         logoEntity.updatedAt = now;
+
+        LogoBlobEntity blob = new LogoBlobEntity();
+        blob.contentHash = "content-hash";
+        blob.content = "logo-data".getBytes();
+        logoEntity.blob = blob;
+
+        contentView = new LogoContentView("AMZN", "https://img.logo.dev/ticker/AMZN", content, "AMZN.jpeg",
+                "image/jpeg", "content-hash", 9L, LogoSource.UPLOADED, now, now);
     }
 
     @Test
     void shouldSaveLogoSuccessfully() {
         // Given
+        when(logoBlobRepository.addReference("content-hash")).thenReturn(Uni.createFrom().item(false));
+        when(logoBlobStore.store("content-hash", content)).thenReturn(Uni.createFrom().item(content));
+        when(logoBlobRepository.insertOrReference("content-hash", content, null, content.length))
+                .thenReturn(Uni.createFrom().voidItem());
         when(logoEntityMapper.toEntity(domainLogo)).thenReturn(logoEntity);
         when(logoRepository.persistAndFlush(logoEntity)).thenReturn(Uni.createFrom().item(logoEntity));
-        when(logoEntityMapper.toDomain(logoEntity)).thenReturn(domainLogo);
+        when(logoEntityMapper.toDomain(logoEntity, domainLogo.content())).thenReturn(domainLogo);
 
         // When
         Logo result = logoPersistenceAdapter.save(domainLogo)
@@ -57,16 +100,124 @@ class LogoPersistenceAdapterTest {
         // Then
         assertThat(result.externalIdentifier()).isEqualTo("AMZN");
 
+        verify(logoBlobStore).store("content-hash", content);
+        verify(logoBlobRepository).insertOrReference("content-hash", content, null, content.length);
         verify(logoEntityMapper).toEntity(domainLogo);
         verify(logoRepository).persistAndFlush(logoEntity);
-        verify(logoEntityMapper).toDomain(logoEntity);
+        verify(logoEntityMapper).toDomain(logoEntity, domainLogo.content());
+        assertThat(meterRegistry.get("logo.persistence").tags("operation", "save", "outcome", "saved").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("logo.persistence.payload").tag("operation", "save").summary().totalAmount())
+                .isEqualTo(content.length);
+    }
+
+    @Test
+    void shouldStoreGzipEncodingOfCompressibleContent() {
+        // Given
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\">%s</svg>".formatted("<rect/>".repeat(100)).getBytes();
+        Logo svgLogo = new Logo("AMZN", null, LogoContent.of(svg), "AMZN.svg", "image/svg+xml", "content-hash",
+                LogoSource.UPLOADED, domainLogo.createdAt(), domainLogo.updatedAt());
+        when(logoBlobRepository.addReference("content-hash")).thenReturn(Uni.createFrom().item(false));
+        when(logoBlobStore.store("content-hash", svg)).thenReturn(Uni.createFrom().item(svg));
+        when(logoBlobRepository.insertOrReference(eq("content-hash"), eq(svg), any(byte[].class), eq((long) svg.length)))
+                .thenReturn(Uni.createFrom().voidItem());
+        when(logoEntityMapper.toEntity(svgLogo)).thenReturn(logoEntity);
+        when(logoRepository.persistAndFlush(logoEntity)).thenReturn(Uni.createFrom().item(logoEntity));
+        when(logoEntityMapper.toDomain(logoEntity, svgLogo.content())).thenReturn(svgLogo);
+
+        // When
+        logoPersistenceAdapter.save(svgLogo)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted();
+
+        // Then
+        verify(logoBlobRepository).insertOrReference(eq("content-hash"), eq(svg),
+                argThat(gzip -> gzip != null && gzip.length < svg.length), eq((long) svg.length));
+    }
+
+    @Test
+    void shouldOnlyReferenceBlobWhenContentIsAlreadyStored() {
+        // Given
+        when(logoBlobRepository.addReference("content-hash")).thenReturn(Uni.createFrom().item(true));
+        when(logoEntityMapper.toEntity(domainLogo)).thenReturn(logoEntity);
+        when(logoRepository.persistAndFlush(logoEntity)).thenReturn(Uni.createFrom().item(logoEntity));
+        when(logoEntityMapper.toDomain(logoEntity, domainLogo.content())).thenReturn(domainLogo);
+
+        // When
+        logoPersistenceAdapter.save(domainLogo)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted();
+
+        // Then
+        verify(logoBlobStore, never()).store(anyString(), any());
+        verify(logoBlobRepository, never()).insertOrReference(anyString(), any(), any(), anyLong());
+        verify(logoRepository).persistAndFlush(logoEntity);
+    }
+
+    @Test
+    void shouldNotPersistLogoWhenBlobCannotBeStored() {
+        // Given
+        when(logoBlobRepository.addReference("content-hash")).thenReturn(Uni.createFrom().item(false));
+        when(logoBlobStore.store("content-hash", content))
+                .thenReturn(Uni.createFrom().failure(new RuntimeException("Disk full")));
+
+        // When
+        logoPersistenceAdapter.save(domainLogo)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailed();
+
+        // Then
+        verify(logoRepository, never()).persistAndFlush(any(LogoEntity.class));
+    }
+
+    @Test
+    void shouldSaveSeveralLogosWithOnePersistAndFlush() {
+        // Given
+        when(logoBlobRepository.addReference("content-hash"))
+                .thenReturn(Uni.createFrom().item(false), Uni.createFrom().item(true));
+        when(logoBlobStore.store("content-hash", content)).thenReturn(Uni.createFrom().item(content));
+        when(logoBlobRepository.insertOrReference("content-hash", content, null, content.length))
+                .thenReturn(Uni.createFrom().voidItem());
+        when(logoEntityMapper.toEntity(domainLogo)).thenReturn(logoEntity);
+        when(logoRepository.persist(List.of(logoEntity, logoEntity))).thenReturn(Uni.createFrom().voidItem());
+        when(logoRepository.flush()).thenReturn(Uni.createFrom().voidItem());
+        when(logoEntityMapper.toDomain(logoEntity, domainLogo.content())).thenReturn(domainLogo);
+
+        // When
+        List<Logo> result = logoPersistenceAdapter.saveAll(List.of(domainLogo, domainLogo))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).containsExactly(domainLogo, domainLogo);
+        verify(logoBlobStore, times(1)).store("content-hash", content);
+        verify(logoRepository).persist(List.of(logoEntity, logoEntity));
+        verify(logoRepository).flush();
+        verify(logoRepository, never()).persistAndFlush(any(LogoEntity.class));
+    }
+
+    @Test
+    void shouldFindStoredIdentifiers() {
+        // Given
+        when(logoRepository.findExternalIdentifiersIn(List.of("AMZN", "MSFT")))
+                .thenReturn(Uni.createFrom().item(List.of("AMZN")));
+
+        // When
+        Set<String> result = logoPersistenceAdapter.findStoredIdentifiers(List.of("AMZN", "MSFT"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).containsExactly("AMZN");
     }
 
     @Test
     void shouldGetLogoByExternalIdentifierSuccessfully() {
         // Given
-        when(logoRepository.findByExternalIdentifier("AMZN")).thenReturn(Uni.createFrom().item(logoEntity));
-        when(logoEntityMapper.toDomain(logoEntity)).thenReturn(domainLogo);
+        when(logoRepository.findByExternalIdentifier("AMZN")).thenReturn(Uni.createFrom().item(contentView));
+        when(logoEntityMapper.toDomain(contentView)).thenReturn(domainLogo);
 
         // When
         Logo result = logoPersistenceAdapter.get("AMZN")
@@ -78,7 +229,30 @@ class LogoPersistenceAdapterTest {
         assertThat(result.externalIdentifier()).isEqualTo("AMZN");
 
         verify(logoRepository).findByExternalIdentifier("AMZN");
-        verify(logoEntityMapper).toDomain(logoEntity);
+        verify(logoEntityMapper).toDomain(contentView);
+    }
+
+    @Test
+    void shouldLeaveContentInStorageWhenBlobIsStoredOnFilesystem() {
+        // Given
+        FileLogoContent stored = new FileLogoContent(Path.of("data", "co", "nt", "content-hash"), 9);
+        Logo fileBacked = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN", stored,
+                "AMZN.jpeg", "image/jpeg", "content-hash", LogoSource.UPLOADED, domainLogo.createdAt(), domainLogo.updatedAt());
+        LogoContentView withoutContent = new LogoContentView("AMZN", "https://img.logo.dev/ticker/AMZN", null,
+                "AMZN.jpeg", "image/jpeg", "content-hash", 9L, LogoSource.UPLOADED, domainLogo.createdAt(), domainLogo.updatedAt());
+        when(logoRepository.findByExternalIdentifier("AMZN")).thenReturn(Uni.createFrom().item(withoutContent));
+        when(logoBlobStore.content("content-hash", 9)).thenReturn(stored);
+        when(logoEntityMapper.toDomain(withoutContent, stored)).thenReturn(fileBacked);
+
+        // When
+        Logo result = logoPersistenceAdapter.get("AMZN")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result.content()).isEqualTo(stored);
+        verify(logoEntityMapper, never()).toDomain(withoutContent);
     }
 
     @Test
@@ -96,6 +270,143 @@ class LogoPersistenceAdapterTest {
         assertThat(result).isNull();
 
         verify(logoRepository).findByExternalIdentifier("NOTFOUND");
+        assertThat(meterRegistry.get("logo.persistence").tags("operation", "get", "outcome", "absent").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldGetSeveralLogosWithOneQuery() {
+        // Given
+        when(logoRepository.findByExternalIdentifiers(List.of("AMZN", "MSFT")))
+                .thenReturn(Uni.createFrom().item(List.of(contentView)));
+        when(logoEntityMapper.toDomain(contentView)).thenReturn(domainLogo);
+
+        // When
+        List<Logo> result = logoPersistenceAdapter.getAll(List.of("AMZN", "MSFT"))
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).containsExactly(domainLogo);
+        verify(logoRepository).findByExternalIdentifiers(List.of("AMZN", "MSFT"));
+        verify(logoRepository, never()).findByExternalIdentifier(anyString());
+    }
+
+    @Test
+    void shouldGetMetadataWithoutLoadingContent() {
+        // Given
+        LogoMetadataView view = new LogoMetadataView("AMZN", "https://img.logo.dev/ticker/AMZN",
+                "AMZN.jpeg", "image/jpeg", "content-hash", LogoSource.UPLOADED, domainLogo.createdAt(), domainLogo.updatedAt());
+        when(logoRepository.findMetadataByExternalIdentifier("AMZN")).thenReturn(Uni.createFrom().item(view));
+        when(logoEntityMapper.toMetadata(view)).thenReturn(domainLogo.metadata());
+
+        // When
+        LogoMetadata result = logoPersistenceAdapter.getMetadata("AMZN")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result.contentHash()).isEqualTo("content-hash");
+        verify(logoRepository).findMetadataByExternalIdentifier("AMZN");
+        verify(logoRepository, never()).findByExternalIdentifier(anyString());
+    }
+
+    @Test
+    void shouldReturnNullMetadataWhenLogoNotFound() {
+        // Given
+        when(logoRepository.findMetadataByExternalIdentifier("NOTFOUND")).thenReturn(Uni.createFrom().nullItem());
+
+        // When
+        LogoMetadata result = logoPersistenceAdapter.getMetadata("NOTFOUND")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldReadRangeFromBlobStoreWhenContentIsStoredThere() {
+        // Given
+        when(logoBlobStore.read("content-hash", 2, 4)).thenReturn(Uni.createFrom().item("go-d".getBytes()));
+
+        // When
+        byte[] slice = logoPersistenceAdapter.getContentRange("content-hash", 2, 4)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(new String(slice)).isEqualTo("go-d");
+        verify(logoBlobRepository, never()).findContentRange(anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    void shouldReadRangeFromDatabaseWhenContentIsInline() {
+        // Given
+        when(logoBlobStore.read("content-hash", 2, 4)).thenReturn(Uni.createFrom().nullItem());
+        when(logoBlobRepository.findContentRange("content-hash", 2, 4)).thenReturn(Uni.createFrom().item("go-d".getBytes()));
+
+        // When
+        byte[] slice = logoPersistenceAdapter.getContentRange("content-hash", 2, 4)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(new String(slice)).isEqualTo("go-d");
+    }
+
+    @Test
+    void shouldReplaceContentAndReleaseOldBlobWhenRefreshedLogoChanged() {
+        // Given
+        OffsetDateTime refreshedAt = domainLogo.updatedAt().plusDays(8);
+        Logo fetched = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN", LogoContent.of("new-data".getBytes()),
+                "AMZN.jpeg", "image/jpeg", "new-hash", LogoSource.UPSTREAM, refreshedAt, refreshedAt);
+        when(logoRepository.findForUpdate("AMZN")).thenReturn(Uni.createFrom().item(logoEntity));
+        when(logoBlobRepository.addReference("new-hash")).thenReturn(Uni.createFrom().item(true));
+        when(logoBlobRepository.release("content-hash")).thenReturn(Uni.createFrom().voidItem());
+
+        // When
+        UpstreamValidators validators = new UpstreamValidators("\"v2\"", "Sun, 01 Mar 2026 12:00:00 GMT");
+        Boolean replaced = logoPersistenceAdapter.refresh(fetched, validators, refreshedAt)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(replaced).isTrue();
+        assertThat(logoEntity.contentHash).isEqualTo("new-hash");
+        assertThat(logoEntity.updatedAt).isEqualTo(refreshedAt);
+        assertThat(logoEntity.refreshedAt).isEqualTo(refreshedAt);
+        assertThat(logoEntity.upstreamEtag).isEqualTo("\"v2\"");
+        assertThat(logoEntity.upstreamLastModified).isEqualTo("Sun, 01 Mar 2026 12:00:00 GMT");
+        verify(logoBlobRepository).release("content-hash");
+    }
+
+    @Test
+    void shouldOnlyRecordCheckWhenRefreshedLogoIsUnchanged() {
+        // Given
+        OffsetDateTime updatedAt = logoEntity.updatedAt;
+        OffsetDateTime refreshedAt = updatedAt.plusDays(8);
+        when(logoRepository.findForUpdate("AMZN")).thenReturn(Uni.createFrom().item(logoEntity));
+
+        // When
+        Boolean replaced = logoPersistenceAdapter.refresh(domainLogo, new UpstreamValidators("\"v1\"", null), refreshedAt)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(replaced).isFalse();
+        assertThat(logoEntity.updatedAt).isEqualTo(updatedAt);
+        assertThat(logoEntity.refreshedAt).isEqualTo(refreshedAt);
+        assertThat(logoEntity.upstreamEtag).isEqualTo("\"v1\"");
+        verify(logoBlobRepository, never()).addReference(anyString());
+        verify(logoBlobRepository, never()).release(anyString());
     }
 
     @Test
@@ -110,5 +421,7 @@ class LogoPersistenceAdapterTest {
         // Then
         assertThatThrownBy(() -> result.await().indefinitely())
                 .isInstanceOf(RuntimeException.class);
+        assertThat(meterRegistry.get("logo.persistence").tags("operation", "get", "outcome", "error").timer().count())
+                .isEqualTo(1);
     }
 }
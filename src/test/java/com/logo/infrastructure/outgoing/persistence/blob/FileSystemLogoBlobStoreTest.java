@@ -0,0 +1,142 @@
+package com.logo.infrastructure.outgoing.persistence.blob;
+
+import com.logo.domain.model.ContentHash;
+import com.logo.domain.model.LogoContent;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.vertx.mutiny.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSystemLogoBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private Vertx vertx;
+
+    private FileSystemLogoBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        blobStore = new FileSystemLogoBlobStore(root, vertx);
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    void shouldLocateBlobInShardedDirectories() {
+        // When
+        Path path = blobStore.locate("abcdef0123");
+
+        // Then
+        assertThat(path).isEqualTo(root.resolve("ab").resolve("cd").resolve("abcdef0123"));
+    }
+
+    @Test
+    void shouldWriteContentUnderItsHashWithoutLeavingTemporaryFiles() throws IOException {
+        // Given
+        byte[] content = "logo-data".getBytes();
+        String hash = ContentHash.of(content);
+
+        // When
+        byte[] inline = blobStore.store(hash, content)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem(Duration.ofSeconds(5))
+                .getItem();
+
+        // Then
+        assertThat(inline).isNull();
+        assertThat(Files.readAllBytes(blobStore.locate(hash))).isEqualTo(content);
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).containsExactly(blobStore.locate(hash));
+        }
+    }
+
+    @Test
+    void shouldHandOutStoredContentWithoutReadingIt() throws IOException {
+        // Given
+        byte[] content = "logo-data".getBytes();
+        String hash = ContentHash.of(content);
+        blobStore.store(hash, content).await().atMost(Duration.ofSeconds(5));
+
+        // When
+        LogoContent.Streamed stored = blobStore.content(hash, content.length);
+
+        // Then
+        assertThat(stored).isEqualTo(new FileLogoContent(blobStore.locate(hash), content.length));
+        assertThat(stored.file()).contains(blobStore.locate(hash));
+        try (InputStream input = stored.open()) {
+            assertThat(input.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void shouldKeepExistingFileForKnownHash() throws IOException {
+        // Given
+        byte[] content = "logo-data".getBytes();
+        String hash = ContentHash.of(content);
+        Path target = blobStore.locate(hash);
+        Files.createDirectories(target.getParent());
+        Files.write(target, content);
+        long modified = Files.getLastModifiedTime(target).toMillis();
+
+        // When
+        blobStore.store(hash, content)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(Files.getLastModifiedTime(target).toMillis()).isEqualTo(modified);
+    }
+
+    @Test
+    void shouldReadOnlyTheRequestedSlice() throws IOException {
+        // Given
+        byte[] content = "logo-data".getBytes();
+        String hash = ContentHash.of(content);
+        Path target = blobStore.locate(hash);
+        Files.createDirectories(target.getParent());
+        Files.write(target, content);
+
+        // When
+        byte[] slice = blobStore.read(hash, 2, 4)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem(Duration.ofSeconds(5))
+                .getItem();
+        byte[] tail = blobStore.read(hash, 5, 100)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem(Duration.ofSeconds(5))
+                .getItem();
+
+        // Then
+        assertThat(new String(slice)).isEqualTo("go-d");
+        assertThat(new String(tail)).isEqualTo("data");
+    }
+
+    @Test
+    void shouldReadNothingForUnknownHash() {
+        // When
+        byte[] slice = blobStore.read("abcdef0123", 0, 4)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .awaitItem(Duration.ofSeconds(5))
+                .getItem();
+
+        // Then
+        assertThat(slice).isNull();
+    }
+}
@@ -0,0 +1,152 @@
+package com.logo.infrastructure.outgoing.persistence.cache;
+
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CachingLogoPersistenceAdapterTest {
+
+    private final LogoPersistencePort delegate = mock(LogoPersistencePort.class);
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingLogoPersistenceAdapter cachingAdapter;
+
+    private Logo logo;
+
+    @BeforeEach
+    void setUp() {
+        cachingAdapter = new CachingLogoPersistenceAdapter(delegate, meterRegistry, true, 1024 * 1024, Duration.ofMinutes(10));
+        OffsetDateTime now = OffsetDateTime.now();
+        logo = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN",
+                LogoContent.of("logo-data".getBytes()), "AMZN.jpeg", "image/jpeg", "content-hash", LogoSource.UPLOADED, now, now);
+    }
+
+    @Test
+    void shouldServeSecondReadFromCache() {
+        // Given
+        when(delegate.get("AMZN")).thenReturn(Uni.createFrom().item(logo));
+
+        // When
+        Logo first = cachingAdapter.get("AMZN")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+        Logo second = cachingAdapter.get("AMZN")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted()
+                .getItem();
+
+        // Then
+        assertThat(first).isSameAs(logo);
+        assertThat(second).isSameAs(logo);
+        verify(delegate, times(1)).get("AMZN");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheMissingLogos() {
+        // Given
+        when(delegate.get("NOTFOUND")).thenReturn(Uni.createFrom().nullItem());
+
+        // When
+        cachingAdapter.get("NOTFOUND").await().indefinitely();
+        cachingAdapter.get("NOTFOUND").await().indefinitely();
+
+        // Then
+        verify(delegate, times(2)).get("NOTFOUND");
+    }
+
+    @Test
+    void shouldInvalidateEntryOnSave() {
+        // Given
+        when(delegate.get("AMZN")).thenReturn(Uni.createFrom().item(logo));
+        when(delegate.save(logo)).thenReturn(Uni.createFrom().item(logo));
+        cachingAdapter.get("AMZN").await().indefinitely();
+
+        // When
+        cachingAdapter.save(logo).await().indefinitely();
+        cachingAdapter.get("AMZN").await().indefinitely();
+
+        // Then
+        verify(delegate, times(2)).get("AMZN");
+        verify(delegate).save(logo);
+    }
+
+    @Test
+    void shouldNotCacheRowReadBeforeConcurrentSave() {
+        // Given
+        Logo updated = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN",
+                LogoContent.of("new-logo-data".getBytes()), "AMZN.png", "image/png", "new-content-hash",
+                LogoSource.UPLOADED, logo.createdAt(), OffsetDateTime.now());
+        AtomicReference<UniEmitter<? super Logo>> slowGet = new AtomicReference<>();
+        when(delegate.get("AMZN"))
+                .thenReturn(Uni.createFrom().emitter(slowGet::set))
+                .thenReturn(Uni.createFrom().item(updated));
+        when(delegate.save(updated)).thenReturn(Uni.createFrom().item(updated));
+        UniAssertSubscriber<Logo> staleRead = cachingAdapter.get("AMZN")
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // When
+        cachingAdapter.save(updated).await().indefinitely();
+        slowGet.get().complete(logo);
+        Logo next = cachingAdapter.get("AMZN").await().indefinitely();
+
+        // Then
+        staleRead.assertCompleted().assertItem(logo);
+        assertThat(next).isSameAs(updated);
+        verify(delegate, times(2)).get("AMZN");
+    }
+
+    @Test
+    void shouldLoadOnlyUncachedLogosInBatch() {
+        // Given
+        Logo microsoft = new Logo("MSFT", "https://img.logo.dev/ticker/MSFT",
+                LogoContent.of("msft-data".getBytes()), "MSFT.jpeg", "image/jpeg", "msft-hash", LogoSource.UPSTREAM,
+                logo.createdAt(), logo.updatedAt());
+        when(delegate.get("AMZN")).thenReturn(Uni.createFrom().item(logo));
+        when(delegate.getAll(List.of("MSFT"))).thenReturn(Uni.createFrom().item(List.of(microsoft)));
+        cachingAdapter.get("AMZN").await().indefinitely();
+
+        // When
+        List<Logo> first = cachingAdapter.getAll(List.of("AMZN", "MSFT")).await().indefinitely();
+        List<Logo> second = cachingAdapter.getAll(List.of("AMZN", "MSFT")).await().indefinitely();
+
+        // Then
+        assertThat(first).containsExactlyInAnyOrder(logo, microsoft);
+        assertThat(second).containsExactlyInAnyOrder(logo, microsoft);
+        verify(delegate, times(1)).getAll(List.of("MSFT"));
+    }
+
+    @Test
+    void shouldBypassCacheWhenDisabled() {
+        // Given
+        CachingLogoPersistenceAdapter disabled = new CachingLogoPersistenceAdapter(
+                delegate, meterRegistry, false, 1024 * 1024, Duration.ofMinutes(10));
+        when(delegate.get("AMZN")).thenReturn(Uni.createFrom().item(logo));
+
+        // When
+        disabled.get("AMZN").await().indefinitely();
+        disabled.get("AMZN").await().indefinitely();
+
+        // Then
+        verify(delegate, times(2)).get("AMZN");
+    }
+}
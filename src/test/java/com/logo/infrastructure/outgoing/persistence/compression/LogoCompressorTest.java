@@ -0,0 +1,75 @@
+package com.logo.infrastructure.outgoing.persistence.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogoCompressorTest {
+
+    private final LogoCompressor compressor = new LogoCompressor(true, List.of("image/svg+xml"), 0.1);
+
+    @Test
+    void shouldGzipCompressibleContent() throws IOException {
+        // Given
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\">%s</svg>".formatted("<rect/>".repeat(100)).getBytes();
+
+        // When
+        byte[] gzip = compressor.gzip("image/svg+xml", svg);
+
+        // Then
+        assertThat(gzip).isNotNull();
+        assertThat(gzip.length).isLessThan(svg.length);
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(input.readAllBytes()).isEqualTo(svg);
+        }
+    }
+
+    @Test
+    void shouldSkipContentTypesNotConfigured() {
+        // When
+        byte[] gzip = compressor.gzip("image/jpeg", "a".repeat(1000).getBytes());
+
+        // Then
+        assertThat(gzip).isNull();
+    }
+
+    @Test
+    void shouldTellWhichContentTypesMayBeStoredGzipped() {
+        // When & Then
+        assertThat(compressor.compresses("image/SVG+xml")).isTrue();
+        assertThat(compressor.compresses("image/png")).isFalse();
+        assertThat(compressor.compresses(null)).isFalse();
+        assertThat(new LogoCompressor(false, List.of("image/svg+xml"), 0.1).compresses("image/svg+xml")).isFalse();
+    }
+
+    @Test
+    void shouldSkipContentThatDoesNotCompress() {
+        // Given
+        byte[] random = new byte[1024];
+        new Random(42).nextBytes(random);
+
+        // When
+        byte[] gzip = compressor.gzip("image/svg+xml", random);
+
+        // Then
+        assertThat(gzip).isNull();
+    }
+
+    @Test
+    void shouldSkipEverythingWhenDisabled() {
+        // Given
+        LogoCompressor disabled = new LogoCompressor(false, List.of("image/svg+xml"), 0.1);
+
+        // When
+        byte[] gzip = disabled.gzip("image/svg+xml", "<svg/>".repeat(100).getBytes());
+
+        // Then
+        assertThat(gzip).isNull();
+    }
+}
@@ -1,7 +1,17 @@
 package com.logo.infrastructure.outgoing.persistence.mapper;
 
 import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoMetadata;
+import com.logo.domain.model.LogoRefreshCandidate;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.infrastructure.outgoing.persistence.LogoBlobEntity;
+import com.logo.infrastructure.outgoing.persistence.LogoContentView;
 import com.logo.infrastructure.outgoing.persistence.LogoEntity;
+import com.logo.infrastructure.outgoing.persistence.LogoMetadataView;
+import com.logo.infrastructure.outgoing.persistence.LogoRefreshView;
+import com.logo.infrastructure.outgoing.persistence.blob.FileLogoContent;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import jakarta.inject.Inject;
 import org.mapstruct.factory.Mappers;
 
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,9 +39,11 @@ class LogoEntityMapperTest {
         domainLogo = new Logo(
                 "AMZN",
                 "https://img.logo.dev/ticker/AMZN",
-                "logo-data".getBytes(),
+                LogoContent.of("logo-data".getBytes()),
                 "AMZN.jpeg",
                 "image/jpeg",
+                "content-hash",
+                LogoSource.UPLOADED,
                 testTime,
                 testTime
         );
@@ -39,11 +52,19 @@ class LogoEntityMapperTest {
         logoEntity.id = 1L;
         logoEntity.externalIdentifier = "AMZN";
         logoEntity.resourceUrl = "https://img.logo.dev/ticker/AMZN";
-        logoEntity.fileContent = "logo-data".getBytes();
         logoEntity.fileName = "AMZN.jpeg";
         logoEntity.contentType = "image/jpeg";
+        logoEntity.source = LogoSource.UPLOADED;
+        logoEntity.contentHash = "content-hash";
         logoEntity.createdAt = testTime;
         logoEntity.updatedAt = testTime;
+
+        LogoBlobEntity blob = new LogoBlobEntity();
+        blob.contentHash = "content-hash";
+        blob.content = "logo-data".getBytes();
+        blob.sizeBytes = blob.content.length;
+        blob.refCount = 1;
+        logoEntity.blob = blob;
     }
 
     @Test
@@ -55,30 +76,97 @@ class LogoEntityMapperTest {
         assertThat(result).isNotNull();
         assertThat(result.externalIdentifier).isEqualTo(domainLogo.externalIdentifier());
         assertThat(result.resourceUrl).isEqualTo(domainLogo.resourceUrl());
-        assertThat(result.fileContent).isEqualTo(domainLogo.fileContent());
         assertThat(result.fileName).isEqualTo(domainLogo.fileName());
         assertThat(result.contentType).isEqualTo(domainLogo.contentType());
+        assertThat(result.contentHash).isEqualTo(domainLogo.contentHash());
+        assertThat(result.source).isEqualTo(domainLogo.source());
         assertThat(result.createdAt).isEqualTo(domainLogo.createdAt());
         assertThat(result.updatedAt).isEqualTo(domainLogo.updatedAt());
+        assertThat(result.refreshedAt).isEqualTo(domainLogo.updatedAt());
         
-        // ID should not be mapped (ignored)
+        // ID and blob should not be mapped (ignored)
         assertThat(result.id).isNull();
+        assertThat(result.blob).isNull();
     }
 
     @Test
-    void shouldMapEntityToDomainLogo() {
+    void shouldMapContentViewToDomainLogo() {
+        // Given
+        LogoContentView view = contentView("logo-data".getBytes());
+
+        // When
+        Logo result = logoEntityMapper.toDomain(view);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.externalIdentifier()).isEqualTo(view.externalIdentifier());
+        assertThat(result.resourceUrl()).isEqualTo(view.resourceUrl());
+        assertThat(result.content()).isInstanceOfSatisfying(LogoContent.InMemory.class,
+                content -> assertThat(content.bytes()).isEqualTo(view.content()));
+        assertThat(result.fileName()).isEqualTo(view.fileName());
+        assertThat(result.contentType()).isEqualTo(view.contentType());
+        assertThat(result.contentHash()).isEqualTo(view.contentHash());
+        assertThat(result.source()).isEqualTo(view.source());
+        assertThat(result.createdAt()).isEqualTo(view.createdAt());
+        assertThat(result.updatedAt()).isEqualTo(view.updatedAt());
+    }
+
+    @Test
+    void shouldMapSavedEntityWithKnownContent() {
+        // Given
+        logoEntity.blob = null;
+        LogoContent content = LogoContent.of("logo-data".getBytes());
+
         // When
-        Logo result = logoEntityMapper.toDomain(logoEntity);
+        Logo result = logoEntityMapper.toDomain(logoEntity, content);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.externalIdentifier()).isEqualTo(logoEntity.externalIdentifier);
-        assertThat(result.resourceUrl()).isEqualTo(logoEntity.resourceUrl);
-        assertThat(result.fileContent()).isEqualTo(logoEntity.fileContent);
-        assertThat(result.fileName()).isEqualTo(logoEntity.fileName);
-        assertThat(result.contentType()).isEqualTo(logoEntity.contentType);
-        assertThat(result.createdAt()).isEqualTo(logoEntity.createdAt);
-        assertThat(result.updatedAt()).isEqualTo(logoEntity.updatedAt);
+        assertThat(result.content()).isSameAs(content);
+        assertThat(result.contentHash()).isEqualTo(logoEntity.contentHash);
+    }
+
+    @Test
+    void shouldMapFileBackedViewWithStoredContent() {
+        // Given
+        LogoContentView view = contentView(null);
+        FileLogoContent content = new FileLogoContent(Path.of("data", "ab", "cd", "abcd"), 9);
+
+        // When
+        Logo result = logoEntityMapper.toDomain(view, content);
+
+        // Then
+        assertThat(result.content()).isEqualTo(content);
+        assertThat(result.metadata().sizeBytes()).isEqualTo(9);
+        assertThat(result.fileName()).isEqualTo(view.fileName());
+    }
+
+    @Test
+    void shouldMapMetadataViewToDomainMetadata() {
+        // Given
+        LogoMetadataView view = new LogoMetadataView("AMZN", "https://img.logo.dev/ticker/AMZN",
+                "AMZN.jpeg", "image/jpeg", "content-hash", domainLogo.content().size(), LogoSource.UPLOADED,
+                testTime, testTime);
+
+        // When
+        LogoMetadata result = logoEntityMapper.toMetadata(view);
+
+        // Then
+        assertThat(result).isEqualTo(domainLogo.metadata());
+    }
+
+    @Test
+    void shouldMapRefreshViewToCandidateWithItsValidators() {
+        // Given
+        LogoRefreshView view = new LogoRefreshView("AMZN", "\"v1\"", "Sun, 01 Mar 2026 12:00:00 GMT");
+
+        // When
+        LogoRefreshCandidate result = logoEntityMapper.toRefreshCandidate(view);
+
+        // Then
+        assertThat(result.externalIdentifier()).isEqualTo("AMZN");
+        assertThat(result.validators()).isEqualTo(new UpstreamValidators("\"v1\"", "Sun, 01 Mar 2026 12:00:00 GMT"));
     }
 
     @Test
@@ -86,8 +174,8 @@ class LogoEntityMapperTest {
         // When mapping null domain logo
         LogoEntity entityResult = logoEntityMapper.toEntity(null);
         
-        // When mapping null entity
-        Logo domainResult = logoEntityMapper.toDomain(null);
+        // When mapping null view
+        Logo domainResult = logoEntityMapper.toDomain((LogoContentView) null);
 
         // Then
         assertThat(entityResult).isNull();
@@ -96,23 +184,17 @@ class LogoEntityMapperTest {
 
     @Test
     void shouldHandleEmptyByteArray() {
-        // Given
-        Logo logoWithEmptyContent = new Logo(
-                "TEST",
-                "https://test.com",
-                new byte[0],
-                "test.jpeg",
-                "image/jpeg",
-                testTime,
-                testTime
-        );
-
         // When
-        LogoEntity result = logoEntityMapper.toEntity(logoWithEmptyContent);
+        Logo result = logoEntityMapper.toDomain(contentView(new byte[0]));
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.fileContent).isNotNull();
-        assertThat(result.fileContent).hasSize(0);
+        assertThat(result.content()).isInstanceOfSatisfying(LogoContent.InMemory.class,
+                content -> assertThat(content.bytes()).isEmpty());
+    }
+
+    private LogoContentView contentView(byte[] content) {
+        return new LogoContentView("AMZN", "https://img.logo.dev/ticker/AMZN", content, "AMZN.jpeg", "image/jpeg",
+                "content-hash", 9L, LogoSource.UPLOADED, testTime, testTime);
     }
 }
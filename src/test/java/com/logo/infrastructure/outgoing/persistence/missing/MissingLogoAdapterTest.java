@@ -0,0 +1,169 @@
+package com.logo.infrastructure.outgoing.persistence.missing;
+
+import com.logo.infrastructure.outgoing.persistence.repository.MissingLogoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class MissingLogoAdapterTest {
+
+    private final MissingLogoRepository missingLogoRepository = mock(MissingLogoRepository.class);
+
+    private final OffsetDateTime now = OffsetDateTime.parse("2025-01-01T12:00:00Z");
+
+    private MissingLogoAdapter adapter(boolean enabled, boolean persistent, Duration ttl) {
+        return adapter(enabled, persistent, ttl, Duration.ofMinutes(1));
+    }
+
+    private MissingLogoAdapter adapter(boolean enabled, boolean persistent, Duration ttl, Duration localTtl) {
+        return new MissingLogoAdapter(missingLogoRepository, new SimpleMeterRegistry(), enabled, persistent, ttl,
+                localTtl, 100, () -> now);
+    }
+
+    @Test
+    void shouldRememberMissingLogoInMemory() {
+        // Given
+        MissingLogoAdapter adapter = adapter(true, false, Duration.ofHours(1));
+
+        // When
+        adapter.markMissing("GONE").await().indefinitely();
+
+        // Then
+        assertThat(adapter.isMissing("GONE").await().indefinitely()).isTrue();
+        assertThat(adapter.isMissing("AMZN").await().indefinitely()).isFalse();
+        verifyNoInteractions(missingLogoRepository);
+    }
+
+    @Test
+    void shouldForgetEntryWhoseExpiryHasPassed() {
+        // Given
+        MissingLogoAdapter adapter = adapter(true, false, Duration.ofSeconds(-1));
+
+        // When
+        adapter.markMissing("GONE").await().indefinitely();
+
+        // Then
+        assertThat(adapter.isMissing("GONE").await().indefinitely()).isFalse();
+    }
+
+    @Test
+    void shouldPurgeEntries() {
+        // Given
+        MissingLogoAdapter adapter = adapter(true, false, Duration.ofHours(1));
+        adapter.markMissing("GONE").await().indefinitely();
+        adapter.markMissing("LOST").await().indefinitely();
+        adapter.markMissing("VOID").await().indefinitely();
+
+        // When
+        boolean purged = adapter.purge("GONE").await().indefinitely();
+        boolean purgedAgain = adapter.purge("GONE").await().indefinitely();
+        long purgedAll = adapter.purgeAll().await().indefinitely();
+
+        // Then
+        assertThat(purged).isTrue();
+        assertThat(purgedAgain).isFalse();
+        assertThat(purgedAll).isEqualTo(2);
+        assertThat(adapter.isMissing("LOST").await().indefinitely()).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreEverythingWhenDisabled() {
+        // Given
+        MissingLogoAdapter adapter = adapter(false, true, Duration.ofHours(1));
+
+        // When
+        adapter.markMissing("GONE").await().indefinitely();
+
+        // Then
+        assertThat(adapter.isMissing("GONE").await().indefinitely()).isFalse();
+        verifyNoInteractions(missingLogoRepository);
+    }
+
+    @Test
+    void shouldPersistAndLoadEntriesWhenPersistent() {
+        // Given
+        MissingLogoAdapter adapter = adapter(true, true, Duration.ofHours(1));
+        when(missingLogoRepository.upsert(any(), any(), any())).thenReturn(Uni.createFrom().voidItem());
+        when(missingLogoRepository.findExpiry("LOST", now)).thenReturn(Uni.createFrom().item(now.plusMinutes(5)));
+
+        // When
+        adapter.markMissing("GONE").await().indefinitely();
+        boolean lost = adapter.isMissing("LOST").await().indefinitely();
+        boolean lostAgain = adapter.isMissing("LOST").await().indefinitely();
+
+        // Then
+        verify(missingLogoRepository).upsert(eq("GONE"), eq(now), eq(now.plusHours(1)));
+        assertThat(lost).isTrue();
+        assertThat(lostAgain).isTrue();
+        verify(missingLogoRepository, times(1)).findExpiry("LOST", now);
+    }
+
+    @Test
+    void shouldReportNotMissingWhenNoLiveRowIsStored() {
+        // Given
+        MissingLogoAdapter adapter = adapter(true, true, Duration.ofHours(1));
+        when(missingLogoRepository.findExpiry("AMZN", now)).thenReturn(Uni.createFrom().nullItem());
+
+        // When
+        boolean missing = adapter.isMissing("AMZN").await().indefinitely();
+
+        // Then
+        assertThat(missing).isFalse();
+    }
+
+    @Test
+    void shouldReadRowAgainOnceLocalTtlHasPassed() {
+        // Given
+        MissingLogoAdapter adapter = adapter(true, true, Duration.ofHours(1), Duration.ZERO);
+        when(missingLogoRepository.findExpiry("LOST", now))
+                .thenReturn(Uni.createFrom().item(now.plusHours(1)))
+                // Purged through another instance
+                .thenReturn(Uni.createFrom().nullItem());
+
+        // When
+        boolean missing = adapter.isMissing("LOST").await().indefinitely();
+        boolean missingAfterPurge = adapter.isMissing("LOST").await().indefinitely();
+
+        // Then
+        assertThat(missing).isTrue();
+        assertThat(missingAfterPurge).isFalse();
+        verify(missingLogoRepository, times(2)).findExpiry("LOST", now);
+    }
+
+    @Test
+    void shouldRemoveExpiredRowsWhenPersistent() {
+        // Given
+        MissingLogoAdapter adapter = adapter(true, true, Duration.ofHours(1));
+        when(missingLogoRepository.removeExpired(now)).thenReturn(Uni.createFrom().item(3L));
+
+        // When
+        adapter.removeExpired().await().indefinitely();
+
+        // Then
+        verify(missingLogoRepository).removeExpired(now);
+    }
+
+    @Test
+    void shouldNotTouchTableForCleanupWhenInMemoryOnly() {
+        // Given
+        MissingLogoAdapter adapter = adapter(true, false, Duration.ofHours(1));
+
+        // When
+        adapter.removeExpired().await().indefinitely();
+
+        // Then
+        verifyNoInteractions(missingLogoRepository);
+    }
+}
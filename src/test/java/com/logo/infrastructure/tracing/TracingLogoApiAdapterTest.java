@@ -0,0 +1,115 @@
+package com.logo.infrastructure.tracing;
+
+import com.logo.domain.exception.ServiceException;
+import com.logo.domain.model.Errors;
+import com.logo.domain.model.UpstreamFetch;
+import com.logo.domain.model.UpstreamValidators;
+import com.logo.domain.port.outgoing.LogoApiPort;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TracingLogoApiAdapterTest {
+
+    private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+            .build();
+
+    private final LogoApiPort delegate = mock(LogoApiPort.class);
+
+    private final TracingLogoApiAdapter tracingAdapter =
+            new TracingLogoApiAdapter(delegate, new PortSpans(tracerProvider.get("test")));
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void shouldRecordDownloadedBytes() {
+        // Given
+        when(delegate.fetchLogo("AAPL")).thenReturn(Uni.createFrom().item("logo-data".getBytes()));
+
+        // When
+        tracingAdapter.fetchLogo("AAPL")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted();
+
+        // Then
+        SpanData span = onlySpan();
+        assertThat(span.getName()).isEqualTo("LogoApiPort.fetchLogo");
+        assertThat(span.getAttributes().get(PortSpans.IDENTIFIER)).isEqualTo("AAPL");
+        assertThat(span.getAttributes().get(PortSpans.PAYLOAD_BYTES)).isEqualTo((long) "logo-data".length());
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+    }
+
+    @Test
+    void shouldRecordErrorCodeOfFailedFetch() {
+        // Given
+        when(delegate.fetchLogo("DOWN"))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.SERVICE_UNAVAILABLE)));
+
+        // When
+        tracingAdapter.fetchLogo("DOWN")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(ServiceException.class);
+
+        // Then
+        SpanData span = onlySpan();
+        assertThat(span.getAttributes().get(PortSpans.ERROR_CODE)).isEqualTo("SERVICE_UNAVAILABLE");
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+        assertThat(span.getEvents()).anyMatch(event -> event.getName().equals("exception"));
+    }
+
+    @Test
+    void shouldNotMarkMissingLogoAsFailedCall() {
+        // Given
+        when(delegate.fetchLogo("GONE"))
+                .thenReturn(Uni.createFrom().failure(new ServiceException(Errors.LOGO_NOT_FOUND)));
+
+        // When
+        tracingAdapter.fetchLogo("GONE")
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertFailedWith(ServiceException.class);
+
+        // Then
+        SpanData span = onlySpan();
+        assertThat(span.getAttributes().get(PortSpans.ERROR_CODE)).isEqualTo("LOGO_NOT_FOUND");
+        assertThat(span.getStatus().getStatusCode()).isEqualTo(StatusCode.UNSET);
+    }
+
+    @Test
+    void shouldMarkConditionalFetchThatWasNotModified() {
+        // Given
+        UpstreamValidators validators = new UpstreamValidators("\"v1\"", null);
+        when(delegate.fetchLogoIfChanged("AAPL", validators))
+                .thenReturn(Uni.createFrom().item(new UpstreamFetch.NotModified(validators)));
+
+        // When
+        tracingAdapter.fetchLogoIfChanged("AAPL", validators)
+                .subscribe().withSubscriber(UniAssertSubscriber.create())
+                .assertCompleted();
+
+        // Then
+        SpanData span = onlySpan();
+        assertThat(span.getName()).isEqualTo("LogoApiPort.fetchLogoIfChanged");
+        assertThat(span.getAttributes().get(PortSpans.NOT_MODIFIED)).isTrue();
+        assertThat(span.getAttributes().get(PortSpans.PAYLOAD_BYTES)).isNull();
+    }
+
+    private SpanData onlySpan() {
+        assertThat(spanExporter.getFinishedSpanItems()).hasSize(1);
+        return spanExporter.getFinishedSpanItems().get(0);
+    }
+}
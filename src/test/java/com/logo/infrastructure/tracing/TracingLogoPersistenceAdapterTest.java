@@ -0,0 +1,118 @@
+package com.logo.infrastructure.tracing;
+
+import com.logo.domain.model.Logo;
+import com.logo.domain.model.LogoContent;
+import com.logo.domain.model.LogoSource;
+import com.logo.domain.port.outgoing.LogoPersistencePort;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.UniAssertSubscriber;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TracingLogoPersistenceAdapterTest {
+
+    private final InMemorySpanExporter spanExporter = InMemorySpanExporter.create();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+            .build();
+    private final Tracer tracer = tracerProvider.get("test");
+
+    private final LogoPersistencePort delegate = mock(LogoPersistencePort.class);
+
+    private final TracingLogoPersistenceAdapter tracingAdapter =
+            new TracingLogoPersistenceAdapter(delegate, new PortSpans(tracer));
+
+    private final Logo logo = new Logo("AMZN", "https://img.logo.dev/ticker/AMZN", LogoContent.of("logo-data".getBytes()),
+            "AMZN.jpeg", "image/jpeg", "content-hash", LogoSource.UPSTREAM, OffsetDateTime.now(), OffsetDateTime.now());
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void shouldParentSpansStartedWhileGetIsRunning() {
+        // Given
+        when(delegate.get("AMZN")).thenReturn(Uni.createFrom().item(() -> {
+            // Stands in for the SQL client, which starts its span from the current context once subscribed
+            tracer.spanBuilder("SELECT logo").startSpan().end();
+            return logo;
+        }));
+
+        // When
+        tracingAdapter.get("AMZN").await().indefinitely();
+
+        // Then
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        SpanData statement = spans.stream().filter(span -> span.getName().equals("SELECT logo")).findFirst().orElseThrow();
+        SpanData get = spans.stream().filter(span -> span.getName().equals("LogoPersistencePort.get")).findFirst().orElseThrow();
+        assertThat(statement.getParentSpanId()).isEqualTo(get.getSpanId());
+        assertThat(get.getAttributes().get(PortSpans.FOUND)).isTrue();
+        assertThat(get.getAttributes().get(PortSpans.PAYLOAD_BYTES)).isEqualTo((long) "logo-data".length());
+        assertThat(Span.current().getSpanContext().isValid()).isFalse();
+    }
+
+    @Test
+    void shouldRestoreCallerContextWhileGetIsPending() {
+        // Given
+        AtomicReference<UniEmitter<? super Logo>> pending = new AtomicReference<>();
+        when(delegate.get("AMZN")).thenReturn(Uni.createFrom().emitter(pending::set));
+
+        // When
+        UniAssertSubscriber<Logo> subscriber = tracingAdapter.get("AMZN")
+                .subscribe().withSubscriber(UniAssertSubscriber.create());
+
+        // Then
+        assertThat(Span.current().getSpanContext().isValid()).isFalse();
+        assertThat(spanExporter.getFinishedSpanItems()).isEmpty();
+
+        pending.get().complete(logo);
+        subscriber.assertCompleted();
+        assertThat(spanExporter.getFinishedSpanItems()).extracting(SpanData::getName)
+                .containsExactly("LogoPersistencePort.get");
+    }
+
+    @Test
+    void shouldRecordMissingLogo() {
+        // Given
+        when(delegate.get("NOTFOUND")).thenReturn(Uni.createFrom().nullItem());
+
+        // When
+        tracingAdapter.get("NOTFOUND").await().indefinitely();
+
+        // Then
+        SpanData get = spanExporter.getFinishedSpanItems().get(0);
+        assertThat(get.getAttributes().get(PortSpans.FOUND)).isFalse();
+        assertThat(get.getAttributes().get(PortSpans.PAYLOAD_BYTES)).isNull();
+    }
+
+    @Test
+    void shouldRecordSavedBytes() {
+        // Given
+        when(delegate.save(logo)).thenReturn(Uni.createFrom().item(logo));
+
+        // When
+        tracingAdapter.save(logo).await().indefinitely();
+
+        // Then
+        SpanData save = spanExporter.getFinishedSpanItems().get(0);
+        assertThat(save.getName()).isEqualTo("LogoPersistencePort.save");
+        assertThat(save.getAttributes().get(PortSpans.IDENTIFIER)).isEqualTo("AMZN");
+        assertThat(save.getAttributes().get(PortSpans.PAYLOAD_BYTES)).isEqualTo((long) "logo-data".length());
+    }
+}